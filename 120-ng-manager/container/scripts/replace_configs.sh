@@ -504,6 +504,18 @@ replace_key_value cdTsDbRetentionPeriodMonths "$CD_TSDB_RETENTION_PERIOD_MONTHS"
 replace_key_value cacheConfig.cacheNamespace $CACHE_NAMESPACE
 replace_key_value cacheConfig.cacheBackend $CACHE_BACKEND
 replace_key_value cacheConfig.enterpriseCacheEnabled $ENTERPRISE_CACHE_ENABLED
+replace_key_value cacheConfig.nearCacheConfig.enabled $NEAR_CACHE_ENABLED
+replace_key_value cacheConfig.nearCacheConfig.maximumWeightInBytes $NEAR_CACHE_MAXIMUM_WEIGHT_IN_BYTES
+replace_key_value cacheConfig.nearCacheConfig.expireAfterWriteInSeconds $NEAR_CACHE_EXPIRE_AFTER_WRITE_IN_SECONDS
+
+if [[ "" != "$NEAR_CACHE_CACHES" ]]; then
+  IFS=',' read -ra NEAR_CACHES <<< "$NEAR_CACHE_CACHES"
+  INDEX=0
+  for NEAR_CACHE in "${NEAR_CACHES[@]}"; do
+    export NEAR_CACHE; export INDEX; yq -i '.cacheConfig.nearCacheConfig.caches.[env(INDEX)]=env(NEAR_CACHE)' $CONFIG_FILE
+    INDEX=$(expr $INDEX + 1)
+  done
+fi
 
 replace_key_value eventsFramework.redis.sentinel $EVENTS_FRAMEWORK_USE_SENTINEL
 replace_key_value eventsFramework.redis.envNamespace $EVENTS_FRAMEWORK_ENV_NAMESPACE
@@ -544,6 +556,12 @@ replace_key_value outboxPollConfig.pollingIntervalInSeconds "$OUTBOX_POLL_INTERV
 
 replace_key_value outboxPollConfig.maximumRetryAttemptsForAnEvent "$OUTBOX_MAX_RETRY_ATTEMPTS"
 
+replace_key_value outboxPollConfig.partitions "$OUTBOX_POLL_PARTITIONS"
+
+replace_key_value outboxPollConfig.enableChangeStream "$OUTBOX_ENABLE_CHANGE_STREAM"
+
+replace_key_value outboxPollConfig.changeStreamPollingIntervalInSeconds "$OUTBOX_CHANGE_STREAM_POLL_INTERVAL"
+
 replace_key_value notificationClient.httpClient.baseUrl "$NOTIFICATION_BASE_URL"
 
 replace_key_value notificationClient.secrets.notificationClientSecret "$NEXT_GEN_MANAGER_SECRET"
@@ -13,9 +13,8 @@ import static io.harness.eventsframework.EventsFrameworkConstants.INSTANCE_STATS
 
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.eventsframework.api.Consumer;
-import io.harness.eventsframework.api.EventsFrameworkDownException;
 import io.harness.eventsframework.consumer.Message;
-import io.harness.eventsframework.impl.redis.RedisTraceConsumer;
+import io.harness.eventsframework.impl.redis.ParallelRedisTraceConsumer;
 import io.harness.queue.QueueController;
 import io.harness.security.SecurityContextBuilder;
 import io.harness.security.dto.ServicePrincipal;
@@ -23,74 +22,52 @@ import io.harness.security.dto.ServicePrincipal;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
-import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.extern.slf4j.Slf4j;
 
 @OwnedBy(DX)
 @Slf4j
 @Singleton
-public class InstanceStatsStreamConsumer extends RedisTraceConsumer {
-  private static final int WAIT_TIME_IN_SECONDS = 10;
-  private final Consumer redisConsumer;
+public class InstanceStatsStreamConsumer extends ParallelRedisTraceConsumer {
+  private static final int PARALLELISM = 4;
+  // Set by the publisher, each message holds the instance stats of an account at a point in time
+  private static final String ACCOUNT_ID = "accountId";
   private final List<MessageListener> messageListenersList;
   private final QueueController queueController;
 
   @Inject
   public InstanceStatsStreamConsumer(@Named(INSTANCE_STATS) Consumer redisConsumer,
       @Named(INSTANCE_STATS) MessageListener instanceStatsStreamListener, QueueController queueController) {
-    this.redisConsumer = redisConsumer;
+    super(redisConsumer, PARALLELISM);
     this.queueController = queueController;
     messageListenersList = new ArrayList<>();
     messageListenersList.add(instanceStatsStreamListener);
   }
 
   @Override
-  public void run() {
-    log.info("Started the consumer for instance stats stream");
-    try {
-      SecurityContextBuilder.setContext(new ServicePrincipal(NG_MANAGER.getServiceId()));
-      while (!Thread.currentThread().isInterrupted()) {
-        if (queueController.isNotPrimary()) {
-          log.info("Instance stats consumer is not running on primary deployment, will try again after some time...");
-          TimeUnit.SECONDS.sleep(30);
-          continue;
-        }
-        readEventsFrameworkMessages();
-      }
-    } catch (InterruptedException ex) {
-      SecurityContextBuilder.unsetCompleteContext();
-      Thread.currentThread().interrupt();
-    } catch (Exception ex) {
-      log.error("Instance stats stream consumer unexpectedly stopped", ex);
-    } finally {
-      SecurityContextBuilder.unsetCompleteContext();
-    }
+  public String getListenerName() {
+    return "Instance stats stream consumer";
   }
 
-  private void readEventsFrameworkMessages() throws InterruptedException {
-    try {
-      pollAndProcessMessages();
-    } catch (EventsFrameworkDownException e) {
-      log.error("Events framework is down for Instance stats stream consumer. Retrying again...", e);
-      TimeUnit.SECONDS.sleep(WAIT_TIME_IN_SECONDS);
-    }
+  @Override
+  protected String getPartitionKey(Message message) {
+    return message.getMessage().getMetadataMap().getOrDefault(ACCOUNT_ID, "");
   }
 
-  private void pollAndProcessMessages() {
-    List<Message> messages;
-    String messageId;
-    boolean messageProcessed;
-    messages = redisConsumer.read(Duration.ofSeconds(WAIT_TIME_IN_SECONDS));
-    for (Message message : messages) {
-      messageId = message.getId();
-      messageProcessed = handleMessage(message);
-      if (messageProcessed) {
-        redisConsumer.acknowledge(messageId);
-      }
+  @Override
+  protected boolean isActive() {
+    return !queueController.isNotPrimary();
+  }
+
+  @Override
+  protected void runInLane(Runnable processing) {
+    SecurityContextBuilder.setContext(new ServicePrincipal(NG_MANAGER.getServiceId()));
+    try {
+      processing.run();
+    } finally {
+      SecurityContextBuilder.unsetCompleteContext();
     }
   }
 
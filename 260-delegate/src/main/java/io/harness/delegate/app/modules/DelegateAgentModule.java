@@ -99,6 +99,9 @@ public class DelegateAgentModule extends AbstractModule {
   private DelegateTailerModule.Config getTailerConfig() {
     return DelegateTailerModule.Config.builder()
         .queueFilePath(configuration.getQueueFilePath())
+        .adaptivePublish(configuration.isAdaptivePublish())
+        .maxInFlightPublishRequests(configuration.getMaxInFlightPublishRequests())
+        .compressPublishRequests(configuration.isCompressPublishRequests())
         .clientCertificateFilePath(configuration.getClientCertificateFilePath())
         .clientCertificateKeyFilePath(configuration.getClientCertificateKeyFilePath())
         .trustAllCertificates(configuration.isTrustAllCertificates())
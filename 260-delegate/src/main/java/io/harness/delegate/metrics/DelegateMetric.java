@@ -25,7 +25,11 @@ public enum DelegateMetric {
       DelegateMetricType.COUNT, DELEGATE_NAME_LABEL),
   DELEGATE_CONNECTED("delegate_connected", "Delegate connected", DelegateMetricType.GAUGE, DELEGATE_NAME_LABEL),
   RESOURCE_CONSUMPTION_ABOVE_THRESHOLD("delegate_resource_consumption_above_threshold",
-      "Delegate resource consumption reached more than threshold", DelegateMetricType.GAUGE, DELEGATE_NAME_LABEL);
+      "Delegate resource consumption reached more than threshold", DelegateMetricType.GAUGE, DELEGATE_NAME_LABEL),
+  EVENT_QUEUE_BACKLOG("event_queue_backlog", "Number of events in the event queue which are not published yet",
+      DelegateMetricType.GAUGE, DELEGATE_NAME_LABEL),
+  EVENT_QUEUE_DRAIN_RATE("event_queue_drain_rate", "Events published from the event queue per second",
+      DelegateMetricType.GAUGE, DELEGATE_NAME_LABEL);
 
   private final String metricName;
   private final String description;
@@ -49,6 +49,8 @@ import static io.harness.delegate.message.MessageConstants.WATCHER_VERSION;
 import static io.harness.delegate.message.MessengerType.DELEGATE;
 import static io.harness.delegate.message.MessengerType.WATCHER;
 import static io.harness.delegate.metrics.DelegateMetric.DELEGATE_CONNECTED;
+import static io.harness.delegate.metrics.DelegateMetric.EVENT_QUEUE_BACKLOG;
+import static io.harness.delegate.metrics.DelegateMetric.EVENT_QUEUE_DRAIN_RATE;
 import static io.harness.delegate.metrics.DelegateMetric.RESOURCE_CONSUMPTION_ABOVE_THRESHOLD;
 import static io.harness.delegate.metrics.DelegateMetric.TASKS_CURRENTLY_EXECUTING;
 import static io.harness.delegate.metrics.DelegateMetric.TASK_COMPLETED;
@@ -141,6 +143,7 @@ import io.harness.delegate.task.tasklogging.ExecutionLogContext;
 import io.harness.delegate.task.tasklogging.TaskLogContext;
 import io.harness.delegate.task.validation.DelegateConnectionResultDetail;
 import io.harness.event.client.impl.tailer.ChronicleEventTailer;
+import io.harness.event.client.impl.tailer.ChronicleTailerMetrics;
 import io.harness.exception.ExceptionUtils;
 import io.harness.exception.UnexpectedException;
 import io.harness.filesystem.FileIo;
@@ -2867,6 +2870,13 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
     long tasksExecutionCount = taskExecutor.getActiveCount();
     metricRegistry.recordGaugeValue(
         TASKS_CURRENTLY_EXECUTING.getMetricName(), new String[] {DELEGATE_NAME}, tasksExecutionCount);
+    if (chronicleEventTailer != null) {
+      ChronicleTailerMetrics tailerMetrics = chronicleEventTailer.getMetrics();
+      metricRegistry.recordGaugeValue(
+          EVENT_QUEUE_BACKLOG.getMetricName(), new String[] {DELEGATE_NAME}, tailerMetrics.getBacklogDepth());
+      metricRegistry.recordGaugeValue(
+          EVENT_QUEUE_DRAIN_RATE.getMetricName(), new String[] {DELEGATE_NAME}, tailerMetrics.getDrainRate());
+    }
   }
 
   public void sendTaskResponse(final String taskId, final DelegateTaskResponse taskResponse) {
@@ -58,6 +58,22 @@ if [[ "" != "QUERY_BATCH_SIZE" ]]; then
   export QUERY_BATCH_SIZE; yq -i '.eventDataBatchQueryConfig.queryBatchSize=env(QUERY_BATCH_SIZE)' $CONFIG_FILE
 fi
 
+if [[ "" != "$ENABLE_ASYNC_WRITE" ]]; then
+  export ENABLE_ASYNC_WRITE; yq -i '.eventDataBatchQueryConfig.enableAsyncWrite=env(ENABLE_ASYNC_WRITE)' $CONFIG_FILE
+fi
+
+if [[ "" != "$INGEST_BUFFER_CAPACITY" ]]; then
+  export INGEST_BUFFER_CAPACITY; yq -i '.eventDataBatchQueryConfig.ingestBufferCapacity=env(INGEST_BUFFER_CAPACITY)' $CONFIG_FILE
+fi
+
+if [[ "" != "$INGEST_WRITER_THREADS" ]]; then
+  export INGEST_WRITER_THREADS; yq -i '.eventDataBatchQueryConfig.ingestWriterThreads=env(INGEST_WRITER_THREADS)' $CONFIG_FILE
+fi
+
+if [[ "" != "$INGEST_ENQUEUE_TIMEOUT_MILLIS" ]]; then
+  export INGEST_ENQUEUE_TIMEOUT_MILLIS; yq -i '.eventDataBatchQueryConfig.ingestEnqueueTimeoutMillis=env(INGEST_ENQUEUE_TIMEOUT_MILLIS)' $CONFIG_FILE
+fi
+
 if [[ "$STACK_DRIVER_LOGGING_ENABLED" == "true" ]]; then
   yq -i 'del(.logging.appenders[0])' $CONFIG_FILE
   yq -i '.logging.appenders[0].stackdriverLogEnabled=true' $CONFIG_FILE
@@ -22,6 +22,7 @@ import io.harness.event.metrics.EventServiceMetricsPublisher;
 import io.harness.event.service.impl.EventDataBulkWriteServiceImpl;
 import io.harness.event.service.impl.EventPublisherServiceImpl;
 import io.harness.event.service.impl.LastReceivedPublishedMessageRepositoryImpl;
+import io.harness.event.service.impl.PublishedMessageIngestPipeline;
 import io.harness.event.service.intfc.EventDataBulkWriteService;
 import io.harness.event.service.intfc.EventPublisherService;
 import io.harness.event.service.intfc.LastReceivedPublishedMessageRepository;
@@ -99,6 +100,7 @@ public class EventServiceModule extends AbstractModule {
     bind(LastReceivedPublishedMessageRepository.class).to(LastReceivedPublishedMessageRepositoryImpl.class);
     bind(EventDataBulkWriteService.class).to(EventDataBulkWriteServiceImpl.class);
     bind(EventPublisherService.class).to(EventPublisherServiceImpl.class);
+    Multibinder.newSetBinder(binder(), Service.class).addBinding().to(PublishedMessageIngestPipeline.class);
 
     Multibinder<BindableService> bindableServiceMultibinder = Multibinder.newSetBinder(binder(), BindableService.class);
     bindableServiceMultibinder.addBinding().to(EventPublisherServerImpl.class);
@@ -17,4 +17,10 @@ import lombok.Data;
 public class EventDataBatchQueryConfig {
   private int queryBatchSize;
   private boolean enableBatchWrite;
+
+  // Acknowledges the published messages once buffered, and writes them from the ingest pipeline
+  private boolean enableAsyncWrite;
+  private int ingestBufferCapacity;
+  private int ingestWriterThreads;
+  private long ingestEnqueueTimeoutMillis;
 }
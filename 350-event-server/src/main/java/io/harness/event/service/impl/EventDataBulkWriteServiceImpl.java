@@ -21,10 +21,12 @@ import com.google.common.collect.Lists;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.mongodb.BasicDBObject;
+import com.mongodb.BulkWriteException;
 import com.mongodb.BulkWriteOperation;
 import com.mongodb.BulkWriteResult;
 import java.time.Instant;
 import java.util.List;
+import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
 
 @Singleton
@@ -68,16 +70,19 @@ public class EventDataBulkWriteServiceImpl implements EventDataBulkWriteService
     final int bulkWriteLimit = eventServiceConfig.getEventDataBatchQueryConfig().getQueryBatchSize();
 
     for (final List<T> itemsListPartitioned : Lists.partition(itemsList, bulkWriteLimit)) {
-      final BulkWriteOperation bulkWriteOperation =
-          hPersistence.getCollection(clazz).initializeUnorderedBulkOperation();
-      for (final T singleItem : itemsListPartitioned) {
-        try {
-          eventBatchQueryFnFactory.addQueryFor(bulkWriteOperation, singleItem);
-        } catch (final Exception ex) {
-          log.error("Error updating {}:[{}]", clazz.getSimpleName(), singleItem.toString(), ex);
+      // An operation can only be executed once, so every attempt builds its own
+      final BulkWriteResult result = bulkWriteExecutor(() -> {
+        final BulkWriteOperation bulkWriteOperation =
+            hPersistence.getCollection(clazz).initializeUnorderedBulkOperation();
+        for (final T singleItem : itemsListPartitioned) {
+          try {
+            eventBatchQueryFnFactory.addQueryFor(bulkWriteOperation, singleItem);
+          } catch (final Exception ex) {
+            log.error("Error updating {}:[{}]", clazz.getSimpleName(), singleItem.toString(), ex);
+          }
         }
-      }
-      final BulkWriteResult result = bulkWriteExecutor(bulkWriteOperation);
+        return bulkWriteOperation;
+      });
       if (!result.isAcknowledged()) {
         return false;
       }
@@ -85,21 +90,24 @@ public class EventDataBulkWriteServiceImpl implements EventDataBulkWriteService
     return true;
   }
 
-  private BulkWriteResult bulkWriteExecutor(final BulkWriteOperation bulkWriteOperation) {
+  private BulkWriteResult bulkWriteExecutor(final Supplier<BulkWriteOperation> bulkWriteOperationSupplier) {
     BulkWriteResult result;
     for (int i = 1; i < BULK_WRITE_MAX_RETRIES; i++) {
       try {
-        result = bulkWriteOperation.execute();
+        result = bulkWriteOperationSupplier.get().execute();
         log.info("BulkWriteExecutor result: {}", result);
         return result;
       } catch (final IllegalArgumentException ex) {
         log.error("Exception occurred with bulkWriteExecutor", ex);
         throw ex;
+      } catch (final BulkWriteException ex) {
+        // The operation was executed and the write errors are for the caller to handle, a retry fails the same way
+        throw ex;
       } catch (final Exception ex) {
         log.warn("Exception occurred with bulkWriteExecutor, retry:{}", i, ex);
       }
     }
-    result = bulkWriteOperation.execute();
+    result = bulkWriteOperationSupplier.get().execute();
     log.info(
         "BulkWriteExecutor result [acknowledged:{}, insertedCount:{}, matchedCount:{}, modifiedCount:{}, removedCount:{}]",
         result.isAcknowledged(), result.getInsertedCount(), result.getMatchedCount(), result.getModifiedCount(),
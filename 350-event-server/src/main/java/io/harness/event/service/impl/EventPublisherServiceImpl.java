@@ -50,6 +50,7 @@ public class EventPublisherServiceImpl implements EventPublisherService {
   private final MessageProcessorRegistry messageProcessorRegistry;
   private final MetricService metricService;
   private final EventDataBulkWriteService eventDataBulkWriteService;
+  private final PublishedMessageIngestPipeline publishedMessageIngestPipeline;
 
   private static final String POD_UTILIZATION = "io.harness.event.payloads.PodMetric";
   private static final String NODE_UTILIZATION = "io.harness.event.payloads.NodeMetric";
@@ -61,13 +62,15 @@ public class EventPublisherServiceImpl implements EventPublisherService {
   public EventPublisherServiceImpl(final HPersistence hPersistence, final EventServiceConfig eventServiceConfig,
       LastReceivedPublishedMessageRepository lastReceivedPublishedMessageRepository,
       MessageProcessorRegistry messageProcessorRegistry, MetricService metricService,
-      EventDataBulkWriteService eventDataBulkWriteService) {
+      EventDataBulkWriteService eventDataBulkWriteService,
+      PublishedMessageIngestPipeline publishedMessageIngestPipeline) {
     this.hPersistence = hPersistence;
     this.eventServiceConfig = eventServiceConfig;
     this.lastReceivedPublishedMessageRepository = lastReceivedPublishedMessageRepository;
     this.messageProcessorRegistry = messageProcessorRegistry;
     this.metricService = metricService;
     this.eventDataBulkWriteService = eventDataBulkWriteService;
+    this.publishedMessageIngestPipeline = publishedMessageIngestPipeline;
   }
 
   @Override
@@ -88,7 +91,11 @@ public class EventPublisherServiceImpl implements EventPublisherService {
     if (isNotEmpty(withoutCategory)) {
       try {
         if (enableBatchWrite) {
-          eventDataBulkWriteService.bulkInsertPublishedMessages(withoutCategory);
+          // Written on the request thread when the ingest buffer does not accept them
+          if (!eventServiceConfig.getEventDataBatchQueryConfig().isEnableAsyncWrite()
+              || !publishedMessageIngestPipeline.enqueue(withoutCategory)) {
+            eventDataBulkWriteService.bulkInsertPublishedMessages(withoutCategory);
+          }
         } else {
           hPersistence.saveIgnoringDuplicateKeys(withoutCategory);
         }
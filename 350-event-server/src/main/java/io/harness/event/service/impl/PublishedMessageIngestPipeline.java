@@ -0,0 +1,207 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.event.service.impl;
+
+import static io.harness.annotations.dev.HarnessTeam.CE;
+
+import static com.mongodb.ErrorCategory.DUPLICATE_KEY;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.ccm.commons.entities.events.PublishedMessage;
+import io.harness.event.app.EventServiceConfig;
+import io.harness.event.config.EventDataBatchQueryConfig;
+import io.harness.event.service.intfc.EventDataBulkWriteService;
+
+import com.google.common.util.concurrent.AbstractIdleService;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.mongodb.BulkWriteException;
+import com.mongodb.ErrorCategory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Buffers the published messages in memory and writes them with unordered bulk writes from several writer threads, so
+ * that the publish requests are acknowledged without waiting for mongo.
+ *
+ * <p>The buffer is bounded, callers wait for space up to the enqueue timeout and are expected to write the messages
+ * themselves when they are not accepted, which slows down the publishers while mongo falls behind. A batch which fails
+ * to be written goes back to the buffer and keeps its space, so while mongo is down the buffer fills up and the
+ * publishers get the write errors themselves.
+ */
+@Slf4j
+@Singleton
+@OwnedBy(CE)
+public class PublishedMessageIngestPipeline extends AbstractIdleService {
+  private static final int DEFAULT_BUFFER_CAPACITY = 100_000;
+  private static final int DEFAULT_WRITER_THREADS = 4;
+  private static final long DEFAULT_ENQUEUE_TIMEOUT_MILLIS = 5000;
+  private static final int DEFAULT_BATCH_SIZE = 4000;
+  private static final long POLL_INTERVAL_MILLIS = 100;
+  private static final long RETRY_INTERVAL_MILLIS = 1000;
+  private static final long SHUTDOWN_TIMEOUT_MINUTES = 1;
+
+  private final EventDataBulkWriteService eventDataBulkWriteService;
+  private final int bufferCapacity;
+  private final int writerThreads;
+  private final long enqueueTimeoutMillis;
+  private final int batchSize;
+
+  private final BlockingQueue<PublishedMessage> buffer = new LinkedBlockingQueue<>();
+  // Permits for the free space of the buffer, so that the messages of a request are accepted all together or not at all
+  private final Semaphore freeSpace;
+  // Held to add messages to the buffer, and exclusively to stop accepting them, so none are added once writers stop
+  private final ReadWriteLock acceptingLock = new ReentrantReadWriteLock();
+  private volatile boolean accepting;
+  private ExecutorService writerExecutor;
+
+  @Inject
+  public PublishedMessageIngestPipeline(
+      EventDataBulkWriteService eventDataBulkWriteService, EventServiceConfig eventServiceConfig) {
+    this(eventDataBulkWriteService, eventServiceConfig.getEventDataBatchQueryConfig());
+  }
+
+  PublishedMessageIngestPipeline(
+      EventDataBulkWriteService eventDataBulkWriteService, EventDataBatchQueryConfig batchQueryConfig) {
+    this.eventDataBulkWriteService = eventDataBulkWriteService;
+    this.bufferCapacity = orDefault(batchQueryConfig.getIngestBufferCapacity(), DEFAULT_BUFFER_CAPACITY);
+    this.writerThreads = orDefault(batchQueryConfig.getIngestWriterThreads(), DEFAULT_WRITER_THREADS);
+    this.enqueueTimeoutMillis = batchQueryConfig.getIngestEnqueueTimeoutMillis() > 0
+        ? batchQueryConfig.getIngestEnqueueTimeoutMillis()
+        : DEFAULT_ENQUEUE_TIMEOUT_MILLIS;
+    this.batchSize = orDefault(batchQueryConfig.getQueryBatchSize(), DEFAULT_BATCH_SIZE);
+    this.freeSpace = new Semaphore(bufferCapacity);
+  }
+
+  @Override
+  protected void startUp() {
+    writerExecutor = Executors.newFixedThreadPool(
+        writerThreads, new ThreadFactoryBuilder().setNameFormat("published-message-writer-%d").build());
+    for (int i = 0; i < writerThreads; i++) {
+      writerExecutor.submit(this::runWriter);
+    }
+    accepting = true;
+    log.info("Started published message ingest pipeline with capacity {} and {} writers", bufferCapacity,
+        writerThreads);
+  }
+
+  @Override
+  protected void shutDown() throws InterruptedException {
+    acceptingLock.writeLock().lock();
+    try {
+      accepting = false;
+    } finally {
+      acceptingLock.writeLock().unlock();
+    }
+    // Writers exit once the messages already accepted are written
+    writerExecutor.shutdown();
+    if (!writerExecutor.awaitTermination(SHUTDOWN_TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+      log.warn("Published message writers did not stop in time, {} messages not written", buffer.size());
+      writerExecutor.shutdownNow();
+    }
+  }
+
+  /**
+   * Adds the messages to the buffer, waiting for space up to the enqueue timeout.
+   *
+   * @return false if the messages were not accepted, in which case the caller needs to write them
+   */
+  public boolean enqueue(List<PublishedMessage> publishedMessages) {
+    if (!accepting || publishedMessages.size() > bufferCapacity) {
+      return false;
+    }
+    try {
+      if (!freeSpace.tryAcquire(publishedMessages.size(), enqueueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+        log.warn("Ingest buffer is full, {} messages not accepted", publishedMessages.size());
+        return false;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+    acceptingLock.readLock().lock();
+    try {
+      if (!accepting) {
+        freeSpace.release(publishedMessages.size());
+        return false;
+      }
+      buffer.addAll(publishedMessages);
+      return true;
+    } finally {
+      acceptingLock.readLock().unlock();
+    }
+  }
+
+  int getBufferedCount() {
+    return bufferCapacity - freeSpace.availablePermits();
+  }
+
+  private void runWriter() {
+    List<PublishedMessage> batch = new ArrayList<>(batchSize);
+    while (true) {
+      try {
+        PublishedMessage publishedMessage = buffer.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        if (publishedMessage == null) {
+          if (!accepting) {
+            return;
+          }
+          continue;
+        }
+        batch.add(publishedMessage);
+        buffer.drainTo(batch, batchSize - 1);
+        if (write(batch)) {
+          freeSpace.release(batch.size());
+        } else {
+          // The messages were already acknowledged to the publisher, so they are written again until mongo is back
+          buffer.addAll(batch);
+          Thread.sleep(RETRY_INTERVAL_MILLIS);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+
+  private boolean write(List<PublishedMessage> batch) {
+    try {
+      if (!eventDataBulkWriteService.bulkInsertPublishedMessages(batch)) {
+        // Nothing to retry when the write concern does not acknowledge writes
+        log.warn("Bulk write of {} published messages was not acknowledged", batch.size());
+      }
+      return true;
+    } catch (BulkWriteException e) {
+      // A batch is never split by the bulk write, so when it is written again only the messages written before fail
+      if (e.getWriteErrors().stream().allMatch(
+              writeError -> ErrorCategory.fromErrorCode(writeError.getCode()) == DUPLICATE_KEY)) {
+        return true;
+      }
+      log.error("Failed to write {} published messages, retrying", batch.size(), e);
+      return false;
+    } catch (Exception e) {
+      log.error("Failed to write {} published messages, retrying", batch.size(), e);
+      return false;
+    }
+  }
+
+  private static int orDefault(int value, int defaultValue) {
+    return value > 0 ? value : defaultValue;
+  }
+}
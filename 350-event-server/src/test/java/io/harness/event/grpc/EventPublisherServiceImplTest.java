@@ -17,6 +17,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -29,6 +30,7 @@ import io.harness.event.app.EventServiceConfig;
 import io.harness.event.config.EventDataBatchQueryConfig;
 import io.harness.event.payloads.Lifecycle;
 import io.harness.event.service.impl.EventPublisherServiceImpl;
+import io.harness.event.service.impl.PublishedMessageIngestPipeline;
 import io.harness.event.service.intfc.EventDataBulkWriteService;
 import io.harness.event.service.intfc.LastReceivedPublishedMessageRepository;
 import io.harness.grpc.auth.DelegateAuthServerInterceptor;
@@ -71,6 +73,7 @@ public class EventPublisherServiceImplTest extends CategoryTest {
   @Mock private LastReceivedPublishedMessageRepository lastReceivedPublishedMessageRepository;
   @Mock private MessageProcessorRegistry messageProcessorRegistry;
   @Mock private MetricService metricService;
+  @Mock private PublishedMessageIngestPipeline publishedMessageIngestPipeline;
 
   @InjectMocks private EventPublisherServiceImpl publisherService;
   @Test
@@ -171,6 +174,28 @@ public class EventPublisherServiceImplTest extends CategoryTest {
     });
   }
 
+  @Test
+  @Owner(developers = SAHILDEEP)
+  @Category(UnitTests.class)
+  public void shouldEnqueueBulkMessagesWithAsyncWrite() {
+    when(eventServiceConfig.getEventDataBatchQueryConfig()).thenReturn(eventDataBatchQueryConfig);
+    when(eventDataBatchQueryConfig.isEnableBatchWrite()).thenReturn(true);
+    when(eventDataBatchQueryConfig.isEnableAsyncWrite()).thenReturn(true);
+    when(publishedMessageIngestPipeline.enqueue(anyList())).thenReturn(true);
+    List<PublishMessage> messages = testMessages()
+                                        .stream()
+                                        .map(x -> PublishMessage.newBuilder().setPayload(Any.pack(x)).build())
+                                        .collect(toList());
+    publisherService.publish(TEST_ACC_ID, TEST_DEL_ID, messages, messages.size());
+    verify(publishedMessageIngestPipeline).enqueue(anyList());
+    verify(eventDataBulkWriteService, never()).bulkInsertPublishedMessages(anyList());
+
+    // Written on the request thread when the buffer is full
+    when(publishedMessageIngestPipeline.enqueue(anyList())).thenReturn(false);
+    publisherService.publish(TEST_ACC_ID, TEST_DEL_ID, messages, messages.size());
+    verify(eventDataBulkWriteService).bulkInsertPublishedMessages(anyList());
+  }
+
   @Test(expected = RuntimeException.class)
   @Owner(developers = AVMOHAN)
   @Category(UnitTests.class)
@@ -0,0 +1,297 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.event.service.impl;
+
+import static io.harness.rule.OwnerRule.SAHILDEEP;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.ccm.commons.entities.events.PublishedMessage;
+import io.harness.event.app.EventServiceConfig;
+import io.harness.event.config.EventDataBatchQueryConfig;
+import io.harness.event.service.intfc.EventDataBulkWriteService;
+import io.harness.persistence.HPersistence;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableMap;
+import com.mongodb.DBCollection;
+import com.mongodb.MongoClient;
+import com.mongodb.MongoException;
+import com.mongodb.ServerAddress;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.ServerVersion;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.awaitility.Awaitility;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Slf4j
+public class PublishedMessageIngestPipelineTest extends CategoryTest {
+  private static final String ACCOUNT_ID = "accountId";
+
+  private MongoServer mongoServer;
+  private MongoClient mongoClient;
+  private DBCollection collection;
+  private PublishedMessageIngestPipeline pipeline;
+
+  @Before
+  public void setUp() {
+    mongoServer = new MongoServer(new MemoryBackend().version(ServerVersion.MONGO_3_6));
+    mongoServer.bind("localhost", 0);
+    mongoClient = new MongoClient(new ServerAddress(mongoServer.getLocalAddress()));
+    collection = mongoClient.getDB("events").getCollection("publishedMessages");
+  }
+
+  @After
+  public void tearDown() {
+    if (pipeline != null && pipeline.isRunning()) {
+      pipeline.stopAsync().awaitTerminated();
+    }
+    mongoClient.close();
+    mongoServer.shutdownNow();
+  }
+
+  @Test
+  @Owner(developers = SAHILDEEP)
+  @Category(UnitTests.class)
+  public void shouldAcknowledgeBeforeWrite() throws Exception {
+    CountDownLatch writeLatch = new CountDownLatch(1);
+    AtomicInteger writtenCount = new AtomicInteger();
+    pipeline = start(publishedMessages -> {
+      awaitUninterruptibly(writeLatch);
+      writtenCount.addAndGet(publishedMessages.size());
+      return true;
+    }, 100, 2, 10L);
+
+    assertThat(pipeline.enqueue(publishedMessages(30))).isTrue();
+    assertThat(pipeline.enqueue(publishedMessages(30))).isTrue();
+    assertThat(pipeline.getBufferedCount()).isEqualTo(60);
+    assertThat(writtenCount.get()).isEqualTo(0);
+
+    writeLatch.countDown();
+    Awaitility.await().atMost(10, TimeUnit.SECONDS).until(() -> pipeline.getBufferedCount() == 0);
+    assertThat(writtenCount.get()).isEqualTo(60);
+  }
+
+  @Test
+  @Owner(developers = SAHILDEEP)
+  @Category(UnitTests.class)
+  public void shouldRejectWhenBufferIsFull() throws Exception {
+    CountDownLatch writeLatch = new CountDownLatch(1);
+    pipeline = start(publishedMessages -> {
+      awaitUninterruptibly(writeLatch);
+      return true;
+    }, 10, 1, 10L);
+
+    assertThat(pipeline.enqueue(publishedMessages(8))).isTrue();
+    // Messages of a request are accepted all together or not at all
+    assertThat(pipeline.enqueue(publishedMessages(3))).isFalse();
+    assertThat(pipeline.enqueue(publishedMessages(11))).isFalse();
+    assertThat(pipeline.enqueue(publishedMessages(2))).isTrue();
+    assertThat(pipeline.getBufferedCount()).isEqualTo(10);
+
+    writeLatch.countDown();
+    Awaitility.await().atMost(10, TimeUnit.SECONDS).until(() -> pipeline.getBufferedCount() == 0);
+    assertThat(pipeline.enqueue(publishedMessages(3))).isTrue();
+  }
+
+  @Test
+  @Owner(developers = SAHILDEEP)
+  @Category(UnitTests.class)
+  public void shouldWriteBufferedMessagesOnStop() {
+    pipeline = start(bulkWriteService(), 1000, 2, 1000L);
+    for (int i = 0; i < 10; i++) {
+      assertThat(pipeline.enqueue(publishedMessages(50))).isTrue();
+    }
+    pipeline.stopAsync().awaitTerminated();
+    assertThat(collection.count()).isEqualTo(500);
+    assertThat(pipeline.enqueue(publishedMessages(1))).isFalse();
+  }
+
+  @Test
+  @Owner(developers = SAHILDEEP)
+  @Category(UnitTests.class)
+  public void shouldRetryFailedBatches() {
+    EventDataBulkWriteService bulkWriteService = bulkWriteService();
+    AtomicInteger failures = new AtomicInteger(2);
+    pipeline = start(publishedMessages -> {
+      if (failures.getAndDecrement() > 0) {
+        throw new MongoException("mongo is down");
+      }
+      return bulkWriteService.bulkInsertPublishedMessages(publishedMessages);
+    }, 100, 1, 10L);
+
+    assertThat(pipeline.enqueue(publishedMessages(30))).isTrue();
+    Awaitility.await().atMost(10, TimeUnit.SECONDS).until(() -> pipeline.getBufferedCount() == 0);
+    assertThat(collection.count()).isEqualTo(30);
+  }
+
+  @Test
+  @Owner(developers = SAHILDEEP)
+  @Category(UnitTests.class)
+  public void shouldNotRetryMessagesWrittenBefore() {
+    EventDataBulkWriteService bulkWriteService = bulkWriteService();
+    List<PublishedMessage> writtenMessages = publishedMessages(10);
+    assertThat(bulkWriteService.bulkInsertPublishedMessages(writtenMessages)).isTrue();
+    AtomicInteger writeAttempts = new AtomicInteger();
+    pipeline = start(publishedMessages -> {
+      writeAttempts.incrementAndGet();
+      return bulkWriteService.bulkInsertPublishedMessages(publishedMessages);
+    }, 100, 1, 10L);
+
+    // Same as a publisher sending again messages which were already written
+    List<PublishedMessage> publishedMessages = new ArrayList<>(writtenMessages);
+    publishedMessages.addAll(publishedMessages(20));
+    assertThat(pipeline.enqueue(publishedMessages)).isTrue();
+    Awaitility.await().atMost(10, TimeUnit.SECONDS).until(() -> pipeline.getBufferedCount() == 0);
+    assertThat(collection.count()).isEqualTo(30);
+    assertThat(writeAttempts.get()).isEqualTo(1);
+  }
+
+  @Test
+  @Owner(developers = SAHILDEEP)
+  @Category(UnitTests.class)
+  public void shouldWriteMessagesAcceptedWhileStopping() throws Exception {
+    pipeline = start(bulkWriteService(), 1000, 2, 1000L);
+    int publisherThreads = 4;
+    ExecutorService publishers = Executors.newFixedThreadPool(publisherThreads);
+    AtomicInteger acceptedCount = new AtomicInteger();
+    CountDownLatch publishing = new CountDownLatch(publisherThreads);
+    for (int i = 0; i < publisherThreads; i++) {
+      publishers.submit(() -> {
+        publishing.countDown();
+        while (true) {
+          if (!pipeline.enqueue(publishedMessages(5))) {
+            if (!pipeline.isRunning()) {
+              return;
+            }
+            continue;
+          }
+          acceptedCount.addAndGet(5);
+        }
+      });
+    }
+    publishing.await();
+    pipeline.stopAsync().awaitTerminated();
+    publishers.shutdown();
+    assertThat(publishers.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    // Every message acknowledged to a publisher is written, including those enqueued concurrently with the stop
+    assertThat(collection.count()).isEqualTo(acceptedCount.get());
+  }
+
+  /**
+   * Publishes from several threads into an in memory mongo server, and reports the ingest rate and ack latency.
+   */
+  @Test
+  @Owner(developers = SAHILDEEP)
+  @Category(UnitTests.class)
+  public void testIngestLoad() throws Exception {
+    int publisherThreads = 8;
+    int requestsPerPublisher = 250;
+    int messagesPerRequest = 20;
+    EventDataBulkWriteService bulkWriteService = bulkWriteService();
+    pipeline = start(bulkWriteService, 20000, 4, 5000L);
+
+    ExecutorService publishers = Executors.newFixedThreadPool(publisherThreads);
+    long start = System.nanoTime();
+    List<Future<long[]>> futures = new ArrayList<>();
+    for (int i = 0; i < publisherThreads; i++) {
+      futures.add(publishers.submit(() -> {
+        long[] latencies = new long[requestsPerPublisher];
+        for (int j = 0; j < requestsPerPublisher; j++) {
+          List<PublishedMessage> publishedMessages = publishedMessages(messagesPerRequest);
+          long requestStart = System.nanoTime();
+          // Same as the publish service when the buffer does not accept the messages
+          if (!pipeline.enqueue(publishedMessages)) {
+            bulkWriteService.bulkInsertPublishedMessages(publishedMessages);
+          }
+          latencies[j] = System.nanoTime() - requestStart;
+        }
+        return latencies;
+      }));
+    }
+    long[] latencies = new long[publisherThreads * requestsPerPublisher];
+    for (int i = 0; i < publisherThreads; i++) {
+      System.arraycopy(futures.get(i).get(), 0, latencies, i * requestsPerPublisher, requestsPerPublisher);
+    }
+    publishers.shutdown();
+    pipeline.stopAsync().awaitTerminated();
+    long elapsedNanos = System.nanoTime() - start;
+
+    int totalMessages = publisherThreads * requestsPerPublisher * messagesPerRequest;
+    assertThat(collection.count()).isEqualTo(totalMessages);
+    Arrays.sort(latencies);
+    log.info("Ingested {} messages at {} messages/sec, ack latency p50 {} us, p99 {} us", totalMessages,
+        totalMessages * TimeUnit.SECONDS.toNanos(1) / elapsedNanos, latencies[latencies.length / 2] / 1000,
+        latencies[latencies.length * 99 / 100] / 1000);
+  }
+
+  private PublishedMessageIngestPipeline start(EventDataBulkWriteService bulkWriteService, int bufferCapacity,
+      int writerThreads, long enqueueTimeoutMillis) {
+    PublishedMessageIngestPipeline ingestPipeline = new PublishedMessageIngestPipeline(bulkWriteService,
+        EventDataBatchQueryConfig.builder()
+            .queryBatchSize(500)
+            .enableBatchWrite(true)
+            .enableAsyncWrite(true)
+            .ingestBufferCapacity(bufferCapacity)
+            .ingestWriterThreads(writerThreads)
+            .ingestEnqueueTimeoutMillis(enqueueTimeoutMillis)
+            .build());
+    ingestPipeline.startAsync().awaitRunning();
+    return ingestPipeline;
+  }
+
+  private EventDataBulkWriteService bulkWriteService() {
+    HPersistence hPersistence = mock(HPersistence.class);
+    when(hPersistence.getCollection(PublishedMessage.class)).thenReturn(collection);
+    EventServiceConfig eventServiceConfig = mock(EventServiceConfig.class);
+    when(eventServiceConfig.getEventDataBatchQueryConfig())
+        .thenReturn(EventDataBatchQueryConfig.builder().queryBatchSize(500).enableBatchWrite(true).build());
+    return new EventDataBulkWriteServiceImpl(hPersistence, eventServiceConfig);
+  }
+
+  private static List<PublishedMessage> publishedMessages(int count) {
+    List<PublishedMessage> publishedMessages = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      publishedMessages.add(PublishedMessage.builder()
+                                .uuid(UUID.randomUUID().toString())
+                                .accountId(ACCOUNT_ID)
+                                .type("io.harness.event.payloads.PodMetric")
+                                .data(new byte[256])
+                                .attributes(ImmutableMap.of("clusterId", "cluster" + (i % 10)))
+                                .occurredAt(System.currentTimeMillis())
+                                .build());
+    }
+    return publishedMessages;
+  }
+
+  private static void awaitUninterruptibly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -45,8 +45,8 @@ public class DelegateServiceClassicGrpcImpl extends DelegateTaskGrpc.DelegateTas
   @Override
   public void queueTaskV2(DelegateClassicTaskRequest request, StreamObserver<QueueTaskResponse> responseObserver) {
     try {
-      DelegateTask task =
-          (DelegateTask) referenceFalseKryoSerializer.asInflatedObject(request.getDelegateTaskKryo().toByteArray());
+      DelegateTask task = (DelegateTask) referenceFalseKryoSerializer.readInflatedFrom(
+          request.getDelegateTaskKryo().asReadOnlyByteBuffer());
 
       delegateTaskServiceClassic.queueTaskV2(task);
 
@@ -62,13 +62,12 @@ public class DelegateServiceClassicGrpcImpl extends DelegateTaskGrpc.DelegateTas
   @Override
   public void executeTaskV2(DelegateClassicTaskRequest request, StreamObserver<ExecuteTaskResponse> responseObserver) {
     try {
-      DelegateTask task =
-          (DelegateTask) referenceFalseKryoSerializer.asInflatedObject(request.getDelegateTaskKryo().toByteArray());
+      DelegateTask task = (DelegateTask) referenceFalseKryoSerializer.readInflatedFrom(
+          request.getDelegateTaskKryo().asReadOnlyByteBuffer());
       DelegateResponseData delegateResponseData = delegateTaskServiceClassic.executeTaskV2(task);
+      ByteString delegateTaskResponseKryo = asDeflatedByteString(kryoSerializer, delegateResponseData);
       responseObserver.onNext(
-          ExecuteTaskResponse.newBuilder()
-              .setDelegateTaskResponseKryo(ByteString.copyFrom(kryoSerializer.asDeflatedBytes(delegateResponseData)))
-              .build());
+          ExecuteTaskResponse.newBuilder().setDelegateTaskResponseKryo(delegateTaskResponseKryo).build());
       responseObserver.onCompleted();
 
     } catch (Exception ex) {
@@ -84,10 +83,9 @@ public class DelegateServiceClassicGrpcImpl extends DelegateTaskGrpc.DelegateTas
       String delegateTaskId = request.getDelegateTaskId();
 
       DelegateTask delegateTask = delegateTaskServiceClassic.abortTaskV2(accountId, delegateTaskId);
-      responseObserver.onNext(
-          AbortTaskResponse.newBuilder()
-              .setDelegateTaskKryo(ByteString.copyFrom(referenceFalseKryoSerializer.asDeflatedBytes(delegateTask)))
-              .build());
+      responseObserver.onNext(AbortTaskResponse.newBuilder()
+                                  .setDelegateTaskKryo(asDeflatedByteString(referenceFalseKryoSerializer, delegateTask))
+                                  .build());
       responseObserver.onCompleted();
 
     } catch (Exception ex) {
@@ -119,10 +117,10 @@ public class DelegateServiceClassicGrpcImpl extends DelegateTaskGrpc.DelegateTas
       String perpetualTaskType = request.getPerpetualTaskType();
       String accountId = request.getAccountId();
       PerpetualTaskClientContext clientContext =
-          (PerpetualTaskClientContext) referenceFalseKryoSerializer.asInflatedObject(
-              request.getClientContextKryo().toByteArray());
-      PerpetualTaskSchedule schedule = (PerpetualTaskSchedule) referenceFalseKryoSerializer.asInflatedObject(
-          request.getPerpetualTaskScheduleKryo().toByteArray());
+          (PerpetualTaskClientContext) referenceFalseKryoSerializer.readInflatedFrom(
+              request.getClientContextKryo().asReadOnlyByteBuffer());
+      PerpetualTaskSchedule schedule = (PerpetualTaskSchedule) referenceFalseKryoSerializer.readInflatedFrom(
+          request.getPerpetualTaskScheduleKryo().asReadOnlyByteBuffer());
       boolean allowDuplicate = request.getAllowDuplicate();
       String taskDescription = request.getTaskDescription();
       String taskId = perpetualTaskService.createPerpetualTaskInternal(
@@ -134,4 +132,10 @@ public class DelegateServiceClassicGrpcImpl extends DelegateTaskGrpc.DelegateTas
       responseObserver.onError(io.grpc.Status.INTERNAL.withDescription(ex.getMessage()).asRuntimeException());
     }
   }
+
+  private static ByteString asDeflatedByteString(KryoSerializer serializer, Object obj) {
+    ByteString.Output output = ByteString.newOutput();
+    serializer.writeDeflatedTo(obj, output);
+    return output.toByteString();
+  }
 }
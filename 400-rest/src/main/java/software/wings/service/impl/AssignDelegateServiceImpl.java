@@ -104,6 +104,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -128,6 +129,8 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
   public static final long WHITELIST_TTL = TimeUnit.HOURS.toMillis(6);
   public static final long BLACKLIST_TTL = TimeUnit.MINUTES.toMillis(5);
   private static final long WHITELIST_REFRESH_INTERVAL = TimeUnit.MINUTES.toMillis(10);
+  // Same as the delegate group and profile caches, which the delegate selectors are computed from
+  private static final long ELIGIBILITY_INDEX_ENTRY_TTL = TimeUnit.SECONDS.toMillis(30);
 
   private static final String NO_ACTIVE_DELEGATES = "Account has no active delegates";
   public static final String NON_CONNECTED_DELEGATES = "Non active delegates";
@@ -207,6 +210,18 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
             }
           });
 
+  // Rebuilt from scratch periodically, so that the delegates which are not used anymore are dropped
+  private final LoadingCache<String, DelegateEligibilityIndex> eligibilityIndexCache =
+      CacheBuilder.newBuilder()
+          .maximumSize(1000)
+          .expireAfterWrite(10, TimeUnit.MINUTES)
+          .build(new CacheLoader<String, DelegateEligibilityIndex>() {
+            @Override
+            public DelegateEligibilityIndex load(String accountId) {
+              return new DelegateEligibilityIndex(ELIGIBILITY_INDEX_ENTRY_TTL);
+            }
+          });
+
   @Override
   public boolean canAssign(String delegateId, DelegateTask task) {
     Delegate delegate = delegateCache.get(task.getAccountId(), delegateId);
@@ -1049,13 +1064,18 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
         throw new NoAvailableDelegatesException();
       }
 
-      List<Delegate> delegates = getDelegatesWithOwnerShipCriteriaMatch(task, accountDelegates);
+      DelegateEligibilityIndex eligibilityIndex = getEligibilityIndex(task.getAccountId(), accountDelegates);
+      List<Delegate> delegates = getDelegatesWithOwnerShipCriteriaMatch(task, accountDelegates, eligibilityIndex);
       if (isEmpty(delegates)) {
         task.getNonAssignableDelegates().put(CAN_NOT_ASSIGN_OWNER, Collections.emptyList());
         delegateTaskServiceClassic.addToTaskActivityLog(task, CAN_NOT_ASSIGN_OWNER);
         return eligibleDelegateIds;
       }
 
+      String taskType = task.getData().getTaskType();
+      delegates = filterByEligibilityIndex(task, delegates, eligibilityIndex, taskType,
+          CAN_NOT_ASSIGN_TASK_GROUP + " {" + taskType + "} ", selectors -> CAN_NOT_ASSIGN_SELECTOR_TASK_GROUP);
+
       eligibleDelegateIds =
           delegates.stream()
               .filter(delegate
@@ -1095,13 +1115,19 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
         return List.of();
       }
 
-      List<Delegate> delegates = getDelegatesWithOwnerShipCriteriaMatch(task, accountDelegates);
+      DelegateEligibilityIndex eligibilityIndex = getEligibilityIndex(task.getAccountId(), accountDelegates);
+      List<Delegate> delegates = getDelegatesWithOwnerShipCriteriaMatch(task, accountDelegates, eligibilityIndex);
       if (isEmpty(delegates)) {
         task.getNonAssignableDelegates().put(CAN_NOT_ASSIGN_OWNER, Collections.emptyList());
         delegateTaskServiceClassic.addToTaskActivityLog(task, CAN_NOT_ASSIGN_OWNER);
         return List.of();
       }
 
+      String taskType = task.getTaskDataV2().getTaskType();
+      delegates = filterByEligibilityIndex(task, delegates, eligibilityIndex, taskType,
+          String.format("%s %s", taskType, CAN_NOT_ASSIGN_TASK_GROUP),
+          selectors -> CAN_NOT_ASSIGN_SELECTOR_TASK_GROUP + " " + selectors);
+
       eligibleDelegateIds = delegates.stream()
                                 .filter(delegate
                                     -> delegate.getStatus() != DelegateInstanceStatus.DELETED
@@ -1162,13 +1188,18 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
         return List.of();
       }
 
-      List<Delegate> delegates = getDelegatesWithOwnerShipCriteriaMatch(task, accountDelegates);
+      DelegateEligibilityIndex eligibilityIndex = getEligibilityIndex(task.getAccountId(), accountDelegates);
+      List<Delegate> delegates = getDelegatesWithOwnerShipCriteriaMatch(task, accountDelegates, eligibilityIndex);
       if (isEmpty(delegates)) {
         task.getNonAssignableDelegates().put(CAN_NOT_ASSIGN_OWNER, Collections.emptyList());
         delegateTaskServiceClassic.addToTaskActivityLog(task, CAN_NOT_ASSIGN_OWNER);
         return List.of();
       }
 
+      // Task types are not checked when scheduling tasks
+      delegates = filterByEligibilityIndex(task, delegates, eligibilityIndex, null, null,
+          selectors -> CAN_NOT_ASSIGN_SELECTOR_TASK_GROUP + " " + selectors);
+
       eligibleDelegateIds = delegates.stream()
                                 .filter(delegate
                                     -> delegate.getStatus() != DelegateInstanceStatus.DELETED
@@ -1341,12 +1372,58 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
         .collect(toList());
   }
 
-  private List<Delegate> getDelegatesWithOwnerShipCriteriaMatch(DelegateTask task, List<Delegate> delegates) {
+  private DelegateEligibilityIndex getEligibilityIndex(String accountId, List<Delegate> delegates) {
+    DelegateEligibilityIndex eligibilityIndex = eligibilityIndexCache.getUnchecked(accountId);
+    eligibilityIndex.refresh(delegates.stream().map(Delegate::getUuid).collect(toList()),
+        delegateId
+        -> delegateCache.get(accountId, delegateId),
+        delegate -> delegateService.retrieveDelegateSelectors(delegate, true), System.currentTimeMillis());
+    return eligibilityIndex;
+  }
+
+  private List<Delegate> getDelegatesWithOwnerShipCriteriaMatch(
+      DelegateTask task, List<Delegate> delegates, DelegateEligibilityIndex eligibilityIndex) {
+    String taskOwner =
+        isEmpty(task.getSetupAbstractions()) ? null : task.getSetupAbstractions().get(NgSetupFields.OWNER);
+    Set<String> ownerCandidates = eligibilityIndex.getDelegatesForOwner(taskOwner);
     return delegates.stream()
-        .filter(delegate -> canAssignOwner(delegate, task.getSetupAbstractions()))
+        .filter(delegate
+            -> ownerCandidates.contains(delegate.getUuid()) && canAssignOwner(delegate, task.getSetupAbstractions()))
         .collect(toList());
   }
 
+  /**
+   * Drops the delegates which the eligibility index shows to not support the task type or to miss some of the task
+   * selectors. They are recorded as non assignable delegates, as they would be by the detailed checks.
+   */
+  private List<Delegate> filterByEligibilityIndex(DelegateTask task, List<Delegate> delegates,
+      DelegateEligibilityIndex eligibilityIndex, String taskType, String taskTypeMismatchMessage,
+      Function<Set<String>, String> selectorMismatchMessage) {
+    Set<String> selectors = isEmpty(task.getExecutionCapabilities())
+        ? Collections.emptySet()
+        : delegateTaskServiceClassic.fetchTaskSelectorCapabilities(task.getExecutionCapabilities())
+              .stream()
+              .map(SelectorCapability::getSelectors)
+              .filter(Objects::nonNull)
+              .flatMap(Collection::stream)
+              .collect(Collectors.toSet());
+    Set<String> candidates = eligibilityIndex.getCandidates(taskType, selectors);
+
+    List<Delegate> eligibleDelegates = new ArrayList<>();
+    for (Delegate delegate : delegates) {
+      if (candidates.contains(delegate.getUuid())) {
+        eligibleDelegates.add(delegate);
+        continue;
+      }
+      String delegateName = isNotEmpty(delegate.getHostName()) ? delegate.getHostName() : delegate.getUuid();
+      String message = taskType != null && !eligibilityIndex.supportsTaskType(delegate.getUuid(), taskType)
+          ? taskTypeMismatchMessage
+          : selectorMismatchMessage.apply(selectors);
+      task.getNonAssignableDelegates().computeIfAbsent(message, key -> new ArrayList<>()).add(delegateName);
+    }
+    return eligibleDelegates;
+  }
+
   @Override
   public List<Delegate> getAccountDelegates(String accountId) {
     try {
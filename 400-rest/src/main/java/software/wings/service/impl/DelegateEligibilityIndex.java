@@ -0,0 +1,207 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package software.wings.service.impl;
+
+import static io.harness.data.structure.CollectionUtils.trimmedLowercaseSet;
+import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
+import static io.harness.delegate.utils.DelegateEntityOwnerHelper.extractOrgIdFromOwnerIdentifier;
+import static io.harness.delegate.utils.DelegateEntityOwnerHelper.extractProjectIdFromOwnerIdentifier;
+
+import static org.apache.commons.lang3.StringUtils.defaultString;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+import io.harness.annotations.dev.HarnessModule;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.annotations.dev.TargetModule;
+import io.harness.delegate.beans.Delegate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import lombok.Value;
+
+/**
+ * Index of the delegates of an account by supported task type, selector and owner. It narrows the delegates which can
+ * take a task with set intersections, before the detailed and more expensive assignment checks run on the remaining
+ * ones. The index only ever returns a superset of the eligible delegates.
+ *
+ * <p>Entries are updated incrementally, a delegate is indexed again when it is reloaded in the delegate cache or when
+ * its entry is older than the given ttl, as its selectors also depend on its group and profile.
+ */
+@OwnedBy(HarnessTeam.DEL)
+@TargetModule(HarnessModule._420_DELEGATE_SERVICE)
+class DelegateEligibilityIndex {
+  // Owner of the account level delegates, which can take the tasks of any owner
+  private static final String ACCOUNT_OWNER = "";
+
+  private final long entryTtlMillis;
+  private final Map<String, Entry> entries = new HashMap<>();
+  private final Map<String, Set<String>> delegatesByTaskType = new HashMap<>();
+  private final Map<String, Set<String>> delegatesBySelector = new HashMap<>();
+  private final Map<String, Set<String>> delegatesByOwner = new HashMap<>();
+
+  @Value
+  private static class Entry {
+    Delegate delegate;
+    Set<String> taskTypes;
+    Set<String> selectors;
+    String owner;
+    long indexedAt;
+  }
+
+  DelegateEligibilityIndex(long entryTtlMillis) {
+    this.entryTtlMillis = entryTtlMillis;
+  }
+
+  /**
+   * Indexes the given delegates which are not indexed yet, were reloaded or whose entries expired.
+   *
+   * @param delegateLoader returns the current delegate for an id, or null if it does not exist anymore
+   * @param selectorsLoader returns the selectors of a delegate, called outside the index lock
+   */
+  void refresh(Collection<String> delegateIds, Function<String, Delegate> delegateLoader,
+      Function<Delegate, Set<String>> selectorsLoader, long now) {
+    List<Delegate> staleDelegates = new ArrayList<>();
+    List<String> removedDelegateIds = new ArrayList<>();
+    for (String delegateId : delegateIds) {
+      Delegate delegate = delegateLoader.apply(delegateId);
+      if (delegate == null) {
+        removedDelegateIds.add(delegateId);
+      } else if (isStale(delegateId, delegate, now)) {
+        staleDelegates.add(delegate);
+      }
+    }
+    if (staleDelegates.isEmpty() && removedDelegateIds.isEmpty()) {
+      return;
+    }
+
+    List<Entry> newEntries = new ArrayList<>();
+    for (Delegate delegate : staleDelegates) {
+      Set<String> taskTypes = delegate.getSupportedTaskTypes() == null
+          ? Collections.emptySet()
+          : new HashSet<>(delegate.getSupportedTaskTypes());
+      Set<String> selectors = trimmedLowercaseSet(selectorsLoader.apply(delegate));
+      newEntries.add(new Entry(delegate, taskTypes, selectors == null ? Collections.emptySet() : selectors,
+          getDelegateOwner(delegate), now));
+    }
+    synchronized (this) {
+      removedDelegateIds.forEach(this::remove);
+      newEntries.forEach(this::put);
+    }
+  }
+
+  /**
+   * Returns the ids of the indexed delegates which can take the tasks of the given owner.
+   */
+  synchronized Set<String> getDelegatesForOwner(String taskOwnerIdentifier) {
+    Set<String> delegateIds = new HashSet<>(delegatesByOwner.getOrDefault(ACCOUNT_OWNER, Collections.emptySet()));
+    if (isBlank(taskOwnerIdentifier)) {
+      return delegateIds;
+    }
+    String taskOrgIdentifier = extractOrgIdFromOwnerIdentifier(taskOwnerIdentifier);
+    String taskProjectIdentifier = extractProjectIdFromOwnerIdentifier(taskOwnerIdentifier);
+    delegateIds.addAll(delegatesByOwner.getOrDefault(owner(taskOrgIdentifier, null), Collections.emptySet()));
+    if (!isBlank(taskProjectIdentifier)) {
+      delegateIds.addAll(
+          delegatesByOwner.getOrDefault(owner(taskOrgIdentifier, taskProjectIdentifier), Collections.emptySet()));
+    }
+    return delegateIds;
+  }
+
+  /**
+   * Returns the ids of the indexed delegates which support the task type, if any, and have all the given selectors.
+   */
+  synchronized Set<String> getCandidates(String taskType, Collection<String> selectors) {
+    List<Set<String>> postings = new ArrayList<>();
+    if (taskType != null) {
+      postings.add(delegatesByTaskType.getOrDefault(taskType, Collections.emptySet()));
+    }
+    Set<String> requiredSelectors = trimmedLowercaseSet(selectors);
+    if (isNotEmpty(requiredSelectors)) {
+      for (String selector : requiredSelectors) {
+        postings.add(delegatesBySelector.getOrDefault(selector, Collections.emptySet()));
+      }
+    }
+    if (postings.isEmpty()) {
+      return new HashSet<>(entries.keySet());
+    }
+
+    // Intersect starting from the smallest set, so that each step only checks the remaining candidates
+    postings.sort(Comparator.comparingInt(Set::size));
+    Set<String> candidates = new HashSet<>(postings.get(0));
+    for (int i = 1; i < postings.size() && !candidates.isEmpty(); i++) {
+      candidates.retainAll(postings.get(i));
+    }
+    return candidates;
+  }
+
+  synchronized boolean supportsTaskType(String delegateId, String taskType) {
+    Entry entry = entries.get(delegateId);
+    return entry != null && entry.getTaskTypes().contains(taskType);
+  }
+
+  synchronized int size() {
+    return entries.size();
+  }
+
+  private synchronized boolean isStale(String delegateId, Delegate delegate, long now) {
+    Entry entry = entries.get(delegateId);
+    return entry == null || entry.getDelegate() != delegate || now - entry.getIndexedAt() >= entryTtlMillis;
+  }
+
+  private void put(Entry entry) {
+    String delegateId = entry.getDelegate().getUuid();
+    remove(delegateId);
+    entries.put(delegateId, entry);
+    entry.getTaskTypes().forEach(taskType -> add(delegatesByTaskType, taskType, delegateId));
+    entry.getSelectors().forEach(selector -> add(delegatesBySelector, selector, delegateId));
+    add(delegatesByOwner, entry.getOwner(), delegateId);
+  }
+
+  private void remove(String delegateId) {
+    Entry entry = entries.remove(delegateId);
+    if (entry == null) {
+      return;
+    }
+    entry.getTaskTypes().forEach(taskType -> remove(delegatesByTaskType, taskType, delegateId));
+    entry.getSelectors().forEach(selector -> remove(delegatesBySelector, selector, delegateId));
+    remove(delegatesByOwner, entry.getOwner(), delegateId);
+  }
+
+  private static void add(Map<String, Set<String>> postings, String key, String delegateId) {
+    postings.computeIfAbsent(key, k -> new HashSet<>()).add(delegateId);
+  }
+
+  private static void remove(Map<String, Set<String>> postings, String key, String delegateId) {
+    Set<String> delegateIds = postings.get(key);
+    if (delegateIds != null && delegateIds.remove(delegateId) && delegateIds.isEmpty()) {
+      postings.remove(key);
+    }
+  }
+
+  private static String getDelegateOwner(Delegate delegate) {
+    if (delegate.getOwner() == null) {
+      return ACCOUNT_OWNER;
+    }
+    String identifier = delegate.getOwner().getIdentifier();
+    return owner(extractOrgIdFromOwnerIdentifier(identifier), extractProjectIdFromOwnerIdentifier(identifier));
+  }
+
+  // Never equal to ACCOUNT_OWNER, as it always contains the separator
+  private static String owner(String orgIdentifier, String projectIdentifier) {
+    return defaultString(orgIdentifier) + "/" + (isBlank(projectIdentifier) ? "" : projectIdentifier);
+  }
+}
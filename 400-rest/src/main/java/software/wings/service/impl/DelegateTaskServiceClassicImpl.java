@@ -131,6 +131,7 @@ import io.harness.metrics.intfc.DelegateMetricsService;
 import io.harness.network.SafeHttpCall;
 import io.harness.observer.Subject;
 import io.harness.persistence.HPersistence;
+import io.harness.queueservice.impl.DelegateLoadTracker;
 import io.harness.reflection.ExpressionReflectionUtils;
 import io.harness.reflection.ReflectionUtils;
 import io.harness.secretmanagerclient.services.api.SecretManagerClientService;
@@ -253,6 +254,7 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
   @Inject private ArtifactCollectionUtils artifactCollectionUtils;
   @Inject private DelegateTaskBroadcastHelper broadcastHelper;
   @Inject private DelegateSelectionLogsService delegateSelectionLogsService;
+  @Inject private DelegateLoadTracker delegateLoadTracker;
   @Inject private DelegateDao delegateDao;
   @Inject private DelegateSyncService delegateSyncService;
   @Inject private DelegateTaskService delegateTaskService;
@@ -1458,6 +1460,7 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
           DelayLogContext ignore = new DelayLogContext(task.getLastUpdatedAt() - task.getCreatedAt(), OVERRIDE_ERROR)) {
         log.info("Task assigned to delegate");
       }
+      delegateLoadTracker.onTaskAcquired(accountId, delegateId, taskId, task.getStageId());
       return;
     }
     task = persistence.createQuery(DelegateTask.class, migrationEnabledForDelegateTask)
@@ -1509,6 +1512,7 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
       }
       task.getData().setParameters(delegateTask.getData().getParameters());
       delegateSelectionLogsService.logTaskAssigned(delegateId, task);
+      delegateLoadTracker.onTaskAcquired(delegateTask.getAccountId(), delegateId, taskId, task.getStageId());
 
       if (delegateTask.isEmitEvent()) {
         Map<String, String> eventData = new HashMap<>();
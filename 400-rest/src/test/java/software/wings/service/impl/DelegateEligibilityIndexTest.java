@@ -0,0 +1,178 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package software.wings.service.impl;
+
+import static io.harness.rule.OwnerRule.JENNY;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessModule;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.annotations.dev.TargetModule;
+import io.harness.category.element.UnitTests;
+import io.harness.delegate.beans.Delegate;
+import io.harness.delegate.beans.DelegateEntityOwner;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.DEL)
+@TargetModule(HarnessModule._420_DELEGATE_SERVICE)
+public class DelegateEligibilityIndexTest extends CategoryTest {
+  private static final long TTL = 30000L;
+
+  private final Map<String, Delegate> delegates = new HashMap<>();
+  private final Map<String, Set<String>> selectors = new HashMap<>();
+  private final DelegateEligibilityIndex eligibilityIndex = new DelegateEligibilityIndex(TTL);
+
+  @Test
+  @Owner(developers = JENNY)
+  @Category(UnitTests.class)
+  public void testGetDelegatesForOwner() {
+    addDelegate("account", null, emptyList(), emptyList());
+    addDelegate("org", "org1", emptyList(), emptyList());
+    addDelegate("project", "org1/project1", emptyList(), emptyList());
+    addDelegate("otherProject", "org1/project2", emptyList(), emptyList());
+    addDelegate("otherOrg", "org2", emptyList(), emptyList());
+    refresh(0L);
+
+    assertThat(eligibilityIndex.getDelegatesForOwner(null)).containsExactlyInAnyOrder("account");
+    assertThat(eligibilityIndex.getDelegatesForOwner("org1")).containsExactlyInAnyOrder("account", "org");
+    assertThat(eligibilityIndex.getDelegatesForOwner("org1/project1"))
+        .containsExactlyInAnyOrder("account", "org", "project");
+    assertThat(eligibilityIndex.getDelegatesForOwner("org3/project1")).containsExactlyInAnyOrder("account");
+  }
+
+  @Test
+  @Owner(developers = JENNY)
+  @Category(UnitTests.class)
+  public void testGetCandidates() {
+    addDelegate("delegate1", null, asList("HTTP", "SHELL_SCRIPT"), asList("k8s", "Linux "));
+    addDelegate("delegate2", null, singletonList("HTTP"), singletonList("k8s"));
+    addDelegate("delegate3", null, singletonList("SHELL_SCRIPT"), emptyList());
+    refresh(0L);
+
+    assertThat(eligibilityIndex.getCandidates(null, emptyList()))
+        .containsExactlyInAnyOrder("delegate1", "delegate2", "delegate3");
+    assertThat(eligibilityIndex.getCandidates("HTTP", null)).containsExactlyInAnyOrder("delegate1", "delegate2");
+    assertThat(eligibilityIndex.getCandidates("HTTP", singletonList(" K8S")))
+        .containsExactlyInAnyOrder("delegate1", "delegate2");
+    assertThat(eligibilityIndex.getCandidates("HTTP", asList("k8s", "linux"))).containsExactlyInAnyOrder("delegate1");
+    assertThat(eligibilityIndex.getCandidates(null, singletonList("k8s")))
+        .containsExactlyInAnyOrder("delegate1", "delegate2");
+    assertThat(eligibilityIndex.getCandidates("SHELL_SCRIPT", singletonList("windows"))).isEmpty();
+    assertThat(eligibilityIndex.getCandidates("GIT", emptyList())).isEmpty();
+
+    assertThat(eligibilityIndex.supportsTaskType("delegate3", "SHELL_SCRIPT")).isTrue();
+    assertThat(eligibilityIndex.supportsTaskType("delegate3", "HTTP")).isFalse();
+    assertThat(eligibilityIndex.supportsTaskType("unknown", "HTTP")).isFalse();
+  }
+
+  @Test
+  @Owner(developers = JENNY)
+  @Category(UnitTests.class)
+  public void testIncrementalRefresh() {
+    addDelegate("delegate1", null, singletonList("HTTP"), singletonList("k8s"));
+    addDelegate("delegate2", null, singletonList("HTTP"), singletonList("k8s"));
+    refresh(0L);
+    assertThat(eligibilityIndex.getCandidates("HTTP", singletonList("k8s")))
+        .containsExactlyInAnyOrder("delegate1", "delegate2");
+
+    // Selectors changed without the delegate being reloaded are picked up once the entry expires
+    selectors.put("delegate1", ImmutableSet.of("docker"));
+    refresh(TTL - 1);
+    assertThat(eligibilityIndex.getCandidates("HTTP", singletonList("k8s")))
+        .containsExactlyInAnyOrder("delegate1", "delegate2");
+    refresh(TTL);
+    assertThat(eligibilityIndex.getCandidates("HTTP", singletonList("k8s"))).containsExactlyInAnyOrder("delegate2");
+    assertThat(eligibilityIndex.getCandidates("HTTP", singletonList("docker"))).containsExactlyInAnyOrder("delegate1");
+
+    // Reloaded delegates are indexed again right away
+    addDelegate("delegate2", "org1", singletonList("SHELL_SCRIPT"), singletonList("k8s"));
+    refresh(TTL + 1);
+    assertThat(eligibilityIndex.getCandidates("HTTP", emptyList())).containsExactlyInAnyOrder("delegate1");
+    assertThat(eligibilityIndex.getDelegatesForOwner("org1")).containsExactlyInAnyOrder("delegate1", "delegate2");
+
+    // Deleted delegates are removed
+    delegates.remove("delegate1");
+    eligibilityIndex.refresh(asList("delegate1", "delegate2"), delegates::get,
+        delegate -> selectors.get(delegate.getUuid()), TTL + 2);
+    assertThat(eligibilityIndex.size()).isEqualTo(1);
+    assertThat(eligibilityIndex.getCandidates("HTTP", singletonList("docker"))).isEmpty();
+  }
+
+  @Test
+  @Owner(developers = JENNY)
+  @Category(UnitTests.class)
+  public void testCandidatesMatchBruteForceFiltering() {
+    Random random = new Random(7);
+    List<String> taskTypes = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      taskTypes.add("TASK_TYPE_" + i);
+    }
+    List<String> tags = new ArrayList<>();
+    for (int i = 0; i < 30; i++) {
+      tags.add("tag" + i);
+    }
+
+    for (int i = 0; i < 1000; i++) {
+      addDelegate("delegate" + i, null, sample(random, taskTypes, 5 + random.nextInt(40)),
+          sample(random, tags, random.nextInt(6)));
+    }
+    refresh(0L);
+
+    for (int i = 0; i < 10000; i++) {
+      String taskType = taskTypes.get(random.nextInt(taskTypes.size()));
+      List<String> taskSelectors = sample(random, tags, random.nextInt(3));
+
+      Set<String> expected = delegates.values()
+                                 .stream()
+                                 .filter(delegate -> delegate.getSupportedTaskTypes().contains(taskType))
+                                 .filter(delegate -> selectors.get(delegate.getUuid()).containsAll(taskSelectors))
+                                 .map(Delegate::getUuid)
+                                 .collect(Collectors.toSet());
+      assertThat(eligibilityIndex.getCandidates(taskType, taskSelectors)).isEqualTo(expected);
+    }
+  }
+
+  private void addDelegate(String uuid, String owner, List<String> taskTypes, List<String> delegateSelectors) {
+    delegates.put(uuid,
+        Delegate.builder()
+            .uuid(uuid)
+            .owner(owner == null ? null : DelegateEntityOwner.builder().identifier(owner).build())
+            .supportedTaskTypes(taskTypes)
+            .build());
+    selectors.put(uuid, new HashSet<>(delegateSelectors));
+  }
+
+  private void refresh(long now) {
+    eligibilityIndex.refresh(delegates.keySet(), delegates::get, delegate -> selectors.get(delegate.getUuid()), now);
+  }
+
+  private static List<String> sample(Random random, List<String> values, int count) {
+    List<String> shuffled = new ArrayList<>(values);
+    Collections.shuffle(shuffled, random);
+    return shuffled.subList(0, count);
+  }
+}
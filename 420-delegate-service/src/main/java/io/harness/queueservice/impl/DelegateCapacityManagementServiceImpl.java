@@ -24,6 +24,7 @@ import lombok.extern.slf4j.Slf4j;
 @OwnedBy(HarnessTeam.DEL)
 public class DelegateCapacityManagementServiceImpl implements DelegateCapacityManagementService {
   @Inject private HPersistence persistence;
+  @Inject private DelegateLoadTracker delegateLoadTracker;
 
   @Override
   public DelegateCapacity getDelegateCapacity(String delegateId, String accountId) {
@@ -42,5 +43,6 @@ public class DelegateCapacityManagementServiceImpl implements DelegateCapacityMa
     UpdateOperations<Delegate> update =
         persistence.createUpdateOperations(Delegate.class).set(DelegateKeys.delegateCapacity, delegateCapacity);
     persistence.update(query, update);
+    delegateLoadTracker.onCapacityRegistered(accountId, delegateId, delegateCapacity);
   }
 }
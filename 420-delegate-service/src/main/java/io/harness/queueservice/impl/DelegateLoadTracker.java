@@ -0,0 +1,259 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+package io.harness.queueservice.impl;
+
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.delegate.beans.DelegateCapacity;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Live view of the load of the delegates of each account, kept ordered by the number of tasks assigned so that the
+ * least loaded delegate which still has capacity is found in logarithmic time instead of counting the started tasks of
+ * every eligible delegate.
+ *
+ * <p>Counts are updated as tasks are acquired and completed on this manager. As tasks are also acquired and completed
+ * through the other managers, the tasks of a delegate are synced again from the database once they are older than
+ * {@link #SYNC_INTERVAL}. Tasks assigned through the other managers since the last sync are not counted, so a delegate
+ * with a registered capacity can go over it by those until it is synced again.
+ */
+@Singleton
+@OwnedBy(HarnessTeam.DEL)
+public class DelegateLoadTracker {
+  static final long SYNC_INTERVAL = TimeUnit.MINUTES.toMillis(1);
+  // Delegates which have not been synced for a while are not used anymore to execute the tasks of the account
+  private static final long EVICTION_INTERVAL = 10 * SYNC_INTERVAL;
+
+  private final LoadingCache<String, AccountDelegateLoad> accountDelegateLoads =
+      CacheBuilder.newBuilder()
+          .expireAfterAccess(1, TimeUnit.HOURS)
+          .build(new CacheLoader<String, AccountDelegateLoad>() {
+            @Override
+            public AccountDelegateLoad load(String accountId) {
+              return new AccountDelegateLoad();
+            }
+          });
+
+  public void onTaskAcquired(String accountId, String delegateId, String taskId, String stageId) {
+    update(accountId, delegateId, delegateLoad -> delegateLoad.addTask(taskId, stageId));
+  }
+
+  public void onTaskCompleted(String accountId, String delegateId, String taskId) {
+    update(accountId, delegateId, delegateLoad -> delegateLoad.removeTask(taskId));
+  }
+
+  public void onCapacityRegistered(String accountId, String delegateId, DelegateCapacity delegateCapacity) {
+    update(accountId, delegateId, delegateLoad -> delegateLoad.setDelegateCapacity(delegateCapacity));
+  }
+
+  public boolean isSynced(String accountId, String delegateId, long now) {
+    return accountDelegateLoads.getUnchecked(accountId).isSynced(delegateId, now);
+  }
+
+  /**
+   * Replaces the tracked tasks and capacity of the delegate with its started tasks and registered capacity.
+   *
+   * @param stageIdsByTaskId stage ids of the started tasks of the delegate, null for the tasks without stage
+   * @param delegateCapacity capacity registered for the delegate, null if it has none
+   */
+  public void sync(String accountId, String delegateId, Map<String, String> stageIdsByTaskId,
+      DelegateCapacity delegateCapacity, long now) {
+    accountDelegateLoads.getUnchecked(accountId).sync(delegateId, stageIdsByTaskId, delegateCapacity, now);
+  }
+
+  /**
+   * Returns the number of tasks assigned to the delegate, or the number of distinct stages they belong to.
+   */
+  public int getNumberOfTaskAssigned(String accountId, String delegateId, boolean countStages) {
+    return accountDelegateLoads.getUnchecked(accountId).getNumberOfTaskAssigned(delegateId, countStages);
+  }
+
+  /**
+   * Returns the tracked delegates out of the given ones which still have capacity to take a task, ordered by the number
+   * of tasks assigned.
+   */
+  public List<String> getDelegatesOrderedByLoad(String accountId, Set<String> delegateIds, boolean countStages) {
+    return accountDelegateLoads.getUnchecked(accountId).getDelegatesOrderedByLoad(delegateIds, countStages);
+  }
+
+  /**
+   * Returns the least loaded of the eligible delegates which still have capacity to take a task.
+   */
+  public Optional<String> getLeastLoadedDelegate(
+      String accountId, Set<String> eligibleDelegateIds, boolean countStages) {
+    return accountDelegateLoads.getUnchecked(accountId).getLeastLoadedDelegate(eligibleDelegateIds, countStages);
+  }
+
+  private void update(String accountId, String delegateId, Consumer<DelegateLoad> update) {
+    // Delegates which are not tracked yet are synced when they are first selected for a task
+    AccountDelegateLoad accountDelegateLoad = accountDelegateLoads.getIfPresent(accountId);
+    if (accountDelegateLoad != null) {
+      accountDelegateLoad.update(delegateId, update);
+    }
+  }
+
+  private static class AccountDelegateLoad {
+    private final Map<String, DelegateLoad> delegateLoads = new HashMap<>();
+    // Only the delegates which still have capacity, so the ones at capacity are never visited by the lookups
+    private final NavigableSet<DelegateLoad> availableDelegatesByTasks = new TreeSet<>(loadComparator(false));
+    private final NavigableSet<DelegateLoad> availableDelegatesByStages = new TreeSet<>(loadComparator(true));
+    private long lastEvictionTime;
+
+    synchronized boolean isSynced(String delegateId, long now) {
+      DelegateLoad delegateLoad = delegateLoads.get(delegateId);
+      return delegateLoad != null && now - delegateLoad.getSyncedAt() < SYNC_INTERVAL;
+    }
+
+    synchronized void sync(
+        String delegateId, Map<String, String> stageIdsByTaskId, DelegateCapacity delegateCapacity, long now) {
+      DelegateLoad delegateLoad = delegateLoads.computeIfAbsent(delegateId, DelegateLoad::new);
+      reorder(delegateLoad, load -> {
+        load.setTasks(stageIdsByTaskId);
+        load.setDelegateCapacity(delegateCapacity);
+        load.setSyncedAt(now);
+      });
+      if (now - lastEvictionTime >= SYNC_INTERVAL) {
+        evictDelegates(now);
+        lastEvictionTime = now;
+      }
+    }
+
+    synchronized void update(String delegateId, Consumer<DelegateLoad> update) {
+      DelegateLoad delegateLoad = delegateLoads.get(delegateId);
+      if (delegateLoad != null) {
+        reorder(delegateLoad, update);
+      }
+    }
+
+    synchronized int getNumberOfTaskAssigned(String delegateId, boolean countStages) {
+      DelegateLoad delegateLoad = delegateLoads.get(delegateId);
+      return delegateLoad == null ? 0 : delegateLoad.getNumberOfTaskAssigned(countStages);
+    }
+
+    synchronized List<String> getDelegatesOrderedByLoad(Set<String> delegateIds, boolean countStages) {
+      List<String> orderedDelegateIds = new ArrayList<>();
+      for (DelegateLoad delegateLoad : getAvailableDelegates(countStages)) {
+        if (delegateIds.contains(delegateLoad.getDelegateId())) {
+          orderedDelegateIds.add(delegateLoad.getDelegateId());
+        }
+      }
+      return orderedDelegateIds;
+    }
+
+    synchronized Optional<String> getLeastLoadedDelegate(Set<String> eligibleDelegateIds, boolean countStages) {
+      // Usually most delegates are eligible, so the first ones in load order are taken
+      for (DelegateLoad delegateLoad : getAvailableDelegates(countStages)) {
+        if (eligibleDelegateIds.contains(delegateLoad.getDelegateId())) {
+          return Optional.of(delegateLoad.getDelegateId());
+        }
+      }
+      return Optional.empty();
+    }
+
+    private NavigableSet<DelegateLoad> getAvailableDelegates(boolean countStages) {
+      return countStages ? availableDelegatesByStages : availableDelegatesByTasks;
+    }
+
+    private void reorder(DelegateLoad delegateLoad, Consumer<DelegateLoad> update) {
+      // The sets are ordered by the counts, so the entry needs to be removed before they change
+      availableDelegatesByTasks.remove(delegateLoad);
+      availableDelegatesByStages.remove(delegateLoad);
+      update.accept(delegateLoad);
+      if (delegateLoad.hasCapacity(false)) {
+        availableDelegatesByTasks.add(delegateLoad);
+      }
+      if (delegateLoad.hasCapacity(true)) {
+        availableDelegatesByStages.add(delegateLoad);
+      }
+    }
+
+    private void evictDelegates(long now) {
+      Iterator<DelegateLoad> iterator = delegateLoads.values().iterator();
+      while (iterator.hasNext()) {
+        DelegateLoad delegateLoad = iterator.next();
+        if (now - delegateLoad.getSyncedAt() >= EVICTION_INTERVAL) {
+          availableDelegatesByTasks.remove(delegateLoad);
+          availableDelegatesByStages.remove(delegateLoad);
+          iterator.remove();
+        }
+      }
+    }
+
+    private static Comparator<DelegateLoad> loadComparator(boolean countStages) {
+      return Comparator.<DelegateLoad>comparingInt(delegateLoad -> delegateLoad.getNumberOfTaskAssigned(countStages))
+          .thenComparing(DelegateLoad::getDelegateId);
+    }
+  }
+
+  private static class DelegateLoad {
+    @Getter private final String delegateId;
+    private final Map<String, String> stageIdsByTaskId = new HashMap<>();
+    private final Map<String, Integer> tasksByStageId = new HashMap<>();
+    @Setter private DelegateCapacity delegateCapacity;
+    @Getter @Setter private long syncedAt;
+
+    DelegateLoad(String delegateId) {
+      this.delegateId = delegateId;
+    }
+
+    void setTasks(Map<String, String> stageIdsByTaskId) {
+      this.stageIdsByTaskId.clear();
+      tasksByStageId.clear();
+      stageIdsByTaskId.forEach(this::addTask);
+    }
+
+    void addTask(String taskId, String stageId) {
+      if (stageIdsByTaskId.containsKey(taskId)) {
+        return;
+      }
+      stageIdsByTaskId.put(taskId, stageId);
+      if (!isEmpty(stageId)) {
+        tasksByStageId.merge(stageId, 1, Integer::sum);
+      }
+    }
+
+    void removeTask(String taskId) {
+      if (!stageIdsByTaskId.containsKey(taskId)) {
+        return;
+      }
+      String stageId = stageIdsByTaskId.remove(taskId);
+      if (!isEmpty(stageId)) {
+        tasksByStageId.computeIfPresent(stageId, (key, count) -> count > 1 ? count - 1 : null);
+      }
+    }
+
+    int getNumberOfTaskAssigned(boolean countStages) {
+      return countStages ? tasksByStageId.size() : stageIdsByTaskId.size();
+    }
+
+    // Same as FilterByDelegateCapacity
+    boolean hasCapacity(boolean countStages) {
+      return delegateCapacity == null
+          || delegateCapacity.getMaximumNumberOfBuilds() >= getNumberOfTaskAssigned(countStages);
+    }
+  }
+}
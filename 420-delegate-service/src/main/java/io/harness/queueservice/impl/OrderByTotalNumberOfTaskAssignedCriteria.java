@@ -23,12 +23,11 @@ import io.harness.service.intfc.DelegateCache;
 import software.wings.beans.TaskType;
 
 import com.google.inject.Inject;
-import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.TreeMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -40,8 +39,7 @@ public class OrderByTotalNumberOfTaskAssignedCriteria implements DelegateResourc
   @Inject private HPersistence persistence;
   @Inject private DelegateCache delegateCache;
   @Inject private DelegateTaskMigrationHelper delegateTaskMigrationHelper;
-
-  final Comparator<Map.Entry<String, Integer>> valueComparator = Map.Entry.comparingByValue(Comparator.naturalOrder());
+  @Inject private DelegateLoadTracker delegateLoadTracker;
 
   @Inject
   public OrderByTotalNumberOfTaskAssignedCriteria(HPersistence persistence, DelegateCache delegateCache) {
@@ -57,26 +55,38 @@ public class OrderByTotalNumberOfTaskAssignedCriteria implements DelegateResourc
 
   private List<Delegate> listOfDelegatesSortedByNumberOfTaskAssigned(
       List<Delegate> delegateList, String accountId, TaskType taskType) {
-    TreeMap<String, Integer> numberOfTaskAssigned = new TreeMap<>();
+    // CI tasks of the same stage run on the same delegate, so those are counted once
+    boolean countStages = taskType.getTaskGroup().equals(TaskGroup.CI);
+    long now = System.currentTimeMillis();
+    Set<String> delegateIds = new HashSet<>();
     delegateList.forEach(delegate -> {
-      List<DelegateTask> delegateTaskList =
-          getTotalNumberOfTaskAssignedInDelegate(accountId, taskType, delegate.getUuid());
-      numberOfTaskAssigned.put(delegate.getUuid(), delegateTaskList.size());
+      delegateIds.add(delegate.getUuid());
+      if (!delegateLoadTracker.isSynced(accountId, delegate.getUuid(), now)) {
+        syncNumberOfTaskAssigned(delegate, accountId, now);
+      }
     });
 
-    return numberOfTaskAssigned.entrySet()
+    return delegateLoadTracker.getDelegatesOrderedByLoad(accountId, delegateIds, countStages)
         .stream()
-        .sorted(valueComparator)
-        .map(entry -> updateDelegateWithNumberTaskAssigned(entry, accountId))
+        .map(delegateId
+            -> updateDelegateWithNumberTaskAssigned(
+                delegateId, delegateLoadTracker.getNumberOfTaskAssigned(accountId, delegateId, countStages), accountId))
         .collect(Collectors.toList());
   }
 
-  private Delegate updateDelegateWithNumberTaskAssigned(Map.Entry<String, Integer> entry, String accountId) {
-    Delegate delegate = getDelegateFromCache(entry.getKey(), accountId);
+  private void syncNumberOfTaskAssigned(Delegate delegate, String accountId, long now) {
+    List<DelegateTask> delegateTaskList = getTasksAssignedInDelegate(accountId, delegate.getUuid());
+    Map<String, String> stageIdsByTaskId = new HashMap<>();
+    delegateTaskList.forEach(delegateTask -> stageIdsByTaskId.put(delegateTask.getUuid(), delegateTask.getStageId()));
+    delegateLoadTracker.sync(accountId, delegate.getUuid(), stageIdsByTaskId, delegate.getDelegateCapacity(), now);
+  }
+
+  private Delegate updateDelegateWithNumberTaskAssigned(String delegateId, int numberOfTaskAssigned, String accountId) {
+    Delegate delegate = getDelegateFromCache(delegateId, accountId);
     if (delegate == null) {
       return null;
     }
-    delegate.setNumberOfTaskAssigned(entry.getValue());
+    delegate.setNumberOfTaskAssigned(numberOfTaskAssigned);
     return delegate;
   }
 
@@ -86,11 +96,7 @@ public class OrderByTotalNumberOfTaskAssignedCriteria implements DelegateResourc
 
   public List<DelegateTask> getTotalNumberOfTaskAssignedInDelegate(
       String accountId, TaskType taskType, String delegateId) {
-    List<DelegateTask> delegateTaskList = getTasksAssignedInDelegate(accountId, delegateId, false);
-
-    if (delegateTaskMigrationHelper.isDelegateTaskMigrationEnabled()) {
-      delegateTaskList.addAll(getTasksAssignedInDelegate(accountId, delegateId, true));
-    }
+    List<DelegateTask> delegateTaskList = getTasksAssignedInDelegate(accountId, delegateId);
 
     if (taskType.getTaskGroup().equals(TaskGroup.CI)) {
       return delegateTaskList.stream()
@@ -101,12 +107,21 @@ public class OrderByTotalNumberOfTaskAssignedCriteria implements DelegateResourc
     return delegateTaskList;
   }
 
+  private List<DelegateTask> getTasksAssignedInDelegate(String accountId, String delegateId) {
+    List<DelegateTask> delegateTaskList = getTasksAssignedInDelegate(accountId, delegateId, false);
+    if (delegateTaskMigrationHelper.isDelegateTaskMigrationEnabled()) {
+      delegateTaskList.addAll(getTasksAssignedInDelegate(accountId, delegateId, true));
+    }
+    return delegateTaskList;
+  }
+
   private List<DelegateTask> getTasksAssignedInDelegate(
       String accountId, String delegateId, boolean isDelegateTaskMigrationEnabled) {
     return persistence.createQuery(DelegateTask.class, isDelegateTaskMigrationEnabled)
         .filter(DelegateTaskKeys.accountId, accountId)
         .filter(DelegateTaskKeys.status, STARTED)
         .filter(DelegateTaskKeys.delegateId, delegateId)
+        .project(DelegateTaskKeys.uuid, true)
         .project(DelegateTaskKeys.delegateId, true)
         .project(DelegateTaskKeys.stageId, true)
         .asList();
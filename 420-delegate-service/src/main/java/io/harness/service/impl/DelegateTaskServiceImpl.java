@@ -38,6 +38,7 @@ import io.harness.observer.RemoteObserverInformer;
 import io.harness.observer.Subject;
 import io.harness.persistence.HIterator;
 import io.harness.persistence.HPersistence;
+import io.harness.queueservice.impl.DelegateLoadTracker;
 import io.harness.reflection.ReflectionUtils;
 import io.harness.serializer.KryoSerializer;
 import io.harness.service.dto.RetryDelegate;
@@ -85,6 +86,8 @@ public class DelegateTaskServiceImpl implements DelegateTaskService {
 
   @Inject private DelegateTaskMigrationHelper delegateTaskMigrationHelper;
 
+  @Inject private DelegateLoadTracker delegateLoadTracker;
+
   @Override
   public boolean isTaskTypeSupportedByAllDelegates(String accountId, String taskType) {
     Set<String> supportedTaskTypes = delegateCache.getDelegateSupportedTaskTypes(accountId);
@@ -248,6 +251,10 @@ public class DelegateTaskServiceImpl implements DelegateTaskService {
 
     persistence.deleteOnServer(
         taskQuery, delegateTaskMigrationHelper.isMigrationEnabledForTask(delegateTask.getUuid()));
+    if (delegateTask.getDelegateId() != null) {
+      delegateLoadTracker.onTaskCompleted(
+          delegateTask.getAccountId(), delegateTask.getDelegateId(), delegateTask.getUuid());
+    }
 
     if (response.getResponse() instanceof ErrorNotifyResponseData
         || response.getResponseCode().equals(ResponseCode.FAILED)) {
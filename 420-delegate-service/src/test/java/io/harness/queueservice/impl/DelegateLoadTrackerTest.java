@@ -0,0 +1,192 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.queueservice.impl;
+
+import static io.harness.queueservice.impl.DelegateLoadTracker.SYNC_INTERVAL;
+import static io.harness.rule.OwnerRule.JENNY;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.delegate.beans.DelegateCapacity;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Slf4j
+public class DelegateLoadTrackerTest extends CategoryTest {
+  private static final String ACCOUNT_ID = "accountId";
+
+  private final DelegateLoadTracker delegateLoadTracker = new DelegateLoadTracker();
+
+  @Test
+  @Owner(developers = JENNY)
+  @Category(UnitTests.class)
+  public void testOrderByNumberOfTaskAssigned() {
+    delegateLoadTracker.sync(ACCOUNT_ID, "delegate1", ImmutableMap.of("task1", "stage1", "task2", "stage1"), null, 0L);
+    delegateLoadTracker.sync(ACCOUNT_ID, "delegate2", ImmutableMap.of("task3", "stage2"), null, 0L);
+    delegateLoadTracker.sync(ACCOUNT_ID, "delegate3", Collections.emptyMap(), null, 0L);
+
+    assertThat(delegateLoadTracker.getDelegatesOrderedByLoad(
+                   ACCOUNT_ID, ImmutableSet.of("delegate1", "delegate2", "delegate3", "unknown"), false))
+        .containsExactly("delegate3", "delegate2", "delegate1");
+    // Tasks of the same stage are counted once
+    assertThat(delegateLoadTracker.getDelegatesOrderedByLoad(
+                   ACCOUNT_ID, ImmutableSet.of("delegate1", "delegate2", "delegate3"), true))
+        .containsExactly("delegate3", "delegate1", "delegate2");
+    assertThat(delegateLoadTracker.getNumberOfTaskAssigned(ACCOUNT_ID, "delegate1", true)).isEqualTo(1);
+    assertThat(delegateLoadTracker.getNumberOfTaskAssigned(ACCOUNT_ID, "delegate1", false)).isEqualTo(2);
+    assertThat(delegateLoadTracker.getLeastLoadedDelegate(ACCOUNT_ID, ImmutableSet.of("delegate1", "delegate2"), false))
+        .contains("delegate2");
+  }
+
+  @Test
+  @Owner(developers = JENNY)
+  @Category(UnitTests.class)
+  public void testAcquireAndComplete() {
+    delegateLoadTracker.sync(ACCOUNT_ID, "delegate1", Collections.emptyMap(), null, 0L);
+    delegateLoadTracker.sync(ACCOUNT_ID, "delegate2", Collections.emptyMap(), null, 0L);
+    Set<String> delegateIds = ImmutableSet.of("delegate1", "delegate2");
+
+    delegateLoadTracker.onTaskAcquired(ACCOUNT_ID, "delegate1", "task1", "stage1");
+    delegateLoadTracker.onTaskAcquired(ACCOUNT_ID, "delegate1", "task1", "stage1");
+    assertThat(delegateLoadTracker.getNumberOfTaskAssigned(ACCOUNT_ID, "delegate1", false)).isEqualTo(1);
+    assertThat(delegateLoadTracker.getLeastLoadedDelegate(ACCOUNT_ID, delegateIds, false)).contains("delegate2");
+
+    delegateLoadTracker.onTaskAcquired(ACCOUNT_ID, "delegate2", "task2", null);
+    delegateLoadTracker.onTaskAcquired(ACCOUNT_ID, "delegate2", "task3", null);
+    assertThat(delegateLoadTracker.getLeastLoadedDelegate(ACCOUNT_ID, delegateIds, false)).contains("delegate1");
+    // Tasks without stage are not counted as stages
+    assertThat(delegateLoadTracker.getLeastLoadedDelegate(ACCOUNT_ID, delegateIds, true)).contains("delegate2");
+
+    delegateLoadTracker.onTaskCompleted(ACCOUNT_ID, "delegate2", "task2");
+    delegateLoadTracker.onTaskCompleted(ACCOUNT_ID, "delegate2", "task2");
+    delegateLoadTracker.onTaskCompleted(ACCOUNT_ID, "delegate2", "task3");
+    assertThat(delegateLoadTracker.getNumberOfTaskAssigned(ACCOUNT_ID, "delegate2", false)).isEqualTo(0);
+    assertThat(delegateLoadTracker.getLeastLoadedDelegate(ACCOUNT_ID, delegateIds, false)).contains("delegate2");
+
+    // Events for delegates which are not tracked are ignored until they are synced
+    delegateLoadTracker.onTaskAcquired(ACCOUNT_ID, "delegate3", "task4", null);
+    assertThat(delegateLoadTracker.isSynced(ACCOUNT_ID, "delegate3", 0L)).isFalse();
+    assertThat(delegateLoadTracker.getNumberOfTaskAssigned(ACCOUNT_ID, "delegate3", false)).isEqualTo(0);
+  }
+
+  @Test
+  @Owner(developers = JENNY)
+  @Category(UnitTests.class)
+  public void testCapacityAndSync() {
+    delegateLoadTracker.sync(ACCOUNT_ID, "delegate1", ImmutableMap.of("task1", "stage1"),
+        DelegateCapacity.builder().maximumNumberOfBuilds(1).build(), 0L);
+    delegateLoadTracker.sync(ACCOUNT_ID, "delegate2", ImmutableMap.of("task2", "stage2", "task3", "stage3"), null, 0L);
+    Set<String> delegateIds = ImmutableSet.of("delegate1", "delegate2");
+    assertThat(delegateLoadTracker.getLeastLoadedDelegate(ACCOUNT_ID, delegateIds, false)).contains("delegate1");
+
+    delegateLoadTracker.onTaskAcquired(ACCOUNT_ID, "delegate1", "task4", "stage4");
+    assertThat(delegateLoadTracker.getLeastLoadedDelegate(ACCOUNT_ID, delegateIds, false)).contains("delegate2");
+    assertThat(delegateLoadTracker.getLeastLoadedDelegate(ACCOUNT_ID, ImmutableSet.of("delegate1"), false)).isEmpty();
+    // Delegates at capacity are left out of the ordering
+    assertThat(delegateLoadTracker.getDelegatesOrderedByLoad(ACCOUNT_ID, delegateIds, false))
+        .containsExactly("delegate2");
+
+    delegateLoadTracker.onCapacityRegistered(
+        ACCOUNT_ID, "delegate1", DelegateCapacity.builder().maximumNumberOfBuilds(5).build());
+    assertThat(delegateLoadTracker.getLeastLoadedDelegate(ACCOUNT_ID, ImmutableSet.of("delegate1"), false))
+        .contains("delegate1");
+
+    assertThat(delegateLoadTracker.isSynced(ACCOUNT_ID, "delegate1", SYNC_INTERVAL - 1)).isTrue();
+    assertThat(delegateLoadTracker.isSynced(ACCOUNT_ID, "delegate1", SYNC_INTERVAL)).isFalse();
+    delegateLoadTracker.sync(ACCOUNT_ID, "delegate1", Collections.emptyMap(), null, SYNC_INTERVAL);
+    assertThat(delegateLoadTracker.getNumberOfTaskAssigned(ACCOUNT_ID, "delegate1", false)).isEqualTo(0);
+
+    // Delegates which are not synced anymore are dropped
+    delegateLoadTracker.sync(ACCOUNT_ID, "delegate1", Collections.emptyMap(), null, 20 * SYNC_INTERVAL);
+    assertThat(delegateLoadTracker.getDelegatesOrderedByLoad(ACCOUNT_ID, delegateIds, false))
+        .containsExactly("delegate1");
+  }
+
+  /**
+   * Simulates the tasks of an account being assigned to the least loaded delegate and completed in random order, and
+   * checks the selection against counting the tasks of every delegate.
+   */
+  @Test
+  @Owner(developers = JENNY)
+  @Category(UnitTests.class)
+  public void testLoadSimulation() {
+    int numberOfDelegates = 1000;
+    int numberOfTasks = 20000;
+    Random random = new Random(11);
+    Map<String, Set<String>> tasksByDelegate = new HashMap<>();
+    Map<String, Integer> capacities = new HashMap<>();
+    for (int i = 0; i < numberOfDelegates; i++) {
+      String delegateId = String.format("delegate%04d", i);
+      DelegateCapacity delegateCapacity = null;
+      if (random.nextInt(4) == 0) {
+        capacities.put(delegateId, 50 + random.nextInt(50));
+        delegateCapacity = DelegateCapacity.builder().maximumNumberOfBuilds(capacities.get(delegateId)).build();
+      }
+      tasksByDelegate.put(delegateId, new HashSet<>());
+      delegateLoadTracker.sync(ACCOUNT_ID, delegateId, Collections.emptyMap(), delegateCapacity, 0L);
+    }
+    Set<String> eligibleDelegateIds = new HashSet<>(tasksByDelegate.keySet());
+    eligibleDelegateIds.removeIf(delegateId -> random.nextInt(10) == 0);
+
+    List<String[]> runningTasks = new ArrayList<>();
+    long[] latencies = new long[numberOfTasks];
+    for (int i = 0; i < numberOfTasks; i++) {
+      String taskId = "task" + i;
+      long start = System.nanoTime();
+      Optional<String> delegateId = delegateLoadTracker.getLeastLoadedDelegate(ACCOUNT_ID, eligibleDelegateIds, false);
+      delegateId.ifPresent(id -> delegateLoadTracker.onTaskAcquired(ACCOUNT_ID, id, taskId, null));
+      latencies[i] = System.nanoTime() - start;
+
+      assertThat(delegateId.map(id -> tasksByDelegate.get(id).size()))
+          .isEqualTo(getLeastNumberOfTaskAssigned(tasksByDelegate, capacities, eligibleDelegateIds));
+      delegateId.ifPresent(id -> {
+        tasksByDelegate.get(id).add(taskId);
+        runningTasks.add(new String[] {id, taskId});
+      });
+
+      // Keeps the number of running tasks stable, completing them in random order
+      if (runningTasks.size() > numberOfDelegates * 10) {
+        String[] completedTask = runningTasks.remove(random.nextInt(runningTasks.size()));
+        delegateLoadTracker.onTaskCompleted(ACCOUNT_ID, completedTask[0], completedTask[1]);
+        tasksByDelegate.get(completedTask[0]).remove(completedTask[1]);
+      }
+    }
+
+    Arrays.sort(latencies);
+    log.info("Assigned {} tasks to {} delegates, latency p50 {} ns, p99 {} ns, max {} ns", numberOfTasks,
+        numberOfDelegates, latencies[numberOfTasks / 2], latencies[numberOfTasks * 99 / 100],
+        latencies[numberOfTasks - 1]);
+  }
+
+  private static Optional<Integer> getLeastNumberOfTaskAssigned(
+      Map<String, Set<String>> tasksByDelegate, Map<String, Integer> capacities, Set<String> eligibleDelegateIds) {
+    return eligibleDelegateIds.stream()
+        .filter(delegateId
+            -> !capacities.containsKey(delegateId)
+                || capacities.get(delegateId) >= tasksByDelegate.get(delegateId).size())
+        .map(delegateId -> tasksByDelegate.get(delegateId).size())
+        .min(Integer::compare);
+  }
+}
@@ -54,6 +54,8 @@ import io.harness.annotations.dev.HarnessModuleComponent;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.annotations.dev.ProductModule;
 import io.harness.beans.FeatureName;
+import io.harness.ccm.commons.dao.CEMetadataRecordDao;
+import io.harness.ccm.commons.entities.batch.CEMetadataRecord;
 import io.harness.ccm.msp.entities.MarginDetails;
 import io.harness.ccm.views.businessmapping.entities.BusinessMapping;
 import io.harness.ccm.views.businessmapping.entities.CostTarget;
@@ -75,10 +77,13 @@ import io.harness.ccm.views.entities.ViewRule;
 import io.harness.ccm.views.service.LabelFlattenedService;
 import io.harness.ccm.views.utils.ClickHouseConstants;
 import io.harness.ccm.views.utils.ClusterTableKeys;
+import io.harness.ccm.views.utils.UnifiedTableRollup;
 import io.harness.ccm.views.utils.ViewFieldUtils;
 import io.harness.exception.InvalidRequestException;
 import io.harness.ff.FeatureFlagService;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.inject.Inject;
@@ -102,9 +107,13 @@ import com.healthmarketscience.sqlbuilder.custom.postgresql.PgLimitClause;
 import com.healthmarketscience.sqlbuilder.custom.postgresql.PgOffsetClause;
 import java.text.SimpleDateFormat;
 import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
@@ -114,6 +123,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -156,6 +166,13 @@ public class ViewsQueryBuilder {
       "envId", "serviceId", "parentInstanceId", "cloudServiceName", "taskId", "launchType");
   private static final ImmutableSet<String> clusterFilterImmutableSet =
       ImmutableSet.of("product", "region", "PROVIDERS");
+  private static final ImmutableSet<ViewFieldIdentifier> rollupFieldIdentifiers = ImmutableSet.of(
+      ViewFieldIdentifier.AWS, ViewFieldIdentifier.GCP, ViewFieldIdentifier.AZURE, ViewFieldIdentifier.COMMON);
+  private static final ImmutableList<QLCEViewTimeGroupType> dailyRollupTimeGroupTypes = ImmutableList.of(
+      QLCEViewTimeGroupType.DAY, QLCEViewTimeGroupType.WEEK, QLCEViewTimeGroupType.MONTH,
+      QLCEViewTimeGroupType.QUARTER, QLCEViewTimeGroupType.YEAR);
+  private static final ImmutableList<QLCEViewTimeGroupType> monthlyRollupTimeGroupTypes =
+      ImmutableList.of(QLCEViewTimeGroupType.MONTH, QLCEViewTimeGroupType.QUARTER, QLCEViewTimeGroupType.YEAR);
   private static final ImmutableList<String> applicationGroupBys =
       ImmutableList.of(GROUP_BY_APPLICATION, GROUP_BY_SERVICE, GROUP_BY_ENVIRONMENT);
   private static final String CLOUD_PROVIDERS_CUSTOM_GROUPING = "PROVIDERS";
@@ -173,6 +190,13 @@ public class ViewsQueryBuilder {
   @Inject @Named("isClickHouseEnabled") private boolean isClickHouseEnabled;
   @Inject private FeatureFlagService featureFlagService;
   @Inject private LabelFlattenedService labelFlattenedService;
+  @Inject private CEMetadataRecordDao ceMetadataRecordDao;
+
+  private final LoadingCache<String, Optional<Instant>> rollupRefreshedUntilCache =
+      Caffeine.newBuilder()
+          .maximumSize(1000)
+          .expireAfterWrite(10, TimeUnit.MINUTES)
+          .build(this::getRollupRefreshedUntil);
 
   public SelectQuery getQuery(List<ViewRule> rules, List<QLCEViewFilter> filters, List<QLCEViewTimeFilter> timeFilters,
       List<QLCEViewGroupBy> groupByList, List<QLCEViewAggregation> aggregations,
@@ -208,7 +232,10 @@ public class ViewsQueryBuilder {
       String cloudProviderTableName, ViewQueryParams queryParams, BusinessMapping sharedCostBusinessMapping,
       List<BusinessMapping> sharedCostBusinessMappings, Map<String, String> labelsKeyAndColumnMapping) {
     SelectQuery selectQuery = new SelectQuery();
-    selectQuery.addCustomFromTable(cloudProviderTableName);
+    // Rollups keep the columns of the unified table, so the rest of the query is still built against the unified table
+    selectQuery.addCustomFromTable(getRollupTableName(rules, filters, timeFilters, inExpressionFilters, groupByList,
+        aggregations, viewPreferenceAggregations, cloudProviderTableName, queryParams, sharedCostBusinessMapping,
+        sharedCostBusinessMappings));
     List<QLCEViewFieldInput> groupByEntity = getGroupByEntity(groupByList);
     List<QLCEViewFieldInput> sharedCostGroupByEntity = getGroupByEntity(sharedCostGroupBy);
     QLCEViewTimeTruncGroupBy groupByTime = getGroupByTime(groupByList);
@@ -2348,6 +2375,143 @@ public class ViewsQueryBuilder {
     return isClickHouseEnabled;
   }
 
+  /**
+   * Gets the table of the smallest unified table rollup which can answer the query, or the given table if none can.
+   * A rollup can answer the query if it keeps every column the query reads, the query only sums its measures, the
+   * time filters and the time group by do not need a finer granularity than the rollup keeps, and the time range ends
+   * at least the restatement lag before the billing data the rollups were last refreshed with.
+   */
+  private String getRollupTableName(List<ViewRule> rules, List<QLCEViewFilter> filters,
+      List<QLCEViewTimeFilter> timeFilters, List<QLCEInExpressionFilter> inExpressionFilters,
+      List<QLCEViewGroupBy> groupByList, List<QLCEViewAggregation> aggregations,
+      List<QLCEViewPreferenceAggregation> viewPreferenceAggregations, String cloudProviderTableName,
+      ViewQueryParams queryParams, BusinessMapping sharedCostBusinessMapping,
+      List<BusinessMapping> sharedCostBusinessMappings) {
+    String tableIdentifier = getTableIdentifier(cloudProviderTableName);
+    if (!ViewFieldUtils.UNIFIED_TABLE.equals(tableIdentifier) || sharedCostBusinessMapping != null
+        || !isEmpty(sharedCostBusinessMappings)
+        || !featureFlagService.isEnabled(FeatureName.CCM_PERSPECTIVE_ROLLUPS, queryParams.getAccountId())) {
+      return cloudProviderTableName;
+    }
+    Optional<List<String>> columns = getRollupQueryColumns(
+        rules, filters, inExpressionFilters, groupByList, aggregations, viewPreferenceAggregations);
+    if (!columns.isPresent() || !isRefreshedForRollup(timeFilters, queryParams.getAccountId())) {
+      return cloudProviderTableName;
+    }
+    QLCEViewTimeTruncGroupBy groupByTime = getGroupByTime(groupByList);
+    for (UnifiedTableRollup rollup : UnifiedTableRollup.values()) {
+      if (columns.get().stream().allMatch(rollup::hasColumn)
+          && isGranularityValidForRollup(rollup.getGranularity(), timeFilters, groupByTime, queryParams)) {
+        log.info("Querying rollup {} instead of the unified table", rollup.getTableName());
+        return cloudProviderTableName.substring(0, cloudProviderTableName.length() - tableIdentifier.length())
+            + rollup.getTableName();
+      }
+    }
+    return cloudProviderTableName;
+  }
+
+  // Columns the query reads, empty if it reads anything other than plain columns or aggregates other than sums
+  private Optional<List<String>> getRollupQueryColumns(List<ViewRule> rules, List<QLCEViewFilter> filters,
+      List<QLCEInExpressionFilter> inExpressionFilters, List<QLCEViewGroupBy> groupByList,
+      List<QLCEViewAggregation> aggregations, List<QLCEViewPreferenceAggregation> viewPreferenceAggregations) {
+    List<QLCEViewFieldInput> fields = new ArrayList<>();
+    for (ViewRule rule : rules) {
+      for (ViewCondition condition : rule.getViewConditions()) {
+        ViewField viewField = ((ViewIdCondition) condition).getViewField();
+        fields.add(QLCEViewFieldInput.builder()
+                       .fieldId(viewField.getFieldId())
+                       .fieldName(viewField.getFieldName())
+                       .identifier(viewField.getIdentifier())
+                       .build());
+      }
+    }
+    filters.forEach(filter -> fields.add(filter.getField()));
+    inExpressionFilters.forEach(filter -> fields.addAll(filter.getFields()));
+    fields.addAll(getGroupByEntity(groupByList));
+
+    List<String> columns = new ArrayList<>();
+    for (QLCEViewFieldInput field : fields) {
+      if (!rollupFieldIdentifiers.contains(field.getIdentifier())) {
+        return Optional.empty();
+      }
+      columns.add(field.getFieldId());
+    }
+    for (QLCEViewAggregation aggregation : aggregations) {
+      if (aggregation.getOperationType() != SUM || !UnifiedTableRollup.isMeasure(aggregation.getColumnName())) {
+        return Optional.empty();
+      }
+    }
+    if (viewPreferenceAggregations != null) {
+      for (QLCEViewPreferenceAggregation aggregation : viewPreferenceAggregations) {
+        if (aggregation.getOperationType() != SUM || !UnifiedTableRollup.isMeasure(aggregation.getColumnName())
+            || !rollupFieldIdentifiers.contains(aggregation.getFilter().getField().getIdentifier())) {
+          return Optional.empty();
+        }
+        columns.add(aggregation.getFilter().getField().getFieldId());
+      }
+    }
+    return Optional.of(columns);
+  }
+
+  // The rollups are missing until they are first created, and then lag the unified table until the next refresh. The
+  // billing data restated since the refresh only changes the last days before it, so ranges ending in those are left
+  // to the unified table.
+  private boolean isRefreshedForRollup(List<QLCEViewTimeFilter> timeFilters, String accountId) {
+    Optional<Instant> endTime = timeFilters.stream()
+                                    .filter(timeFilter
+                                        -> timeFilter.getOperator() == QLCEViewTimeFilterOperator.BEFORE
+                                            && timeFilter.getValue() != null)
+                                    .map(timeFilter -> Instant.ofEpochMilli(timeFilter.getValue().longValue()))
+                                    .min(Comparator.naturalOrder());
+    if (!endTime.isPresent() || accountId == null) {
+      return false;
+    }
+    Optional<Instant> refreshedUntil = rollupRefreshedUntilCache.get(accountId);
+    return refreshedUntil.isPresent()
+        && endTime.get().isBefore(refreshedUntil.get().minus(UnifiedTableRollup.RESTATEMENT_LAG));
+  }
+
+  private Optional<Instant> getRollupRefreshedUntil(String accountId) {
+    CEMetadataRecord ceMetadataRecord = ceMetadataRecordDao.getByAccountId(accountId);
+    return Optional.ofNullable(ceMetadataRecord).map(CEMetadataRecord::getUnifiedTableRollupRefreshedUntil);
+  }
+
+  private boolean isGranularityValidForRollup(QLCEViewTimeGroupType granularity, List<QLCEViewTimeFilter> timeFilters,
+      QLCEViewTimeTruncGroupBy groupByTime, ViewQueryParams queryParams) {
+    if (groupByTime != null) {
+      List<QLCEViewTimeGroupType> validResolutions =
+          granularity == QLCEViewTimeGroupType.MONTH ? monthlyRollupTimeGroupTypes : dailyRollupTimeGroupTypes;
+      if (!validResolutions.contains(groupByTime.getResolution())) {
+        return false;
+      }
+      // Shifting the months by the offset would move cost across them
+      if (granularity == QLCEViewTimeGroupType.MONTH && queryParams.getTimeOffsetInDays() != 0) {
+        return false;
+      }
+    }
+    return timeFilters.stream().allMatch(timeFilter -> isTimeFilterAlignedWithRollup(timeFilter, granularity));
+  }
+
+  // Billing rows are at most hourly, so a range from the start of a period to the last hour of another selects the
+  // same rows from the rollup as from the unified table
+  private static boolean isTimeFilterAlignedWithRollup(
+      QLCEViewTimeFilter timeFilter, QLCEViewTimeGroupType granularity) {
+    if (timeFilter.getValue() == null || timeFilter.getField() == null
+        || !ViewsMetaDataFields.START_TIME.getFieldName().equalsIgnoreCase(timeFilter.getField().getFieldId())) {
+      return false;
+    }
+    ZonedDateTime time = Instant.ofEpochMilli(timeFilter.getValue().longValue()).atZone(ZoneOffset.UTC);
+    ZonedDateTime periodStart = granularity == QLCEViewTimeGroupType.MONTH
+        ? time.truncatedTo(ChronoUnit.DAYS).withDayOfMonth(1)
+        : time.truncatedTo(ChronoUnit.DAYS);
+    if (timeFilter.getOperator() == QLCEViewTimeFilterOperator.AFTER) {
+      return time.equals(periodStart);
+    }
+    ZonedDateTime periodEnd =
+        granularity == QLCEViewTimeGroupType.MONTH ? periodStart.plusMonths(1) : periodStart.plusDays(1);
+    return !time.isBefore(periodEnd.minusHours(1));
+  }
+
   public String getTableIdentifier(String cloudProviderTableName) {
     StringTokenizer tokenizer = new StringTokenizer(cloudProviderTableName, ".");
     String tableIdentifier = EMPTY_STRING;
@@ -0,0 +1,273 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.ccm.views.helper;
+
+import static io.harness.annotations.dev.HarnessTeam.CE;
+import static io.harness.ccm.views.graphql.QLCEViewTimeFilterOperator.AFTER;
+import static io.harness.ccm.views.graphql.QLCEViewTimeFilterOperator.BEFORE;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.ccm.commons.beans.config.PerspectiveQueryCacheConfig;
+import io.harness.ccm.commons.dao.CEMetadataRecordDao;
+import io.harness.ccm.commons.entities.batch.CEMetadataRecord;
+import io.harness.ccm.views.businessmapping.entities.BusinessMapping;
+import io.harness.ccm.views.businessmapping.service.intf.BusinessMappingService;
+import io.harness.ccm.views.entities.CEView;
+import io.harness.ccm.views.entities.ViewQueryParams;
+import io.harness.ccm.views.graphql.QLCEViewFilterWrapper;
+import io.harness.ccm.views.graphql.QLCEViewGroupBy;
+import io.harness.ccm.views.graphql.QLCEViewMetadataFilter;
+import io.harness.ccm.views.graphql.QLCEViewTimeFilter;
+import io.harness.ccm.views.graphql.ViewsQueryHelper;
+import io.harness.ccm.views.service.CEViewService;
+
+import com.google.cloud.bigquery.BigQueryException;
+import com.google.cloud.bigquery.Job;
+import com.google.cloud.bigquery.JobStatistics.QueryStatistics;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the results of the perspective queries in memory, keyed by a canonical form of the query plan: the account,
+ * the filters, the group by and the other parameters of the query, with the time filters rounded to the granularity
+ * billing data is ingested at. The rounding is only applied to the key, the queries still run with the time filters of
+ * the caller, so queries which compute anything else than the selected rows from the time filters have to add them to
+ * the plan parts.
+ *
+ * <p>The key also carries the last time billing data was ingested for the account and the last update of the
+ * perspective and cost categories the query reads, so any of them changing makes the query miss instead of serving a
+ * stale result.
+ */
+@Slf4j
+@Singleton
+@OwnedBy(CE)
+public class PerspectiveQueryResultCache {
+  // Billing data is ingested in hourly rows, so time filters within the same hour select the same rows
+  private static final long INGESTION_GRANULARITY_MILLIS = TimeUnit.HOURS.toMillis(1);
+  private static final String KEY_SEPARATOR = "|";
+
+  @Inject private CEMetadataRecordDao ceMetadataRecordDao;
+  @Inject private CEViewService viewService;
+  @Inject private BusinessMappingService businessMappingService;
+  @Inject private ViewParametersHelper viewParametersHelper;
+  @Inject private ViewsQueryHelper viewsQueryHelper;
+
+  private Cache<String, CachedResult> cache;
+  // Bytes processed by the queries of the results being computed on this thread, innermost computation last
+  private final ThreadLocal<Deque<AtomicLong>> bytesProcessedScopes = ThreadLocal.withInitial(ArrayDeque::new);
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+  private final AtomicLong bytesProcessedSaved = new AtomicLong();
+
+  @Inject(optional = true)
+  public void setConfig(@Nullable @Named("perspectiveQueryCacheConfig") PerspectiveQueryCacheConfig config) {
+    if (config == null || !config.isEnabled()) {
+      return;
+    }
+    cache = CacheBuilder.newBuilder()
+                .maximumSize(config.getMaximumSize())
+                .expireAfterWrite(config.getExpireAfterWriteInMinutes(), TimeUnit.MINUTES)
+                .build();
+  }
+
+  public boolean isEnabled() {
+    return cache != null;
+  }
+
+  /**
+   * Returns the cached result of the query, or computes it with the loader.
+   *
+   * @param queryName the method running the query, so that different queries of the same plan do not share a result
+   * @param planParts the parameters of the query other than the filters, group by and query params
+   * @param loader computes the result of the query
+   */
+  public <T> T get(String queryName, List<QLCEViewFilterWrapper> filters, List<QLCEViewGroupBy> groupBy,
+      ViewQueryParams queryParams, List<Object> planParts, Supplier<T> loader) {
+    if (!isEnabled() || queryParams == null || queryParams.getAccountId() == null) {
+      return loader.get();
+    }
+    String key = getKey(queryName, normalizeFilters(filters), groupBy, queryParams, planParts);
+    CachedResult cachedResult = cache.getIfPresent(key);
+    if (cachedResult != null) {
+      hitCount.incrementAndGet();
+      bytesProcessedSaved.addAndGet(cachedResult.getBytesProcessed());
+      return (T) cachedResult.getResult();
+    }
+
+    missCount.incrementAndGet();
+    Deque<AtomicLong> scopes = bytesProcessedScopes.get();
+    AtomicLong bytesProcessed = new AtomicLong();
+    scopes.addLast(bytesProcessed);
+    T result;
+    try {
+      result = loader.get();
+    } finally {
+      scopes.removeLast();
+      if (!scopes.isEmpty()) {
+        scopes.peekLast().addAndGet(bytesProcessed.get());
+      }
+    }
+    if (result != null) {
+      cache.put(key, CachedResult.builder().result(result).bytesProcessed(bytesProcessed.get()).build());
+    }
+    return result;
+  }
+
+  /**
+   * Adds the bytes processed by the finished job to the results being computed on this thread, to report how many
+   * bytes the hits of these results saved.
+   */
+  public void recordBytesProcessed(Job job) {
+    AtomicLong bytesProcessed = bytesProcessedScopes.get().peekLast();
+    if (bytesProcessed == null) {
+      return;
+    }
+    try {
+      QueryStatistics statistics = job.reload().getStatistics();
+      if (statistics != null && statistics.getTotalBytesProcessed() != null) {
+        bytesProcessed.addAndGet(statistics.getTotalBytesProcessed());
+      }
+    } catch (BigQueryException e) {
+      log.warn("Failed to get the bytes processed by job {}", job.getJobId(), e);
+    }
+  }
+
+  public PerspectiveQueryCacheStatistics getStatistics() {
+    return PerspectiveQueryCacheStatistics.builder()
+        .hitCount(hitCount.get())
+        .missCount(missCount.get())
+        .bytesProcessedSaved(bytesProcessedSaved.get())
+        .size(isEnabled() ? cache.size() : 0)
+        .build();
+  }
+
+  @VisibleForTesting
+  List<QLCEViewFilterWrapper> normalizeFilters(List<QLCEViewFilterWrapper> filters) {
+    if (filters == null) {
+      return null;
+    }
+    return filters.stream().map(PerspectiveQueryResultCache::normalizeFilter).collect(Collectors.toList());
+  }
+
+  private static QLCEViewFilterWrapper normalizeFilter(QLCEViewFilterWrapper filter) {
+    QLCEViewTimeFilter timeFilter = filter.getTimeFilter();
+    if (timeFilter == null || timeFilter.getValue() == null) {
+      return filter;
+    }
+    // The conditions are startTime >= AFTER and startTime <= BEFORE, so rounding the bound towards the inside of the
+    // range to the hour selects the same hourly rows
+    long value = timeFilter.getValue().longValue();
+    long roundedValue = value;
+    if (timeFilter.getOperator() == AFTER) {
+      roundedValue = Math.floorDiv(value + INGESTION_GRANULARITY_MILLIS - 1, INGESTION_GRANULARITY_MILLIS)
+          * INGESTION_GRANULARITY_MILLIS;
+    } else if (timeFilter.getOperator() == BEFORE) {
+      roundedValue = Math.floorDiv(value, INGESTION_GRANULARITY_MILLIS) * INGESTION_GRANULARITY_MILLIS;
+    }
+    if (roundedValue == value) {
+      return filter;
+    }
+    return QLCEViewFilterWrapper.builder()
+        .idFilter(filter.getIdFilter())
+        .timeFilter(QLCEViewTimeFilter.builder()
+                        .field(timeFilter.getField())
+                        .operator(timeFilter.getOperator())
+                        .value(roundedValue)
+                        .build())
+        .viewMetadataFilter(filter.getViewMetadataFilter())
+        .ruleFilter(filter.getRuleFilter())
+        .inExpressionFilter(filter.getInExpressionFilter())
+        .build();
+  }
+
+  private String getKey(String queryName, List<QLCEViewFilterWrapper> filters, List<QLCEViewGroupBy> groupBy,
+      ViewQueryParams queryParams, List<Object> planParts) {
+    List<String> keyParts = new ArrayList<>();
+    keyParts.add(queryName);
+    keyParts.add(queryParams.getAccountId());
+    keyParts.add(String.valueOf(getLastIngestedAt(queryParams.getAccountId())));
+    keyParts.addAll(getDefinitionVersions(filters, groupBy));
+    // Filters are ANDed, so their order does not change the result
+    keyParts.add(filters == null
+            ? "null"
+            : filters.stream().map(String::valueOf).sorted().collect(Collectors.joining(KEY_SEPARATOR)));
+    keyParts.add(String.valueOf(groupBy));
+    keyParts.add(String.valueOf(queryParams));
+    planParts.forEach(planPart -> keyParts.add(String.valueOf(planPart)));
+    return Hashing.sha256().hashString(String.join(KEY_SEPARATOR, keyParts), StandardCharsets.UTF_8).toString();
+  }
+
+  private long getLastIngestedAt(String accountId) {
+    // Refreshed by the batch job which runs after the billing data of the account is ingested
+    CEMetadataRecord ceMetadataRecord = ceMetadataRecordDao.getByAccountId(accountId);
+    return ceMetadataRecord == null ? 0 : ceMetadataRecord.getLastUpdatedAt();
+  }
+
+  private List<String> getDefinitionVersions(List<QLCEViewFilterWrapper> filters, List<QLCEViewGroupBy> groupBy) {
+    List<String> versions = new ArrayList<>();
+    if (filters == null) {
+      return versions;
+    }
+    Optional<QLCEViewFilterWrapper> viewMetadataFilter = viewParametersHelper.getViewMetadataFilter(filters);
+    if (viewMetadataFilter.isPresent()) {
+      QLCEViewMetadataFilter metadataFilter = viewMetadataFilter.get().getViewMetadataFilter();
+      if (!metadataFilter.isPreview()) {
+        CEView view = viewService.get(metadataFilter.getViewId());
+        versions.add(view == null ? "null" : String.valueOf(view.getLastUpdatedAt()));
+      }
+    }
+    String groupByBusinessMappingId = viewsQueryHelper.getBusinessMappingIdFromGroupBy(groupBy);
+    viewParametersHelper.getBusinessMappingIds(filters, groupByBusinessMappingId)
+        .stream()
+        .filter(Objects::nonNull)
+        .sorted()
+        .forEach(businessMappingId -> {
+          BusinessMapping businessMapping = businessMappingService.get(businessMappingId);
+          versions.add(
+              businessMappingId + ":" + (businessMapping == null ? "null" : businessMapping.getLastUpdatedAt()));
+        });
+    return versions;
+  }
+
+  @Value
+  @Builder
+  private static class CachedResult {
+    Object result;
+    long bytesProcessed;
+  }
+
+  @Value
+  @Builder
+  public static class PerspectiveQueryCacheStatistics {
+    long hitCount;
+    long missCount;
+    // Bytes the queries of the results served from the cache processed when they were computed
+    long bytesProcessedSaved;
+    long size;
+  }
+}
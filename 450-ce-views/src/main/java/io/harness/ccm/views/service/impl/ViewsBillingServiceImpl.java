@@ -90,6 +90,7 @@ import io.harness.ccm.views.helper.AwsAccountFieldHelper;
 import io.harness.ccm.views.helper.BusinessMappingDataSourceHelper;
 import io.harness.ccm.views.helper.BusinessMappingSharedCostHelper;
 import io.harness.ccm.views.helper.InstanceDetailsHelper;
+import io.harness.ccm.views.helper.PerspectiveQueryResultCache;
 import io.harness.ccm.views.helper.ViewBillingServiceHelper;
 import io.harness.ccm.views.helper.ViewBusinessMappingResponseHelper;
 import io.harness.ccm.views.helper.ViewParametersHelper;
@@ -118,6 +119,7 @@ import com.healthmarketscience.sqlbuilder.custom.postgresql.PgOffsetClause;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -159,6 +161,7 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
   @Inject private BusinessMappingSharedCostHelper businessMappingSharedCostHelper;
   @Inject private LabelFlattenedService labelFlattenedService;
   @Inject private ModuleLicenseHelper moduleLicenseHelper;
+  @Inject private PerspectiveQueryResultCache perspectiveQueryResultCache;
 
   // ----------------------------------------------------------------------------------------------------------------
   // Methods to get data for filter panel
@@ -264,6 +267,16 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
   public QLCEViewGridData getEntityStatsDataPointsNg(List<QLCEViewFilterWrapper> filters, List<QLCEViewGroupBy> groupBy,
       List<QLCEViewAggregation> aggregateFunction, List<QLCEViewSortCriteria> sort, Integer limit, Integer offset,
       ViewPreferences viewPreferences, ViewQueryParams queryParams) {
+    return perspectiveQueryResultCache.get("getEntityStatsDataPointsNg", filters, groupBy, queryParams,
+        Arrays.asList(aggregateFunction, sort, limit, offset, viewPreferences),
+        ()
+            -> queryEntityStatsDataPointsNg(
+                filters, groupBy, aggregateFunction, sort, limit, offset, viewPreferences, queryParams));
+  }
+
+  private QLCEViewGridData queryEntityStatsDataPointsNg(List<QLCEViewFilterWrapper> filters,
+      List<QLCEViewGroupBy> groupBy, List<QLCEViewAggregation> aggregateFunction, List<QLCEViewSortCriteria> sort,
+      Integer limit, Integer offset, ViewPreferences viewPreferences, ViewQueryParams queryParams) {
     BigQuery bigQuery = bigQueryService.get();
     String cloudProviderTableName = bigQueryHelper.getCloudProviderTableName(queryParams.getAccountId(), UNIFIED_TABLE);
     Map<String, String> labelsKeyAndColumnMapping =
@@ -322,6 +335,7 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
       Job job = bigQuery.create(JobInfo.newBuilder(queryConfig).build());
       log.info("Job id {} for grid query (with limit as {}): {}", job.getJobId(), modifiedLimit, query);
       result = job.getQueryResults();
+      perspectiveQueryResultCache.recordBytesProcessed(job);
     } catch (InterruptedException e) {
       log.error("Failed to getEntityStatsDataPoints for query {}", query, e);
       Thread.currentThread().interrupt();
@@ -655,6 +669,16 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
   public TableResult getTimeSeriesStatsNg(List<QLCEViewFilterWrapper> filters, List<QLCEViewGroupBy> groupBy,
       List<QLCEViewAggregation> aggregateFunction, List<QLCEViewSortCriteria> sort, boolean includeOthers,
       Integer limit, ViewPreferences viewPreferences, ViewQueryParams queryParams) {
+    return perspectiveQueryResultCache.get("getTimeSeriesStatsNg", filters, groupBy, queryParams,
+        Arrays.asList(aggregateFunction, sort, includeOthers, limit, viewPreferences),
+        ()
+            -> queryTimeSeriesStatsNg(
+                filters, groupBy, aggregateFunction, sort, includeOthers, limit, viewPreferences, queryParams));
+  }
+
+  private TableResult queryTimeSeriesStatsNg(List<QLCEViewFilterWrapper> filters, List<QLCEViewGroupBy> groupBy,
+      List<QLCEViewAggregation> aggregateFunction, List<QLCEViewSortCriteria> sort, boolean includeOthers,
+      Integer limit, ViewPreferences viewPreferences, ViewQueryParams queryParams) {
     BigQuery bigQuery = bigQueryService.get();
     String cloudProviderTableName = bigQueryHelper.getCloudProviderTableName(queryParams.getAccountId(), UNIFIED_TABLE);
     Map<String, String> labelsKeyAndColumnMapping =
@@ -698,7 +722,9 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
     try {
       Job job = bigQuery.create(JobInfo.newBuilder(queryConfig).build());
       log.info("Job id {} for timeSeriesStats query (with limit as {}): {}", job.getJobId(), limit, query);
-      return job.getQueryResults();
+      TableResult result = job.getQueryResults();
+      perspectiveQueryResultCache.recordBytesProcessed(job);
+      return result;
     } catch (InterruptedException e) {
       log.error("Failed to getTimeSeriesStats for query: {}", query, e);
       Thread.currentThread().interrupt();
@@ -934,6 +960,14 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
   @Override
   public QLCEViewTrendData getTrendStatsDataNg(List<QLCEViewFilterWrapper> filters, List<QLCEViewGroupBy> groupBy,
       List<QLCEViewAggregation> aggregateFunction, ViewPreferences viewPreferences, ViewQueryParams queryParams) {
+    // The previous period is computed from the exact time filters, so they are part of the plan
+    return perspectiveQueryResultCache.get("getTrendStatsDataNg", filters, groupBy, queryParams,
+        Arrays.asList(aggregateFunction, viewPreferences, viewsQueryHelper.getTimeFilters(filters)),
+        () -> queryTrendStatsDataNg(filters, groupBy, aggregateFunction, viewPreferences, queryParams));
+  }
+
+  private QLCEViewTrendData queryTrendStatsDataNg(List<QLCEViewFilterWrapper> filters, List<QLCEViewGroupBy> groupBy,
+      List<QLCEViewAggregation> aggregateFunction, ViewPreferences viewPreferences, ViewQueryParams queryParams) {
     BigQuery bigQuery = bigQueryService.get();
     String cloudProviderTableName = bigQueryHelper.getCloudProviderTableName(queryParams.getAccountId(), UNIFIED_TABLE);
     Map<String, String> labelsKeyAndColumnMapping =
@@ -1060,6 +1094,13 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
   @Override
   public ViewCostData getCostData(List<QLCEViewFilterWrapper> filters, List<QLCEViewGroupBy> groupBy,
       List<QLCEViewAggregation> aggregateFunction, ViewPreferences viewPreferences, ViewQueryParams queryParams) {
+    return perspectiveQueryResultCache.get("getCostData", filters, groupBy, queryParams,
+        Arrays.asList(aggregateFunction, viewPreferences),
+        () -> queryCostData(filters, groupBy, aggregateFunction, viewPreferences, queryParams));
+  }
+
+  private ViewCostData queryCostData(List<QLCEViewFilterWrapper> filters, List<QLCEViewGroupBy> groupBy,
+      List<QLCEViewAggregation> aggregateFunction, ViewPreferences viewPreferences, ViewQueryParams queryParams) {
     BigQuery bigQuery = bigQueryService.get();
     String cloudProviderTableName = bigQueryHelper.getCloudProviderTableName(queryParams.getAccountId(), UNIFIED_TABLE);
     Map<String, String> labelsKeyAndColumnMapping =
@@ -1106,6 +1147,7 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
       Job job = bigQuery.create(JobInfo.newBuilder(queryConfig).build());
       log.info("Job id {} for trend stats cost data query: {}", job.getJobId(), query);
       result = job.getQueryResults();
+      perspectiveQueryResultCache.recordBytesProcessed(job);
     } catch (InterruptedException e) {
       log.error("Failed to getTrendStatsData.", e);
       Thread.currentThread().interrupt();
@@ -1157,6 +1199,13 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
   @Override
   public Integer getTotalCountForQuery(List<QLCEViewFilterWrapper> filters, List<QLCEViewGroupBy> groupBy,
       ViewPreferences viewPreferences, ViewQueryParams queryParams) {
+    return perspectiveQueryResultCache.get("getTotalCountForQuery", filters, groupBy, queryParams,
+        Collections.singletonList(viewPreferences),
+        () -> queryTotalCountForQuery(filters, groupBy, viewPreferences, queryParams));
+  }
+
+  private Integer queryTotalCountForQuery(List<QLCEViewFilterWrapper> filters, List<QLCEViewGroupBy> groupBy,
+      ViewPreferences viewPreferences, ViewQueryParams queryParams) {
     BigQuery bigQuery = bigQueryService.get();
     String cloudProviderTableName = bigQueryHelper.getCloudProviderTableName(queryParams.getAccountId(), UNIFIED_TABLE);
     Map<String, String> labelsKeyAndColumnMapping =
@@ -1171,7 +1220,9 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
     QueryJobConfiguration queryConfig = QueryJobConfiguration.newBuilder(query.toString()).build();
     TableResult result;
     try {
-      result = bigQuery.query(queryConfig);
+      Job job = bigQuery.create(JobInfo.newBuilder(queryConfig).build());
+      result = job.getQueryResults();
+      perspectiveQueryResultCache.recordBytesProcessed(job);
     } catch (InterruptedException e) {
       log.error("Failed to getTotalCountForQuery.", e);
       Thread.currentThread().interrupt();
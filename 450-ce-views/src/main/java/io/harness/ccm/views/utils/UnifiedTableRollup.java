@@ -0,0 +1,102 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.ccm.views.utils;
+
+import static io.harness.annotations.dev.HarnessTeam.CE;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.ccm.views.graphql.QLCEViewTimeGroupType;
+
+import com.google.common.collect.ImmutableList;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Rollups of the unified table: the cost of each set of dimension values summed per day or per month. They are kept
+ * next to the unified table by the UNIFIED_TABLE_ROLLUP batch job, and perspective queries which only read their
+ * columns at a granularity they keep are answered from the smallest one instead of the unified table.
+ *
+ * <p>The rollups are refreshed once a day, while the cloud providers keep restating their billing data for a while
+ * after it is first ingested. Queries are therefore only answered from the rollups when their time range ends
+ * {@link #RESTATEMENT_LAG} before the billing data the rollups were last refreshed with. Ranges which end today, like
+ * the last 7 days, always read the unified table; they are not split into a rollup part and a live tail.
+ *
+ * <p>Labels are not kept. An account has thousands of label keys and values, and a rollup grouped by them would be
+ * about as large as the unified table, so queries on labels keep reading the unified table.
+ *
+ * <p>The constants are ordered from the smallest rollup to the largest.
+ */
+@OwnedBy(CE)
+public enum UnifiedTableRollup {
+  PROVIDER_MONTHLY("unifiedTableProviderMonthly", QLCEViewTimeGroupType.MONTH, Columns.PROVIDER_DIMENSIONS),
+  PROVIDER_DAILY("unifiedTableProviderDaily", QLCEViewTimeGroupType.DAY, Columns.PROVIDER_DIMENSIONS),
+  SERVICE_MONTHLY("unifiedTableServiceMonthly", QLCEViewTimeGroupType.MONTH, Columns.SERVICE_DIMENSIONS),
+  SERVICE_DAILY("unifiedTableServiceDaily", QLCEViewTimeGroupType.DAY, Columns.SERVICE_DIMENSIONS);
+
+  public static final String START_TIME_COLUMN = "startTime";
+  // Billing data ingested after a refresh can still change the costs of the days before it by up to this much
+  public static final Duration RESTATEMENT_LAG = Duration.ofDays(3);
+  public static final List<String> MEASURES = Columns.MEASURES;
+
+  private final String tableName;
+  private final QLCEViewTimeGroupType granularity;
+  private final List<String> dimensions;
+  private final Set<String> lowerCaseColumns;
+
+  UnifiedTableRollup(String tableName, QLCEViewTimeGroupType granularity, List<String> dimensions) {
+    this.tableName = tableName;
+    this.granularity = granularity;
+    this.dimensions = dimensions;
+    this.lowerCaseColumns = Stream.concat(dimensions.stream(), Columns.MEASURES.stream())
+                                .map(column -> column.toLowerCase(Locale.ROOT))
+                                .collect(Collectors.toSet());
+  }
+
+  public String getTableName() {
+    return tableName;
+  }
+
+  public QLCEViewTimeGroupType getGranularity() {
+    return granularity;
+  }
+
+  public List<String> getDimensions() {
+    return dimensions;
+  }
+
+  public static boolean isMeasure(String column) {
+    return Columns.MEASURES.stream().anyMatch(measure -> measure.equalsIgnoreCase(column));
+  }
+
+  // Column names are case insensitive in both BigQuery and the ClickHouse column mapping
+  public boolean hasColumn(String column) {
+    return column != null && lowerCaseColumns.contains(column.toLowerCase(Locale.ROOT));
+  }
+
+  // Holds the column lists, since the constants of the enum are initialized before its static fields
+  private static class Columns {
+    // Summed over the rows of each set of dimension values
+    private static final List<String> MEASURES = ImmutableList.of("cost", "awsBlendedCost", "awsUnblendedCost",
+        "awsEffectiveCost", "awsAmortisedCost", "awsNetAmortisedCost", "discount");
+    // instancetype is kept for the condition added to exclude the cluster rows which duplicate cloud costs
+    private static final List<String> PROVIDER_DIMENSIONS = ImmutableList.of(
+        "cloudProvider", "product", "region", "instancetype", "awsLineItemType", "gcpCostType");
+    private static final List<String> SERVICE_DIMENSIONS =
+        ImmutableList.<String>builder()
+            .addAll(PROVIDER_DIMENSIONS)
+            .add("awsServicecode", "awsUsageaccountid", "awsInstancetype", "awsUsagetype", "awsBillingEntity")
+            .add("gcpProduct", "gcpProjectId", "gcpSkuDescription")
+            .add("azureSubscriptionGuid", "azureMeterName", "azureMeterCategory", "azureMeterSubcategory",
+                "azureResourceGroup", "azureServiceName", "azureServiceTier")
+            .build();
+  }
+}
@@ -10,9 +10,13 @@ package io.harness.ccm.views.graphql;
 import static io.harness.rule.OwnerRule.ROHIT;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
 
 import io.harness.CategoryTest;
+import io.harness.beans.FeatureName;
 import io.harness.category.element.UnitTests;
+import io.harness.ccm.commons.dao.CEMetadataRecordDao;
+import io.harness.ccm.commons.entities.batch.CEMetadataRecord;
 import io.harness.ccm.views.entities.ViewField;
 import io.harness.ccm.views.entities.ViewFieldIdentifier;
 import io.harness.ccm.views.entities.ViewIdCondition;
@@ -44,6 +48,7 @@ import org.mockito.MockitoAnnotations;
 
 public class ViewsQueryBuilderTest extends CategoryTest {
   @Mock private FeatureFlagService featureFlagService;
+  @Mock private CEMetadataRecordDao ceMetadataRecordDao;
   @Inject @InjectMocks private ViewsQueryBuilder viewsQueryBuilder;
 
   private QLCEViewTimeFilter endTimeFilter;
@@ -192,6 +197,40 @@ public class ViewsQueryBuilderTest extends CategoryTest {
             "SELECT namespace,SUM(cost) AS cost,MIN(startTime) AS startTime_MIN,MAX(startTime) AS startTime_MAX FROM TableName");
   }
 
+  @Test
+  @Owner(developers = ROHIT)
+  @Category(UnitTests.class)
+  public void testGetQueryRoutesToUnifiedTableRollup() {
+    when(featureFlagService.isEnabled(FeatureName.CCM_PERSPECTIVE_ROLLUPS, "accountId")).thenReturn(true);
+    when(ceMetadataRecordDao.getByAccountId("accountId"))
+        .thenReturn(CEMetadataRecord.builder()
+                        .accountId("accountId")
+                        .unifiedTableRollupRefreshedUntil(Instant.parse("2023-04-05T00:00:00Z"))
+                        .build());
+    QLCEViewGroupBy serviceGroupBy = getAwsServiceGroupBy();
+    QLCEViewGroupBy dayGroupBy =
+        QLCEViewGroupBy.builder()
+            .timeTruncGroupBy(QLCEViewTimeTruncGroupBy.builder().resolution(QLCEViewTimeGroupType.DAY).build())
+            .build();
+    long monthStart = Instant.parse("2023-03-01T00:00:00Z").toEpochMilli();
+    long dayStart = Instant.parse("2023-03-05T00:00:00Z").toEpochMilli();
+    long monthEnd = Instant.parse("2023-03-31T23:59:59Z").toEpochMilli();
+
+    assertThat(getUnifiedTableQuery(Collections.singletonList(serviceGroupBy), monthStart, monthEnd))
+        .contains("FROM project.dataset.unifiedTableServiceMonthly WHERE");
+    assertThat(getUnifiedTableQuery(Arrays.asList(serviceGroupBy, dayGroupBy), monthStart, monthEnd))
+        .contains("FROM project.dataset.unifiedTableServiceDaily WHERE");
+    assertThat(getUnifiedTableQuery(Collections.singletonList(serviceGroupBy), dayStart, monthEnd))
+        .contains("FROM project.dataset.unifiedTableServiceDaily WHERE");
+    // The first hours of the day are not in the range, so the daily rollup cannot answer the query
+    assertThat(getUnifiedTableQuery(Collections.singletonList(serviceGroupBy), dayStart + 5 * 3600 * 1000, monthEnd))
+        .contains("FROM project.dataset.unifiedTable WHERE");
+
+    when(featureFlagService.isEnabled(FeatureName.CCM_PERSPECTIVE_ROLLUPS, "accountId")).thenReturn(false);
+    assertThat(getUnifiedTableQuery(Collections.singletonList(serviceGroupBy), monthStart, monthEnd))
+        .contains("FROM project.dataset.unifiedTable WHERE");
+  }
+
   @Test
   @Owner(developers = ROHIT)
   @Category(UnitTests.class)
@@ -255,4 +294,106 @@ public class ViewsQueryBuilderTest extends CategoryTest {
     assertThat(StringUtils.countMatches(sqlAndCondition.toString(), "AND")).isEqualTo(9);
     assertThat(StringUtils.countMatches(sqlOrCondition.toString(), "OR")).isEqualTo(9);
   }
+
+  @Test
+  @Owner(developers = ROHIT)
+  @Category(UnitTests.class)
+  public void testGetQueryDoesNotRouteToUnrefreshedUnifiedTableRollup() {
+    when(featureFlagService.isEnabled(FeatureName.CCM_PERSPECTIVE_ROLLUPS, "accountId")).thenReturn(true);
+    QLCEViewGroupBy serviceGroupBy = getAwsServiceGroupBy();
+    long monthStart = Instant.parse("2023-03-01T00:00:00Z").toEpochMilli();
+    long monthEnd = Instant.parse("2023-03-31T23:59:59Z").toEpochMilli();
+
+    // The rollups have not been created yet
+    assertThat(getUnifiedTableQuery(Collections.singletonList(serviceGroupBy), monthStart, monthEnd))
+        .contains("FROM project.dataset.unifiedTable WHERE");
+  }
+
+  @Test
+  @Owner(developers = ROHIT)
+  @Category(UnitTests.class)
+  public void testGetQueryDoesNotRoutePastUnifiedTableRollupRefresh() {
+    when(featureFlagService.isEnabled(FeatureName.CCM_PERSPECTIVE_ROLLUPS, "accountId")).thenReturn(true);
+    when(ceMetadataRecordDao.getByAccountId("accountId"))
+        .thenReturn(CEMetadataRecord.builder()
+                        .accountId("accountId")
+                        .unifiedTableRollupRefreshedUntil(Instant.parse("2023-03-20T00:00:00Z"))
+                        .build());
+    QLCEViewGroupBy serviceGroupBy = getAwsServiceGroupBy();
+
+    assertThat(getUnifiedTableQuery(Collections.singletonList(serviceGroupBy),
+                   Instant.parse("2023-03-01T00:00:00Z").toEpochMilli(),
+                   Instant.parse("2023-03-31T23:59:59Z").toEpochMilli()))
+        .contains("FROM project.dataset.unifiedTable WHERE");
+    assertThat(getUnifiedTableQuery(Collections.singletonList(serviceGroupBy),
+                   Instant.parse("2023-03-01T00:00:00Z").toEpochMilli(),
+                   Instant.parse("2023-03-19T23:59:59Z").toEpochMilli()))
+        .contains("FROM project.dataset.unifiedTable WHERE");
+    // Only the days before the refresh by more than the restatement lag are read from the rollups
+    assertThat(getUnifiedTableQuery(Collections.singletonList(serviceGroupBy),
+                   Instant.parse("2023-03-01T00:00:00Z").toEpochMilli(),
+                   Instant.parse("2023-03-16T23:59:59Z").toEpochMilli()))
+        .contains("FROM project.dataset.unifiedTableServiceDaily WHERE");
+  }
+
+  @Test
+  @Owner(developers = ROHIT)
+  @Category(UnitTests.class)
+  public void testGetQueryDoesNotRouteLabelsToUnifiedTableRollup() {
+    when(featureFlagService.isEnabled(FeatureName.CCM_PERSPECTIVE_ROLLUPS, "accountId")).thenReturn(true);
+    when(ceMetadataRecordDao.getByAccountId("accountId"))
+        .thenReturn(CEMetadataRecord.builder()
+                        .accountId("accountId")
+                        .unifiedTableRollupRefreshedUntil(Instant.parse("2023-04-05T00:00:00Z"))
+                        .build());
+    QLCEViewGroupBy labelGroupBy = QLCEViewGroupBy.builder()
+                                       .entityGroupBy(QLCEViewFieldInput.builder()
+                                                          .fieldId("labels.value")
+                                                          .fieldName("environment")
+                                                          .identifier(ViewFieldIdentifier.LABEL)
+                                                          .identifierName(ViewFieldIdentifier.LABEL.getDisplayName())
+                                                          .build())
+                                       .build();
+
+    assertThat(getUnifiedTableQuery(Collections.singletonList(labelGroupBy),
+                   Instant.parse("2023-03-01T00:00:00Z").toEpochMilli(),
+                   Instant.parse("2023-03-31T23:59:59Z").toEpochMilli()))
+        .doesNotContain("unifiedTableProvider")
+        .doesNotContain("unifiedTableService");
+  }
+
+  private QLCEViewGroupBy getAwsServiceGroupBy() {
+    final QLCEViewField awsService = ViewFieldUtils.getAwsFields().get(0);
+    return QLCEViewGroupBy.builder()
+        .entityGroupBy(QLCEViewFieldInput.builder()
+                           .fieldId(awsService.getFieldId())
+                           .fieldName(awsService.getFieldName())
+                           .identifier(ViewFieldIdentifier.AWS)
+                           .identifierName(ViewFieldIdentifier.AWS.getDisplayName())
+                           .build())
+        .build();
+  }
+
+  private String getUnifiedTableQuery(List<QLCEViewGroupBy> groupBy, long startTime, long endTime) {
+    QLCEViewAggregation costAgg = QLCEViewAggregation.builder()
+                                      .operationType(QLCEViewAggregateOperation.SUM)
+                                      .columnName(ViewsMetaDataFields.COST.getFieldName())
+                                      .build();
+    List<QLCEViewTimeFilter> timeFilters = Arrays.asList(QLCEViewTimeFilter.builder()
+                                                             .field(startTimeFilter.getField())
+                                                             .operator(QLCEViewTimeFilterOperator.AFTER)
+                                                             .value(startTime)
+                                                             .build(),
+        QLCEViewTimeFilter.builder()
+            .field(endTimeFilter.getField())
+            .operator(QLCEViewTimeFilterOperator.BEFORE)
+            .value(endTime)
+            .build());
+    ViewQueryParams viewQueryParams = ViewQueryParams.builder().accountId("accountId").build();
+    return viewsQueryBuilder
+        .getQuery(Collections.emptyList(), Collections.emptyList(), timeFilters, groupBy,
+            Collections.singletonList(costAgg), Collections.emptyList(), "project.dataset.unifiedTable",
+            viewQueryParams, Collections.emptyList())
+        .toString();
+  }
 }
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.ccm.views.helper;
+
+import static io.harness.annotations.dev.HarnessTeam.CE;
+import static io.harness.ccm.views.graphql.QLCEViewTimeFilterOperator.AFTER;
+import static io.harness.ccm.views.graphql.QLCEViewTimeFilterOperator.BEFORE;
+import static io.harness.rule.OwnerRule.SAHILDEEP;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.ccm.commons.beans.config.PerspectiveQueryCacheConfig;
+import io.harness.ccm.commons.dao.CEMetadataRecordDao;
+import io.harness.ccm.commons.entities.batch.CEMetadataRecord;
+import io.harness.ccm.views.entities.ViewQueryParams;
+import io.harness.ccm.views.graphql.QLCEViewFieldInput;
+import io.harness.ccm.views.graphql.QLCEViewFilterWrapper;
+import io.harness.ccm.views.graphql.QLCEViewTimeFilter;
+import io.harness.ccm.views.graphql.QLCEViewTimeFilterOperator;
+import io.harness.ccm.views.helper.PerspectiveQueryResultCache.PerspectiveQueryCacheStatistics;
+import io.harness.rule.Owner;
+
+import com.google.cloud.bigquery.Job;
+import com.google.cloud.bigquery.JobStatistics.QueryStatistics;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@OwnedBy(CE)
+@RunWith(MockitoJUnitRunner.class)
+public class PerspectiveQueryResultCacheTest extends CategoryTest {
+  private static final String ACCOUNT_ID = "accountId";
+  private static final long HOUR = TimeUnit.HOURS.toMillis(1);
+  private static final long START_TIME = 1000 * HOUR;
+  private static final long END_TIME = 1024 * HOUR;
+
+  @Mock private CEMetadataRecordDao ceMetadataRecordDao;
+  @Mock private ViewParametersHelper viewParametersHelper;
+  @InjectMocks private PerspectiveQueryResultCache perspectiveQueryResultCache;
+
+  private final ViewQueryParams queryParams = ViewQueryParams.builder().accountId(ACCOUNT_ID).build();
+  private final List<List<QLCEViewFilterWrapper>> loadedFilters = new ArrayList<>();
+
+  @Before
+  public void setUp() {
+    perspectiveQueryResultCache.setConfig(
+        PerspectiveQueryCacheConfig.builder().enabled(true).maximumSize(100).expireAfterWriteInMinutes(60).build());
+  }
+
+  @Test
+  @Owner(developers = SAHILDEEP)
+  @Category(UnitTests.class)
+  public void testServesResultOfQueriesInSameHour() {
+    mockLastIngestedAt(1L);
+    String result = get(timeFilters(START_TIME - 30, END_TIME + 30), () -> "result");
+    String cachedResult = get(timeFilters(START_TIME - 10, END_TIME + 50), () -> "otherResult");
+
+    assertThat(result).isEqualTo("result");
+    assertThat(cachedResult).isEqualTo("result");
+    // The query runs with the time filters of the caller, only the key is rounded
+    assertThat(loadedFilters).containsExactly(timeFilters(START_TIME - 30, END_TIME + 30));
+    PerspectiveQueryCacheStatistics statistics = perspectiveQueryResultCache.getStatistics();
+    assertThat(statistics.getHitCount()).isEqualTo(1);
+    assertThat(statistics.getMissCount()).isEqualTo(1);
+  }
+
+  @Test
+  @Owner(developers = SAHILDEEP)
+  @Category(UnitTests.class)
+  public void testMissesQueriesOfOtherHoursOrIngestion() {
+    mockLastIngestedAt(1L);
+    get(timeFilters(START_TIME, END_TIME), () -> "result");
+    get(timeFilters(START_TIME + 1, END_TIME), () -> "result");
+    mockLastIngestedAt(2L);
+    get(timeFilters(START_TIME, END_TIME), () -> "result");
+
+    assertThat(loadedFilters).hasSize(3);
+    assertThat(perspectiveQueryResultCache.getStatistics().getHitCount()).isZero();
+  }
+
+  @Test
+  @Owner(developers = SAHILDEEP)
+  @Category(UnitTests.class)
+  public void testCountsBytesProcessedSaved() {
+    mockLastIngestedAt(1L);
+    Job job = mock(Job.class);
+    QueryStatistics statistics = mock(QueryStatistics.class);
+    when(job.reload()).thenReturn(job);
+    doReturn(statistics).when(job).getStatistics();
+    when(statistics.getTotalBytesProcessed()).thenReturn(1024L);
+    Supplier<String> loader = () -> {
+      perspectiveQueryResultCache.recordBytesProcessed(job);
+      return "result";
+    };
+
+    get(timeFilters(START_TIME, END_TIME), loader);
+    get(timeFilters(START_TIME, END_TIME), loader);
+    get(timeFilters(START_TIME, END_TIME), loader);
+
+    assertThat(loadedFilters).hasSize(1);
+    assertThat(perspectiveQueryResultCache.getStatistics().getBytesProcessedSaved()).isEqualTo(2048L);
+  }
+
+  @Test
+  @Owner(developers = SAHILDEEP)
+  @Category(UnitTests.class)
+  public void testRunsQueriesWhenDisabled() {
+    PerspectiveQueryResultCache disabledCache = new PerspectiveQueryResultCache();
+    List<QLCEViewFilterWrapper> filters = timeFilters(START_TIME - 30, END_TIME + 30);
+    for (int i = 0; i < 2; i++) {
+      disabledCache.get("query", filters, Collections.emptyList(), queryParams, Collections.emptyList(),
+          () -> loadedFilters.add(filters));
+    }
+
+    assertThat(loadedFilters).containsExactly(filters, filters);
+    assertThat(disabledCache.getStatistics().getMissCount()).isZero();
+  }
+
+  private <T> T get(List<QLCEViewFilterWrapper> filters, Supplier<T> loader) {
+    return perspectiveQueryResultCache.get(
+        "query", filters, Collections.emptyList(), queryParams, Collections.emptyList(), () -> {
+          loadedFilters.add(filters);
+          return loader.get();
+        });
+  }
+
+  private void mockLastIngestedAt(long lastIngestedAt) {
+    when(ceMetadataRecordDao.getByAccountId(ACCOUNT_ID))
+        .thenReturn(CEMetadataRecord.builder().accountId(ACCOUNT_ID).lastUpdatedAt(lastIngestedAt).build());
+  }
+
+  private static List<QLCEViewFilterWrapper> timeFilters(long startTime, long endTime) {
+    return Arrays.asList(timeFilter(AFTER, startTime), timeFilter(BEFORE, endTime));
+  }
+
+  private static QLCEViewFilterWrapper timeFilter(QLCEViewTimeFilterOperator operator, long value) {
+    return QLCEViewFilterWrapper.builder()
+        .timeFilter(QLCEViewTimeFilter.builder()
+                        .field(QLCEViewFieldInput.builder().fieldId("startTime").fieldName("startTime").build())
+                        .operator(operator)
+                        .value(value)
+                        .build())
+        .build();
+  }
+}
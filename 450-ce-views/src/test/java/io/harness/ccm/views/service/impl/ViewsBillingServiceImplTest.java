@@ -20,13 +20,17 @@ import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.harness.CategoryTest;
 import io.harness.category.element.UnitTests;
 import io.harness.ccm.bigQuery.BigQueryService;
+import io.harness.ccm.commons.beans.config.PerspectiveQueryCacheConfig;
 import io.harness.ccm.commons.dao.CEMetadataRecordDao;
 import io.harness.ccm.commons.helper.ModuleLicenseHelper;
 import io.harness.ccm.commons.utils.BigQueryHelper;
@@ -74,6 +78,7 @@ import io.harness.ccm.views.graphql.ViewsQueryHelper;
 import io.harness.ccm.views.helper.AwsAccountFieldHelper;
 import io.harness.ccm.views.helper.BusinessMappingDataSourceHelper;
 import io.harness.ccm.views.helper.BusinessMappingSharedCostHelper;
+import io.harness.ccm.views.helper.PerspectiveQueryResultCache;
 import io.harness.ccm.views.helper.ViewBillingServiceHelper;
 import io.harness.ccm.views.helper.ViewBusinessMappingResponseHelper;
 import io.harness.ccm.views.helper.ViewParametersHelper;
@@ -93,6 +98,7 @@ import com.google.cloud.bigquery.Job;
 import com.google.cloud.bigquery.JobId;
 import com.google.cloud.bigquery.JobInfo;
 import com.google.cloud.bigquery.LegacySQLTypeName;
+import com.google.cloud.bigquery.QueryJobConfiguration;
 import com.google.cloud.bigquery.Schema;
 import com.google.cloud.bigquery.TableResult;
 import com.google.common.collect.ImmutableSet;
@@ -104,10 +110,13 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.reflect.FieldUtils;
 import org.jetbrains.annotations.NotNull;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -173,6 +182,7 @@ public class ViewsBillingServiceImplTest extends CategoryTest {
   @Mock private BigQueryHelper bigQueryHelper;
   @Mock private LabelFlattenedService labelFlattenedService;
   @Mock private ModuleLicenseHelper moduleLicenseHelper;
+  @Spy private PerspectiveQueryResultCache perspectiveQueryResultCache = new PerspectiveQueryResultCache();
 
   private Schema schema;
   private List<Field> fields;
@@ -1437,6 +1447,54 @@ public class ViewsBillingServiceImplTest extends CategoryTest {
     assertThat(data.getTotalCost().getValue()).isEqualTo(LIMIT * Double.parseDouble(COST));
   }
 
+  @Test
+  @Owner(developers = SAHILDEEP)
+  @Category(UnitTests.class)
+  public void testTrendStatsDataSameWithQueryCache() throws Exception {
+    fields = new ArrayList<>();
+    fields.add(Field.newBuilder(COST_COLUMN, LegacySQLTypeName.FLOAT).build());
+    fields.add(Field.newBuilder(StART_TIME_MIN, LegacySQLTypeName.NUMERIC).build());
+    fields.add(Field.newBuilder(StART_TIME_MAX, LegacySQLTypeName.NUMERIC).build());
+    schema = Schema.of(fields);
+    when(resultSet.getSchema()).thenReturn(schema);
+    doReturn(job).when(job).reload();
+
+    // Same range as the UI, which ends at the last millisecond of the day
+    long endTime = (currentTime / ONE_DAY_IN_MILLIS + 1) * ONE_DAY_IN_MILLIS - 1;
+    List<QLCEViewFilterWrapper> filters = new ArrayList<>();
+    filters.add(getPerspectiveMetadataFilter(AWS_PERSPECTIVE_ID));
+    filters.add(getPerspectiveTimeFilter(QLCEViewTimeFilterOperator.AFTER, endTime + 1 - 7 * ONE_DAY_IN_MILLIS));
+    filters.add(getPerspectiveTimeFilter(QLCEViewTimeFilterOperator.BEFORE, endTime));
+    List<QLCEViewAggregation> aggregations =
+        Collections.singletonList(getAggregation(COST_COLUMN, QLCEViewAggregateOperation.SUM));
+    List<QLCEViewGroupBy> groupBy = Collections.singletonList(
+        getEntityGroupBy(AWS_USAGE_ACCOUNT_ID, ACCOUNT_FIELD_NAME, ViewFieldIdentifier.AWS));
+    ViewQueryParams queryParams = getMockViewQueryParams(false);
+
+    QLCEViewTrendData uncachedData =
+        viewsBillingService.getTrendStatsDataNg(filters, groupBy, aggregations, null, queryParams);
+    List<String> uncachedQueries = getCreatedQueries();
+
+    perspectiveQueryResultCache.setConfig(
+        PerspectiveQueryCacheConfig.builder().enabled(true).maximumSize(100).expireAfterWriteInMinutes(60).build());
+    FieldUtils.writeField(perspectiveQueryResultCache, "ceMetadataRecordDao", ceMetadataRecordDao, true);
+    FieldUtils.writeField(perspectiveQueryResultCache, "viewService", viewService, true);
+    FieldUtils.writeField(perspectiveQueryResultCache, "businessMappingService", businessMappingService, true);
+    FieldUtils.writeField(perspectiveQueryResultCache, "viewParametersHelper", viewParametersHelper, true);
+    FieldUtils.writeField(perspectiveQueryResultCache, "viewsQueryHelper", viewsQueryHelper, true);
+    clearInvocations(bigQuery);
+    QLCEViewTrendData loadedData =
+        viewsBillingService.getTrendStatsDataNg(filters, groupBy, aggregations, null, queryParams);
+    List<String> loadedQueries = getCreatedQueries();
+    QLCEViewTrendData cachedData =
+        viewsBillingService.getTrendStatsDataNg(filters, groupBy, aggregations, null, queryParams);
+
+    assertThat(loadedQueries).isEqualTo(uncachedQueries);
+    assertThat(loadedData).isEqualTo(uncachedData);
+    assertThat(cachedData).isEqualTo(uncachedData);
+    assertThat(perspectiveQueryResultCache.getStatistics().getHitCount()).isEqualTo(1);
+  }
+
   @Test
   @Owner(developers = SAHILDEEP)
   @Category(UnitTests.class)
@@ -2202,6 +2260,15 @@ public class ViewsBillingServiceImplTest extends CategoryTest {
         .build();
   }
 
+  private List<String> getCreatedQueries() {
+    ArgumentCaptor<JobInfo> jobInfoCaptor = ArgumentCaptor.forClass(JobInfo.class);
+    verify(bigQuery, atLeastOnce()).create(jobInfoCaptor.capture());
+    return jobInfoCaptor.getAllValues()
+        .stream()
+        .map(jobInfo -> ((QueryJobConfiguration) jobInfo.getConfiguration()).getQuery())
+        .collect(Collectors.toList());
+  }
+
   private ViewQueryParams getMockViewQueryParams(boolean isClusterQuery) {
     return ViewQueryParams.builder().accountId(ACCOUNT_ID).isClusterQuery(isClusterQuery).timeOffsetInDays(0).build();
   }
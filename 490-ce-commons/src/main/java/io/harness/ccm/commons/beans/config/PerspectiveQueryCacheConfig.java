@@ -0,0 +1,20 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.ccm.commons.beans.config;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class PerspectiveQueryCacheConfig {
+  private boolean enabled;
+  private long maximumSize;
+  // Caps how long a result is served, results are also dropped as soon as new billing data is ingested
+  private long expireAfterWriteInMinutes;
+}
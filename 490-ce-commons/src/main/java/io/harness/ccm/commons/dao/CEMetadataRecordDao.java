@@ -19,7 +19,9 @@ import com.google.inject.Inject;
 import com.mongodb.BasicDBObject;
 import dev.morphia.FindAndModifyOptions;
 import dev.morphia.query.Query;
+import dev.morphia.query.Sort;
 import dev.morphia.query.UpdateOperations;
+import java.time.Instant;
 import java.util.Objects;
 
 public class CEMetadataRecordDao {
@@ -105,6 +107,29 @@ public class CEMetadataRecordDao {
     persistence.update(query, updateOperations);
   }
 
+  public void updateUnifiedTableRollupRefreshedUntil(String accountId, Instant refreshedUntil) {
+    Query<CEMetadataRecord> query = persistence.createQuery(CEMetadataRecord.class, excludeValidate)
+                                        .filter(CEMetadataRecordKeys.accountId, accountId);
+    UpdateOperations<CEMetadataRecord> updateOperations = persistence.createUpdateOperations(CEMetadataRecord.class);
+    if (Objects.nonNull(refreshedUntil)) {
+      updateOperations.set(CEMetadataRecordKeys.unifiedTableRollupRefreshedUntil, refreshedUntil);
+    } else {
+      updateOperations.unset(CEMetadataRecordKeys.unifiedTableRollupRefreshedUntil);
+    }
+    persistence.upsert(query, updateOperations, new FindAndModifyOptions().upsert(true).returnNew(true));
+  }
+
+  // Latest refresh of any account, for the rollups which are shared by all the accounts
+  public Instant getLatestUnifiedTableRollupRefreshedUntil() {
+    CEMetadataRecord ceMetadataRecord =
+        persistence.createQuery(CEMetadataRecord.class, excludeValidate)
+            .field(CEMetadataRecordKeys.unifiedTableRollupRefreshedUntil)
+            .exists()
+            .order(Sort.descending(CEMetadataRecordKeys.unifiedTableRollupRefreshedUntil))
+            .get();
+    return Objects.nonNull(ceMetadataRecord) ? ceMetadataRecord.getUnifiedTableRollupRefreshedUntil() : null;
+  }
+
   public CEMetadataRecord getByAccountId(String accountId) {
     return persistence.createQuery(CEMetadataRecord.class).field(CEMetadataRecordKeys.accountId).equal(accountId).get();
   }
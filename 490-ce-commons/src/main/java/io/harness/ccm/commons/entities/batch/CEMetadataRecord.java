@@ -20,6 +20,7 @@ import io.harness.persistence.UuidAware;
 import com.google.common.collect.ImmutableList;
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.Id;
+import java.time.Instant;
 import java.util.List;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -55,4 +56,6 @@ public final class CEMetadataRecord implements PersistentEntity, UuidAware, Acco
   private long lastUpdatedAt;
   private Boolean dataGeneratedForCloudProvider;
   private CurrencyPreferenceRecord currencyPreference;
+  // End of the billing data summed into the unified table rollups, unset while they are not maintained
+  private Instant unifiedTableRollupRefreshedUntil;
 }
@@ -26,24 +26,19 @@ public class PartialHistogramAggragator {
         String containerName = stringContainerCheckpointEntry.getKey();
         ContainerCheckpoint containerCheckpoint = stringContainerCheckpointEntry.getValue();
 
-        // merge the day's cpu histogram into the aggregate cpu histogram
+        // merge the day's cpu histogram into the aggregate cpu histogram. Loading a checkpoint adds its samples, so
+        // it is loaded straight into the aggregate rather than into a histogram of its own which is then merged.
         HistogramCheckpoint cpuHistogramPartialCheckpoint = containerCheckpoint.getCpuHistogram();
         if (cpuHistogramPartialCheckpoint.getBucketWeights() != null) {
-          Histogram cpuHistogramPartial =
-              io.harness.ccm.RecommenderUtils.loadFromCheckpointV2(cpuHistogramPartialCheckpoint);
-          Histogram cpuHistogram =
-              cpuHistograms.getOrDefault(containerName, io.harness.ccm.RecommenderUtils.newCpuHistogramV2());
-          cpuHistogram.merge(cpuHistogramPartial);
-          cpuHistograms.put(containerName, cpuHistogram);
+          cpuHistograms.computeIfAbsent(containerName, name -> RecommenderUtils.newCpuHistogramV2())
+              .loadFromCheckPoint(cpuHistogramPartialCheckpoint);
         }
 
         // add the day's memory peak into the aggregate memory histogram
         long memoryPeak = containerCheckpoint.getMemoryPeak();
         if (memoryPeak != 0) {
-          Histogram memoryHistogram =
-              memoryHistograms.getOrDefault(containerName, RecommenderUtils.newMemoryHistogramV2());
-          memoryHistogram.addSample(memoryPeak, 1.0, Instant.EPOCH); // timestamp is irrelevant since no decay.
-          memoryHistograms.put(containerName, memoryHistogram);
+          memoryHistograms.computeIfAbsent(containerName, name -> RecommenderUtils.newMemoryHistogramV2())
+              .addSample(memoryPeak, 1.0, Instant.EPOCH); // timestamp is irrelevant since no decay.
         }
       }
     }
@@ -19,4 +19,6 @@ import lombok.Value;
 @Builder
 public class RedisEventConfig {
   int maxTopicSize;
+  // Coalesces the events sent concurrently on the topic into pipelined batches
+  boolean batchingEnabled;
 }
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.logstreaming;
+
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import io.harness.annotations.dev.CodePulse;
+import io.harness.annotations.dev.HarnessModuleComponent;
+import io.harness.annotations.dev.ProductModule;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aho-Corasick automaton over a fixed set of secrets, which masks all of them in a single pass over the text. Matches
+ * are replaced leftmost first and do not overlap, as with {@link org.apache.commons.lang3.StringUtils#replaceEach}. When
+ * several secrets start at the same position the longest one is masked.
+ *
+ * <p>The automaton is immutable once built and can be shared by concurrent callers.
+ */
+@CodePulse(
+    module = ProductModule.CDS, unitCoverageRequired = true, components = {HarnessModuleComponent.CDS_COMMON_STEPS})
+final class SecretMasker {
+  private static final int ROOT = 0;
+
+  // Children of each state, as sorted labels and the matching target states
+  private final char[][] labels;
+  private final int[][] targets;
+  private final int[] failure;
+  // Nearest state on the failure chain which ends a secret, or -1
+  private final int[] dictionaryLink;
+  // Length of the secret ending at each state, or 0
+  private final int[] secretLength;
+  private final String mask;
+
+  SecretMasker(Collection<String> secrets, String mask) {
+    this.mask = mask;
+    List<Map<Character, Integer>> children = new ArrayList<>();
+    List<Integer> lengths = new ArrayList<>();
+    children.add(new TreeMap<>());
+    lengths.add(0);
+    for (String secret : secrets) {
+      if (isEmpty(secret)) {
+        continue;
+      }
+      int state = ROOT;
+      for (int i = 0; i < secret.length(); i++) {
+        Integer next = children.get(state).get(secret.charAt(i));
+        if (next == null) {
+          next = children.size();
+          children.get(state).put(secret.charAt(i), next);
+          children.add(new TreeMap<>());
+          lengths.add(0);
+        }
+        state = next;
+      }
+      lengths.set(state, secret.length());
+    }
+
+    int size = children.size();
+    labels = new char[size][];
+    targets = new int[size][];
+    failure = new int[size];
+    dictionaryLink = new int[size];
+    secretLength = new int[size];
+    for (int state = 0; state < size; state++) {
+      Map<Character, Integer> stateChildren = children.get(state);
+      labels[state] = new char[stateChildren.size()];
+      targets[state] = new int[stateChildren.size()];
+      int i = 0;
+      for (Map.Entry<Character, Integer> child : stateChildren.entrySet()) {
+        labels[state][i] = child.getKey();
+        targets[state][i] = child.getValue();
+        i++;
+      }
+      secretLength[state] = lengths.get(state);
+    }
+    computeLinks();
+  }
+
+  boolean hasSecrets() {
+    return labels[ROOT].length > 0;
+  }
+
+  String mask(String text) {
+    if (isEmpty(text) || !hasSecrets()) {
+      return text;
+    }
+
+    // Longest secret starting at each position of the text, allocated on the first match only
+    int[] longestMatch = null;
+    int state = ROOT;
+    for (int i = 0; i < text.length(); i++) {
+      state = next(state, text.charAt(i));
+      int match = secretLength[state] > 0 ? state : dictionaryLink[state];
+      while (match != -1) {
+        if (longestMatch == null) {
+          longestMatch = new int[text.length()];
+        }
+        int start = i - secretLength[match] + 1;
+        longestMatch[start] = Math.max(longestMatch[start], secretLength[match]);
+        match = dictionaryLink[match];
+      }
+    }
+    if (longestMatch == null) {
+      return text;
+    }
+
+    StringBuilder masked = new StringBuilder(text.length());
+    int i = 0;
+    while (i < text.length()) {
+      if (longestMatch[i] > 0) {
+        masked.append(mask);
+        i += longestMatch[i];
+      } else {
+        masked.append(text.charAt(i++));
+      }
+    }
+    return masked.toString();
+  }
+
+  private int next(int state, char c) {
+    while (true) {
+      int child = child(state, c);
+      if (child != -1) {
+        return child;
+      }
+      if (state == ROOT) {
+        return ROOT;
+      }
+      state = failure[state];
+    }
+  }
+
+  private int child(int state, char c) {
+    char[] stateLabels = labels[state];
+    int low = 0;
+    int high = stateLabels.length - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      if (stateLabels[mid] < c) {
+        low = mid + 1;
+      } else if (stateLabels[mid] > c) {
+        high = mid - 1;
+      } else {
+        return targets[state][mid];
+      }
+    }
+    return -1;
+  }
+
+  private void computeLinks() {
+    Deque<Integer> queue = new ArrayDeque<>();
+    failure[ROOT] = ROOT;
+    dictionaryLink[ROOT] = -1;
+    for (int child : targets[ROOT]) {
+      failure[child] = ROOT;
+      dictionaryLink[child] = -1;
+      queue.add(child);
+    }
+    // Breadth first, so the failure state of a child is always computed before the child itself
+    while (!queue.isEmpty()) {
+      int state = queue.poll();
+      for (int i = 0; i < labels[state].length; i++) {
+        int child = targets[state][i];
+        int childFailure = next(failure[state], labels[state][i]);
+        failure[child] = childFailure;
+        dictionaryLink[child] = secretLength[childFailure] > 0 ? childFailure : dictionaryLink[childFailure];
+        queue.add(child);
+      }
+    }
+  }
+}
@@ -138,4 +138,20 @@ public class LogStreamingSanitizerTest extends CategoryTest {
     logStreamingSanitizer.sanitizeLogMessage(logLine, Set.of(WIN_RM_MARKER));
     Assertions.assertThat(logLine.getMessage()).isEqualTo(sanitizedMessage);
   }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldSanitizeSecretsWithQuotesRemoved() {
+    String message = "test message with pa\"ss and pa'ss and pass and pa\"ss'word";
+    String sanitizedMessage =
+        "test message with " + SECRET_MASK + " and " + SECRET_MASK + " and " + SECRET_MASK + " and " + SECRET_MASK;
+
+    LogLine logLine = LogLine.builder().message(message).build();
+    LogStreamingSanitizer logStreamingSanitizer =
+        LogStreamingSanitizer.builder().secrets(ImmutableSet.of("pa\"ss", "pa'ss", "pa\"ss'word")).build();
+
+    logStreamingSanitizer.sanitizeLogMessage(logLine);
+    Assertions.assertThat(logLine.getMessage()).isEqualTo(sanitizedMessage);
+  }
 }
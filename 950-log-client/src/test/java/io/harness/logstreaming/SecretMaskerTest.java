@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.logstreaming;
+
+import static io.harness.expression.SecretString.SECRET_MASK;
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.apache.commons.lang3.StringUtils.replaceEach;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class SecretMaskerTest extends CategoryTest {
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldMaskOverlappingSecrets() {
+    SecretMasker secretMasker = new SecretMasker(Arrays.asList("abc", "bcd", "cd", "d", "abcde", ""), "*");
+
+    assertThat(secretMasker.mask("abcdef")).isEqualTo("*f");
+    assertThat(secretMasker.mask("xbcdx")).isEqualTo("x*x");
+    assertThat(secretMasker.mask("abcxcd")).isEqualTo("*x*");
+    assertThat(secretMasker.mask("abcd")).isEqualTo("**");
+    assertThat(secretMasker.mask("nothing to mask")).isEqualTo("nothing to mask");
+    assertThat(secretMasker.mask("")).isEqualTo("");
+    assertThat(secretMasker.mask(null)).isNull();
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldNotMaskWithoutSecrets() {
+    SecretMasker secretMasker = new SecretMasker(Collections.singletonList(""), SECRET_MASK);
+
+    assertThat(secretMasker.hasSecrets()).isFalse();
+    assertThat(secretMasker.mask("message")).isEqualTo("message");
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldMaskAsReplaceEach() {
+    Random random = new Random(42);
+    for (int run = 0; run < 200; run++) {
+      // Secrets of the same length, so that no two of them can start at the same position of a match
+      List<String> secrets = new ArrayList<>();
+      int secretLength = 1 + random.nextInt(4);
+      for (int i = 0; i < 1 + random.nextInt(10); i++) {
+        secrets.add(randomString(random, secretLength));
+      }
+      String message = randomString(random, random.nextInt(100));
+      String[] masks = Collections.nCopies(secrets.size(), SECRET_MASK).toArray(new String[0]);
+
+      assertThat(new SecretMasker(secrets, SECRET_MASK).mask(message))
+          .isEqualTo(replaceEach(message, secrets.toArray(new String[0]), masks));
+    }
+  }
+
+  private static String randomString(Random random, int length) {
+    StringBuilder builder = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      builder.append("abc".charAt(random.nextInt(3)));
+    }
+    return builder.toString();
+  }
+}
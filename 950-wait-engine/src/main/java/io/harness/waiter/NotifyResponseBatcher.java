@@ -0,0 +1,179 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.waiter;
+
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import static java.util.stream.Collectors.toList;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.waiter.persistence.PersistenceWrapper;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.mongodb.DuplicateKeyException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Coalesces the responses passed to {@link WaitNotifyEngine#doneWith} in a short window. Every flush writes the
+ * pending responses with one bulk insert and resolves all the affected wait instances with one multi update, instead
+ * of one insert and one find and modify per correlation id.
+ *
+ * <p>A batch that fails is stored again response by response, and the responses that still fail are put back in the
+ * queue for the next flush, up to {@link #MAX_ATTEMPTS} times. Responses found to already exist by the first bulk
+ * write do not notify again, like a duplicate doneWith in the unbatched path.
+ */
+@Slf4j
+@Singleton
+@OwnedBy(HarnessTeam.PIPELINE)
+public class NotifyResponseBatcher {
+  @VisibleForTesting static final int MAX_ATTEMPTS = 5;
+
+  @Inject private PersistenceWrapper persistenceWrapper;
+  @Inject private WaiterConfiguration waiterConfiguration;
+  @Inject private NotifierScheduledExecutorService notifierScheduledExecutorService;
+
+  private final ConcurrentLinkedQueue<PendingResponse> pending = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pendingCount = new AtomicInteger();
+  private final AtomicBoolean scheduled = new AtomicBoolean();
+
+  public void add(NotifyResponse notifyResponse, Consumer<WaitInstance> notifier) {
+    enqueue(new PendingResponse(notifyResponse, 0));
+    if (pendingCount.get() >= waiterConfiguration.getBatchNotifyMaxSize()) {
+      // The caller that fills up the batch pays for the flush, this keeps the window bounded under load
+      flush(notifier);
+    } else if (scheduled.compareAndSet(false, true)) {
+      notifierScheduledExecutorService.scheduleWithFixedDelay(() -> {
+        try {
+          flush(notifier);
+        } catch (Exception exception) {
+          log.error("Failed to flush notify responses", exception);
+        }
+      }, waiterConfiguration.getBatchNotifyWindowMillis(), waiterConfiguration.getBatchNotifyWindowMillis(),
+          TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * @return the number of responses stored by this flush
+   */
+  public int flush(Consumer<WaitInstance> notifier) {
+    List<PendingResponse> batch = drain();
+    if (isEmpty(batch)) {
+      return 0;
+    }
+
+    List<PendingResponse> saved = save(batch);
+    if (isEmpty(saved)) {
+      return 0;
+    }
+    List<String> correlationIds = saved.stream()
+                                      .filter(pendingResponse -> !pendingResponse.isAlreadyExisting())
+                                      .map(pendingResponse -> pendingResponse.getNotifyResponse().getUuid())
+                                      .collect(toList());
+    try {
+      List<WaitInstance> completed = persistenceWrapper.modifyAndFetchCompletedWaitInstances(correlationIds);
+      if (log.isDebugEnabled()) {
+        log.debug("Flushed {} notify responses, {} wait instances completed", saved.size(), completed.size());
+      }
+      completed.forEach(notifier);
+    } catch (Exception exception) {
+      // The responses are stored, writing them again resolves their wait instances on the next flush
+      log.error("Failed to resolve the wait instances of {} notify responses", correlationIds.size(), exception);
+      saved.stream().filter(pendingResponse -> !pendingResponse.isAlreadyExisting()).forEach(this::retry);
+    }
+    return saved.size();
+  }
+
+  private List<PendingResponse> save(List<PendingResponse> batch) {
+    List<NotifyResponse> notifyResponses = batch.stream().map(PendingResponse::getNotifyResponse).collect(toList());
+    Set<String> existingCorrelationIds;
+    try {
+      existingCorrelationIds = persistenceWrapper.saveNotifyResponses(notifyResponses);
+    } catch (Exception exception) {
+      log.warn("Failed to store {} notify responses in bulk, storing them one by one", batch.size(), exception);
+      return saveOneByOne(batch);
+    }
+    return batch.stream()
+        .map(pendingResponse
+            -> pendingResponse.withExisting(
+                existingCorrelationIds.contains(pendingResponse.getNotifyResponse().getUuid())))
+        .collect(toList());
+  }
+
+  private List<PendingResponse> saveOneByOne(List<PendingResponse> batch) {
+    List<PendingResponse> saved = new ArrayList<>();
+    for (PendingResponse pendingResponse : batch) {
+      try {
+        persistenceWrapper.save(pendingResponse.getNotifyResponse());
+        saved.add(pendingResponse.withExisting(false));
+      } catch (DuplicateKeyException | org.springframework.dao.DuplicateKeyException exception) {
+        // The failed bulk write may have stored it already, notifying twice is safe while not notifying is not
+        saved.add(pendingResponse.withExisting(false));
+      } catch (Exception exception) {
+        retry(pendingResponse);
+      }
+    }
+    return saved;
+  }
+
+  private void retry(PendingResponse pendingResponse) {
+    int attempts = pendingResponse.getAttempts() + 1;
+    if (attempts >= MAX_ATTEMPTS) {
+      log.error("Dropping the notify response for correlationId {} after {} attempts",
+          pendingResponse.getNotifyResponse().getUuid(), attempts);
+      return;
+    }
+    enqueue(new PendingResponse(pendingResponse.getNotifyResponse(), attempts));
+  }
+
+  private void enqueue(PendingResponse pendingResponse) {
+    pending.add(pendingResponse);
+    pendingCount.incrementAndGet();
+  }
+
+  private List<PendingResponse> drain() {
+    int maxSize = waiterConfiguration.getBatchNotifyMaxSize();
+    List<PendingResponse> batch = new ArrayList<>();
+    PendingResponse pendingResponse;
+    while (batch.size() < maxSize && (pendingResponse = pending.poll()) != null) {
+      batch.add(pendingResponse);
+    }
+    pendingCount.addAndGet(-batch.size());
+    return batch;
+  }
+
+  @Value
+  @AllArgsConstructor
+  private static class PendingResponse {
+    NotifyResponse notifyResponse;
+    int attempts;
+    boolean alreadyExisting;
+
+    PendingResponse(NotifyResponse notifyResponse, int attempts) {
+      this(notifyResponse, attempts, false);
+    }
+
+    // A response written by an earlier attempt of this batcher is not a duplicate, it still has to notify
+    PendingResponse withExisting(boolean existing) {
+      return new PendingResponse(notifyResponse, attempts, existing && attempts == 0);
+    }
+  }
+}
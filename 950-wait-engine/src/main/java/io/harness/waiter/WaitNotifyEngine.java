@@ -15,6 +15,7 @@ import static io.harness.waiter.NotifyEvent.Builder.aNotifyEvent;
 
 import static java.lang.System.currentTimeMillis;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 import io.harness.annotations.dev.HarnessTeam;
@@ -38,6 +39,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import lombok.NonNull;
@@ -57,6 +59,8 @@ public class WaitNotifyEngine {
   @Inject private KryoSerializer kryoSerializer;
   @Inject @Named("referenceFalseKryoSerializer") private KryoSerializer referenceFalseKryoSerializer;
   @Inject private NotifyQueuePublisherRegister publisherRegister;
+  @Inject private WaiterConfiguration waiterConfiguration;
+  @Inject private NotifyResponseBatcher notifyResponseBatcher;
 
   public String waitForAllOn(String publisherName, NotifyCallback notifyCallback, String... correlationIds) {
     return waitForAllOn(publisherName, notifyCallback, null, correlationIds);
@@ -142,11 +146,28 @@ public class WaitNotifyEngine {
     }
   }
 
+  /**
+   * Stores the response for the correlation id and notifies the wait instances waiting on it.
+   *
+   * <p>With {@link WaiterConfiguration#isBatchNotifyEnabled()} the response is only queued in the
+   * {@link NotifyResponseBatcher} and this returns before it is stored. A response still queued when the process stops
+   * is lost, callers that need the response to be stored when this returns use {@link #doneWithDurably}.
+   *
+   * @return the correlation id, or null if the response could not be stored or queued
+   */
   public String doneWith(String correlationId, ResponseData response) {
-    return doneWith(correlationId, response, response instanceof ErrorResponseData);
+    return doneWith(correlationId, response, response instanceof ErrorResponseData, false);
   }
 
-  private String doneWith(String correlationId, ResponseData response, boolean error) {
+  /**
+   * Same as {@link #doneWith(String, ResponseData)}, but the response is always stored before this returns, even when
+   * notify responses are batched.
+   */
+  public String doneWithDurably(String correlationId, ResponseData response) {
+    return doneWith(correlationId, response, response instanceof ErrorResponseData, true);
+  }
+
+  private String doneWith(String correlationId, ResponseData response, boolean error, boolean durable) {
     Preconditions.checkArgument(isNotBlank(correlationId), "correlationId is null or empty");
 
     if (log.isDebugEnabled()) {
@@ -154,15 +175,15 @@ public class WaitNotifyEngine {
     }
 
     try {
+      if (!durable && waiterConfiguration.isBatchNotifyEnabled()) {
+        // The response is stored by the next flush of the batcher, which retries it if the write fails
+        notifyResponseBatcher.add(buildNotifyResponse(correlationId, response, error), this::sendNotification);
+        return correlationId;
+      }
+
       final Stopwatch stopwatch = Stopwatch.createStarted();
       long doneWithStartTime = stopwatch.elapsed(TimeUnit.MILLISECONDS);
-      persistenceWrapper.save(NotifyResponse.builder()
-                                  .uuid(correlationId)
-                                  .createdAt(currentTimeMillis())
-                                  .usingKryoWithoutReference(true)
-                                  .responseData(referenceFalseKryoSerializer.asDeflatedBytes(response))
-                                  .error(error || response instanceof ErrorResponseData)
-                                  .build());
+      persistenceWrapper.save(buildNotifyResponse(correlationId, response, error));
       long queryEndTime = stopwatch.elapsed(TimeUnit.MILLISECONDS);
 
       if (log.isDebugEnabled()) {
@@ -178,6 +199,46 @@ public class WaitNotifyEngine {
     return null;
   }
 
+  /**
+   * Bulk variant of doneWith. All the responses are stored with one bulk insert and the wait instances waiting on them
+   * are resolved with one multi update.
+   *
+   * @return the correlation ids whose responses were stored, responses that already existed are left out
+   */
+  public List<String> doneWithAll(Map<String, ResponseData> responses) {
+    Preconditions.checkArgument(isNotEmpty(responses), "responses are null or empty");
+
+    try {
+      List<NotifyResponse> notifyResponses =
+          responses.entrySet()
+              .stream()
+              .map(entry -> buildNotifyResponse(entry.getKey(), entry.getValue(), false))
+              .collect(toList());
+      Set<String> existingCorrelationIds = persistenceWrapper.saveNotifyResponses(notifyResponses);
+
+      // Like doneWith, a response that already existed does not notify again
+      List<String> correlationIds = responses.keySet()
+                                        .stream()
+                                        .filter(correlationId -> !existingCorrelationIds.contains(correlationId))
+                                        .collect(toList());
+      persistenceWrapper.modifyAndFetchCompletedWaitInstances(correlationIds).forEach(this::sendNotification);
+      return correlationIds;
+    } catch (Exception exception) {
+      log.error("Failed to notify for {} responses", responses.size(), exception);
+    }
+    return Collections.emptyList();
+  }
+
+  private NotifyResponse buildNotifyResponse(String correlationId, ResponseData response, boolean error) {
+    return NotifyResponse.builder()
+        .uuid(correlationId)
+        .createdAt(currentTimeMillis())
+        .usingKryoWithoutReference(true)
+        .responseData(referenceFalseKryoSerializer.asDeflatedBytes(response))
+        .error(error || response instanceof ErrorResponseData)
+        .build();
+  }
+
   public void sendNotification(WaitInstance waitInstance) {
     try (WaitInstanceLogContext ignore = new WaitInstanceLogContext(waitInstance.getUuid(), OVERRIDE_NESTS)) {
       String publisher = waitInstance.getPublisher();
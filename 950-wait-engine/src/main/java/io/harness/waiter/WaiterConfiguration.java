@@ -21,4 +21,9 @@ public class WaiterConfiguration {
   public enum PersistenceLayer { SPRING, MORPHIA }
   public boolean versioningDisabled;
   @Default PersistenceLayer persistenceLayer = PersistenceLayer.MORPHIA;
+
+  // When enabled doneWith responses are coalesced and written/resolved in bulk by the NotifyResponseBatcher
+  public boolean batchNotifyEnabled;
+  @Default long batchNotifyWindowMillis = 50;
+  @Default int batchNotifyMaxSize = 500;
 }
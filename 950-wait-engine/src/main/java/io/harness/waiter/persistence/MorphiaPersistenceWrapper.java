@@ -12,6 +12,7 @@ import static io.harness.persistence.HQuery.excludeAuthority;
 import static io.harness.waiter.WaitInstanceService.MAX_CALLBACK_PROCESSING_TIME;
 
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
@@ -40,6 +41,7 @@ import dev.morphia.query.Sort;
 import dev.morphia.query.UpdateOperations;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -210,6 +212,52 @@ public class MorphiaPersistenceWrapper implements PersistenceWrapper {
     return save(waitInstance);
   }
 
+  @Override
+  public Set<String> saveNotifyResponses(List<NotifyResponse> notifyResponses) {
+    if (isEmpty(notifyResponses)) {
+      return Collections.emptySet();
+    }
+    // The morphia bulk insert does not report which documents were duplicates, so they are looked up beforehand
+    final Set<String> existingKeys =
+        hPersistence.createQuery(NotifyResponse.class, excludeAuthority)
+            .field(NotifyResponseKeys.uuid)
+            .in(notifyResponses.stream().map(NotifyResponse::getUuid).collect(toList()))
+            .asKeyList()
+            .stream()
+            .map(key -> (String) key.getId())
+            .collect(toSet());
+    hPersistence.saveIgnoringDuplicateKeys(
+        notifyResponses.stream()
+            .filter(notifyResponse -> !existingKeys.contains(notifyResponse.getUuid()))
+            .collect(toList()));
+    return existingKeys;
+  }
+
+  @Override
+  public List<WaitInstance> modifyAndFetchCompletedWaitInstances(List<String> correlationIds) {
+    if (isEmpty(correlationIds)) {
+      return Collections.emptyList();
+    }
+    final Query<WaitInstance> query = hPersistence.createQuery(WaitInstance.class, excludeAuthority)
+                                          .field(WaitInstanceKeys.waitingOnCorrelationIds)
+                                          .in(correlationIds);
+    final UpdateOperations<WaitInstance> operations =
+        hPersistence.createUpdateOperations(WaitInstance.class)
+            .removeAll(WaitInstanceKeys.waitingOnCorrelationIds, correlationIds);
+    hPersistence.update(query, operations);
+
+    // The same instance can be reported by two concurrent batches, this is safe because the processing of a wait
+    // instance is guarded by fetchForProcessingWaitInstance.
+    return hPersistence.createQuery(WaitInstance.class, excludeAuthority)
+        .field(WaitInstanceKeys.correlationIds)
+        .in(correlationIds)
+        .field(WaitInstanceKeys.waitingOnCorrelationIds)
+        .sizeEq(0)
+        .project(WaitInstanceKeys.uuid, true)
+        .project(WaitInstanceKeys.publisher, true)
+        .asList();
+  }
+
   @Override
   public void deleteNotifyResponses(List<String> responseIds) {
     if (isEmpty(responseIds)) {
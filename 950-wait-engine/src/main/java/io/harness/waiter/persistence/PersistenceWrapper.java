@@ -9,6 +9,7 @@ package io.harness.waiter.persistence;
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.waiter.NotifyResponse;
 import io.harness.waiter.ProcessedMessageResponse;
 import io.harness.waiter.ProgressUpdate;
 import io.harness.waiter.WaitEngineEntity;
@@ -43,4 +44,17 @@ public interface PersistenceWrapper {
   void deleteNotifyResponses(List<String> responseIds);
 
   String saveWithTimeout(WaitInstance build, Duration timeout);
+
+  /**
+   * Inserts all the responses in a single unordered bulk write. Responses that already exist are skipped.
+   *
+   * @return the correlation ids of the responses that already existed
+   */
+  Set<String> saveNotifyResponses(List<NotifyResponse> notifyResponses);
+
+  /**
+   * Removes the given correlation ids from every wait instance waiting on them with a single multi update and returns
+   * the wait instances that are not waiting on anything anymore. The returned instances only carry uuid and publisher.
+   */
+  List<WaitInstance> modifyAndFetchCompletedWaitInstances(List<String> correlationIds);
 }
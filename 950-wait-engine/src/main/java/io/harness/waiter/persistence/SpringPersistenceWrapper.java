@@ -14,8 +14,10 @@ import static io.harness.waiter.WaitInstanceService.MAX_CALLBACK_PROCESSING_TIME
 import static io.harness.waiter.WaitNotifyEngine.MIN_WAIT_INSTANCE_TIMEOUT;
 
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 import static org.springframework.data.mongodb.core.query.Query.query;
+import static org.springframework.data.mongodb.util.MongoDbErrorCodes.isDuplicateKeyCode;
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
@@ -44,6 +46,7 @@ import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 import com.mongodb.client.result.DeleteResult;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -54,6 +57,8 @@ import lombok.extern.slf4j.Slf4j;
 import net.jodah.failsafe.Failsafe;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Query;
@@ -266,6 +271,42 @@ public class SpringPersistenceWrapper implements PersistenceWrapper {
     }
   }
 
+  @Override
+  public Set<String> saveNotifyResponses(List<NotifyResponse> notifyResponses) {
+    if (isEmpty(notifyResponses)) {
+      return Collections.emptySet();
+    }
+    try {
+      mongoTemplate.bulkOps(BulkMode.UNORDERED, NotifyResponse.class).insert(notifyResponses).execute();
+      return Collections.emptySet();
+    } catch (BulkOperationException ex) {
+      if (!ex.getErrors().stream().allMatch(bulkWriteError -> isDuplicateKeyCode(bulkWriteError.getCode()))) {
+        throw ex;
+      }
+      return ex.getErrors()
+          .stream()
+          .map(bulkWriteError -> notifyResponses.get(bulkWriteError.getIndex()).getUuid())
+          .collect(toSet());
+    }
+  }
+
+  @Override
+  public List<WaitInstance> modifyAndFetchCompletedWaitInstances(List<String> correlationIds) {
+    if (isEmpty(correlationIds)) {
+      return Collections.emptyList();
+    }
+    final String[] ids = correlationIds.toArray(new String[0]);
+    mongoTemplate.updateMulti(query(where(WaitInstanceKeys.waitingOnCorrelationIds).in(correlationIds)),
+        new Update().pullAll(WaitInstanceKeys.waitingOnCorrelationIds, ids), WaitInstance.class);
+
+    // The same instance can be reported by two concurrent batches, this is safe because the processing of a wait
+    // instance is guarded by fetchForProcessingWaitInstance.
+    Query completedQuery = query(where(WaitInstanceKeys.correlationIds).in(correlationIds))
+                               .addCriteria(where(WaitInstanceKeys.waitingOnCorrelationIds).size(0));
+    completedQuery.fields().include(WaitInstanceKeys.uuid).include(WaitInstanceKeys.publisher);
+    return mongoTemplate.find(completedQuery, WaitInstance.class);
+  }
+
   @Override
   public String saveWithTimeout(WaitInstance waitInstance, Duration timeout) {
     if (timeout != null && !timeout.isZero() && timeout.compareTo(Duration.ofSeconds(MIN_WAIT_INSTANCE_TIMEOUT)) < 0) {
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.waiter;
+
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.rule.OwnerRule.PRASHANT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+import io.harness.waiter.persistence.PersistenceWrapper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.joor.Reflect;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class NotifyResponseBatcherTest extends CategoryTest {
+  private static final int BATCH_SIZE = 100;
+
+  @Mock private PersistenceWrapper persistenceWrapper;
+  @Mock private NotifierScheduledExecutorService notifierScheduledExecutorService;
+  private NotifyResponseBatcher notifyResponseBatcher;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    notifyResponseBatcher = new NotifyResponseBatcher();
+    Reflect.on(notifyResponseBatcher).set("persistenceWrapper", persistenceWrapper);
+    Reflect.on(notifyResponseBatcher)
+        .set("waiterConfiguration",
+            WaiterConfiguration.builder().batchNotifyEnabled(true).batchNotifyMaxSize(BATCH_SIZE).build());
+    Reflect.on(notifyResponseBatcher).set("notifierScheduledExecutorService", notifierScheduledExecutorService);
+
+    // Every correlation id completes exactly one wait instance
+    when(persistenceWrapper.modifyAndFetchCompletedWaitInstances(anyList())).thenAnswer(invocation -> {
+      List<String> correlationIds = invocation.getArgument(0);
+      return correlationIds.stream()
+          .map(correlationId -> WaitInstance.builder().uuid(correlationId).publisher("publisher").build())
+          .collect(Collectors.toList());
+    });
+  }
+
+  @Test
+  @Owner(developers = PRASHANT)
+  @Category(UnitTests.class)
+  public void shouldCoalesceResponsesIntoBulkOperations() {
+    int responses = 1000;
+    AtomicInteger notified = new AtomicInteger();
+    Consumer<WaitInstance> notifier = waitInstance -> notified.incrementAndGet();
+
+    for (int i = 0; i < responses; i++) {
+      notifyResponseBatcher.add(NotifyResponse.builder().uuid(generateUuid()).build(), notifier);
+    }
+    notifyResponseBatcher.flush(notifier);
+
+    assertThat(notified.get()).isEqualTo(responses);
+    // Two mongo operations per batch, against two per response (insert + find and modify) in the unbatched path
+    int batches = responses / BATCH_SIZE;
+    verify(persistenceWrapper, times(batches)).saveNotifyResponses(anyList());
+    verify(persistenceWrapper, times(batches)).modifyAndFetchCompletedWaitInstances(anyList());
+    verify(notifierScheduledExecutorService, times(1))
+        .scheduleWithFixedDelay(any(Runnable.class), anyLong(), anyLong(), eq(TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  @Owner(developers = PRASHANT)
+  @Category(UnitTests.class)
+  public void shouldFlushPartialBatch() {
+    List<WaitInstance> notified = new ArrayList<>();
+    String correlationId = generateUuid();
+    notifyResponseBatcher.add(NotifyResponse.builder().uuid(correlationId).build(), notified::add);
+    assertThat(notified).isEmpty();
+
+    assertThat(notifyResponseBatcher.flush(notified::add)).isEqualTo(1);
+    assertThat(notified).extracting(WaitInstance::getUuid).containsExactly(correlationId);
+    assertThat(notifyResponseBatcher.flush(notified::add)).isEqualTo(0);
+  }
+
+  @Test
+  @Owner(developers = PRASHANT)
+  @Category(UnitTests.class)
+  public void shouldNotNotifyResponsesThatAlreadyExisted() {
+    List<WaitInstance> notified = new ArrayList<>();
+    String correlationId = generateUuid();
+    String existingCorrelationId = generateUuid();
+    when(persistenceWrapper.saveNotifyResponses(anyList())).thenReturn(Collections.singleton(existingCorrelationId));
+
+    notifyResponseBatcher.add(NotifyResponse.builder().uuid(correlationId).build(), notified::add);
+    notifyResponseBatcher.add(NotifyResponse.builder().uuid(existingCorrelationId).build(), notified::add);
+    notifyResponseBatcher.flush(notified::add);
+
+    assertThat(notified).extracting(WaitInstance::getUuid).containsExactly(correlationId);
+    verify(persistenceWrapper).modifyAndFetchCompletedWaitInstances(Collections.singletonList(correlationId));
+  }
+
+  @Test
+  @Owner(developers = PRASHANT)
+  @Category(UnitTests.class)
+  public void shouldStoreOneByOneWhenBulkWriteFails() {
+    List<WaitInstance> notified = new ArrayList<>();
+    String correlationId = generateUuid();
+    String failingCorrelationId = generateUuid();
+    NotifyResponse failingResponse = NotifyResponse.builder().uuid(failingCorrelationId).build();
+    when(persistenceWrapper.saveNotifyResponses(anyList())).thenThrow(new IllegalStateException("bulk write failed"));
+    doThrow(new IllegalStateException("write failed"))
+        .doReturn(failingCorrelationId)
+        .when(persistenceWrapper)
+        .save(failingResponse);
+
+    notifyResponseBatcher.add(NotifyResponse.builder().uuid(correlationId).build(), notified::add);
+    notifyResponseBatcher.add(failingResponse, notified::add);
+    assertThat(notifyResponseBatcher.flush(notified::add)).isEqualTo(1);
+    assertThat(notified).extracting(WaitInstance::getUuid).containsExactly(correlationId);
+
+    // The response that failed is kept for the next flush instead of being lost
+    assertThat(notifyResponseBatcher.flush(notified::add)).isEqualTo(1);
+    assertThat(notified).extracting(WaitInstance::getUuid).containsExactly(correlationId, failingCorrelationId);
+  }
+
+  @Test
+  @Owner(developers = PRASHANT)
+  @Category(UnitTests.class)
+  public void shouldNotifyRetriedResponsesStoredByAnEarlierAttempt() {
+    List<WaitInstance> notified = new ArrayList<>();
+    String correlationId = generateUuid();
+    when(persistenceWrapper.modifyAndFetchCompletedWaitInstances(anyList()))
+        .thenThrow(new IllegalStateException("update failed"))
+        .thenReturn(Collections.singletonList(WaitInstance.builder().uuid(correlationId).build()));
+
+    notifyResponseBatcher.add(NotifyResponse.builder().uuid(correlationId).build(), notified::add);
+    notifyResponseBatcher.flush(notified::add);
+    assertThat(notified).isEmpty();
+
+    // The response was stored by the first flush, it has to complete its wait instance nevertheless
+    when(persistenceWrapper.saveNotifyResponses(anyList())).thenReturn(Collections.singleton(correlationId));
+    notifyResponseBatcher.flush(notified::add);
+    assertThat(notified).extracting(WaitInstance::getUuid).containsExactly(correlationId);
+  }
+
+  @Test
+  @Owner(developers = PRASHANT)
+  @Category(UnitTests.class)
+  public void shouldDropResponsesAfterMaxAttempts() {
+    List<WaitInstance> notified = new ArrayList<>();
+    NotifyResponse failingResponse = NotifyResponse.builder().uuid(generateUuid()).build();
+    when(persistenceWrapper.saveNotifyResponses(anyList())).thenThrow(new IllegalStateException("bulk write failed"));
+    when(persistenceWrapper.save(failingResponse)).thenThrow(new IllegalStateException("write failed"));
+
+    notifyResponseBatcher.add(failingResponse, notified::add);
+    for (int i = 0; i < NotifyResponseBatcher.MAX_ATTEMPTS; i++) {
+      assertThat(notifyResponseBatcher.flush(notified::add)).isEqualTo(0);
+    }
+
+    assertThat(notifyResponseBatcher.flush(notified::add)).isEqualTo(0);
+    verify(persistenceWrapper, times(NotifyResponseBatcher.MAX_ATTEMPTS)).save(failingResponse);
+    verify(persistenceWrapper, never()).modifyAndFetchCompletedWaitInstances(anyList());
+    assertThat(notified).isEmpty();
+  }
+}
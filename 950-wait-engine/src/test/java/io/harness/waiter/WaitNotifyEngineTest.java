@@ -56,6 +56,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.slf4j.Slf4j;
+import org.joor.Reflect;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -124,6 +125,29 @@ public class WaitNotifyEngineTest extends WaitEngineTestBase {
     }
   }
 
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldStoreResponseDurablyWhenBatching() {
+    String uuid = generateUuid();
+    WaiterConfiguration waiterConfiguration = Reflect.on(waitNotifyEngine).get("waiterConfiguration");
+    Reflect.on(waitNotifyEngine)
+        .set("waiterConfiguration", WaiterConfiguration.builder().batchNotifyEnabled(true).build());
+    try (MaintenanceGuard guard = new MaintenanceGuard(false)) {
+      waitNotifyEngine.waitForAllOn(TEST_PUBLISHER, new TestNotifyCallback(), uuid);
+
+      ResponseData data = StringNotifyResponseData.builder().data("response-" + uuid).build();
+      String id = waitNotifyEngine.doneWithDurably(uuid, data);
+      assertThat(persistence.get(NotifyResponse.class, id)).isNotNull();
+
+      Poller.pollFor(Duration.ofSeconds(10), ofMillis(100), () -> notifyConsumer.count(Filter.ALL) == 0);
+
+      assertThat(responseMap).hasSize(1).isEqualTo(of(uuid, data));
+    } finally {
+      Reflect.on(waitNotifyEngine).set("waiterConfiguration", waiterConfiguration);
+    }
+  }
+
   @Test
   @Owner(developers = GEORGE)
   @Category(UnitTests.class)
@@ -189,6 +189,50 @@ public class MorphiaPersistenceWrapperTest extends WaitEngineTestBase {
     assertThat(modifiedWaitInstance.getCorrelationIds()).containsExactly(correlationId);
   }
 
+  @Test
+  @Owner(developers = PRASHANT)
+  @Category(UnitTests.class)
+  public void testModifyAndFetchCompletedWaitInstances() {
+    String correlationId1 = generateUuid();
+    String correlationId2 = generateUuid();
+    String correlationId3 = generateUuid();
+    final WaitInstance completedWaitInstance =
+        WaitInstance.builder()
+            .uuid(generateUuid())
+            .callback(new TestNotifyCallback())
+            .publisher(TEST_PUBLISHER)
+            .correlationIds(Arrays.asList(correlationId1, correlationId2))
+            .waitingOnCorrelationIds(Arrays.asList(correlationId1, correlationId2))
+            .build();
+    final WaitInstance pendingWaitInstance = WaitInstance.builder()
+                                                 .uuid(generateUuid())
+                                                 .callback(new TestNotifyCallback())
+                                                 .publisher(TEST_PUBLISHER)
+                                                 .correlationIds(Arrays.asList(correlationId1, correlationId3))
+                                                 .waitingOnCorrelationIds(Arrays.asList(correlationId1, correlationId3))
+                                                 .build();
+    hPersistence.save(completedWaitInstance);
+    hPersistence.save(pendingWaitInstance);
+
+    persistenceWrapper.saveNotifyResponses(Arrays.asList(
+        NotifyResponse.builder().uuid(correlationId1).responseData(new byte[] {}).error(false).build(),
+        NotifyResponse.builder().uuid(correlationId2).responseData(new byte[] {}).error(false).build()));
+    assertThat(hPersistence.get(NotifyResponse.class, correlationId1)).isNotNull();
+    assertThat(hPersistence.get(NotifyResponse.class, correlationId2)).isNotNull();
+    assertThat(persistenceWrapper.saveNotifyResponses(Arrays.asList(
+                   NotifyResponse.builder().uuid(correlationId2).responseData(new byte[] {}).error(false).build(),
+                   NotifyResponse.builder().uuid(correlationId3).responseData(new byte[] {}).error(false).build())))
+        .containsExactly(correlationId2);
+
+    List<WaitInstance> completed =
+        persistenceWrapper.modifyAndFetchCompletedWaitInstances(Arrays.asList(correlationId1, correlationId2));
+    assertThat(completed).hasSize(1);
+    assertThat(completed.get(0).getUuid()).isEqualTo(completedWaitInstance.getUuid());
+    assertThat(completed.get(0).getPublisher()).isEqualTo(TEST_PUBLISHER);
+    assertThat(hPersistence.get(WaitInstance.class, pendingWaitInstance.getUuid()).getWaitingOnCorrelationIds())
+        .containsExactly(correlationId3);
+  }
+
   @Test
   @Owner(developers = PRASHANT)
   @Category(UnitTests.class)
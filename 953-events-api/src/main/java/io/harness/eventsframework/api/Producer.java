@@ -9,7 +9,20 @@ package io.harness.eventsframework.api;
 
 import io.harness.eventsframework.producer.Message;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 public interface Producer {
   String send(Message message);
+
+  /**
+   * Sends all the messages in order. Implementations can pipeline the messages, the default one sends them one by one.
+   *
+   * @return the message ids, in the same order as the messages
+   */
+  default List<String> sendBatch(List<Message> messages) {
+    return messages.stream().map(this::send).collect(Collectors.toList());
+  }
+
   void shutdown();
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.eventsframework.api.EventsFrameworkDownException;
+import io.harness.eventsframework.impl.redis.monitoring.publisher.RedisEventMetricPublisher;
+import io.harness.eventsframework.producer.Message;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RedissonClient;
+
+/**
+ * Producer that coalesces the messages sent concurrently on the same topic and pipelines them to redis. A batch is
+ * flushed as soon as it reaches maxBatchSize messages or after lingerMillis, whichever happens first. The calling
+ * thread is blocked until its message is written, so send keeps returning the real message id.
+ */
+@OwnedBy(PL)
+@Slf4j
+public class BatchingRedisProducer extends RedisProducer {
+  public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+  public static final long DEFAULT_LINGER_MILLIS = 5;
+
+  private final int maxBatchSize;
+  private final ConcurrentLinkedQueue<PendingMessage> pending = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pendingCount = new AtomicInteger();
+  private final ScheduledExecutorService flushExecutor;
+
+  @AllArgsConstructor
+  private static class PendingMessage {
+    Map<String, String> redisData;
+    CompletableFuture<String> messageId;
+  }
+
+  public BatchingRedisProducer(String topicName, @NotNull RedissonClient redissonClient, int maxTopicSize,
+      String producerName, String envNamespace, RedisEventMetricPublisher redisEventMetricPublisher, int maxBatchSize,
+      long lingerMillis) {
+    super(topicName, redissonClient, maxTopicSize, producerName, envNamespace, redisEventMetricPublisher);
+    this.maxBatchSize = maxBatchSize;
+    this.flushExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                                                                        .setNameFormat("redis-batching-producer-%d")
+                                                                        .setDaemon(true)
+                                                                        .build());
+    this.flushExecutor.scheduleWithFixedDelay(this::flushAll, lingerMillis, lingerMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public String send(Message message) {
+    // Redis data is prepared on the calling thread as it depends on thread local context such as the trace id
+    PendingMessage pendingMessage = new PendingMessage(prepareRedisData(message), new CompletableFuture<>());
+    pending.add(pendingMessage);
+    boolean batchFull = pendingCount.incrementAndGet() >= maxBatchSize;
+    if (flushExecutor.isShutdown()) {
+      // No linger flush runs once batching is stopped, so the message is flushed on the calling thread
+      flushAll();
+    } else if (batchFull) {
+      flush();
+    }
+
+    try {
+      return pendingMessage.messageId.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new EventsFrameworkDownException(e.getMessage());
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof EventsFrameworkDownException) {
+        throw(EventsFrameworkDownException) e.getCause();
+      }
+      throw new EventsFrameworkDownException(e.getCause().getMessage());
+    }
+  }
+
+  private void flushAll() {
+    try {
+      while (flush() > 0) {
+        // keep draining, a burst can leave more than one full batch behind
+      }
+    } catch (Exception ex) {
+      log.error("Failed to flush the batching redis producer for the topic: {}", getTopicName(), ex);
+    }
+  }
+
+  private int flush() {
+    List<PendingMessage> batch = new ArrayList<>();
+    PendingMessage pendingMessage;
+    while (batch.size() < maxBatchSize && (pendingMessage = pending.poll()) != null) {
+      batch.add(pendingMessage);
+    }
+    if (batch.isEmpty()) {
+      return 0;
+    }
+    pendingCount.addAndGet(-batch.size());
+
+    List<Map<String, String>> redisDataList = new ArrayList<>(batch.size());
+    batch.forEach(message -> redisDataList.add(message.redisData));
+    try {
+      List<String> messageIds = sendRedisDataBatch(redisDataList);
+      for (int i = 0; i < batch.size(); i++) {
+        batch.get(i).messageId.complete(messageIds.get(i));
+      }
+    } catch (Exception ex) {
+      batch.forEach(message -> message.messageId.completeExceptionally(ex));
+    }
+    return batch.size();
+  }
+
+  /**
+   * Flushes the pending messages and stops the linger flushes, without shutting down the redisson client which may be
+   * shared with other producers. Messages sent afterwards are flushed right away by their sender.
+   */
+  public void stopBatching() {
+    flushExecutor.shutdown();
+    flushAll();
+  }
+
+  @Override
+  public void shutdown() {
+    stopBatching();
+    super.shutdown();
+  }
+}
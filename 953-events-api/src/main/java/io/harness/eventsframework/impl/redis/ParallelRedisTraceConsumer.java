@@ -0,0 +1,183 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.eventsframework.api.Consumer;
+import io.harness.eventsframework.api.EventsFrameworkDownException;
+import io.harness.eventsframework.consumer.Message;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Consumer runtime that keeps the next batch in flight while the current one is processed. The read, including the
+ * pending entries claim, happens on a dedicated prefetch thread. Messages of a batch are dispatched to a bounded set
+ * of single threaded lanes selected by {@link #getPartitionKey(Message)}, so messages with the same key are processed
+ * in order. Once a message fails, the later messages of the batch with the same key are left unprocessed, so they are
+ * not acknowledged ahead of it and are delivered again together with it. All the messages of a batch that were
+ * processed successfully are acknowledged with a single XACK.
+ */
+@OwnedBy(PL)
+@Slf4j
+public abstract class ParallelRedisTraceConsumer extends RedisTraceConsumer {
+  private static final int WAIT_TIME_IN_SECONDS = 10;
+  private static final int INACTIVE_WAIT_TIME_IN_SECONDS = 30;
+
+  private final Consumer redisConsumer;
+  private final ExecutorService prefetchExecutor;
+  private final ExecutorService[] lanes;
+
+  protected ParallelRedisTraceConsumer(Consumer redisConsumer, int parallelism) {
+    this.redisConsumer = redisConsumer;
+    this.prefetchExecutor = Executors.newSingleThreadExecutor(
+        new ThreadFactoryBuilder().setNameFormat("redis-prefetch-" + redisConsumer.getTopicName() + "-%d").build());
+    this.lanes = new ExecutorService[parallelism];
+    for (int i = 0; i < parallelism; i++) {
+      lanes[i] = Executors.newSingleThreadExecutor(
+          new ThreadFactoryBuilder().setNameFormat("redis-worker-" + redisConsumer.getTopicName() + "-" + i).build());
+    }
+  }
+
+  public abstract String getListenerName();
+
+  /**
+   * Messages that return the same key are processed in order, so this should identify the entity the message is about.
+   */
+  protected abstract String getPartitionKey(Message message);
+
+  /**
+   * No messages are read while this returns false, e.g. when not running on the primary deployment.
+   */
+  protected boolean isActive() {
+    return true;
+  }
+
+  /**
+   * Runs the processing of the messages dispatched to a lane on the lane thread. Consumers that depend on thread local
+   * state, like the security context, set it up here.
+   */
+  protected void runInLane(Runnable processing) {
+    processing.run();
+  }
+
+  @Override
+  public void run() {
+    log.info("Started the parallel consumer: " + getListenerName());
+    try {
+      Future<List<Message>> nextBatch = null;
+      while (!Thread.currentThread().isInterrupted()) {
+        if (nextBatch == null) {
+          if (!isActive()) {
+            log.info("{} is not active, will try again after some time...", getListenerName());
+            TimeUnit.SECONDS.sleep(INACTIVE_WAIT_TIME_IN_SECONDS);
+            continue;
+          }
+          nextBatch = prefetch();
+        }
+        List<Message> batch = awaitBatch(nextBatch);
+        nextBatch = isActive() ? prefetch() : null;
+        processBatch(batch);
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    } catch (Exception ex) {
+      log.error(getListenerName() + " unexpectedly stopped", ex);
+    } finally {
+      shutdownExecutors();
+    }
+  }
+
+  private Future<List<Message>> prefetch() {
+    return prefetchExecutor.submit(() -> redisConsumer.read(Duration.ofSeconds(WAIT_TIME_IN_SECONDS)));
+  }
+
+  private List<Message> awaitBatch(Future<List<Message>> batch) throws InterruptedException {
+    try {
+      return batch.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof EventsFrameworkDownException) {
+        log.error("Events framework is down for " + getListenerName() + " consumer. Retrying again...", e.getCause());
+        TimeUnit.SECONDS.sleep(WAIT_TIME_IN_SECONDS);
+        return new ArrayList<>();
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  @VisibleForTesting
+  void processBatch(List<Message> batch) throws InterruptedException {
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    Map<Integer, List<Message>> messagesByLane = new LinkedHashMap<>();
+    for (Message message : batch) {
+      int lane = Math.floorMod(getPartitionKey(message).hashCode(), lanes.length);
+      messagesByLane.computeIfAbsent(lane, key -> new ArrayList<>()).add(message);
+    }
+
+    ConcurrentLinkedQueue<String> processedMessageIds = new ConcurrentLinkedQueue<>();
+    List<CompletableFuture<Void>> futures = new ArrayList<>(messagesByLane.size());
+    messagesByLane.forEach((lane, messages) -> futures.add(CompletableFuture.runAsync(() -> runInLane(() -> {
+      Set<String> failedKeys = new HashSet<>();
+      for (Message message : messages) {
+        String partitionKey = getPartitionKey(message);
+        if (failedKeys.contains(partitionKey)) {
+          continue;
+        }
+        if (handleMessage(message)) {
+          processedMessageIds.add(message.getId());
+        } else {
+          failedKeys.add(partitionKey);
+        }
+      }
+    }), lanes[lane])));
+
+    try {
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+    } catch (ExecutionException e) {
+      // handleMessage never throws, whatever was processed is still acknowledged below
+      log.error("Unexpected failure while processing a batch of " + getListenerName(), e);
+    }
+
+    if (!processedMessageIds.isEmpty()) {
+      try {
+        redisConsumer.acknowledge(processedMessageIds.toArray(new String[0]));
+      } catch (EventsFrameworkDownException e) {
+        // The messages will be claimed again once they exceed the max processing time
+        log.error("Failed to acknowledge {} messages for {}", processedMessageIds.size(), getListenerName(), e);
+      }
+    }
+  }
+
+  @VisibleForTesting
+  void shutdownExecutors() {
+    prefetchExecutor.shutdownNow();
+    for (ExecutorService lane : lanes) {
+      lane.shutdownNow();
+    }
+  }
+}
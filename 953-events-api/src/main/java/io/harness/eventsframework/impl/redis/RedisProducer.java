@@ -8,12 +8,14 @@
 package io.harness.eventsframework.impl.redis;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
 import static io.harness.eventsframework.impl.redis.RedisUtils.REDIS_STREAM_INTERNAL_KEY;
 import static io.harness.eventsframework.impl.redis.RedisUtils.REDIS_STREAM_TRACE_ID_KEY;
 
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.eventsframework.api.AbstractProducer;
 import io.harness.eventsframework.api.EventsFrameworkDownException;
+import io.harness.eventsframework.impl.redis.monitoring.dto.RedisEventMetricDTO;
 import io.harness.eventsframework.impl.redis.monitoring.dto.RedisEventMetricDTOMapper;
 import io.harness.eventsframework.impl.redis.monitoring.publisher.RedisEventMetricPublisher;
 import io.harness.eventsframework.producer.Message;
@@ -24,13 +26,22 @@ import io.github.resilience4j.retry.Retry;
 import io.github.resilience4j.retry.RetryConfig;
 import io.opentelemetry.api.trace.Span;
 import io.vavr.control.Try;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
 import javax.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.BatchOptions.ExecutionMode;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
 import org.redisson.api.RStream;
+import org.redisson.api.RStreamAsync;
 import org.redisson.api.RedissonClient;
 import org.redisson.api.StreamMessageId;
 import org.slf4j.MDC;
@@ -80,12 +91,69 @@ public class RedisProducer extends AbstractProducer {
     return handleMessage(message);
   }
 
+  @Override
+  public List<String> sendBatch(List<Message> messages) {
+    if (isEmpty(messages)) {
+      return Collections.emptyList();
+    }
+    List<Map<String, String>> redisDataList = new ArrayList<>(messages.size());
+    for (Message message : messages) {
+      redisDataList.add(prepareRedisData(message));
+    }
+    return sendRedisDataBatch(redisDataList);
+  }
+
+  protected Map<String, String> prepareRedisData(Message message) {
+    Map<String, String> redisData = new HashMap<>(message.getMetadataMap());
+    addTraceId(redisData);
+    redisData.put(REDIS_STREAM_INTERNAL_KEY, Base64.getEncoder().encodeToString(message.getData().toByteArray()));
+    populateOtherProducerSpecificData(redisData);
+    return redisData;
+  }
+
+  /**
+   * Pipelines one XADD per entry in a single round trip. Every XADD keeps the approximate maxTopicSize trimming of the
+   * single message path. The batch is executed atomically so that a retry can not duplicate a partially applied batch.
+   */
+  protected List<String> sendRedisDataBatch(List<Map<String, String>> redisDataList) {
+    Supplier<List<String>> retryingSendBatch =
+        Retry.decorateSupplier(retry, () -> sendRedisDataBatchInternal(redisDataList));
+
+    return Try.ofSupplier(retryingSendBatch)
+        .recover(throwable -> {
+          // Exhausted exponential backoff to try operating on redis
+          throw new EventsFrameworkDownException(throwable.getMessage());
+        })
+        .get();
+  }
+
+  private List<String> sendRedisDataBatchInternal(List<Map<String, String>> redisDataList) {
+    try {
+      long startTime = System.currentTimeMillis();
+      RBatch batch = redissonClient.createBatch(BatchOptions.defaults().executionMode(ExecutionMode.IN_MEMORY_ATOMIC));
+      RStreamAsync<String, String> batchStream = batch.getStream(stream.getName(), stream.getCodec());
+      List<RFuture<StreamMessageId>> futures = new ArrayList<>(redisDataList.size());
+      for (Map<String, String> redisData : redisDataList) {
+        futures.add(batchStream.addAllAsync(redisData, maxTopicSize, false));
+      }
+      batch.execute();
+
+      List<String> messageIds = new ArrayList<>(futures.size());
+      for (RFuture<StreamMessageId> future : futures) {
+        messageIds.add(future.getNow().toString());
+      }
+      log.info("Events framework batch of {} messages inserted in the topic: {}", messageIds.size(), getTopicName());
+      addBatchMonitoring(messageIds.size(), Duration.ofMillis(System.currentTimeMillis() - startTime));
+      return messageIds;
+    } catch (Exception ex) {
+      log.warn("Exception occurred in sendRedisDataBatchInternal", ex);
+      throw ex;
+    }
+  }
+
   private String sendInternal(Message message) {
     try {
-      Map<String, String> redisData = new HashMap<>(message.getMetadataMap());
-      addTraceId(redisData);
-      redisData.put(REDIS_STREAM_INTERNAL_KEY, Base64.getEncoder().encodeToString(message.getData().toByteArray()));
-      populateOtherProducerSpecificData(redisData);
+      Map<String, String> redisData = prepareRedisData(message);
 
       StreamMessageId messageId = stream.addAll(redisData, maxTopicSize, false);
       redisData.remove(REDIS_STREAM_INTERNAL_KEY);
@@ -134,6 +202,18 @@ public class RedisProducer extends AbstractProducer {
     }
   }
 
+  private void addBatchMonitoring(int batchSize, Duration duration) {
+    if (redisEventMetricPublisher == null) {
+      return;
+    }
+    try {
+      redisEventMetricPublisher.sendBatchMetricWithEventContext(
+          RedisEventMetricDTO.builder().streamName(getTopicName()).build(), batchSize, duration);
+    } catch (Exception ex) {
+      log.warn("Error while sending batch metrics for redis producer events :", ex);
+    }
+  }
+
   private void addTraceId(Map<String, String> redisData) {
     try {
       if (!Span.getInvalid().equals(Span.current())) {
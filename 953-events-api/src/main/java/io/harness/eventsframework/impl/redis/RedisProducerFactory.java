@@ -23,4 +23,16 @@ public class RedisProducerFactory {
     return new RedisProducer(
         topicName, redissonClient, maxTopicSize, producerName, envNamespace, redisEventMetricPublisher);
   }
+
+  public BatchingRedisProducer createBatchingRedisProducer(String topicName, @NotNull RedissonClient redissonClient,
+      int maxTopicSize, String producerName, String envNamespace) {
+    return createBatchingRedisProducer(topicName, redissonClient, maxTopicSize, producerName, envNamespace,
+        BatchingRedisProducer.DEFAULT_MAX_BATCH_SIZE, BatchingRedisProducer.DEFAULT_LINGER_MILLIS);
+  }
+
+  public BatchingRedisProducer createBatchingRedisProducer(String topicName, @NotNull RedissonClient redissonClient,
+      int maxTopicSize, String producerName, String envNamespace, int maxBatchSize, long lingerMillis) {
+    return new BatchingRedisProducer(topicName, redissonClient, maxTopicSize, producerName, envNamespace,
+        redisEventMetricPublisher, maxBatchSize, lingerMillis);
+  }
 }
@@ -14,6 +14,7 @@ import io.harness.eventsframework.impl.redis.monitoring.dto.RedisEventMetricDTO;
 import io.harness.metrics.service.api.MetricService;
 
 import com.google.inject.Inject;
+import java.time.Duration;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -21,6 +22,9 @@ import lombok.extern.slf4j.Slf4j;
 @AllArgsConstructor(onConstructor = @__({ @Inject }))
 @Slf4j
 public class RedisEventMetricPublisher {
+  public static final String REDIS_PRODUCER_BATCH_SIZE_METRIC = "redis_producer_batch_size";
+  public static final String REDIS_PRODUCER_BATCH_LATENCY_METRIC = "redis_producer_batch_latency";
+
   private final MetricService metricService;
 
   public void sendMetricWithEventContext(RedisEventMetricDTO redisEventMetricDTO, String metricName) {
@@ -28,4 +32,12 @@ public class RedisEventMetricPublisher {
       metricService.incCounter(metricName);
     }
   }
+
+  public void sendBatchMetricWithEventContext(
+      RedisEventMetricDTO redisEventMetricDTO, int batchSize, Duration duration) {
+    try (RedisEventMetricContext context = new RedisEventMetricContext(redisEventMetricDTO)) {
+      metricService.recordMetric(REDIS_PRODUCER_BATCH_SIZE_METRIC, batchSize);
+      metricService.recordDuration(REDIS_PRODUCER_BATCH_LATENCY_METRIC, duration);
+    }
+  }
 }
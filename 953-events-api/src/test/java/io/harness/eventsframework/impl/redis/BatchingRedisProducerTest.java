@@ -0,0 +1,149 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.rule.OwnerRule.UTKARSH;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.eventsframework.api.EventsFrameworkDownException;
+import io.harness.eventsframework.producer.Message;
+import io.harness.rule.Owner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.redisson.api.RStream;
+import org.redisson.api.RedissonClient;
+
+public class BatchingRedisProducerTest extends CategoryTest {
+  private static final String KEY = "key";
+
+  private RedissonClient redissonClient;
+  private RecordingProducer producer;
+
+  @Before
+  public void setUp() {
+    redissonClient = mock(RedissonClient.class);
+    doReturn(mock(RStream.class)).when(redissonClient).getStream(anyString(), any());
+  }
+
+  @After
+  public void tearDown() {
+    producer.stopBatching();
+  }
+
+  @Test
+  @Owner(developers = UTKARSH)
+  @Category(UnitTests.class)
+  public void shouldFlushWhenBatchIsFull() throws Exception {
+    producer = new RecordingProducer(redissonClient, 5, TimeUnit.HOURS.toMillis(1));
+    ExecutorService executorService = Executors.newFixedThreadPool(5);
+    try {
+      List<Future<String>> messageIds = new ArrayList<>();
+      for (int i = 0; i < 5; i++) {
+        String value = String.valueOf(i);
+        messageIds.add(executorService.submit(() -> producer.send(message(value))));
+      }
+
+      for (int i = 0; i < 5; i++) {
+        assertThat(messageIds.get(i).get(10, TimeUnit.SECONDS)).isEqualTo("id-" + i);
+      }
+    } finally {
+      executorService.shutdownNow();
+    }
+    assertThat(producer.batches).hasSize(1);
+    assertThat(producer.batches.get(0)).hasSize(5);
+  }
+
+  @Test
+  @Owner(developers = UTKARSH)
+  @Category(UnitTests.class)
+  public void shouldFlushAfterLingerTime() {
+    producer = new RecordingProducer(redissonClient, 100, 10);
+
+    assertThat(producer.send(message("1"))).isEqualTo("id-1");
+    assertThat(producer.send(message("2"))).isEqualTo("id-2");
+
+    assertThat(producer.batches).hasSize(2);
+    assertThat(producer.batches.get(0)).hasSize(1);
+    assertThat(producer.batches.get(0).get(0)).containsEntry(KEY, "1");
+  }
+
+  @Test
+  @Owner(developers = UTKARSH)
+  @Category(UnitTests.class)
+  public void shouldPropagateFailureToSenders() {
+    producer = new RecordingProducer(redissonClient, 100, 10);
+
+    producer.failure = new EventsFrameworkDownException("redis is down");
+    assertThatThrownBy(() -> producer.send(message("1")))
+        .isInstanceOf(EventsFrameworkDownException.class)
+        .hasMessage("redis is down");
+
+    producer.failure = new IllegalStateException("unexpected");
+    assertThatThrownBy(() -> producer.send(message("2")))
+        .isInstanceOf(EventsFrameworkDownException.class)
+        .hasMessage("unexpected");
+
+    producer.failure = null;
+    assertThat(producer.send(message("3"))).isEqualTo("id-3");
+  }
+
+  @Test
+  @Owner(developers = UTKARSH)
+  @Category(UnitTests.class)
+  public void shouldSendRightAwayAfterBatchingIsStopped() {
+    producer = new RecordingProducer(redissonClient, 100, TimeUnit.HOURS.toMillis(1));
+    producer.stopBatching();
+
+    assertThat(producer.send(message("1"))).isEqualTo("id-1");
+    assertThat(producer.send(message("2"))).isEqualTo("id-2");
+    assertThat(producer.batches).hasSize(2);
+  }
+
+  private static Message message(String value) {
+    return Message.newBuilder().putMetadata(KEY, value).build();
+  }
+
+  private static class RecordingProducer extends BatchingRedisProducer {
+    private final List<List<Map<String, String>>> batches = new CopyOnWriteArrayList<>();
+    private volatile RuntimeException failure;
+
+    RecordingProducer(RedissonClient redissonClient, int maxBatchSize, long lingerMillis) {
+      super("topic", redissonClient, 1000, "producer", "", null, maxBatchSize, lingerMillis);
+    }
+
+    @Override
+    protected List<String> sendRedisDataBatch(List<Map<String, String>> redisDataList) {
+      batches.add(redisDataList);
+      if (failure != null) {
+        throw failure;
+      }
+      List<String> messageIds = new ArrayList<>();
+      redisDataList.forEach(redisData -> messageIds.add("id-" + redisData.get(KEY)));
+      return messageIds;
+    }
+  }
+}
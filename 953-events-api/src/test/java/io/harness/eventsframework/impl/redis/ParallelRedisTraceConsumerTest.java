@@ -0,0 +1,158 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.rule.OwnerRule.UTKARSH;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.eventsframework.api.Consumer;
+import io.harness.eventsframework.consumer.Message;
+import io.harness.rule.Owner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+
+public class ParallelRedisTraceConsumerTest extends CategoryTest {
+  private static final String ENTITY_ID = "entityId";
+
+  private Consumer redisConsumer;
+  private TestConsumer consumer;
+
+  @Before
+  public void setUp() {
+    redisConsumer = mock(Consumer.class);
+    when(redisConsumer.getTopicName()).thenReturn("topic");
+    consumer = new TestConsumer(redisConsumer);
+  }
+
+  @After
+  public void tearDown() {
+    consumer.shutdownExecutors();
+  }
+
+  @Test
+  @Owner(developers = UTKARSH)
+  @Category(UnitTests.class)
+  public void shouldProcessMessagesOfSameEntityInOrder() throws Exception {
+    List<Message> batch = new ArrayList<>();
+    for (int i = 0; i < 30; i++) {
+      batch.add(message(String.valueOf(i), "entity" + i % 3));
+    }
+
+    consumer.processBatch(batch);
+
+    for (int entity = 0; entity < 3; entity++) {
+      String entityId = "entity" + entity;
+      List<String> expected = batch.stream()
+                                  .filter(message -> entityId.equals(consumer.getPartitionKey(message)))
+                                  .map(Message::getId)
+                                  .collect(Collectors.toList());
+      assertThat(consumer.processedIds.get(entityId)).containsExactlyElementsOf(expected);
+    }
+    assertThat(acknowledgedIds()).containsExactlyInAnyOrderElementsOf(
+        batch.stream().map(Message::getId).collect(Collectors.toList()));
+  }
+
+  @Test
+  @Owner(developers = UTKARSH)
+  @Category(UnitTests.class)
+  public void shouldProcessDifferentEntitiesInParallel() throws Exception {
+    // "a" and "b" are dispatched to different lanes, "a" can only complete once "b" is processed
+    CountDownLatch processedB = new CountDownLatch(1);
+    consumer.onProcess = message -> {
+      if (message.getId().equals("2")) {
+        processedB.countDown();
+        return true;
+      }
+      return processedB.await(10, TimeUnit.SECONDS);
+    };
+
+    consumer.processBatch(Arrays.asList(message("1", "a"), message("2", "b")));
+
+    assertThat(acknowledgedIds()).containsExactlyInAnyOrder("1", "2");
+  }
+
+  @Test
+  @Owner(developers = UTKARSH)
+  @Category(UnitTests.class)
+  public void shouldHoldBackMessagesOfEntityAfterFailure() throws Exception {
+    consumer.onProcess = message -> !message.getId().equals("2");
+
+    consumer.processBatch(
+        Arrays.asList(message("1", "a"), message("2", "a"), message("3", "b"), message("4", "a"), message("5", "b")));
+
+    assertThat(consumer.processedIds.get("a")).containsExactly("1", "2");
+    assertThat(consumer.processedIds.get("b")).containsExactly("3", "5");
+    assertThat(acknowledgedIds()).containsExactlyInAnyOrder("1", "3", "5");
+  }
+
+  private Set<String> acknowledgedIds() {
+    ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+    verify(redisConsumer).acknowledge(captor.capture());
+    return new HashSet<>(captor.getAllValues());
+  }
+
+  private static Message message(String id, String entityId) {
+    return Message.newBuilder()
+        .setId(id)
+        .setMessage(io.harness.eventsframework.producer.Message.newBuilder().putMetadata(ENTITY_ID, entityId).build())
+        .build();
+  }
+
+  private interface MessageHandler {
+    boolean process(Message message) throws Exception;
+  }
+
+  private static class TestConsumer extends ParallelRedisTraceConsumer {
+    private final Map<String, List<String>> processedIds = new ConcurrentHashMap<>();
+    private volatile MessageHandler onProcess = message -> true;
+
+    TestConsumer(Consumer redisConsumer) {
+      super(redisConsumer, 4);
+    }
+
+    @Override
+    public String getListenerName() {
+      return "test";
+    }
+
+    @Override
+    protected String getPartitionKey(Message message) {
+      return message.getMessage().getMetadataMap().get(ENTITY_ID);
+    }
+
+    @Override
+    protected boolean processMessage(Message message) {
+      processedIds.computeIfAbsent(getPartitionKey(message), key -> new ArrayList<>()).add(message.getId());
+      try {
+        return onProcess.process(message);
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+}
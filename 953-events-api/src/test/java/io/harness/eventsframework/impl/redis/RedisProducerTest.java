@@ -0,0 +1,97 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.eventsframework.impl.redis.RedisUtils.REDIS_STREAM_INTERNAL_KEY;
+import static io.harness.rule.OwnerRule.UTKARSH;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.eventsframework.producer.Message;
+import io.harness.rule.Owner;
+
+import com.google.protobuf.ByteString;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RStream;
+import org.redisson.api.RStreamAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.client.codec.StringCodec;
+
+public class RedisProducerTest extends CategoryTest {
+  private static final String STREAM_NAME = "streams:topic";
+  private static final int MAX_TOPIC_SIZE = 1000;
+
+  private RedissonClient redissonClient;
+  private RBatch batch;
+  private RStreamAsync<String, String> batchStream;
+  private RedisProducer producer;
+
+  @Before
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    redissonClient = mock(RedissonClient.class);
+    RStream<String, String> stream = mock(RStream.class);
+    doReturn(STREAM_NAME).when(stream).getName();
+    doReturn(StringCodec.INSTANCE).when(stream).getCodec();
+    doReturn(stream).when(redissonClient).getStream(anyString(), any());
+
+    batch = mock(RBatch.class);
+    batchStream = mock(RStreamAsync.class);
+    doReturn(batch).when(redissonClient).createBatch(any());
+    doReturn(batchStream).when(batch).getStream(STREAM_NAME, StringCodec.INSTANCE);
+
+    producer = RedisProducer.of("topic", redissonClient, MAX_TOPIC_SIZE, "producer", "");
+  }
+
+  @Test
+  @Owner(developers = UTKARSH)
+  @Category(UnitTests.class)
+  @SuppressWarnings("unchecked")
+  public void shouldPipelineBatchInSingleRoundTrip() {
+    RFuture<StreamMessageId> first = mock(RFuture.class);
+    RFuture<StreamMessageId> second = mock(RFuture.class);
+    doReturn(new StreamMessageId(1, 0)).when(first).getNow();
+    doReturn(new StreamMessageId(1, 1)).when(second).getNow();
+    doReturn(first, second).when(batchStream).addAllAsync(any(), eq(MAX_TOPIC_SIZE), eq(false));
+
+    Message message = Message.newBuilder().putMetadata("key", "value").setData(ByteString.copyFromUtf8("data")).build();
+    assertThat(producer.sendBatch(Arrays.asList(message, message))).containsExactly("1-0", "1-1");
+
+    ArgumentCaptor<Map<String, String>> redisData = ArgumentCaptor.forClass(Map.class);
+    verify(batchStream, times(2)).addAllAsync(redisData.capture(), eq(MAX_TOPIC_SIZE), eq(false));
+    assertThat(redisData.getValue()).containsEntry("key", "value").containsKey(REDIS_STREAM_INTERNAL_KEY);
+    verify(batch).execute();
+  }
+
+  @Test
+  @Owner(developers = UTKARSH)
+  @Category(UnitTests.class)
+  public void shouldNotCallRedisForEmptyBatch() {
+    assertThat(producer.sendBatch(Collections.emptyList())).isEmpty();
+    verifyNoInteractions(batch);
+  }
+}
@@ -63,6 +63,9 @@ public class OutboxEvent implements PersistentEntity {
 
   GlobalContext globalContext;
 
+  // Bucket derived from the resource, so that all the events of a resource are handled by the same poll partition
+  Integer partitionKey;
+
   public static List<MongoIndex> mongoIndexes() {
     return ImmutableList.<MongoIndex>builder()
         .add(CompoundMongoIndex.builder()
@@ -76,6 +79,12 @@ public class OutboxEvent implements PersistentEntity {
                  .field(OutboxEventKeys.eventType)
                  .field(OutboxEventKeys.blocked)
                  .build())
+        .add(CompoundMongoIndex.builder()
+                 .name("partitionKey_blocked_createdAt_outbox_Idx")
+                 .field(OutboxEventKeys.partitionKey)
+                 .field(OutboxEventKeys.blocked)
+                 .field(OutboxEventKeys.createdAt)
+                 .build())
         .build();
   }
 }
@@ -13,6 +13,7 @@ import static io.harness.outbox.OutboxSDKConstants.DEFAULT_MAX_EVENTS_POLLED;
 import static io.harness.outbox.OutboxSDKConstants.DEFAULT_UNBLOCK_RETRY_INTERVAL_IN_MINUTES;
 import static io.harness.outbox.OutboxSDKConstants.OUTBOX_EVENT_PROCESSING_TIME_METRIC_NAME;
 import static io.harness.outbox.OutboxSDKConstants.OUTBOX_EVENT_WAITING_TIME_METRIC_NAME;
+import static io.harness.outbox.OutboxSDKConstants.OUTBOX_PARTITION_BUCKETS;
 import static io.harness.outbox.TransactionOutboxModule.SERVICE_ID_FOR_OUTBOX;
 
 import static java.time.Duration.ofMillis;
@@ -26,6 +27,8 @@ import io.harness.outbox.api.OutboxService;
 import io.harness.outbox.filter.OutboxEventFilter;
 import io.harness.outbox.monitor.OutboxMetricsServiceImpl;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
 import io.github.resilience4j.core.IntervalFunction;
@@ -34,7 +37,12 @@ import io.github.resilience4j.retry.RetryConfig;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import lombok.extern.slf4j.Slf4j;
 
 @OwnedBy(PL)
@@ -50,6 +58,9 @@ public class OutboxEventPollJob implements Runnable {
   private final String outboxLockId;
   private final OutboxMetricsServiceImpl outboxMetricsService;
   private final String serviceId;
+  // Filters of the partitions polled in parallel, or empty if all the events are polled under a single lock
+  private final List<OutboxEventFilter> partitionFilters;
+  private final ExecutorService partitionExecutor;
 
   @Inject
   public OutboxEventPollJob(OutboxService outboxService, OutboxEventHandler outboxEventHandler,
@@ -68,33 +79,101 @@ public class OutboxEventPollJob implements Runnable {
                                   .maxAttempts(this.outboxPollConfiguration.getMaximumRetryAttemptsForAnEvent())
                                   .build();
     this.retry = Retry.of("outboxEventHandleRetry", retryConfig);
+    this.partitionFilters = getPartitionFilters(this.outboxPollConfiguration.getPartitions());
+    this.partitionExecutor = this.partitionFilters.isEmpty()
+        ? null
+        : Executors.newFixedThreadPool(this.partitionFilters.size(),
+            new ThreadFactoryBuilder()
+                .setNameFormat("outbox-poll-partition-" + this.outboxPollConfiguration.getLockId() + "-%d")
+                .setDaemon(true)
+                .build());
+  }
+
+  /**
+   * Splits the partition buckets among the given number of partitions, so that the events of a resource are always
+   * polled by the same partition and keep their order. The first partition also polls the events saved without a
+   * bucket.
+   */
+  @VisibleForTesting
+  static List<OutboxEventFilter> getPartitionFilters(int partitions) {
+    List<OutboxEventFilter> partitionFilters = new ArrayList<>();
+    if (partitions <= 1) {
+      return partitionFilters;
+    }
+    int partitionCount = Math.min(partitions, OUTBOX_PARTITION_BUCKETS);
+    for (int partition = 0; partition < partitionCount; partition++) {
+      List<Integer> partitionKeys = new ArrayList<>();
+      for (int bucket = partition; bucket < OUTBOX_PARTITION_BUCKETS; bucket += partitionCount) {
+        partitionKeys.add(bucket);
+      }
+      partitionFilters.add(OutboxEventFilter.builder()
+                               .maximumEventsPolled(DEFAULT_MAX_EVENTS_POLLED)
+                               .partitionKeys(partitionKeys)
+                               .includeUnpartitioned(partition == 0)
+                               .build());
+    }
+    return partitionFilters;
   }
 
   @Override
   public void run() {
     try {
       if (!getMaintenanceFlag()) {
-        pollAndHandleOutboxEvents();
+        if (partitionFilters.isEmpty()) {
+          pollAndHandleOutboxEvents(outboxLockId, outboxEventFilter, false);
+        } else {
+          pollAndHandlePartitionedOutboxEvents();
+        }
       }
     } catch (Exception exception) {
       log.error("Unexpected error occurred during the execution of OutboxPollJob", exception);
     }
   }
 
-  private void pollAndHandleOutboxEvents() {
-    try (AcquiredLock<?> lock = persistentLocker.tryToAcquireLock(outboxLockId, Duration.ofMinutes(2))) {
+  public void stop() {
+    if (partitionExecutor != null) {
+      partitionExecutor.shutdownNow();
+    }
+  }
+
+  private void pollAndHandlePartitionedOutboxEvents() {
+    List<Future<?>> futures = new ArrayList<>();
+    for (int partition = 0; partition < partitionFilters.size(); partition++) {
+      // Each partition has its own lock, so that the partitions are spread over the instances of the service
+      String lockName = outboxLockId + "_" + partition;
+      OutboxEventFilter partitionFilter = partitionFilters.get(partition);
+      futures.add(partitionExecutor.submit(() -> pollAndHandleOutboxEvents(lockName, partitionFilter, true)));
+    }
+    // Wait for all the partitions, so that the next run does not start before this one is done
+    for (int partition = 0; partition < futures.size(); partition++) {
+      try {
+        futures.get(partition).get();
+      } catch (InterruptedException exception) {
+        futures.forEach(future -> future.cancel(true));
+        Thread.currentThread().interrupt();
+        return;
+      } catch (ExecutionException exception) {
+        log.error(String.format("Unexpected error occurred while polling outbox partition %d", partition),
+            exception.getCause());
+      }
+    }
+  }
+
+  private void pollAndHandleOutboxEvents(String lockName, OutboxEventFilter filter, boolean deleteInBatch) {
+    try (AcquiredLock<?> lock = persistentLocker.tryToAcquireLock(lockName, Duration.ofMinutes(2))) {
       if (lock == null) {
-        log.debug("Could not acquire lock for outbox poll job");
+        log.debug("Could not acquire lock {} for outbox poll job", lockName);
         return;
       }
       List<OutboxEvent> outboxEvents;
       try {
-        outboxEvents = outboxService.list(outboxEventFilter);
+        outboxEvents = outboxService.list(filter);
       } catch (InstantiationError error) {
         log.error("InstantiationError occurred while fetching entries from the outbox", error);
         return;
       }
 
+      List<String> handledEventIds = new ArrayList<>();
       for (int i = 0; i < outboxEvents.size() && !Thread.currentThread().isInterrupted(); i++) {
         OutboxEvent outbox = outboxEvents.get(i);
         long startTime = System.currentTimeMillis();
@@ -113,7 +192,9 @@ public class OutboxEventPollJob implements Runnable {
               outbox.getResource().getType(), ofMillis(outboxEventWaitingTime), OUTBOX_EVENT_WAITING_TIME_METRIC_NAME);
         }
         try {
-          if (success) {
+          if (success && deleteInBatch) {
+            handledEventIds.add(outbox.getId());
+          } else if (success) {
             outboxService.delete(outbox.getId());
           } else {
             outbox.setBlocked(true);
@@ -127,6 +208,20 @@ public class OutboxEventPollJob implements Runnable {
               exception);
         }
       }
+      deleteHandledEvents(handledEventIds);
+    }
+  }
+
+  private void deleteHandledEvents(List<String> handledEventIds) {
+    if (handledEventIds.isEmpty()) {
+      return;
+    }
+    try {
+      outboxService.deleteAll(handledEventIds);
+    } catch (Exception exception) {
+      // The events are handled again on a later poll, as when a single delete fails
+      log.error(String.format("Error occurred while deleting %d handled outbox events", handledEventIds.size()),
+          exception);
     }
   }
 
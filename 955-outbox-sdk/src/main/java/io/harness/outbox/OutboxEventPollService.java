@@ -8,29 +8,57 @@
 package io.harness.outbox;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.outbox.OutboxSDKConstants.DEFAULT_CHANGE_STREAM_POLLING_INTERVAL_IN_SECONDS;
+import static io.harness.outbox.TransactionOutboxModule.OUTBOX_CHANGE_TRACKER;
 
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.mongo.changestreams.ChangeTracker;
+import io.harness.mongo.changestreams.ChangeTrackingInfo;
 
+import com.google.common.collect.ImmutableSet;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.google.inject.name.Named;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
 import io.dropwizard.lifecycle.Managed;
+import java.util.Collections;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Runs the outbox poll job on a fixed schedule. When the change stream is enabled the job also runs as soon as an event
+ * is inserted, and the scheduled polls, still needed for the blocked events, happen at the longer change stream
+ * polling interval. If the change stream closes, e.g. after its resume token is lost, the events are polled at the
+ * regular interval again until the change stream is reopened.
+ */
 @OwnedBy(PL)
+@Slf4j
 public class OutboxEventPollService implements Managed {
   private final OutboxEventPollJob outboxEventPollJob;
   private final OutboxPollConfiguration outboxPollConfiguration;
+  private final Provider<ChangeTracker> changeTrackerProvider;
   private final ScheduledExecutorService executorService;
+  private final AtomicBoolean pollRequested = new AtomicBoolean();
   private Future<?> outboxPollJobFuture;
 
+  private volatile ChangeTracker changeTracker;
+  // Only accessed from the executor thread
+  private long lastPollTime;
+  private long lastChangeStreamOpenTime;
+
   @Inject
-  public OutboxEventPollService(
-      OutboxEventPollJob outboxEventPollJob, OutboxPollConfiguration outboxPollConfiguration) {
+  public OutboxEventPollService(OutboxEventPollJob outboxEventPollJob, OutboxPollConfiguration outboxPollConfiguration,
+      @Named(OUTBOX_CHANGE_TRACKER) Provider<ChangeTracker> changeTrackerProvider) {
     this.outboxEventPollJob = outboxEventPollJob;
     this.outboxPollConfiguration = outboxPollConfiguration;
+    this.changeTrackerProvider = changeTrackerProvider;
     String threadName = "outbox-poll-service-thread-" + outboxPollConfiguration.getLockId();
     this.executorService =
         Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat(threadName).build());
@@ -38,8 +66,9 @@ public class OutboxEventPollService implements Managed {
 
   @Override
   public void start() {
+    Runnable pollJob = outboxPollConfiguration.isEnableChangeStream() ? this::pollWithChangeStream : outboxEventPollJob;
     outboxPollJobFuture =
-        executorService.scheduleAtFixedRate(outboxEventPollJob, outboxPollConfiguration.getInitialDelayInSeconds(),
+        executorService.scheduleAtFixedRate(pollJob, outboxPollConfiguration.getInitialDelayInSeconds(),
             outboxPollConfiguration.getPollingIntervalInSeconds(), TimeUnit.SECONDS);
   }
 
@@ -47,5 +76,83 @@ public class OutboxEventPollService implements Managed {
   public void stop() {
     outboxPollJobFuture.cancel(false);
     executorService.shutdownNow();
+    outboxEventPollJob.stop();
+    stopChangeStream();
+  }
+
+  private void pollWithChangeStream() {
+    try {
+      long now = System.currentTimeMillis();
+      long changeStreamPollingInterval = TimeUnit.SECONDS.toMillis(getChangeStreamPollingIntervalInSeconds());
+      if (isChangeStreamOpen()) {
+        if (now - lastPollTime < changeStreamPollingInterval) {
+          return;
+        }
+      } else if (now - lastChangeStreamOpenTime >= changeStreamPollingInterval) {
+        // Opened before polling, so that the events inserted after this poll are notified
+        openChangeStream();
+        lastChangeStreamOpenTime = now;
+      }
+      poll();
+    } catch (Exception exception) {
+      log.error("Unexpected error occurred while polling the outbox with the change stream", exception);
+    }
+  }
+
+  private void poll() {
+    pollRequested.set(false);
+    lastPollTime = System.currentTimeMillis();
+    outboxEventPollJob.run();
+  }
+
+  private void requestPoll() {
+    // Events inserted together are handled by a single poll
+    if (pollRequested.compareAndSet(false, true)) {
+      try {
+        executorService.execute(this::poll);
+      } catch (RejectedExecutionException exception) {
+        log.debug("Outbox poll service is stopped, ignoring the inserted event");
+      }
+    }
+  }
+
+  private boolean isChangeStreamOpen() {
+    return changeTracker != null && changeTracker.checkIfAnyChangeTrackerIsAlive();
+  }
+
+  private void openChangeStream() {
+    if (changeTracker != null) {
+      log.warn("Outbox change stream is closed, polling at the regular interval until it is reopened");
+      stopChangeStream();
+    }
+    ChangeTrackingInfo<OutboxEvent> changeTrackingInfo = new ChangeTrackingInfo<>(OutboxEvent.class,
+        changeEvent -> requestPoll(), null,
+        Collections.singletonList(Aggregates.match(Filters.eq("operationType", "insert"))));
+    ChangeTracker newChangeTracker = changeTrackerProvider.get();
+    try {
+      newChangeTracker.start(ImmutableSet.of(changeTrackingInfo));
+      changeTracker = newChangeTracker;
+      log.info("Opened outbox change stream for {}", outboxPollConfiguration.getLockId());
+    } catch (Exception exception) {
+      log.error("Could not open outbox change stream, polling at the regular interval", exception);
+    }
+  }
+
+  private void stopChangeStream() {
+    if (changeTracker == null) {
+      return;
+    }
+    try {
+      changeTracker.stop();
+    } catch (Exception exception) {
+      log.error("Error occurred while closing the outbox change stream", exception);
+    }
+    changeTracker = null;
+  }
+
+  private int getChangeStreamPollingIntervalInSeconds() {
+    return outboxPollConfiguration.getChangeStreamPollingIntervalInSeconds() > 0
+        ? outboxPollConfiguration.getChangeStreamPollingIntervalInSeconds()
+        : DEFAULT_CHANGE_STREAM_POLLING_INTERVAL_IN_SECONDS;
   }
 }
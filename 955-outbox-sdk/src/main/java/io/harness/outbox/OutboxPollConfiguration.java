@@ -28,4 +28,11 @@ public class OutboxPollConfiguration {
   int maximumRetryAttemptsForAnEvent;
   String lockId;
   boolean enableMetrics;
+  // Number of partitions polled in parallel, each under its own lock so that the instances share the partitions. Events
+  // are polled under a single lock if not set. Must be the same on all the instances polling the same outbox
+  int partitions;
+  // Polls as soon as an event is inserted, as notified by a change stream on the outbox collection
+  boolean enableChangeStream;
+  // Interval of the polls while the change stream is open, the regular polling interval is used when it is not
+  int changeStreamPollingIntervalInSeconds;
 }
@@ -31,6 +31,11 @@ public class OutboxSDKConstants {
 
   public static final int DEFAULT_UNBLOCK_RETRY_INTERVAL_IN_MINUTES = 10;
 
+  public static final int DEFAULT_CHANGE_STREAM_POLLING_INTERVAL_IN_SECONDS = 60;
+
+  // Number of buckets the events are hashed into, the poll partitions own disjoint sets of these buckets
+  public static final int OUTBOX_PARTITION_BUCKETS = 64;
+
   public static final OutboxPollConfiguration DEFAULT_OUTBOX_POLL_CONFIGURATION =
       OutboxPollConfiguration.builder()
           .maximumRetryAttemptsForAnEvent(DEFAULT_MAX_ATTEMPTS)
@@ -16,6 +16,9 @@ import io.harness.metrics.modules.MetricsModule;
 import io.harness.metrics.service.api.MetricService;
 import io.harness.metrics.service.api.MetricsPublisher;
 import io.harness.mongo.MongoConfig;
+import io.harness.mongo.changestreams.ChangeEventFactory;
+import io.harness.mongo.changestreams.ChangeTracker;
+import io.harness.mongo.metrics.HarnessConnectionPoolListener;
 import io.harness.outbox.api.OutboxDao;
 import io.harness.outbox.api.OutboxService;
 import io.harness.outbox.api.impl.OutboxDaoImpl;
@@ -40,6 +43,7 @@ import org.springframework.transaction.support.TransactionTemplate;
 public class TransactionOutboxModule extends AbstractModule {
   public static final String OUTBOX_TRANSACTION_TEMPLATE = "OUTBOX_TRANSACTION_TEMPLATE";
   public static final String SERVICE_ID_FOR_OUTBOX = "serviceIdForOutboxMetrics";
+  public static final String OUTBOX_CHANGE_TRACKER = "OUTBOX_CHANGE_TRACKER";
   private final OutboxPollConfiguration outboxPollConfiguration;
   private final String serviceId;
   private final boolean exportMetricsToStackDriver;
@@ -86,6 +90,14 @@ public class TransactionOutboxModule extends AbstractModule {
     return new HTransactionTemplate(mongoTransactionManager, mongoConfig.isTransactionsEnabled());
   }
 
+  @Provides
+  @Named(OUTBOX_CHANGE_TRACKER)
+  protected ChangeTracker getOutboxChangeTracker(MongoConfig mongoConfig,
+      HarnessConnectionPoolListener harnessConnectionPoolListener, ChangeEventFactory changeEventFactory) {
+    // Without a tag set the change stream is read from a secondary when available
+    return new ChangeTracker(mongoConfig, harnessConnectionPoolListener, changeEventFactory, null);
+  }
+
   @Provides
   @Singleton
   @Named(SERVICE_ID_FOR_OUTBOX)
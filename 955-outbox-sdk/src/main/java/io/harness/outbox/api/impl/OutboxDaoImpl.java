@@ -9,6 +9,7 @@ package io.harness.outbox.api.impl;
 
 import static io.harness.NGCommonEntityConstants.MONGODB_ID;
 import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
 import static io.harness.outbox.OutboxSDKConstants.DEFAULT_CREATED_AT_ASC_SORT_ORDER;
 import static io.harness.utils.PageUtils.getPageRequest;
 
@@ -30,6 +31,7 @@ import io.harness.repositories.outbox.OutboxEventRepository;
 
 import com.google.inject.Inject;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -106,6 +108,14 @@ public class OutboxDaoImpl implements OutboxDao {
                                        .and(OutboxEventKeys.nextUnblockAttemptAt)
                                        .lt(Instant.now());
     criteria.orOperator(blockedNotTrueCriteria, blockedTrueCriteria);
+    if (outboxEventFilter.getPartitionKeys() != null) {
+      List<Integer> partitionKeys = new ArrayList<>(outboxEventFilter.getPartitionKeys());
+      if (outboxEventFilter.isIncludeUnpartitioned()) {
+        // Matches the events without the field as well
+        partitionKeys.add(null);
+      }
+      criteria.and(OutboxEventKeys.partitionKey).in(partitionKeys);
+    }
     return criteria;
   }
 
@@ -114,4 +124,12 @@ public class OutboxDaoImpl implements OutboxDao {
     outboxRepository.deleteById(outboxEventId);
     return true;
   }
+
+  @Override
+  public long deleteAll(List<String> outboxEventIds) {
+    if (isEmpty(outboxEventIds)) {
+      return 0;
+    }
+    return outboxRepository.deleteAllByIdIn(outboxEventIds);
+  }
 }
@@ -9,6 +9,7 @@ package io.harness.outbox.api.impl;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.outbox.OutboxSDKConstants.DEFAULT_OUTBOX_EVENT_FILTER;
+import static io.harness.outbox.OutboxSDKConstants.OUTBOX_PARTITION_BUCKETS;
 
 import static io.serializer.HObjectMapper.NG_DEFAULT_OBJECT_MAPPER;
 
@@ -16,6 +17,7 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.event.Event;
 import io.harness.exception.UnexpectedException;
 import io.harness.manage.GlobalContextManager;
+import io.harness.ng.core.Resource;
 import io.harness.outbox.OutboxEvent;
 import io.harness.outbox.api.OutboxDao;
 import io.harness.outbox.api.OutboxService;
@@ -25,8 +27,10 @@ import software.wings.jersey.JsonViews;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.inject.Inject;
 import java.util.List;
+import java.util.Objects;
 import javax.annotation.Nullable;
 
 @OwnedBy(PL)
@@ -55,6 +59,7 @@ public class OutboxServiceImpl implements OutboxService {
                                   .eventData(eventData)
                                   .eventType(event.getEventType())
                                   .globalContext(GlobalContextManager.obtainGlobalContext())
+                                  .partitionKey(getPartitionKey(event.getResource()))
                                   .build();
     return outboxDao.save(outboxEvent);
   }
@@ -77,4 +82,17 @@ public class OutboxServiceImpl implements OutboxService {
     outboxDao.delete(outboxEventId);
     return true;
   }
+
+  @Override
+  public long deleteAll(List<String> outboxEventIds) {
+    return outboxDao.deleteAll(outboxEventIds);
+  }
+
+  @VisibleForTesting
+  static int getPartitionKey(Resource resource) {
+    if (resource == null) {
+      return 0;
+    }
+    return Math.floorMod(Objects.hash(resource.getType(), resource.getIdentifier()), OUTBOX_PARTITION_BUCKETS);
+  }
 }
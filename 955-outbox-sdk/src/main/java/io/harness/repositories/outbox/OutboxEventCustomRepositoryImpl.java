@@ -11,6 +11,7 @@ import static io.harness.annotations.dev.HarnessTeam.PL;
 
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.outbox.OutboxEvent;
+import io.harness.outbox.OutboxEvent.OutboxEventKeys;
 
 import com.google.inject.Inject;
 import java.util.List;
@@ -43,4 +44,10 @@ public class OutboxEventCustomRepositoryImpl implements OutboxEventCustomReposit
   public <T> AggregationResults<T> aggregate(Aggregation aggregation, Class<T> classToFillResultIn) {
     return mongoTemplate.aggregate(aggregation, OutboxEvent.class, classToFillResultIn);
   }
+
+  @Override
+  public long deleteAllByIdIn(List<String> ids) {
+    Query query = new Query(Criteria.where(OutboxEventKeys.id).in(ids));
+    return mongoTemplate.remove(query, OutboxEvent.class).getDeletedCount();
+  }
 }
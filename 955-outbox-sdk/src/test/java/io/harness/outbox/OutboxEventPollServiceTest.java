@@ -0,0 +1,98 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.outbox;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.KARAN;
+
+import static junit.framework.TestCase.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.mongo.changestreams.ChangeTracker;
+import io.harness.mongo.changestreams.ChangeTrackingInfo;
+import io.harness.rule.Owner;
+
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+
+@OwnedBy(PL)
+public class OutboxEventPollServiceTest extends CategoryTest {
+  private OutboxEventPollJob outboxEventPollJob;
+  private ChangeTracker changeTracker;
+  private OutboxEventPollService outboxEventPollService;
+
+  @Before
+  public void setup() {
+    outboxEventPollJob = mock(OutboxEventPollJob.class);
+    changeTracker = mock(ChangeTracker.class);
+    outboxEventPollService = new OutboxEventPollService(outboxEventPollJob,
+        OutboxPollConfiguration.builder()
+            .initialDelayInSeconds(0)
+            .pollingIntervalInSeconds(1)
+            .lockId("LOCK_ID")
+            .enableChangeStream(true)
+            .changeStreamPollingIntervalInSeconds(3600)
+            .build(),
+        () -> changeTracker);
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testPollOnInsertAndFallbackToPolling() {
+    when(changeTracker.checkIfAnyChangeTrackerIsAlive()).thenReturn(true);
+    ArgumentCaptor<Set<ChangeTrackingInfo<?>>> changeTrackingInfoCaptor = ArgumentCaptor.forClass(Set.class);
+    outboxEventPollService.start();
+
+    // The change stream is opened before the first poll
+    verify(outboxEventPollJob, timeout(5000).times(1)).run();
+    verify(changeTracker, times(1)).start(changeTrackingInfoCaptor.capture());
+    ChangeTrackingInfo<?> changeTrackingInfo = changeTrackingInfoCaptor.getValue().iterator().next();
+    assertEquals(OutboxEvent.class, changeTrackingInfo.getMorphiaClass());
+
+    changeTrackingInfo.getChangeSubscriber().onChange(null);
+    verify(outboxEventPollJob, timeout(5000).times(2)).run();
+
+    // Polls at the regular interval once the change stream is closed, without reopening it before the backoff
+    when(changeTracker.checkIfAnyChangeTrackerIsAlive()).thenReturn(false);
+    verify(outboxEventPollJob, timeout(5000).atLeast(4)).run();
+    verify(changeTracker, times(1)).start(any());
+
+    outboxEventPollService.stop();
+    verify(changeTracker, times(1)).stop();
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testStopWithoutChangeStream() {
+    OutboxPollConfiguration outboxPollConfiguration = OutboxPollConfiguration.builder()
+                                                          .initialDelayInSeconds(0)
+                                                          .pollingIntervalInSeconds(1)
+                                                          .lockId("LOCK_ID")
+                                                          .build();
+    OutboxEventPollService pollService =
+        new OutboxEventPollService(outboxEventPollJob, outboxPollConfiguration, () -> changeTracker);
+    pollService.start();
+    verify(outboxEventPollJob, timeout(5000).atLeast(1)).run();
+    pollService.stop();
+    verify(outboxEventPollJob, times(1)).stop();
+    verify(changeTracker, times(0)).start(any());
+  }
+}
@@ -8,10 +8,12 @@
 package io.harness.outbox;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.outbox.OutboxSDKConstants.OUTBOX_PARTITION_BUCKETS;
 import static io.harness.rule.OwnerRule.KARAN;
 
 import static java.util.Collections.singletonList;
 import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
 import static junit.framework.TestCase.assertNotNull;
 import static junit.framework.TestCase.assertTrue;
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
@@ -31,9 +33,15 @@ import io.harness.maintenance.MaintenanceController;
 import io.harness.ng.core.Resource;
 import io.harness.outbox.api.OutboxEventHandler;
 import io.harness.outbox.api.OutboxService;
+import io.harness.outbox.filter.OutboxEventFilter;
 import io.harness.outbox.monitor.OutboxMetricsServiceImpl;
 import io.harness.rule.Owner;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -114,4 +122,84 @@ public class OutboxPollJobTest extends CategoryTest {
     assertTrue(updateOutboxEvent.getBlocked());
     assertNotNull(updateOutboxEvent.getNextUnblockAttemptAt());
   }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testPartitionedHandling() {
+    OutboxEventPollJob partitionedPollJob = new OutboxEventPollJob(outboxService, outboxEventHandler, persistentLocker,
+        OutboxPollConfiguration.builder().maximumRetryAttemptsForAnEvent(2).lockId("LOCK_ID").partitions(2).build(),
+        outboxMetricsServiceImpl, "service-id");
+    when(persistentLocker.tryToAcquireLock(any(), any())).thenReturn(mock(AcquiredLock.class));
+    OutboxEvent firstEvent = OutboxEvent.builder()
+                                 .eventType("emptyEvent")
+                                 .id("id1")
+                                 .resource(Resource.builder().type("resource").build())
+                                 .createdAt(123456789L)
+                                 .build();
+    OutboxEvent secondEvent = OutboxEvent.builder()
+                                  .eventType("emptyEvent")
+                                  .id("id2")
+                                  .resource(Resource.builder().type("resource").build())
+                                  .createdAt(123456789L)
+                                  .build();
+    OutboxEvent failedEvent = OutboxEvent.builder()
+                                  .eventType("emptyEvent")
+                                  .id("id3")
+                                  .resource(Resource.builder().type("resource").build())
+                                  .createdAt(123456789L)
+                                  .build();
+    when(outboxService.list(any()))
+        .thenAnswer(invocation
+            -> ((OutboxEventFilter) invocation.getArgument(0)).isIncludeUnpartitioned()
+                ? Arrays.asList(firstEvent, secondEvent)
+                : singletonList(failedEvent));
+    when(outboxEventHandler.handle(any())).thenReturn(true);
+    when(outboxEventHandler.handle(failedEvent)).thenReturn(false);
+
+    partitionedPollJob.run();
+    partitionedPollJob.stop();
+    verify(persistentLocker, times(1)).tryToAcquireLock(eq(OUTBOX_POLL_JOB_LOCK + "_LOCK_ID_0"), any());
+    verify(persistentLocker, times(1)).tryToAcquireLock(eq(OUTBOX_POLL_JOB_LOCK + "_LOCK_ID_1"), any());
+    verify(outboxService, times(1)).deleteAll(Arrays.asList("id1", "id2"));
+    verify(outboxService, times(0)).delete(any());
+    verify(outboxService, times(1)).update(failedEvent);
+    assertTrue(failedEvent.getBlocked());
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testPartitionHandlingSkippedWhenItsLockHeld() {
+    OutboxEventPollJob partitionedPollJob = new OutboxEventPollJob(outboxService, outboxEventHandler, persistentLocker,
+        OutboxPollConfiguration.builder().maximumRetryAttemptsForAnEvent(2).lockId("LOCK_ID").partitions(2).build(),
+        outboxMetricsServiceImpl, "service-id");
+    // The first partition is polled by another instance
+    when(persistentLocker.tryToAcquireLock(eq(OUTBOX_POLL_JOB_LOCK + "_LOCK_ID_0"), any())).thenReturn(null);
+    when(persistentLocker.tryToAcquireLock(eq(OUTBOX_POLL_JOB_LOCK + "_LOCK_ID_1"), any()))
+        .thenReturn(mock(AcquiredLock.class));
+    when(outboxService.list(any())).thenReturn(Collections.emptyList());
+
+    partitionedPollJob.run();
+    partitionedPollJob.stop();
+    ArgumentCaptor<OutboxEventFilter> filterCaptor = ArgumentCaptor.forClass(OutboxEventFilter.class);
+    verify(outboxService, times(1)).list(filterCaptor.capture());
+    assertEquals(OutboxEventPollJob.getPartitionFilters(2).get(1), filterCaptor.getValue());
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testGetPartitionFilters() {
+    assertTrue(OutboxEventPollJob.getPartitionFilters(1).isEmpty());
+
+    List<OutboxEventFilter> partitionFilters = OutboxEventPollJob.getPartitionFilters(3);
+    assertEquals(3, partitionFilters.size());
+    assertTrue(partitionFilters.get(0).isIncludeUnpartitioned());
+    assertFalse(partitionFilters.get(1).isIncludeUnpartitioned());
+    Set<Integer> partitionKeys = new HashSet<>();
+    partitionFilters.forEach(filter -> partitionKeys.addAll(filter.getPartitionKeys()));
+    assertEquals(OUTBOX_PARTITION_BUCKETS, partitionKeys.size());
+    assertEquals(OUTBOX_PARTITION_BUCKETS, OutboxEventPollJob.getPartitionFilters(1000).size());
+  }
 }
@@ -29,6 +29,9 @@ import io.harness.repositories.outbox.OutboxEventRepository;
 import io.harness.rule.Owner;
 
 import com.mongodb.BasicDBList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import org.bson.Document;
 import org.junit.Before;
 import org.junit.Test;
@@ -82,4 +85,35 @@ public class OutboxDaoImplTest extends CategoryTest {
     Sort sort = Sort.by(OutboxEventKeys.createdAt);
     assertEquals(sort, pageable.getSort());
   }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testListPartitioned() {
+    OutboxEventFilter outboxEventFilter = OutboxEventFilter.builder()
+                                              .maximumEventsPolled(50)
+                                              .partitionKeys(Arrays.asList(0, 2))
+                                              .includeUnpartitioned(true)
+                                              .build();
+    final ArgumentCaptor<Criteria> criteriaArgumentCaptor = ArgumentCaptor.forClass(Criteria.class);
+    when(outboxEventRepository.findAll(any(Criteria.class), any(Pageable.class))).thenReturn(emptyList());
+    outboxDao.list(outboxEventFilter);
+    verify(outboxEventRepository, times(1)).findAll(criteriaArgumentCaptor.capture(), any(Pageable.class));
+    Document criteriaObject = criteriaArgumentCaptor.getValue().getCriteriaObject();
+    assertEquals(2, criteriaObject.size());
+    assertNotNull(criteriaObject.get("$or"));
+    Document partitionKey = (Document) criteriaObject.get(OutboxEventKeys.partitionKey);
+    assertEquals(Arrays.asList(0, 2, null), new ArrayList<>((Collection<?>) partitionKey.get("$in")));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testDeleteAll() {
+    assertEquals(0, outboxDao.deleteAll(emptyList()));
+    verify(outboxEventRepository, times(0)).deleteAllByIdIn(any());
+
+    when(outboxEventRepository.deleteAllByIdIn(Arrays.asList("id1", "id2"))).thenReturn(2L);
+    assertEquals(2, outboxDao.deleteAll(Arrays.asList("id1", "id2")));
+  }
 }
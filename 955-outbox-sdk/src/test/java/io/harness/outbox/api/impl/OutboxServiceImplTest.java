@@ -8,11 +8,13 @@
 package io.harness.outbox.api.impl;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.outbox.OutboxSDKConstants.OUTBOX_PARTITION_BUCKETS;
 import static io.harness.rule.OwnerRule.KARAN;
 
 import static java.util.Collections.emptyList;
 import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertNotNull;
+import static junit.framework.TestCase.assertTrue;
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -81,6 +83,24 @@ public class OutboxServiceImplTest extends CategoryTest {
     assertEquals(accountIdentifier, ((AccountScope) outboxEvent.getResourceScope()).getAccountIdentifier());
   }
 
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testSaveWithPartitionKey() {
+    Resource resource = Resource.builder().type("CONNECTOR").identifier(randomAlphabetic(10)).build();
+    SampleEvent event =
+        SampleEvent.builder().resourceScope(new AccountScope(randomAlphabetic(10))).resource(resource).build();
+    ArgumentCaptor<OutboxEvent> outboxEventArgumentCaptor = ArgumentCaptor.forClass(OutboxEvent.class);
+
+    outboxService.save(event);
+    outboxService.save(event);
+    verify(outboxDao, times(2)).save(outboxEventArgumentCaptor.capture());
+    Integer partitionKey = outboxEventArgumentCaptor.getAllValues().get(0).getPartitionKey();
+    assertNotNull(partitionKey);
+    assertTrue(partitionKey >= 0 && partitionKey < OUTBOX_PARTITION_BUCKETS);
+    assertEquals(partitionKey, outboxEventArgumentCaptor.getAllValues().get(1).getPartitionKey());
+  }
+
   @Test
   @Owner(developers = KARAN)
   @Category(UnitTests.class)
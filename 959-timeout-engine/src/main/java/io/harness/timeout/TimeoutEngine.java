@@ -14,6 +14,8 @@ import static io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType.
 
 import static java.lang.String.format;
 import static java.time.Duration.ofSeconds;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
 
 import io.harness.annotations.dev.CodePulse;
 import io.harness.annotations.dev.HarnessModuleComponent;
@@ -34,6 +36,9 @@ import io.harness.timeout.TimeoutInstance.TimeoutInstanceKeys;
 import io.harness.timeout.contracts.Dimension;
 import io.harness.timeout.trackers.absolute.AbsoluteTimeoutParameters;
 import io.harness.timeout.trackers.absolute.AbsoluteTimeoutTrackerFactory;
+import io.harness.timeout.wheel.HierarchicalTimingWheel;
+import io.harness.timeout.wheel.HierarchicalTimingWheel.Expiry;
+import io.harness.timeout.wheel.TimeoutWheelConfig;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
@@ -42,15 +47,20 @@ import com.google.inject.Inject;
 import com.google.inject.Injector;
 import com.google.inject.Singleton;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import javax.validation.constraints.NotNull;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 
 @CodePulse(module = ProductModule.CDS, unitCoverageRequired = true, components = {HarnessModuleComponent.CDS_FIRST_GEN})
 @OwnedBy(CDC)
@@ -66,6 +76,12 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
   @Inject private Injector injector;
   @Inject private TimeoutRegistry timeoutRegistry;
 
+  // Optional in memory layer for the timeouts expiring soon, see startTimingWheel
+  private volatile HierarchicalTimingWheel timingWheel;
+  private ExecutorService timingWheelExecutor;
+  private long timingWheelHorizonMillis;
+  private long timingWheelRecoveryGraceMillis;
+
   public TimeoutInstance registerTimeout(@NotNull Dimension dimension, @NotNull TimeoutParameters timeoutParameters,
       @NotNull TimeoutCallback timeoutCallback) {
     TimeoutTrackerFactory timeoutTrackerFactory = timeoutRegistry.obtain(dimension);
@@ -83,7 +99,11 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
     TimeoutInstance timeoutInstance =
         TimeoutInstance.builder().uuid(generateUuid()).tracker(timeoutTracker).callback(timeoutCallback).build();
     timeoutInstance.resetNextIteration();
+    boolean inTimingWheel = deferToTimingWheel(timeoutInstance);
     TimeoutInstance savedTimeoutInstance = timeoutInstanceRepository.save(timeoutInstance);
+    if (inTimingWheel) {
+      timingWheel.schedule(timeoutInstance.getUuid(), timeoutInstance.getTracker().getExpiryTime());
+    }
     log.info(format("Registered timeout with uuid: %s, currentTime: %d, expiryTime: %d, diff: %d",
         timeoutInstance.getUuid(), System.currentTimeMillis(), timeoutInstance.getNextIteration(),
         timeoutInstance.getNextIteration() - System.currentTimeMillis()));
@@ -93,6 +113,49 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
     return savedTimeoutInstance;
   }
 
+  /**
+   * Registers the timeouts with one insert per batch of {@link #MAX_BATCH_SIZE}, instead of one insert per timeout.
+   *
+   * @return the registered timeout instances, in the order of the registrations
+   */
+  public List<TimeoutInstance> registerTimeouts(@NotNull List<TimeoutRegistration> timeoutRegistrations) {
+    if (EmptyPredicate.isEmpty(timeoutRegistrations)) {
+      return Collections.emptyList();
+    }
+    List<TimeoutInstance> timeoutInstances = new ArrayList<>(timeoutRegistrations.size());
+    List<TimeoutInstance> inTimingWheel = new ArrayList<>();
+    for (TimeoutRegistration timeoutRegistration : timeoutRegistrations) {
+      TimeoutTracker timeoutTracker = timeoutRegistry.obtain(timeoutRegistration.getDimension())
+                                          .create(timeoutRegistration.getTimeoutParameters());
+      TimeoutInstance timeoutInstance = TimeoutInstance.builder()
+                                            .uuid(generateUuid())
+                                            .tracker(timeoutTracker)
+                                            .callback(timeoutRegistration.getTimeoutCallback())
+                                            .build();
+      timeoutInstance.resetNextIteration();
+      if (deferToTimingWheel(timeoutInstance)) {
+        inTimingWheel.add(timeoutInstance);
+      }
+      timeoutInstances.add(timeoutInstance);
+    }
+
+    List<TimeoutInstance> savedTimeoutInstances = new ArrayList<>(timeoutInstances.size());
+    for (List<TimeoutInstance> batchTimeoutInstances : Lists.partition(timeoutInstances, MAX_BATCH_SIZE)) {
+      // New instances have no version yet, so they are saved with a single insert
+      timeoutInstanceRepository.saveAll(batchTimeoutInstances).forEach(savedTimeoutInstances::add);
+    }
+    for (TimeoutInstance timeoutInstance : inTimingWheel) {
+      timingWheel.schedule(timeoutInstance.getUuid(), timeoutInstance.getTracker().getExpiryTime());
+    }
+    log.info(format("Registered %d timeouts with uuids: %s, currentTime: %d", savedTimeoutInstances.size(),
+        savedTimeoutInstances.stream().map(TimeoutInstance::getUuid).collect(Collectors.toList()),
+        System.currentTimeMillis()));
+    if (iterator != null) {
+      iterator.wakeup();
+    }
+    return savedTimeoutInstances;
+  }
+
   public void deleteTimeouts(List<String> timeoutInstanceIds) {
     if (EmptyPredicate.isEmpty(timeoutInstanceIds)) {
       return;
@@ -101,11 +164,17 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
     for (List<String> batchTimeInstanceIds : partition) {
       timeoutInstanceRepository.deleteByUuidIn(batchTimeInstanceIds);
     }
+    if (timingWheel != null) {
+      timeoutInstanceIds.forEach(timingWheel::cancel);
+    }
   }
 
   public void deleteTimeout(@NonNull String timeoutInstanceId) {
     // equal operator is better than in operator
     timeoutInstanceRepository.deleteById(timeoutInstanceId);
+    if (timingWheel != null) {
+      timingWheel.cancel(timeoutInstanceId);
+    }
   }
 
   public void onEvent(List<String> timeoutInstanceIds, TimeoutEvent event) {
@@ -116,7 +185,13 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
     for (TimeoutInstance timeoutInstance : timeoutInstanceRepository.findAllById(timeoutInstanceIds)) {
       if (timeoutInstance.tracker.onEvent(event)) {
         timeoutInstance.resetNextIteration();
+        boolean inTimingWheel = deferToTimingWheel(timeoutInstance);
         timeoutInstanceRepository.save(timeoutInstance);
+        if (inTimingWheel) {
+          timingWheel.schedule(timeoutInstance.getUuid(), timeoutInstance.getTracker().getExpiryTime());
+        } else if (timingWheel != null) {
+          timingWheel.cancel(timeoutInstance.getUuid());
+        }
         if (iterator != null) {
           iterator.wakeup();
         }
@@ -174,8 +249,69 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
     iteratorExecutionHandler.registerIteratorHandler(iteratorName, this);
   }
 
+  /**
+   * Starts firing the timeouts which expire within the horizon from an in memory timing wheel on this pod, instead of
+   * from the iterator. Such timeouts are still persisted, with their next iteration pushed past the expiry by the
+   * recovery grace, so that the iterator only fires them if this pod went away before they expired. Timeouts which
+   * are cancelled before they expire never reach the iterator scans.
+   */
+  public void startTimingWheel(TimeoutWheelConfig config) {
+    if (config == null || !config.isEnabled() || timingWheel != null) {
+      return;
+    }
+    timingWheelHorizonMillis = TimeUnit.SECONDS.toMillis(config.getHorizonSeconds());
+    timingWheelRecoveryGraceMillis = TimeUnit.SECONDS.toMillis(config.getRecoveryGraceSeconds());
+    timingWheelExecutor = ThreadPool.create(config.getThreadPoolSize(), config.getThreadPoolSize(), 30,
+        TimeUnit.SECONDS, new ThreadFactoryBuilder().setNameFormat("TimeoutEngineWheelHandler-%d").build());
+    HierarchicalTimingWheel wheel =
+        new HierarchicalTimingWheel(config.getTickMillis(), config.getWheelSize(), System.currentTimeMillis());
+    ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("timeout-engine-wheel").setDaemon(true).build());
+    ticker.scheduleAtFixedRate(
+        () -> advanceTimingWheel(wheel), config.getTickMillis(), config.getTickMillis(), TimeUnit.MILLISECONDS);
+    timingWheel = wheel;
+    log.info("Started timeout engine timing wheel with horizon {}s", config.getHorizonSeconds());
+  }
+
+  private boolean deferToTimingWheel(TimeoutInstance timeoutInstance) {
+    Long expiryTime = timeoutInstance.getTracker().getExpiryTime();
+    if (timingWheel == null || expiryTime == null
+        || expiryTime - System.currentTimeMillis() > timingWheelHorizonMillis) {
+      return false;
+    }
+    timeoutInstance.setNextIteration(expiryTime + timingWheelRecoveryGraceMillis);
+    return true;
+  }
+
+  private void advanceTimingWheel(HierarchicalTimingWheel wheel) {
+    try {
+      for (Expiry expiry : wheel.advance(System.currentTimeMillis())) {
+        timingWheelExecutor.submit(() -> handleTimingWheelExpiry(expiry));
+      }
+    } catch (Exception ex) {
+      log.error("Failed to advance the timeout engine timing wheel", ex);
+    }
+  }
+
+  @VisibleForTesting
+  void handleTimingWheelExpiry(Expiry expiry) {
+    // Claims the instance unless it was deleted or rescheduled meanwhile, possibly on another pod, or the iterator
+    // already picked it up
+    Query query = query(where(TimeoutInstanceKeys.uuid).is(expiry.getId()))
+                      .addCriteria(where(TimeoutInstanceKeys.nextIteration)
+                                       .is(expiry.getDeadline() + timingWheelRecoveryGraceMillis));
+    TimeoutInstance timeoutInstance = mongoTemplate.findAndRemove(query, TimeoutInstance.class);
+    if (timeoutInstance != null) {
+      handleInternal(timeoutInstance, false);
+    }
+  }
+
   @Override
   public void handle(TimeoutInstance timeoutInstance) {
+    handleInternal(timeoutInstance, true);
+  }
+
+  private void handleInternal(TimeoutInstance timeoutInstance, boolean delete) {
     try (TimeoutInstanceLogContext ignore0 = new TimeoutInstanceLogContext(timeoutInstance.getUuid(), OVERRIDE_ERROR)) {
       final long now = System.currentTimeMillis();
       log.info("TimeoutInstance handle started");
@@ -190,10 +326,15 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
         log.error("TimeoutInstance callback failed", ex);
       }
 
-      try {
-        timeoutInstanceRepository.deleteById(timeoutInstance.getUuid());
-      } catch (Exception ex) {
-        log.error("TimeoutInstance delete failed", ex);
+      if (delete) {
+        try {
+          timeoutInstanceRepository.deleteById(timeoutInstance.getUuid());
+        } catch (Exception ex) {
+          log.error("TimeoutInstance delete failed", ex);
+        }
+      }
+      if (timingWheel != null) {
+        timingWheel.cancel(timeoutInstance.getUuid());
       }
 
       final long passed = System.currentTimeMillis() - now;
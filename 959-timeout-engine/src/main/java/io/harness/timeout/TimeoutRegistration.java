@@ -0,0 +1,29 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.timeout;
+
+import static io.harness.annotations.dev.HarnessTeam.CDC;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.timeout.contracts.Dimension;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * A timeout to register with {@link TimeoutEngine#registerTimeouts(java.util.List)}.
+ */
+@OwnedBy(CDC)
+@Value
+@Builder
+public class TimeoutRegistration {
+  @NonNull Dimension dimension;
+  @NonNull TimeoutParameters timeoutParameters;
+  @NonNull TimeoutCallback timeoutCallback;
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.timeout.wheel;
+
+import static io.harness.annotations.dev.HarnessTeam.CDC;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Value;
+
+/**
+ * Hierarchical timing wheel keeping deadlines by id. Every level has the same number of slots, a slot of a level spans
+ * the whole lower level, and deadlines further away than the highest level are kept by a new level on top of it. As
+ * time advances into a slot of a higher level, its deadlines cascade down to the lower levels.
+ *
+ * <p>Scheduling and cancellation take constant time, and deadlines expire at most one tick after they pass.
+ */
+@OwnedBy(CDC)
+public class HierarchicalTimingWheel {
+  private final Level root;
+  private final Map<String, Entry> entries = new HashMap<>();
+
+  public HierarchicalTimingWheel(long tickMillis, int wheelSize, long startTime) {
+    Preconditions.checkArgument(tickMillis > 0, "Tick should be positive");
+    Preconditions.checkArgument(wheelSize > 1, "Wheel should have more than one slot");
+    this.root = new Level(tickMillis, wheelSize, startTime - startTime % tickMillis);
+  }
+
+  /**
+   * Schedules the deadline for the id, replacing its previous deadline if any.
+   */
+  public synchronized void schedule(String id, long deadline) {
+    cancel(id);
+    Entry entry = new Entry(id, deadline);
+    entries.put(id, entry);
+    root.add(entry);
+  }
+
+  public synchronized boolean cancel(String id) {
+    Entry entry = entries.remove(id);
+    if (entry == null) {
+      return false;
+    }
+    entry.unlink();
+    return true;
+  }
+
+  /**
+   * Advances the wheel to the given time, removing and returning the deadlines which passed.
+   */
+  public synchronized List<Expiry> advance(long now) {
+    List<Expiry> expired = new ArrayList<>();
+    root.advance(now, expired);
+    return expired;
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  @Value
+  public static class Expiry {
+    String id;
+    long deadline;
+  }
+
+  private class Level {
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long span;
+    private final Bucket[] buckets;
+    // Start of the current slot, always a multiple of the tick
+    private long currentTime;
+    private Level overflow;
+
+    Level(long tickMillis, int wheelSize, long currentTime) {
+      this.tickMillis = tickMillis;
+      this.wheelSize = wheelSize;
+      this.span = tickMillis * wheelSize;
+      this.currentTime = currentTime;
+      this.buckets = new Bucket[wheelSize];
+      for (int i = 0; i < wheelSize; i++) {
+        buckets[i] = new Bucket();
+      }
+    }
+
+    void add(Entry entry) {
+      if (entry.deadline < currentTime + span) {
+        // Past deadlines go to the current slot, which expires on the next tick
+        buckets[slot(Math.max(entry.deadline, currentTime))].add(entry);
+      } else {
+        if (overflow == null) {
+          overflow = new Level(span, wheelSize, currentTime - currentTime % span);
+        }
+        overflow.add(entry);
+      }
+    }
+
+    // Only called on the lowest level
+    void advance(long now, List<Expiry> expired) {
+      while (currentTime + tickMillis <= now) {
+        Bucket bucket = buckets[slot(currentTime)];
+        for (Entry entry = bucket.poll(); entry != null; entry = bucket.poll()) {
+          entries.remove(entry.id);
+          expired.add(new Expiry(entry.id, entry.deadline));
+        }
+        currentTime += tickMillis;
+        if (overflow != null && currentTime % span == 0) {
+          overflow.enterSlot(currentTime);
+        }
+      }
+    }
+
+    // Moves the deadlines of the slot starting at the given time down to the lower levels
+    void enterSlot(long slotStart) {
+      currentTime = slotStart;
+      if (overflow != null && slotStart % span == 0) {
+        overflow.enterSlot(slotStart);
+      }
+      Bucket bucket = buckets[slot(slotStart)];
+      for (Entry entry = bucket.poll(); entry != null; entry = bucket.poll()) {
+        root.add(entry);
+      }
+    }
+
+    private int slot(long time) {
+      return (int) ((time / tickMillis) % wheelSize);
+    }
+  }
+
+  private static class Bucket {
+    // Sentinel of the circular doubly linked list of the entries
+    private final Entry head = new Entry(null, 0);
+
+    Bucket() {
+      head.prev = head;
+      head.next = head;
+    }
+
+    void add(Entry entry) {
+      entry.bucket = this;
+      entry.prev = head.prev;
+      entry.next = head;
+      head.prev.next = entry;
+      head.prev = entry;
+    }
+
+    Entry poll() {
+      if (head.next == head) {
+        return null;
+      }
+      Entry entry = head.next;
+      entry.unlink();
+      return entry;
+    }
+  }
+
+  private static class Entry {
+    private final String id;
+    private final long deadline;
+    private Bucket bucket;
+    private Entry prev;
+    private Entry next;
+
+    Entry(String id, long deadline) {
+      this.id = id;
+      this.deadline = deadline;
+    }
+
+    void unlink() {
+      if (bucket == null) {
+        return;
+      }
+      prev.next = next;
+      next.prev = prev;
+      prev = null;
+      next = null;
+      bucket = null;
+    }
+  }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.timeout.wheel;
+
+import static io.harness.annotations.dev.HarnessTeam.CDC;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import lombok.Builder;
+import lombok.Value;
+
+@OwnedBy(CDC)
+@Value
+@Builder
+public class TimeoutWheelConfig {
+  boolean enabled;
+  @Builder.Default long tickMillis = 100;
+  @Builder.Default int wheelSize = 64;
+  // Timeouts expiring within the horizon are fired from memory by the pod which registered them
+  @Builder.Default long horizonSeconds = 600;
+  // Time after the expiry after which the iterator fires the timeouts of a pod which went away
+  @Builder.Default long recoveryGraceSeconds = 60;
+  @Builder.Default int threadPoolSize = 4;
+}
@@ -17,6 +17,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import io.harness.TimeoutEngineTestBase;
 import io.harness.annotations.dev.HarnessTeam;
@@ -25,10 +26,16 @@ import io.harness.category.element.UnitTests;
 import io.harness.persistence.HPersistence;
 import io.harness.repositories.TimeoutInstanceRepository;
 import io.harness.rule.Owner;
+import io.harness.timeout.trackers.absolute.AbsoluteTimeoutParameters;
 import io.harness.timeout.trackers.absolute.AbsoluteTimeoutTracker;
+import io.harness.timeout.trackers.absolute.AbsoluteTimeoutTrackerFactory;
+import io.harness.timeout.wheel.HierarchicalTimingWheel.Expiry;
+import io.harness.timeout.wheel.TimeoutWheelConfig;
 
 import com.google.inject.Inject;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import org.junit.Test;
@@ -86,6 +93,104 @@ public class TimeoutEngineUnitTest extends TimeoutEngineTestBase {
     verify(timeoutInstanceRepository, times(2)).deleteByUuidIn(any());
   }
 
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void testRegisterTimeouts() {
+    TestTimeoutCallback callback = new TestTimeoutCallback();
+    List<TimeoutRegistration> timeoutRegistrations = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      timeoutRegistrations.add(absoluteTimeoutRegistration(1000L * (i + 1), callback));
+    }
+    List<TimeoutInstance> instances = timeoutEngine.registerTimeouts(timeoutRegistrations);
+    assertThat(instances).hasSize(3);
+    for (TimeoutInstance instance : instances) {
+      assertThat(hPersistence.get(TimeoutInstance.class, instance.getUuid())).isNotNull();
+    }
+    // Returned in the order of the registrations
+    assertThat(instances.get(0).getNextIteration()).isLessThan(instances.get(1).getNextIteration());
+    assertThat(instances.get(1).getNextIteration()).isLessThan(instances.get(2).getNextIteration());
+
+    timeoutEngine.handle(instances.get(0));
+    assertThat(callback.getTimeoutInstance()).isNotNull();
+    assertThat(timeoutEngine.registerTimeouts(Collections.emptyList())).isEmpty();
+  }
+
+  /**
+   * Compares the mongo round trips needed to register the timeouts of the nodes of a stage with 1000 nodes.
+   */
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void testRegisterTimeoutsRoundTrips() {
+    on(timeoutEngine).set("timeoutInstanceRepository", timeoutInstanceRepository);
+    when(timeoutInstanceRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    when(timeoutInstanceRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    int nodeCount = 1000;
+    int timeoutsPerNode = 2;
+    TestTimeoutCallback callback = new TestTimeoutCallback();
+
+    for (int i = 0; i < nodeCount * timeoutsPerNode; i++) {
+      timeoutEngine.registerTimeout(new AbsoluteTimeoutTracker(1000), callback);
+    }
+    verify(timeoutInstanceRepository, times(nodeCount * timeoutsPerNode)).save(any());
+
+    // Node start registers the timeouts of each node together
+    List<TimeoutRegistration> allTimeoutRegistrations = new ArrayList<>();
+    for (int i = 0; i < nodeCount; i++) {
+      List<TimeoutRegistration> timeoutRegistrations = new ArrayList<>();
+      for (int j = 0; j < timeoutsPerNode; j++) {
+        timeoutRegistrations.add(absoluteTimeoutRegistration(1000, callback));
+      }
+      assertThat(timeoutEngine.registerTimeouts(timeoutRegistrations)).hasSize(timeoutsPerNode);
+      allTimeoutRegistrations.addAll(timeoutRegistrations);
+    }
+    verify(timeoutInstanceRepository, times(nodeCount)).saveAll(any());
+
+    assertThat(timeoutEngine.registerTimeouts(allTimeoutRegistrations)).hasSize(nodeCount * timeoutsPerNode);
+    verify(timeoutInstanceRepository, times(nodeCount + 4)).saveAll(any());
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testTimingWheel() {
+    timeoutEngine.startTimingWheel(TimeoutWheelConfig.builder().enabled(true).horizonSeconds(600).build());
+    long recoveryGraceMillis = Duration.ofSeconds(60).toMillis();
+    TestTimeoutCallback callback = new TestTimeoutCallback();
+
+    // Only timeouts within the horizon are kept in the wheel, the iterator fires them after the recovery grace
+    TimeoutInstance farInstance = timeoutEngine.registerTimeout(new AbsoluteTimeoutTracker(3600000), callback);
+    assertThat(hPersistence.get(TimeoutInstance.class, farInstance.getUuid()).getNextIteration())
+        .isEqualTo(farInstance.getTracker().getExpiryTime());
+    TimeoutInstance instance = timeoutEngine.registerTimeout(new AbsoluteTimeoutTracker(60000), callback);
+    long expiryTime = instance.getTracker().getExpiryTime();
+    assertThat(hPersistence.get(TimeoutInstance.class, instance.getUuid()).getNextIteration())
+        .isEqualTo(expiryTime + recoveryGraceMillis);
+
+    timeoutEngine.handleTimingWheelExpiry(new Expiry(instance.getUuid(), expiryTime));
+    assertThat(callback.getTimeoutInstance().getUuid()).isEqualTo(instance.getUuid());
+    assertThat(hPersistence.get(TimeoutInstance.class, instance.getUuid())).isNull();
+
+    // Timeouts deleted or rescheduled meanwhile, possibly on another pod, are not fired
+    TestTimeoutCallback deletedCallback = new TestTimeoutCallback();
+    TimeoutInstance deletedInstance = timeoutEngine.registerTimeout(new AbsoluteTimeoutTracker(60000), deletedCallback);
+    timeoutEngine.deleteTimeout(deletedInstance.getUuid());
+    timeoutEngine.handleTimingWheelExpiry(
+        new Expiry(deletedInstance.getUuid(), deletedInstance.getTracker().getExpiryTime()));
+    assertThat(deletedCallback.getTimeoutInstance()).isNull();
+    timeoutEngine.handleTimingWheelExpiry(new Expiry(farInstance.getUuid(), farInstance.getTracker().getExpiryTime()));
+    assertThat(hPersistence.get(TimeoutInstance.class, farInstance.getUuid())).isNotNull();
+  }
+
+  private static TimeoutRegistration absoluteTimeoutRegistration(long timeoutMillis, TimeoutCallback callback) {
+    return TimeoutRegistration.builder()
+        .dimension(AbsoluteTimeoutTrackerFactory.DIMENSION)
+        .timeoutParameters(AbsoluteTimeoutParameters.builder().timeoutMillis(timeoutMillis).build())
+        .timeoutCallback(callback)
+        .build();
+  }
+
   public static class TestTimeoutCallback implements TimeoutCallback {
     private TimeoutInstance timeoutInstance;
     public TimeoutInstance getTimeoutInstance() {
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.timeout.wheel;
+
+import static io.harness.rule.OwnerRule.GARVIT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+import io.harness.timeout.wheel.HierarchicalTimingWheel.Expiry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class HierarchicalTimingWheelTest extends CategoryTest {
+  private static final long START = 1_000_000L;
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testExpiresAfterDeadline() {
+    HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(10, 8, START);
+    wheel.schedule("near", START + 25);
+    wheel.schedule("far", START + 5000);
+    wheel.schedule("past", START - 100);
+
+    assertThat(ids(wheel.advance(START + 9))).isEmpty();
+    assertThat(ids(wheel.advance(START + 10))).containsExactly("past");
+    assertThat(ids(wheel.advance(START + 25))).isEmpty();
+    assertThat(ids(wheel.advance(START + 30))).containsExactly("near");
+    assertThat(ids(wheel.advance(START + 4999))).isEmpty();
+    assertThat(wheel.size()).isEqualTo(1);
+    assertThat(wheel.advance(START + 5010)).containsExactly(new Expiry("far", START + 5000));
+    assertThat(wheel.size()).isEqualTo(0);
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testCancelAndReschedule() {
+    HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(10, 8, START);
+    wheel.schedule("cancelled", START + 50);
+    wheel.schedule("cancelledFar", START + 50000);
+    wheel.schedule("rescheduled", START + 50);
+    assertThat(wheel.cancel("cancelled")).isTrue();
+    assertThat(wheel.cancel("cancelledFar")).isTrue();
+    assertThat(wheel.cancel("unknown")).isFalse();
+    wheel.schedule("rescheduled", START + 500);
+
+    assertThat(ids(wheel.advance(START + 100))).isEmpty();
+    assertThat(ids(wheel.advance(START + 510))).containsExactly("rescheduled");
+    assertThat(ids(wheel.advance(START + 100000))).isEmpty();
+    assertThat(wheel.cancel("rescheduled")).isFalse();
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testInvalidArguments() {
+    assertThatIllegalArgumentException().isThrownBy(() -> new HierarchicalTimingWheel(0, 8, START));
+    assertThatIllegalArgumentException().isThrownBy(() -> new HierarchicalTimingWheel(10, 1, START));
+  }
+
+  /**
+   * Schedules, cancels and advances at random, and checks every deadline expires within one tick after it passed.
+   */
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testMatchesDeadlinesAtRandom() {
+    long tick = 10;
+    HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(tick, 16, START);
+    Random random = new Random(3);
+    Map<String, Long> pending = new HashMap<>();
+    long now = START;
+    int nextId = 0;
+    for (int step = 0; step < 20000; step++) {
+      int action = random.nextInt(10);
+      if (action < 5) {
+        String id = "timeout" + nextId++;
+        // Deadlines spread over several levels of the wheel
+        long deadline = now + (long) Math.pow(10, 1 + random.nextDouble() * 5);
+        wheel.schedule(id, deadline);
+        pending.put(id, deadline);
+      } else if (action < 7 && !pending.isEmpty()) {
+        String id = new ArrayList<>(pending.keySet()).get(random.nextInt(pending.size()));
+        assertThat(wheel.cancel(id)).isTrue();
+        pending.remove(id);
+      } else {
+        now += random.nextInt(500);
+        for (Expiry expiry : wheel.advance(now)) {
+          assertThat(pending.remove(expiry.getId())).isEqualTo(expiry.getDeadline());
+          assertThat(expiry.getDeadline()).isLessThanOrEqualTo(now);
+        }
+        for (long deadline : pending.values()) {
+          assertThat(deadline).isGreaterThan(now - tick);
+        }
+      }
+      assertThat(wheel.size()).isEqualTo(pending.size());
+    }
+  }
+
+  private static List<String> ids(List<Expiry> expiries) {
+    List<String> ids = new ArrayList<>();
+    expiries.forEach(expiry -> ids.add(expiry.getId()));
+    return ids;
+  }
+}
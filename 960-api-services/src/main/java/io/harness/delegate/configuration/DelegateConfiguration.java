@@ -42,6 +42,12 @@ public class DelegateConfiguration {
   private String managerAuthority;
   private String queueFilePath;
 
+  // Publishing of the event queue backlog with growing batches and concurrent requests
+  private boolean adaptivePublish;
+  private Integer maxInFlightPublishRequests;
+  // Requires the event service to inflate gzip encoded requests
+  private boolean compressPublishRequests;
+
   private boolean useCdn;
   private String cdnUrl;
 
@@ -93,4 +99,9 @@ public class DelegateConfiguration {
   public String getQueueFilePath() {
     return Optional.ofNullable(queueFilePath).orElse(EventPublisherConstants.DEFAULT_QUEUE_FILE_PATH);
   }
+
+  public int getMaxInFlightPublishRequests() {
+    return Optional.ofNullable(maxInFlightPublishRequests)
+        .orElse(EventPublisherConstants.DEFAULT_MAX_IN_FLIGHT_PUBLISH_REQUESTS);
+  }
 }
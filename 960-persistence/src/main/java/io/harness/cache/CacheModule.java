@@ -17,9 +17,12 @@ import io.harness.govern.ProviderMethodInterceptor;
 import io.harness.govern.ServersModule;
 import io.harness.redis.RedissonKryoCodec;
 
+import com.codahale.metrics.MetricRegistry;
 import com.google.common.io.Files;
 import com.google.inject.AbstractModule;
+import com.google.inject.Binding;
 import com.google.inject.Injector;
+import com.google.inject.Key;
 import com.google.inject.Provider;
 import com.google.inject.Provides;
 import com.google.inject.Singleton;
@@ -27,6 +30,7 @@ import com.google.inject.TypeLiteral;
 import com.google.inject.matcher.Matchers;
 import com.google.inject.multibindings.MapBinder;
 import com.google.inject.name.Named;
+import io.netty.buffer.ByteBuf;
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
@@ -38,6 +42,7 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 import javax.cache.Cache;
 import javax.cache.CacheManager;
 import javax.cache.annotation.CacheKeyGenerator;
@@ -57,6 +62,7 @@ import org.jsr107.ri.annotations.guice.CachePutInterceptor;
 import org.jsr107.ri.annotations.guice.CacheRemoveAllInterceptor;
 import org.jsr107.ri.annotations.guice.CacheRemoveEntryInterceptor;
 import org.jsr107.ri.annotations.guice.CacheResultInterceptor;
+import org.redisson.client.codec.Codec;
 import org.redisson.config.Config;
 
 /**
@@ -176,7 +182,8 @@ public class CacheModule extends AbstractModule implements ServersModule {
   @Singleton
   public HarnessCacheManager getHarnessCacheManager(@Named("Redis") Provider<CacheManager> redisProvider,
       @Named("EnterpriseRedis") Provider<Optional<CacheManager>> enterpriseRedisProvider,
-      @Named("Caffeine") Provider<CacheManager> caffeineProvider) {
+      @Named("Caffeine") Provider<CacheManager> caffeineProvider,
+      Provider<RedissonKryoCodec> redissonKryoCodecProvider, Injector injector) {
     CacheBackend cacheBackend = cacheConfig.getCacheBackend();
     switch (cacheBackend) {
       case NOOP:
@@ -192,9 +199,38 @@ public class CacheModule extends AbstractModule implements ServersModule {
       default:
         throw new UnsupportedOperationException();
     }
+    if (cacheBackend == REDIS && cacheConfig.getNearCacheConfig() != null
+        && cacheConfig.getNearCacheConfig().isEnabled()) {
+      return new HarnessCacheManagerImpl(cacheManager, enterpriseRedisCacheManagerOptional, cacheConfig,
+          serializedSizeWeigher(redissonKryoCodecProvider.get()), getBoundMetricRegistry(injector));
+    }
     return new HarnessCacheManagerImpl(cacheManager, enterpriseRedisCacheManagerOptional, cacheConfig);
   }
 
+  // Only the registry bound by the application is exported, a just in time one would never be reported
+  private static MetricRegistry getBoundMetricRegistry(Injector injector) {
+    Binding<MetricRegistry> binding = injector.getExistingBinding(Key.get(MetricRegistry.class));
+    return binding == null ? null : binding.getProvider().get();
+  }
+
+  // Weighs the values kept in memory in front of redis by the size they take in redis
+  private static ToIntFunction<Object> serializedSizeWeigher(Codec codec) {
+    return value -> {
+      ByteBuf byteBuf = null;
+      try {
+        byteBuf = codec.getValueEncoder().encode(value);
+        return byteBuf.readableBytes();
+      } catch (Exception e) {
+        log.warn("Could not weigh the value of type {} by its serialized size", value.getClass().getName(), e);
+        return HarnessCacheManagerImpl.DEFAULT_NEAR_CACHE_ENTRY_WEIGHT;
+      } finally {
+        if (byteBuf != null) {
+          byteBuf.release();
+        }
+      }
+    };
+  }
+
   public static <T, R> Supplier<R> bind(Function<T, R> fn, T val) {
     return () -> fn.apply(val);
   }
@@ -11,6 +11,8 @@ import static io.harness.annotations.dev.HarnessTeam.PL;
 
 import io.harness.annotations.dev.OwnedBy;
 
+import java.util.Collections;
+import java.util.Map;
 import javax.cache.Cache;
 import javax.cache.configuration.Factory;
 import javax.cache.expiry.ExpiryPolicy;
@@ -28,4 +30,11 @@ public interface HarnessCacheManager {
 
   <K, V> Cache<K, V> getCache(String cacheName, Class<K> keyType, Class<V> valueType,
       Factory<ExpiryPolicy> expiryPolicy, String keyPrefix, boolean enterpriseRedis);
+
+  /**
+   * Statistics of the caches kept in memory in front of redis, by the name of the cache.
+   */
+  default Map<String, NearCacheStatistics> getNearCacheStatistics() {
+    return Collections.emptyMap();
+  }
 }
@@ -9,6 +9,7 @@ package io.harness.cache;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.cache.CacheBackend.CAFFEINE;
+import static io.harness.cache.CacheBackend.REDIS;
 import static io.harness.data.structure.EmptyPredicate.isEmpty;
 import static io.harness.threading.Morpheus.sleep;
 
@@ -16,13 +17,21 @@ import static java.time.Duration.ofMillis;
 
 import io.harness.annotations.dev.OwnedBy;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.cache.Cache;
 import javax.cache.CacheException;
 import javax.cache.CacheManager;
 import javax.cache.configuration.Factory;
 import javax.cache.configuration.MutableConfiguration;
+import javax.cache.expiry.Duration;
 import javax.cache.expiry.ExpiryPolicy;
 import lombok.extern.slf4j.Slf4j;
 
@@ -35,12 +44,25 @@ public class HarnessCacheManagerImpl implements HarnessCacheManager {
   static final String CACHE_PREFIX = "hCache";
   private static final int NUM_OF_RETRIES = 3;
   private static final int WAIT_TIME_BETWEEN_RETRIES = 1000;
+  static final int DEFAULT_NEAR_CACHE_ENTRY_WEIGHT = 1024;
+  private static final String ENTERPRISE_NEAR_CACHE_PREFIX = "enterprise:";
+  private final ToIntFunction<Object> nearCacheWeigher;
+  private final Map<String, NearCache<?, ?>> nearCaches = new ConcurrentHashMap<>();
+  private final MetricRegistry metricRegistry;
 
   HarnessCacheManagerImpl(
       CacheManager cacheManager, Optional<CacheManager> enterpriseRedisCacheManagerOptional, CacheConfig cacheConfig) {
+    this(cacheManager, enterpriseRedisCacheManagerOptional, cacheConfig, value -> DEFAULT_NEAR_CACHE_ENTRY_WEIGHT,
+        null);
+  }
+
+  HarnessCacheManagerImpl(CacheManager cacheManager, Optional<CacheManager> enterpriseRedisCacheManagerOptional,
+      CacheConfig cacheConfig, ToIntFunction<Object> nearCacheWeigher, MetricRegistry metricRegistry) {
     this.cacheManager = cacheManager;
     this.enterpriseRedisCacheManagerOptional = enterpriseRedisCacheManagerOptional;
     this.cacheConfig = cacheConfig;
+    this.nearCacheWeigher = nearCacheWeigher;
+    this.metricRegistry = metricRegistry;
   }
 
   @Override
@@ -72,6 +94,12 @@ public class HarnessCacheManagerImpl implements HarnessCacheManager {
     return new VersionedCache<>(jCache, keyPrefix);
   }
 
+  @Override
+  public Map<String, NearCacheStatistics> getNearCacheStatistics() {
+    return nearCaches.entrySet().stream().collect(
+        Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().getStatistics()));
+  }
+
   private <K, V> Cache<K, V> getCacheInternal(String cacheName, Class<K> keyType, Class<V> valueType,
       Factory<ExpiryPolicy> expiryPolicy, boolean enterpriseRedis) {
     if (isCacheDisabled(cacheName)) {
@@ -88,10 +116,34 @@ public class HarnessCacheManagerImpl implements HarnessCacheManager {
     jCacheConfiguration.setStatisticsEnabled(true);
     jCacheConfiguration.setManagementEnabled(true);
 
-    CacheManager manager = (enterpriseRedis && enterpriseRedisCacheManagerOptional.isPresent())
-        ? enterpriseRedisCacheManagerOptional.get()
-        : cacheManager;
+    boolean useEnterpriseRedis = enterpriseRedis && enterpriseRedisCacheManagerOptional.isPresent();
+    CacheManager manager = useEnterpriseRedis ? enterpriseRedisCacheManagerOptional.get() : cacheManager;
+    Cache<K, V> jCache = getOrCreateCache(manager, internalCacheName, keyType, valueType, jCacheConfiguration);
+    if (!isNearCacheEnabled(cacheName)) {
+      return jCache;
+    }
+    String nearCacheName = useEnterpriseRedis ? ENTERPRISE_NEAR_CACHE_PREFIX + internalCacheName : internalCacheName;
+    return (Cache<K, V>) nearCaches.computeIfAbsent(nearCacheName, name -> {
+      NearCache<K, V> nearCache = new NearCache<>(jCache, cacheConfig.getNearCacheConfig().getMaximumWeightInBytes(),
+          getNearCacheExpiryMillis(expiryPolicy), nearCacheWeigher);
+      registerNearCacheMetrics(name, nearCache);
+      return nearCache;
+    });
+  }
 
+  private void registerNearCacheMetrics(String nearCacheName, NearCache<?, ?> nearCache) {
+    if (metricRegistry == null) {
+      return;
+    }
+    String metricPrefix = "near_cache_" + nearCacheName.replaceAll("[^A-Za-z0-9_]", "_");
+    metricRegistry.register(metricPrefix + "_hit_count", (Gauge<Long>) () -> nearCache.getStatistics().getHitCount());
+    metricRegistry.register(metricPrefix + "_miss_count", (Gauge<Long>) () -> nearCache.getStatistics().getMissCount());
+    metricRegistry.register(
+        metricPrefix + "_eviction_count", (Gauge<Long>) () -> nearCache.getStatistics().getEvictionCount());
+  }
+
+  private <K, V> Cache<K, V> getOrCreateCache(CacheManager manager, String internalCacheName, Class<K> keyType,
+      Class<V> valueType, MutableConfiguration<K, V> jCacheConfiguration) {
     int failedAttempts = 0;
     while (true) {
       try {
@@ -122,4 +174,23 @@ public class HarnessCacheManagerImpl implements HarnessCacheManager {
         Stream.of(cacheName.split(":")).filter(value -> cacheConfig.getDisabledCaches().contains(value)).findFirst();
     return disabledCacheName.isPresent();
   }
+
+  private boolean isNearCacheEnabled(String cacheName) {
+    NearCacheConfig nearCacheConfig = cacheConfig.getNearCacheConfig();
+    if (cacheConfig.getCacheBackend() != REDIS || nearCacheConfig == null || !nearCacheConfig.isEnabled()
+        || isEmpty(nearCacheConfig.getCaches())) {
+      return false;
+    }
+    return Stream.of(cacheName.split(":")).anyMatch(value -> nearCacheConfig.getCaches().contains(value));
+  }
+
+  // Local entries never outlive the time redis keeps them for after they are created
+  private long getNearCacheExpiryMillis(Factory<ExpiryPolicy> expiryPolicy) {
+    long expiryMillis = TimeUnit.SECONDS.toMillis(cacheConfig.getNearCacheConfig().getExpireAfterWriteInSeconds());
+    Duration expiryForCreation = expiryPolicy == null ? null : expiryPolicy.create().getExpiryForCreation();
+    if (expiryForCreation == null || expiryForCreation.isEternal()) {
+      return expiryMillis;
+    }
+    return Math.min(expiryMillis, expiryForCreation.getTimeUnit().toMillis(expiryForCreation.getDurationAmount()));
+  }
 }
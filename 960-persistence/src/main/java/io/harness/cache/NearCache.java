@@ -0,0 +1,319 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.cache;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToIntFunction;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.configuration.CacheEntryListenerConfiguration;
+import javax.cache.configuration.Configuration;
+import javax.cache.configuration.FactoryBuilder;
+import javax.cache.configuration.MutableCacheEntryListenerConfiguration;
+import javax.cache.event.CacheEntryCreatedListener;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryExpiredListener;
+import javax.cache.event.CacheEntryListenerException;
+import javax.cache.event.CacheEntryRemovedListener;
+import javax.cache.event.CacheEntryUpdatedListener;
+import javax.cache.integration.CompletionListener;
+import javax.cache.processor.EntryProcessor;
+import javax.cache.processor.EntryProcessorException;
+import javax.cache.processor.EntryProcessorResult;
+
+/**
+ * Keeps the values read from a redis cache in a bounded local cache. Writes go to redis and drop the local entry, and
+ * the entry events redis broadcasts over pub/sub drop the entries written through the other instances. The expiry of
+ * the local entries bounds the staleness if an event is lost, and covers {@link #clear()} which does not notify.
+ */
+@OwnedBy(PL)
+public class NearCache<K, V> implements Cache<K, V> {
+  private final Cache<K, V> jCache;
+  private final com.github.benmanes.caffeine.cache.Cache<K, V> localCache;
+  private final CacheEntryListenerConfiguration<K, V> invalidationListenerConfiguration;
+  // Incremented on every invalidation so that a read which raced with one does not keep what it read before it
+  private final AtomicLong generation = new AtomicLong();
+  private final AtomicLong invalidationCount = new AtomicLong();
+
+  public NearCache(
+      Cache<K, V> jCache, long maximumWeightInBytes, long expireAfterWriteMillis, ToIntFunction<Object> weigher) {
+    this.jCache = jCache;
+    this.localCache = Caffeine.newBuilder()
+                          .maximumWeight(maximumWeightInBytes)
+                          .<K, V>weigher((key, value) -> weigher.applyAsInt(value))
+                          .expireAfterWrite(expireAfterWriteMillis, TimeUnit.MILLISECONDS)
+                          .recordStats()
+                          .build();
+    this.invalidationListenerConfiguration = new MutableCacheEntryListenerConfiguration<>(
+        new FactoryBuilder.SingletonFactory<>(new InvalidationListener()), null, false, false);
+    jCache.registerCacheEntryListener(invalidationListenerConfiguration);
+  }
+
+  public NearCacheStatistics getStatistics() {
+    CacheStats stats = localCache.stats();
+    return NearCacheStatistics.builder()
+        .hitCount(stats.hitCount())
+        .missCount(stats.missCount())
+        .evictionCount(stats.evictionCount())
+        .invalidationCount(invalidationCount.get())
+        .size(localCache.estimatedSize())
+        .weightInBytes(localCache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L))
+        .build();
+  }
+
+  @Override
+  public V get(K key) {
+    V value = localCache.getIfPresent(key);
+    if (value != null) {
+      return value;
+    }
+    long loadGeneration = generation.get();
+    value = jCache.get(key);
+    if (value != null) {
+      keepLocally(key, value, loadGeneration);
+    }
+    return value;
+  }
+
+  @Override
+  public Map<K, V> getAll(Set<? extends K> keys) {
+    Map<K, V> result = new HashMap<>(localCache.getAllPresent(keys));
+    if (result.size() == keys.size()) {
+      return result;
+    }
+    Set<K> missingKeys = new HashSet<>(keys);
+    missingKeys.removeAll(result.keySet());
+    long loadGeneration = generation.get();
+    Map<K, V> loaded = jCache.getAll(missingKeys);
+    loaded.forEach((key, value) -> keepLocally(key, value, loadGeneration));
+    result.putAll(loaded);
+    return result;
+  }
+
+  @Override
+  public boolean containsKey(K key) {
+    return localCache.getIfPresent(key) != null || jCache.containsKey(key);
+  }
+
+  @Override
+  public void loadAll(Set<? extends K> keys, boolean replaceExistingValues, CompletionListener completionListener) {
+    jCache.loadAll(keys, replaceExistingValues, completionListener);
+  }
+
+  @Override
+  public void put(K key, V value) {
+    jCache.put(key, value);
+    invalidate(key);
+  }
+
+  @Override
+  public V getAndPut(K key, V value) {
+    V oldValue = jCache.getAndPut(key, value);
+    invalidate(key);
+    return oldValue;
+  }
+
+  @Override
+  public void putAll(Map<? extends K, ? extends V> map) {
+    jCache.putAll(map);
+    map.keySet().forEach(this::invalidate);
+  }
+
+  @Override
+  public boolean putIfAbsent(K key, V value) {
+    boolean put = jCache.putIfAbsent(key, value);
+    invalidate(key);
+    return put;
+  }
+
+  @Override
+  public boolean remove(K key) {
+    boolean removed = jCache.remove(key);
+    invalidate(key);
+    return removed;
+  }
+
+  @Override
+  public boolean remove(K key, V oldValue) {
+    boolean removed = jCache.remove(key, oldValue);
+    invalidate(key);
+    return removed;
+  }
+
+  @Override
+  public V getAndRemove(K key) {
+    V oldValue = jCache.getAndRemove(key);
+    invalidate(key);
+    return oldValue;
+  }
+
+  @Override
+  public boolean replace(K key, V oldValue, V newValue) {
+    boolean replaced = jCache.replace(key, oldValue, newValue);
+    invalidate(key);
+    return replaced;
+  }
+
+  @Override
+  public boolean replace(K key, V value) {
+    boolean replaced = jCache.replace(key, value);
+    invalidate(key);
+    return replaced;
+  }
+
+  @Override
+  public V getAndReplace(K key, V value) {
+    V oldValue = jCache.getAndReplace(key, value);
+    invalidate(key);
+    return oldValue;
+  }
+
+  @Override
+  public void removeAll(Set<? extends K> keys) {
+    jCache.removeAll(keys);
+    keys.forEach(this::invalidate);
+  }
+
+  @Override
+  public void removeAll() {
+    jCache.removeAll();
+    invalidateAll();
+  }
+
+  @Override
+  public void clear() {
+    jCache.clear();
+    invalidateAll();
+  }
+
+  @Override
+  public <C extends Configuration<K, V>> C getConfiguration(Class<C> clazz) {
+    return jCache.getConfiguration(clazz);
+  }
+
+  @Override
+  public <T> T invoke(K key, EntryProcessor<K, V, T> entryProcessor, Object... arguments)
+      throws EntryProcessorException {
+    T result = jCache.invoke(key, entryProcessor, arguments);
+    invalidate(key);
+    return result;
+  }
+
+  @Override
+  public <T> Map<K, EntryProcessorResult<T>> invokeAll(
+      Set<? extends K> keys, EntryProcessor<K, V, T> entryProcessor, Object... arguments) {
+    Map<K, EntryProcessorResult<T>> result = jCache.invokeAll(keys, entryProcessor, arguments);
+    keys.forEach(this::invalidate);
+    return result;
+  }
+
+  @Override
+  public String getName() {
+    return jCache.getName();
+  }
+
+  @Override
+  public CacheManager getCacheManager() {
+    return jCache.getCacheManager();
+  }
+
+  @Override
+  public void close() {
+    jCache.deregisterCacheEntryListener(invalidationListenerConfiguration);
+    invalidateAll();
+    jCache.close();
+  }
+
+  @Override
+  public boolean isClosed() {
+    return jCache.isClosed();
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> clazz) {
+    if (clazz.isAssignableFrom(getClass())) {
+      return clazz.cast(this);
+    }
+    return jCache.unwrap(clazz);
+  }
+
+  @Override
+  public void registerCacheEntryListener(CacheEntryListenerConfiguration<K, V> cacheEntryListenerConfiguration) {
+    jCache.registerCacheEntryListener(cacheEntryListenerConfiguration);
+  }
+
+  @Override
+  public void deregisterCacheEntryListener(CacheEntryListenerConfiguration<K, V> cacheEntryListenerConfiguration) {
+    jCache.deregisterCacheEntryListener(cacheEntryListenerConfiguration);
+  }
+
+  @Override
+  public Iterator<Entry<K, V>> iterator() {
+    return jCache.iterator();
+  }
+
+  private void keepLocally(K key, V value, long loadGeneration) {
+    localCache.put(key, value);
+    if (generation.get() != loadGeneration) {
+      localCache.invalidate(key);
+    }
+  }
+
+  private void invalidate(Object key) {
+    generation.incrementAndGet();
+    if (localCache.asMap().remove(key) != null) {
+      invalidationCount.incrementAndGet();
+    }
+  }
+
+  private void invalidateAll() {
+    generation.incrementAndGet();
+    invalidationCount.addAndGet(localCache.estimatedSize());
+    localCache.invalidateAll();
+  }
+
+  private class InvalidationListener
+      implements CacheEntryCreatedListener<K, V>, CacheEntryUpdatedListener<K, V>, CacheEntryRemovedListener<K, V>,
+                 CacheEntryExpiredListener<K, V> {
+    @Override
+    public void onCreated(Iterable<CacheEntryEvent<? extends K, ? extends V>> cacheEntryEvents)
+        throws CacheEntryListenerException {
+      cacheEntryEvents.forEach(event -> invalidate(event.getKey()));
+    }
+
+    @Override
+    public void onUpdated(Iterable<CacheEntryEvent<? extends K, ? extends V>> cacheEntryEvents)
+        throws CacheEntryListenerException {
+      cacheEntryEvents.forEach(event -> invalidate(event.getKey()));
+    }
+
+    @Override
+    public void onRemoved(Iterable<CacheEntryEvent<? extends K, ? extends V>> cacheEntryEvents)
+        throws CacheEntryListenerException {
+      cacheEntryEvents.forEach(event -> invalidate(event.getKey()));
+    }
+
+    @Override
+    public void onExpired(Iterable<CacheEntryEvent<? extends K, ? extends V>> cacheEntryEvents)
+        throws CacheEntryListenerException {
+      cacheEntryEvents.forEach(event -> invalidate(event.getKey()));
+    }
+  }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.cache;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.Set;
+import lombok.Builder;
+import lombok.Value;
+
+@OwnedBy(PL)
+@Value
+@Builder
+public class NearCacheConfig {
+  boolean enabled;
+  // Caches kept in memory in front of redis, matched the same way as the disabled caches
+  Set<String> caches;
+  // Bound on the serialized size of the values kept in memory, per cache
+  long maximumWeightInBytes;
+  // Bounds the staleness of an entry if an invalidation is lost, capped by the expiry of the cache itself
+  long expireAfterWriteInSeconds;
+}
@@ -18,6 +18,7 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.config.WorkersConfiguration;
 import io.harness.lock.PersistentLocker;
 import io.harness.metrics.HarnessMetricRegistry;
+import io.harness.mongo.iterator.AdaptiveConcurrencyLimiter;
 import io.harness.mongo.iterator.MongoPersistenceIterator;
 import io.harness.mongo.iterator.MongoPersistenceIterator.MongoPersistenceIteratorBuilder;
 import io.harness.mongo.iterator.filter.FilterExpander;
@@ -31,6 +32,7 @@ import com.google.inject.Key;
 import com.google.inject.Singleton;
 import java.security.SecureRandom;
 import java.time.Duration;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
@@ -57,6 +59,9 @@ public final class PersistenceIteratorFactory {
     private String name;
     private int poolSize;
     private Duration interval;
+    // Sizes the concurrency between 1 and maxPoolSize from the observed latency and lag, shared between the accounts
+    private boolean adaptiveConcurrency;
+    private int maxPoolSize;
   }
 
   @Value
@@ -67,6 +72,23 @@ public final class PersistenceIteratorFactory {
     private int batchSize;
     private int lockTimeout;
     private Duration interval;
+    // Sizes the concurrency between 1 and maxPoolSize from the observed latency and lag, shared between the accounts
+    private boolean adaptiveConcurrency;
+    private int maxPoolSize;
+  }
+
+  private static int getMaximumConcurrency(int poolSize, int maxPoolSize) {
+    return Math.max(poolSize, maxPoolSize);
+  }
+
+  // Entities waiting longer than the interval of the iterator mean the workers do not keep up
+  private static AdaptiveConcurrencyLimiter createConcurrencyLimiter(
+      boolean adaptiveConcurrency, Executor executor, int poolSize, int maxPoolSize, Duration interval) {
+    if (!adaptiveConcurrency) {
+      return null;
+    }
+    return new AdaptiveConcurrencyLimiter(
+        executor, poolSize, getMaximumConcurrency(poolSize, maxPoolSize), interval.toMillis());
   }
 
   private String getWorkerDisabledLog(String className) {
@@ -99,19 +121,26 @@ public final class PersistenceIteratorFactory {
     }
 
     String iteratorName = "Iterator-" + options.name;
-    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(
-        options.poolSize, new ThreadFactoryBuilder().setNameFormat(iteratorName).build());
+    // The thread running the iterator itself comes on top of the workers in the adaptive mode
+    int threadPoolSize = options.adaptiveConcurrency
+        ? getMaximumConcurrency(options.poolSize, options.maxPoolSize) + 1
+        : options.poolSize;
+    ScheduledThreadPoolExecutor executor =
+        new ScheduledThreadPoolExecutor(threadPoolSize, new ThreadFactoryBuilder().setNameFormat(iteratorName).build());
     log.info(getWorkerEnabledLog(cls.getName()));
 
     MetricRegistry metricRegistry = harnessMetricRegistry.getThreadPoolMetricRegistry();
     InstrumentedExecutorService instrumentedExecutorService =
         new InstrumentedExecutorService(executor, metricRegistry, iteratorName);
 
-    MongoPersistenceIterator<T, F> iterator = builder.mode(processMode)
-                                                  .executorService(instrumentedExecutorService)
-                                                  .semaphore(new Semaphore(options.poolSize))
-                                                  .iteratorName(options.name)
-                                                  .build();
+    MongoPersistenceIterator<T, F> iterator =
+        builder.mode(processMode)
+            .executorService(instrumentedExecutorService)
+            .semaphore(new Semaphore(options.poolSize))
+            .concurrencyLimiter(createConcurrencyLimiter(options.adaptiveConcurrency, instrumentedExecutorService,
+                options.poolSize, options.maxPoolSize, options.interval))
+            .iteratorName(options.name)
+            .build();
     injector.injectMembers(iterator);
     long millis = options.interval.toMillis();
     executor.scheduleAtFixedRate(iterator::process, random.nextInt((int) millis), millis, TimeUnit.MILLISECONDS);
@@ -137,19 +166,26 @@ public final class PersistenceIteratorFactory {
     }
 
     String iteratorName = "Iterator-" + options.name;
-    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(
-        options.poolSize, new ThreadFactoryBuilder().setNameFormat(iteratorName).build());
+    // The thread running the iterator itself comes on top of the workers in the adaptive mode
+    int threadPoolSize = options.adaptiveConcurrency
+        ? getMaximumConcurrency(options.poolSize, options.maxPoolSize) + 1
+        : options.poolSize;
+    ScheduledThreadPoolExecutor executor =
+        new ScheduledThreadPoolExecutor(threadPoolSize, new ThreadFactoryBuilder().setNameFormat(iteratorName).build());
     log.info(getWorkerEnabledLog(cls.getName()));
 
     MetricRegistry metricRegistry = harnessMetricRegistry.getThreadPoolMetricRegistry();
     InstrumentedExecutorService instrumentedExecutorService =
         new InstrumentedExecutorService(executor, metricRegistry, iteratorName);
 
-    MongoPersistenceIterator<T, F> iterator = builder.mode(processMode)
-                                                  .executorService(instrumentedExecutorService)
-                                                  .semaphore(new Semaphore(options.poolSize))
-                                                  .iteratorName(options.name)
-                                                  .build();
+    MongoPersistenceIterator<T, F> iterator =
+        builder.mode(processMode)
+            .executorService(instrumentedExecutorService)
+            .semaphore(new Semaphore(options.poolSize))
+            .concurrencyLimiter(createConcurrencyLimiter(options.adaptiveConcurrency, instrumentedExecutorService,
+                options.poolSize, options.maxPoolSize, options.interval))
+            .iteratorName(options.name)
+            .build();
     injector.injectMembers(iterator);
     long millis = options.interval.toMillis();
     executor.scheduleAtFixedRate(iterator::process, random.nextInt((int) millis), millis, TimeUnit.MILLISECONDS);
@@ -191,8 +227,10 @@ public final class PersistenceIteratorFactory {
     }
     String iteratorName = "Iterator-" + options.name;
     // Create the worker thread pool that will process the docs.
-    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(
-        options.poolSize, new ThreadFactoryBuilder().setNameFormat(iteratorName).build());
+    int threadPoolSize =
+        options.adaptiveConcurrency ? getMaximumConcurrency(options.poolSize, options.maxPoolSize) : options.poolSize;
+    ScheduledThreadPoolExecutor executor =
+        new ScheduledThreadPoolExecutor(threadPoolSize, new ThreadFactoryBuilder().setNameFormat(iteratorName).build());
 
     log.info(getWorkerEnabledLog(cls.getName()));
 
@@ -206,6 +244,8 @@ public final class PersistenceIteratorFactory {
             .executorService(mainExecutor)
             .workerThreadPoolExecutor(executor)
             .semaphore(new Semaphore(options.poolSize))
+            .concurrencyLimiter(createConcurrencyLimiter(
+                options.adaptiveConcurrency, executor, options.poolSize, options.maxPoolSize, options.interval))
             .iteratorName(options.name)
             .threadPoolIntervalInSeconds(options.interval)
             .redisModeBatchSize(options.getBatchSize())
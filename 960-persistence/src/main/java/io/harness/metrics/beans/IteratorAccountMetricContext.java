@@ -0,0 +1,17 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.metrics.beans;
+
+import io.harness.metrics.AutoMetricContext;
+
+public class IteratorAccountMetricContext extends AutoMetricContext {
+  public IteratorAccountMetricContext(String iteratorName, String accountId) {
+    put("iteratorName", iteratorName);
+    put("accountId", accountId);
+  }
+}
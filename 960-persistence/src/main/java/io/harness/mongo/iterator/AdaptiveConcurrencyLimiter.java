@@ -0,0 +1,185 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.mongo.iterator;
+
+import static io.harness.mongo.iterator.MongoPersistenceIterator.movingAvg;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs the entities of an iterator on its worker threads with a concurrency limit sized from what it observes.
+ *
+ * <p>Entities wait in a queue per account, and the accounts take turns whenever a worker frees up, so an account with
+ * many entities cannot keep the entities of the other accounts waiting behind its own.
+ *
+ * <p>Once per limit completions the limit is revisited from the moving averages of the handler latency and of the
+ * lag, the time from when an entity was due to when its handling started:
+ * <ul>
+ *   <li>if the latency grew well above its baseline the handlers are waiting on mongo or another dependency, and more
+ *   concurrency would only add to that, so the limit backs off;</li>
+ *   <li>otherwise if the lag is above the threshold while entities are queued the workers are the bottleneck, so the
+ *   limit grows by one, up to the maximum.</li>
+ * </ul>
+ */
+@OwnedBy(HarnessTeam.PL)
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+  private static final int LATENCY_TOLERANCE = 2;
+  // Floor of the latency baseline, so that handlers which usually take no time do not back off on any jitter
+  private static final long MINIMUM_BASELINE_LATENCY_MILLIS = 10;
+
+  private final Executor executor;
+  private final int maximumLimit;
+  private final long lagThresholdMillis;
+  private final LongSupplier clock;
+
+  private final Map<String, Deque<QueuedEntity>> queues = new HashMap<>();
+  // Accounts with queued entities, in the order they get their next turn
+  private final Deque<String> accountTurns = new ArrayDeque<>();
+  private int queuedCount;
+  private int inFlightCount;
+  private int limit;
+  private long completionsSinceAdjustment;
+  private long latencyMovingAverage = -1;
+  private long baselineLatency;
+  private long lagMovingAverage;
+
+  public AdaptiveConcurrencyLimiter(Executor executor, int initialLimit, int maximumLimit, long lagThresholdMillis) {
+    this(executor, initialLimit, maximumLimit, lagThresholdMillis, System::currentTimeMillis);
+  }
+
+  @VisibleForTesting
+  AdaptiveConcurrencyLimiter(
+      Executor executor, int initialLimit, int maximumLimit, long lagThresholdMillis, LongSupplier clock) {
+    Preconditions.checkArgument(initialLimit > 0, "Initial limit should be positive");
+    Preconditions.checkArgument(maximumLimit >= initialLimit, "Maximum limit should not be below the initial limit");
+    this.executor = executor;
+    this.limit = initialLimit;
+    this.maximumLimit = maximumLimit;
+    this.lagThresholdMillis = lagThresholdMillis;
+    this.clock = clock;
+  }
+
+  /**
+   * Queues the entity of the account, to be run when a worker frees up and the account gets its turn.
+   *
+   * @param dueTime the time the entity was due to be handled, 0 if unknown
+   */
+  public synchronized void submit(String accountId, long dueTime, Runnable runnable) {
+    Deque<QueuedEntity> queue = queues.computeIfAbsent(accountId, key -> new ArrayDeque<>());
+    if (queue.isEmpty()) {
+      accountTurns.add(accountId);
+    }
+    queue.add(new QueuedEntity(dueTime, runnable));
+    queuedCount++;
+    dispatch();
+  }
+
+  /**
+   * Waits until fewer entities are queued than the limit, so that entities are not fetched faster than they are run.
+   */
+  public synchronized void awaitCapacity() throws InterruptedException {
+    while (queuedCount >= limit) {
+      wait();
+    }
+  }
+
+  public synchronized int getLimit() {
+    return limit;
+  }
+
+  public synchronized int getQueuedCount() {
+    return queuedCount;
+  }
+
+  public synchronized int getInFlightCount() {
+    return inFlightCount;
+  }
+
+  private void dispatch() {
+    while (inFlightCount < limit && !accountTurns.isEmpty()) {
+      String accountId = accountTurns.poll();
+      Deque<QueuedEntity> queue = queues.get(accountId);
+      QueuedEntity queuedEntity = queue.poll();
+      if (queue.isEmpty()) {
+        queues.remove(accountId);
+      } else {
+        accountTurns.add(accountId);
+      }
+      queuedCount--;
+      inFlightCount++;
+      try {
+        executor.execute(() -> run(queuedEntity));
+      } catch (RejectedExecutionException e) {
+        inFlightCount--;
+        log.info("The executor service has been shutdown - received exception {} ", e);
+      }
+    }
+    notifyAll();
+  }
+
+  private void run(QueuedEntity queuedEntity) {
+    long startTime = clock.getAsLong();
+    try {
+      queuedEntity.runnable.run();
+    } finally {
+      long lag = queuedEntity.dueTime == 0 ? 0 : Math.max(0, startTime - queuedEntity.dueTime);
+      onComplete(clock.getAsLong() - startTime, lag);
+    }
+  }
+
+  private synchronized void onComplete(long latency, long lag) {
+    inFlightCount--;
+    latencyMovingAverage = latencyMovingAverage < 0 ? latency : movingAvg(latencyMovingAverage, latency);
+    lagMovingAverage = movingAvg(lagMovingAverage, lag);
+    if (++completionsSinceAdjustment >= limit) {
+      completionsSinceAdjustment = 0;
+      adjustLimit();
+    }
+    dispatch();
+  }
+
+  private void adjustLimit() {
+    // The baseline follows the latency down right away, and up slowly so that a lasting change becomes the new normal
+    baselineLatency = latencyMovingAverage < baselineLatency || baselineLatency == 0
+        ? latencyMovingAverage
+        : movingAvg(baselineLatency, latencyMovingAverage);
+    int previousLimit = limit;
+    if (latencyMovingAverage > LATENCY_TOLERANCE * Math.max(baselineLatency, MINIMUM_BASELINE_LATENCY_MILLIS)) {
+      limit = Math.max(1, limit * 3 / 4);
+    } else if (lagMovingAverage > lagThresholdMillis && queuedCount > 0) {
+      limit = Math.min(maximumLimit, limit + 1);
+    }
+    if (limit != previousLimit) {
+      log.debug("Concurrency limit changed from {} to {} with latency {} over baseline {} and lag {}", previousLimit,
+          limit, latencyMovingAverage, baselineLatency, lagMovingAverage);
+    }
+  }
+
+  private static class QueuedEntity {
+    private final long dueTime;
+    private final Runnable runnable;
+
+    QueuedEntity(long dueTime, Runnable runnable) {
+      this.dueTime = dueTime;
+      this.runnable = runnable;
+    }
+  }
+}
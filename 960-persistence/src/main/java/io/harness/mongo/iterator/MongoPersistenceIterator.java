@@ -11,6 +11,8 @@ import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
 import static io.harness.govern.Switch.unhandled;
 import static io.harness.iterator.PersistenceIterator.ProcessMode.PUMP;
 import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
+import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_ACCOUNT_DELAY;
+import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_CONCURRENCY_LIMIT;
 import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_DELAY;
 import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_ERROR;
 import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_PROCESSING_TIME;
@@ -43,6 +45,7 @@ import io.harness.mongo.EntityLogContext;
 import io.harness.mongo.EntityProcessController;
 import io.harness.mongo.iterator.filter.FilterExpander;
 import io.harness.mongo.iterator.provider.PersistenceProvider;
+import io.harness.persistence.AccountAccess;
 import io.harness.queue.QueueController;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -70,6 +73,7 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
   private static final int SIMPLE_MOVING_AVG_MULTIPLIER = 15; // The multiplier to be used for SMA
   private static final int SIMPLE_MOVING_AVG_DIVISOR = 16; // The divisor to be used for SMA
   private static final String SEMAPHORE_ACQUIRE_ERROR = "Working on entity was interrupted";
+  private static final String UNKNOWN_ACCOUNT_ID = "unknown";
   private static final int LOCK_WAIT_TIMEOUT_SECONDS =
       5; // The lockWaitTimeout is the duration to wait to acquire a lock
   private static final int BATCH_SIZE_MULTIPLY_FACTOR = 2; // The factor by how much the batchSize should be increased
@@ -97,6 +101,8 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
   @Getter private ExecutorService executorService;
   @Getter private ScheduledThreadPoolExecutor workerThreadPoolExecutor;
   private Semaphore semaphore;
+  // When set, sizes the concurrency and shares it between the accounts instead of the semaphore
+  @Getter private AdaptiveConcurrencyLimiter concurrencyLimiter;
   private boolean redistribute;
   private EntityProcessController<T> entityProcessController;
   @Getter private SchedulingType schedulingType;
@@ -141,7 +147,11 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
       }
       try {
         // make sure we did not hit the limit
-        semaphore.acquire();
+        if (concurrencyLimiter != null) {
+          concurrencyLimiter.awaitCapacity();
+        } else {
+          semaphore.acquire();
+        }
 
         long base = currentTimeMillis();
         long throttled = base + (throttleInterval == null ? 0 : throttleInterval.toMillis());
@@ -158,7 +168,9 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
           entity = persistenceProvider.obtainNextInstance(base, throttled, clazz, fieldName, schedulingType,
               targetInterval, filterExpander, unsorted, isDelegateTaskMigrationEnabled);
         } finally {
-          semaphore.release();
+          if (concurrencyLimiter == null) {
+            semaphore.release();
+          }
         }
 
         if (entity != null) {
@@ -183,6 +195,11 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
           }
 
           T finalEntity = entity;
+          if (concurrencyLimiter != null) {
+            concurrencyLimiter.submit(
+                obtainAccountId(finalEntity), obtainDueTime(finalEntity), () -> processEntity(finalEntity));
+            continue;
+          }
           synchronized (finalEntity) {
             try {
               executorService.submit(() -> processEntity(finalEntity));
@@ -252,12 +269,7 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
   @VisibleForTesting
   public void processEntity(T entity) {
     try (EntityLogContext ignore = new EntityLogContext(entity, OVERRIDE_ERROR)) {
-      try {
-        semaphore.acquire();
-      } catch (InterruptedException e) {
-        log.error(SEMAPHORE_ACQUIRE_ERROR, e);
-        iteratorMetricsService.recordIteratorMetrics(iteratorName, ITERATOR_ERROR);
-        Thread.currentThread().interrupt();
+      if (!acquireSemaphore()) {
         return;
       }
       long startTime = currentTimeMillis();
@@ -283,7 +295,7 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
         log.debug("Exception while processing entity", exception);
         iteratorMetricsService.recordIteratorMetrics(iteratorName, ITERATOR_ERROR);
       } finally {
-        semaphore.release();
+        releaseSemaphore();
 
         long processTime = currentTimeMillis() - startTime;
         log.debug("Done with entity");
@@ -332,7 +344,9 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
 
       // Compute a limit value that takes into account the number of unprocessed
       // docs in the jobQ to ensure that the Q doesn't overflow.
-      int limit = Math.min(redisModeBatchSize, redisModeBatchSize - workerThreadPoolExecutor.getQueue().size());
+      int queuedCount = concurrencyLimiter == null ? workerThreadPoolExecutor.getQueue().size()
+                                                   : concurrencyLimiter.getQueuedCount();
+      int limit = Math.min(redisModeBatchSize, redisModeBatchSize - queuedCount);
 
       if (limit <= 0) {
         // The Queue is full, so try after sometime
@@ -408,6 +422,11 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
     }
 
     T finalEntity = entity;
+    if (concurrencyLimiter != null) {
+      concurrencyLimiter.submit(
+          obtainAccountId(finalEntity), obtainDueTime(finalEntity), () -> processEntityWithoutWaitNotify(finalEntity));
+      return;
+    }
     synchronized (finalEntity) {
       try {
         // We won't wait for the threads to pick up the task.
@@ -419,7 +438,7 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
     }
   }
 
-  private long movingAvg(long current, long sample) {
+  static long movingAvg(long current, long sample) {
     return (SIMPLE_MOVING_AVG_MULTIPLIER * current + sample) / SIMPLE_MOVING_AVG_DIVISOR;
   }
 
@@ -427,18 +446,48 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
     return !MaintenanceController.getMaintenanceFlag() && queueController.isPrimary();
   }
 
+  /**
+   * The concurrency limiter bounds the entities being worked on by itself, the semaphore is only used without it.
+   * @return false if interrupted while waiting for the semaphore
+   */
+  private boolean acquireSemaphore() {
+    if (concurrencyLimiter != null) {
+      return true;
+    }
+    try {
+      semaphore.acquire();
+      return true;
+    } catch (InterruptedException e) {
+      log.error(SEMAPHORE_ACQUIRE_ERROR, e);
+      iteratorMetricsService.recordIteratorMetrics(iteratorName, ITERATOR_ERROR);
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private void releaseSemaphore() {
+    if (concurrencyLimiter == null) {
+      semaphore.release();
+    }
+  }
+
+  private String obtainAccountId(T entity) {
+    String accountId = entity instanceof AccountAccess ? ((AccountAccess) entity).getAccountId() : null;
+    return accountId == null ? UNKNOWN_ACCOUNT_ID : accountId;
+  }
+
+  private long obtainDueTime(T entity) {
+    Long nextIteration = entity.obtainNextIteration(fieldName);
+    return nextIteration == null ? 0 : nextIteration;
+  }
+
   /**
    * Method to process entity without synchronized wait notification.
    * @param entity - Mongo document that worker thread should process
    */
   private void processEntityWithoutWaitNotify(T entity) {
     try (EntityLogContext ignore = new EntityLogContext(entity, OVERRIDE_ERROR)) {
-      try {
-        semaphore.acquire();
-      } catch (InterruptedException e) {
-        log.error(SEMAPHORE_ACQUIRE_ERROR, e);
-        iteratorMetricsService.recordIteratorMetrics(iteratorName, ITERATOR_ERROR);
-        Thread.currentThread().interrupt();
+      if (!acquireSemaphore()) {
         return;
       }
 
@@ -453,7 +502,7 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
         log.debug("Catch and handle all exceptions in the entity handler", exception);
         iteratorMetricsService.recordIteratorMetrics(iteratorName, ITERATOR_ERROR);
       } finally {
-        semaphore.release();
+        releaseSemaphore();
 
         long processTime = currentTimeMillis() - startTime;
         log.debug("Done with entity");
@@ -558,6 +607,10 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
     try (DelayLogContext ignore2 = new DelayLogContext(delay, OVERRIDE_ERROR)) {
       iteratorMetricsService.recordIteratorMetrics(iteratorName, ITERATOR_WORKING_ON_ENTITY);
       iteratorMetricsService.recordIteratorMetricsWithDuration(iteratorName, ofMillis(delay), ITERATOR_DELAY);
+      if (concurrencyLimiter != null) {
+        iteratorMetricsService.recordIteratorAccountMetricsWithDuration(
+            iteratorName, obtainAccountId(entity), ofMillis(delay), ITERATOR_ACCOUNT_DELAY);
+      }
 
       if (delay >= acceptableNoAlertDelay.toMillis()) {
         log.debug("Working on entity but the delay is more than the acceptable {}", acceptableNoAlertDelay.toMillis());
@@ -573,6 +626,10 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
   private void updateIteratorMetricProcessingTime(long processTime) {
     iteratorMetricsService.recordIteratorMetricsWithDuration(
         iteratorName, ofMillis(processTime), ITERATOR_PROCESSING_TIME);
+    if (concurrencyLimiter != null) {
+      iteratorMetricsService.recordIteratorMetricValue(
+          iteratorName, concurrencyLimiter.getLimit(), ITERATOR_CONCURRENCY_LIMIT);
+    }
 
     try (ProcessTimeLogContext ignore2 = new ProcessTimeLogContext(processTime, OVERRIDE_ERROR)) {
       if (acceptableExecutionTime != null && processTime > acceptableExecutionTime.toMillis()) {
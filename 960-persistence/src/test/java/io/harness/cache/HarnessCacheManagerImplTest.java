@@ -27,6 +27,8 @@ import io.harness.category.element.UnitTests;
 import io.harness.exception.InvalidArgumentsException;
 import io.harness.rule.Owner;
 
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.collect.ImmutableSet;
 import java.util.Collections;
 import java.util.Optional;
 import javax.cache.Cache;
@@ -209,4 +211,38 @@ public class HarnessCacheManagerImplTest extends CategoryTest {
     assertThat(cache).isNotNull();
     verify(cacheManager, times(2)).getCache(internalCacheName, String.class, Integer.class);
   }
+
+  @Test
+  @Owner(developers = UTKARSH)
+  @Category(UnitTests.class)
+  public void test_getCache_shouldWrapNearCache() {
+    CacheConfig cacheConfig = CacheConfig.builder()
+                                  .cacheBackend(REDIS)
+                                  .cacheNamespace("test")
+                                  .nearCacheConfig(NearCacheConfig.builder()
+                                                       .enabled(true)
+                                                       .caches(ImmutableSet.of("nearCache"))
+                                                       .maximumWeightInBytes(1024)
+                                                       .expireAfterWriteInSeconds(60)
+                                                       .build())
+                                  .build();
+    MetricRegistry metricRegistry = new MetricRegistry();
+    HarnessCacheManager nearCacheManager = new HarnessCacheManagerImpl(cacheManager, Optional.empty(), cacheConfig,
+        value -> HarnessCacheManagerImpl.DEFAULT_NEAR_CACHE_ENTRY_WEIGHT, metricRegistry);
+    Factory<ExpiryPolicy> expiryPolicy = AccessedExpiryPolicy.factoryOf(Duration.TEN_MINUTES);
+    when(cacheManager.getCache(any(), eq(String.class), eq(Integer.class))).thenReturn(new NoOpCache<>());
+
+    Cache<String, Integer> cache = nearCacheManager.getCache("nearCache", String.class, Integer.class, expiryPolicy);
+    assertThat(cache).isInstanceOf(NearCache.class);
+    assertThat(nearCacheManager.getCache("nearCache", String.class, Integer.class, expiryPolicy)).isSameAs(cache);
+    assertThat(nearCacheManager.getCache("testCache", String.class, Integer.class, expiryPolicy))
+        .isNotInstanceOf(NearCache.class);
+    assertThat(nearCacheManager.getNearCacheStatistics()).containsOnlyKeys(cacheNamespace + "/nearCache");
+
+    cache.get("key");
+    assertThat(metricRegistry.getGauges())
+        .containsOnlyKeys("near_cache_test_hCache_nearCache_hit_count", "near_cache_test_hCache_nearCache_miss_count",
+            "near_cache_test_hCache_nearCache_eviction_count");
+    assertThat(metricRegistry.getGauges().get("near_cache_test_hCache_nearCache_miss_count").getValue()).isEqualTo(1L);
+  }
 }
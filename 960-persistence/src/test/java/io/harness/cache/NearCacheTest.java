@@ -0,0 +1,104 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.cache;
+
+import static io.harness.rule.OwnerRule.UTKARSH;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.configuration.MutableConfiguration;
+import org.awaitility.Awaitility;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class NearCacheTest extends CategoryTest {
+  private static final long MAXIMUM_WEIGHT = 100;
+
+  private CacheManager cacheManager;
+  // Stands in for redis, which is shared by the instances each holding their own near cache
+  private Cache<String, String> jCache;
+
+  @Before
+  public void setUp() {
+    cacheManager =
+        Caching.getCachingProvider("com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider").getCacheManager();
+    jCache = cacheManager.createCache(UUID.randomUUID().toString(),
+        new MutableConfiguration<String, String>().setTypes(String.class, String.class));
+  }
+
+  @After
+  public void tearDown() {
+    cacheManager.destroyCache(jCache.getName());
+  }
+
+  @Test
+  @Owner(developers = UTKARSH)
+  @Category(UnitTests.class)
+  public void testReadsThroughLocalCache() {
+    jCache.put("key", "value");
+    NearCache<String, String> nearCache = nearCache();
+    assertThat(nearCache.get("key")).isEqualTo("value");
+    assertThat(nearCache.get("key")).isEqualTo("value");
+    assertThat(nearCache.get("missing")).isNull();
+    assertThat(nearCache.getAll(ImmutableSet.of("key", "missing"))).containsOnlyKeys("key");
+
+    NearCacheStatistics statistics = nearCache.getStatistics();
+    assertThat(statistics.getHitCount()).isEqualTo(2);
+    assertThat(statistics.getMissCount()).isEqualTo(3);
+  }
+
+  @Test
+  @Owner(developers = UTKARSH)
+  @Category(UnitTests.class)
+  public void testInvalidatesWritesOfOtherInstances() {
+    NearCache<String, String> nearCache = nearCache();
+    NearCache<String, String> otherNearCache = nearCache();
+    otherNearCache.put("key", "value");
+    assertThat(nearCache.get("key")).isEqualTo("value");
+
+    otherNearCache.put("key", "updatedValue");
+    Awaitility.await().atMost(10, TimeUnit.SECONDS).until(() -> "updatedValue".equals(nearCache.get("key")));
+
+    otherNearCache.remove("key");
+    Awaitility.await().atMost(10, TimeUnit.SECONDS).until(() -> nearCache.get("key") == null);
+    assertThat(nearCache.getStatistics().getInvalidationCount()).isPositive();
+  }
+
+  @Test
+  @Owner(developers = UTKARSH)
+  @Category(UnitTests.class)
+  public void testEvictsBySize() {
+    for (int i = 0; i < 50; i++) {
+      jCache.put("key" + i, "0123456789");
+    }
+    NearCache<String, String> nearCache = nearCache();
+    for (int i = 0; i < 50; i++) {
+      assertThat(nearCache.get("key" + i)).isEqualTo("0123456789");
+    }
+    Awaitility.await().atMost(10, TimeUnit.SECONDS).until(() -> nearCache.getStatistics().getEvictionCount() >= 40);
+    assertThat(nearCache.getStatistics().getWeightInBytes()).isLessThanOrEqualTo(MAXIMUM_WEIGHT);
+    // Evicted entries are still read from redis
+    assertThat(nearCache.get("key0")).isEqualTo("0123456789");
+  }
+
+  private NearCache<String, String> nearCache() {
+    return new NearCache<>(jCache, MAXIMUM_WEIGHT, TimeUnit.MINUTES.toMillis(1), value -> ((String) value).length());
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.mongo.iterator;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class AdaptiveConcurrencyLimiterTest extends CategoryTest {
+  // Holds the dispatched entities until the test runs them, one at a time
+  private final Deque<Runnable> workers = new ArrayDeque<>();
+  private final AtomicLong clock = new AtomicLong(10000);
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testAccountsTakeTurns() {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(workers::add, 1, 1, 1000, clock::get);
+    List<String> handled = new ArrayList<>();
+    for (int i = 1; i <= 4; i++) {
+      String entity = "A" + i;
+      limiter.submit("accountA", 0, () -> handled.add(entity));
+    }
+    limiter.submit("accountB", 0, () -> handled.add("B1"));
+    limiter.submit("accountC", 0, () -> handled.add("C1"));
+    assertThat(limiter.getInFlightCount()).isEqualTo(1);
+    assertThat(limiter.getQueuedCount()).isEqualTo(5);
+
+    runAll();
+    assertThat(handled).containsExactly("A1", "A2", "B1", "C1", "A3", "A4");
+    assertThat(limiter.getInFlightCount()).isEqualTo(0);
+    assertThat(limiter.getQueuedCount()).isEqualTo(0);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testGrowsWhenEntitiesLag() {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(workers::add, 2, 4, 100, clock::get);
+    for (int i = 0; i < 30; i++) {
+      limiter.submit("accountId", clock.get() - 500, () -> {});
+    }
+    assertThat(limiter.getInFlightCount()).isEqualTo(2);
+
+    runAll();
+    assertThat(limiter.getLimit()).isEqualTo(4);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testBacksOffWhenLatencyGrows() {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(workers::add, 8, 8, 100, clock::get);
+    for (int i = 0; i < 16; i++) {
+      limiter.submit("accountId", 0, () -> clock.addAndGet(20));
+    }
+    runAll();
+    assertThat(limiter.getLimit()).isEqualTo(8);
+
+    for (int i = 0; i < 32; i++) {
+      limiter.submit("accountId", 0, () -> clock.addAndGet(200));
+    }
+    runAll();
+    assertThat(limiter.getLimit()).isLessThan(8).isPositive();
+  }
+
+  private void runAll() {
+    while (!workers.isEmpty()) {
+      workers.poll().run();
+    }
+  }
+}
@@ -155,6 +155,9 @@ public class WatcherApplication {
                                          .queueFilePath(configuration.getQueueFilePath())
                                          .publishTarget(publishTarget)
                                          .publishAuthority(publishAuthority)
+                                         .adaptivePublish(configuration.isAdaptivePublish())
+                                         .maxInFlightPublishRequests(configuration.getMaxInFlightPublishRequests())
+                                         .compressPublishRequests(configuration.isCompressPublishRequests())
                                          .build()));
       } else {
         log.warn("Unable to configure event publisher configs. Event publisher will be disabled");
@@ -31,6 +31,11 @@ public class WatcherConfiguration {
   private String queueFilePath;
   private String publishTarget;
   private String publishAuthority;
+  // Publishing of the event queue backlog with growing batches and concurrent requests
+  private boolean adaptivePublish;
+  private Integer maxInFlightPublishRequests;
+  // Requires the event service to inflate gzip encoded requests
+  private boolean compressPublishRequests;
   private boolean fileHandlesMonitoringEnabled;
   private long fileHandlesMonitoringIntervalInMinutes;
   private long fileHandlesLogsRetentionInMinutes;
@@ -47,4 +52,9 @@ public class WatcherConfiguration {
   public String getQueueFilePath() {
     return Optional.ofNullable(queueFilePath).orElse(EventPublisherConstants.DEFAULT_QUEUE_FILE_PATH);
   }
+
+  public int getMaxInFlightPublishRequests() {
+    return Optional.ofNullable(maxInFlightPublishRequests)
+        .orElse(EventPublisherConstants.DEFAULT_MAX_IN_FLIGHT_PUBLISH_REQUESTS);
+  }
 }
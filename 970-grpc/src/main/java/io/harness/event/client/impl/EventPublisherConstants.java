@@ -16,4 +16,5 @@ public class EventPublisherConstants {
   public static final String DEFAULT_QUEUE_FILE_PATH = "eventQueue";
   public static final RollCycles QUEUE_ROLL_CYCLE = RollCycles.MINUTELY;
   public static final long QUEUE_TIMEOUT_MS = Duration.ofSeconds(16).toMillis();
+  public static final int DEFAULT_MAX_IN_FLIGHT_PUBLISH_REQUESTS = 4;
 }
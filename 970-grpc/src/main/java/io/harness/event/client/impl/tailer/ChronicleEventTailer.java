@@ -18,17 +18,30 @@ import io.harness.flow.BackoffScheduler;
 import io.harness.logging.LoggingListener;
 import io.harness.util.EventServiceRestUtils;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.util.concurrent.AbstractScheduledService;
 import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPOutputStream;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import net.openhft.chronicle.queue.ExcerptTailer;
 import net.openhft.chronicle.queue.impl.RollingChronicleQueue;
 import net.openhft.chronicle.wire.DocumentContext;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
 import retrofit2.Call;
 
 /**
@@ -45,6 +58,11 @@ public class ChronicleEventTailer extends AbstractScheduledService {
   // Batching settings
   private static final int MAX_BATCH_COUNT = 500;
   private static final int MAX_BATCH_BYTES = 1024 * 256; // 256KB
+  // Adaptive batching grows the batches up to these while there is a backlog
+  private static final int MAX_ADAPTIVE_BATCH_COUNT = MAX_BATCH_COUNT * 8;
+  private static final int MAX_ADAPTIVE_BATCH_BYTES = MAX_BATCH_BYTES * 8; // 2MB
+
+  private static final MediaType PROTOBUF_MEDIA_TYPE = MediaType.parse("application/x-protobuf");
 
   private final ExcerptTailer readTailer;
 
@@ -55,17 +73,27 @@ public class ChronicleEventTailer extends AbstractScheduledService {
   private final RollingChronicleQueue queue;
 
   private final EventPublisherClient eventPublisherClient;
+  private final TailerPublishConfig publishConfig;
+  private final ChronicleTailerMetrics metrics;
 
   private String accountId;
 
+  // Only used in adaptive mode
+  private ExecutorService publishExecutor;
+  private int batchCount = MAX_BATCH_COUNT;
+  private int batchBytes = MAX_BATCH_BYTES;
+
   @Inject
   ChronicleEventTailer(EventPublisherClient eventPublisherClient, @Named("tailer") RollingChronicleQueue chronicleQueue,
-      FileDeletionManager fileDeletionManager, @Named("tailer") BackoffScheduler backoffScheduler) {
+      FileDeletionManager fileDeletionManager, @Named("tailer") BackoffScheduler backoffScheduler,
+      TailerPublishConfig publishConfig, ChronicleTailerMetrics metrics) {
     this.eventPublisherClient = eventPublisherClient;
     this.queue = chronicleQueue;
     this.readTailer = chronicleQueue.createTailer(READ_TAILER);
     this.fileDeletionManager = fileDeletionManager;
     this.scheduler = backoffScheduler;
+    this.publishConfig = publishConfig;
+    this.metrics = metrics;
     this.sampler = new Sampler(Duration.ofMinutes(1));
     addListener(new LoggingListener(this), MoreExecutors.directExecutor());
   }
@@ -74,6 +102,10 @@ public class ChronicleEventTailer extends AbstractScheduledService {
     this.accountId = accountId;
   }
 
+  public ChronicleTailerMetrics getMetrics() {
+    return metrics;
+  }
+
   @Override
   protected void startUp() {
     try {
@@ -85,6 +117,10 @@ public class ChronicleEventTailer extends AbstractScheduledService {
       }
       printStats();
       fileDeletionManager.deleteOlderFiles();
+      if (publishConfig.isAdaptive()) {
+        publishExecutor = Executors.newFixedThreadPool(getMaxInFlightRequests(),
+            new ThreadFactoryBuilder().setNameFormat("chronicle-event-publisher-%d").setDaemon(true).build());
+      }
     } catch (Exception e) {
       log.error("Exception in startUp", e);
     }
@@ -99,6 +135,9 @@ public class ChronicleEventTailer extends AbstractScheduledService {
     } catch (Exception e) {
       log.error("Exception in shutDown", e);
     } finally {
+      if (publishExecutor != null) {
+        publishExecutor.shutdownNow();
+      }
       this.queue.close();
       log.info("Successfully closed the queue.");
     }
@@ -110,8 +149,9 @@ public class ChronicleEventTailer extends AbstractScheduledService {
       long sentIndex = fileDeletionManager.getSentIndex();
       long endIndex = queue.createTailer().toEnd().index();
       long excerptCount = queue.countExcerpts(readIndex, endIndex);
-      log.info("index.read-tailer={},  index.sent-tailer={}, index.end={}, excerptCount={}", readIndex, sentIndex,
-          endIndex, excerptCount);
+      metrics.recordBacklogDepth(excerptCount);
+      log.info("index.read-tailer={},  index.sent-tailer={}, index.end={}, excerptCount={}, drainRate={}/s", readIndex,
+          sentIndex, endIndex, excerptCount, String.format("%.1f", metrics.getDrainRate()));
     } catch (Exception e) {
       log.error("Exception in printStats", e);
     }
@@ -123,36 +163,11 @@ public class ChronicleEventTailer extends AbstractScheduledService {
     try {
       sampler.updateTime();
       sampler.sampled(() -> log.info("Checking for messages to publish"));
-      Batch batchToSend = new Batch(MAX_BATCH_BYTES, MAX_BATCH_COUNT);
-      while (!batchToSend.isFull()) {
-        long endIndex = queue.createTailer().toEnd().index();
-        try (DocumentContext dc = readTailer.readingDocument()) {
-          if (!dc.isPresent()) {
-            sampler.sampled(() -> log.info("Reached end of queue"));
-            long readIndex = readTailer.index();
-            if (readIndex < endIndex) {
-              readTailer.moveToIndex(endIndex);
-              fileDeletionManager.setSentIndex(endIndex);
-              log.warn(
-                  "Observed readTailer not at end with no document context. Moved from {} to {}", readIndex, endIndex);
-            }
-            break;
-          }
-          try {
-            verify(dc.wire() != null, "Null wire with document context present");
-            byte[] bytes = requireNonNull(dc.wire()).read().bytes();
-            if (bytes != null) {
-              PublishMessage message = PublishMessage.parseFrom(bytes);
-              batchToSend.add(message);
-            } else {
-              // could happen in case of an error during append with document context open.
-              log.warn("Read NULL message. Skipping");
-            }
-          } catch (Exception e) {
-            log.error("Exception while parsing message", e);
-          }
-        }
+      if (publishConfig.isAdaptive()) {
+        publishInFlightBatches();
+        return;
       }
+      Batch batchToSend = readBatch(MAX_BATCH_BYTES, MAX_BATCH_COUNT, true);
       if (batchToSend.isFull()) {
         log.info("Batch is full");
       }
@@ -162,6 +177,7 @@ public class ChronicleEventTailer extends AbstractScheduledService {
           publishMessagesOverRest(publishRequest);
           fileDeletionManager.setSentIndex(readTailer.index());
           scheduler.recordSuccess();
+          metrics.recordPublished(batchToSend.size(), System.currentTimeMillis());
           log.info("Published {} messages successfully over rest", batchToSend.size());
         } catch (Exception err) {
           log.warn("Exception during message publish", err);
@@ -184,16 +200,151 @@ public class ChronicleEventTailer extends AbstractScheduledService {
     }
   }
 
-  private void publishMessagesOverRest(PublishRequest publishRequest) throws IOException {
+  /**
+   * Reads the next messages from the queue, until the batch is full or the end of the queue is reached.
+   * <p/>
+   * With batches in flight, the sent index must not move past the batches which are not acknowledged yet, so
+   * {@code advanceSentIndex} is false and only the read tailer is moved when skipping to the end of the queue.
+   */
+  private Batch readBatch(int thresholdBytes, int thresholdCount, boolean advanceSentIndex) {
+    Batch batchToSend = new Batch(thresholdBytes, thresholdCount);
+    while (!batchToSend.isFull()) {
+      long endIndex = queue.createTailer().toEnd().index();
+      try (DocumentContext dc = readTailer.readingDocument()) {
+        if (!dc.isPresent()) {
+          sampler.sampled(() -> log.info("Reached end of queue"));
+          long readIndex = readTailer.index();
+          if (readIndex < endIndex) {
+            readTailer.moveToIndex(endIndex);
+            if (advanceSentIndex) {
+              fileDeletionManager.setSentIndex(endIndex);
+            }
+            log.warn(
+                "Observed readTailer not at end with no document context. Moved from {} to {}", readIndex, endIndex);
+          }
+          break;
+        }
+        try {
+          verify(dc.wire() != null, "Null wire with document context present");
+          byte[] bytes = requireNonNull(dc.wire()).read().bytes();
+          if (bytes != null) {
+            PublishMessage message = PublishMessage.parseFrom(bytes);
+            batchToSend.add(message);
+          } else {
+            // could happen in case of an error during append with document context open.
+            log.warn("Read NULL message. Skipping");
+          }
+        } catch (Exception e) {
+          log.error("Exception while parsing message", e);
+        }
+      }
+    }
+    return batchToSend;
+  }
+
+  /**
+   * Reads up to the max number of in flight requests batches and publishes them concurrently. The sent index is only
+   * moved past the batches which were published along with all the batches read before them, so that on a failure the
+   * tailer rewinds to the first batch which might not have been published.
+   */
+  @VisibleForTesting
+  void publishInFlightBatches() throws InterruptedException {
+    List<InFlightBatch> inFlightBatches = new ArrayList<>();
+    boolean backlog = true;
+    while (backlog && inFlightBatches.size() < getMaxInFlightRequests()) {
+      Batch batchToSend = readBatch(batchBytes, batchCount, false);
+      if (batchToSend.isEmpty()) {
+        backlog = false;
+        break;
+      }
+      backlog = batchToSend.isFull();
+      PublishRequest publishRequest = PublishRequest.newBuilder().addAllMessages(batchToSend.getMessages()).build();
+      inFlightBatches.add(new InFlightBatch(batchToSend.size(), readTailer.index(),
+          publishExecutor.submit(() -> publishMessagesOverRest(publishRequest))));
+    }
+    if (inFlightBatches.isEmpty()) {
+      fileDeletionManager.setSentIndex(readTailer.index());
+      sampler.sampled(() -> log.info("Skipping message publish as batch is empty"));
+      return;
+    }
+
+    boolean failed = false;
+    int publishedCount = 0;
+    for (InFlightBatch inFlightBatch : inFlightBatches) {
+      try {
+        inFlightBatch.getFuture().get();
+        if (!failed) {
+          fileDeletionManager.setSentIndex(inFlightBatch.getEndIndex());
+          publishedCount += inFlightBatch.getSize();
+        }
+      } catch (ExecutionException err) {
+        log.warn("Exception during message publish", err.getCause());
+        failed = true;
+      }
+    }
+    metrics.recordPublished(publishedCount, System.currentTimeMillis());
+
+    if (failed) {
+      QueueUtils.moveToIndex(readTailer, fileDeletionManager.getSentIndex());
+      scheduler.recordFailure();
+      batchCount = MAX_BATCH_COUNT;
+      batchBytes = MAX_BATCH_BYTES;
+      return;
+    }
+    scheduler.recordSuccess();
+    log.info("Published {} messages successfully over rest in {} requests", publishedCount, inFlightBatches.size());
+    if (backlog) {
+      batchCount = Math.min(batchCount * 2, MAX_ADAPTIVE_BATCH_COUNT);
+      batchBytes = Math.min(batchBytes * 2, MAX_ADAPTIVE_BATCH_BYTES);
+    } else {
+      batchCount = Math.max(batchCount / 2, MAX_BATCH_COUNT);
+      batchBytes = Math.max(batchBytes / 2, MAX_BATCH_BYTES);
+    }
+  }
+
+  @VisibleForTesting
+  int getBatchCount() {
+    return batchCount;
+  }
+
+  @VisibleForTesting
+  int getBatchBytes() {
+    return batchBytes;
+  }
+
+  private int getMaxInFlightRequests() {
+    return Math.max(publishConfig.getMaxInFlightRequests(), 1);
+  }
+
+  private Void publishMessagesOverRest(PublishRequest publishRequest) throws IOException {
     try {
-      Call<PublishResponse> call = eventPublisherClient.publish(accountId, publishRequest);
+      Call<PublishResponse> call = publishConfig.isCompressRequests()
+          ? eventPublisherClient.publishCompressed(accountId, compress(publishRequest))
+          : eventPublisherClient.publish(accountId, publishRequest);
       EventServiceRestUtils.executeRestCallWithRetry(call);
+      return null;
     } catch (Exception e) {
       log.error("Error while publishing messages over rest ", e);
       throw new IOException(e);
     }
   }
 
+  private static RequestBody compress(PublishRequest publishRequest) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream(publishRequest.getSerializedSize() / 4);
+    try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+      publishRequest.writeTo(gzipOutputStream);
+    }
+    return RequestBody.create(PROTOBUF_MEDIA_TYPE, outputStream.toByteArray());
+  }
+
+  @Value
+  private static class InFlightBatch {
+    int size;
+    // Index of the read tailer after the last message of the batch
+    long endIndex;
+    Future<Void> future;
+  }
+
   @Override
   protected Scheduler scheduler() {
     return scheduler;
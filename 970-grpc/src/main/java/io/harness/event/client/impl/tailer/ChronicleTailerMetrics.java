@@ -0,0 +1,59 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.event.client.impl.tailer;
+
+import com.google.inject.Singleton;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Backlog and drain rate of the events tailed from the queue, the counterpart of the appender side
+ * {@link io.harness.event.client.impl.appender.ChronicleQueueMonitor}. The delegate exports them as the
+ * event_queue_backlog and event_queue_drain_rate gauges.
+ */
+@Singleton
+public class ChronicleTailerMetrics {
+  private static final long DRAIN_RATE_WINDOW = TimeUnit.SECONDS.toMillis(30);
+
+  private volatile long backlogDepth;
+  private volatile double drainRate;
+
+  // Only updated by the tailer thread
+  private long windowStartTime = -1;
+  private long windowMessageCount;
+
+  void recordBacklogDepth(long excerptCount) {
+    backlogDepth = excerptCount;
+  }
+
+  void recordPublished(int messageCount, long now) {
+    if (windowStartTime < 0) {
+      windowStartTime = now;
+    }
+    windowMessageCount += messageCount;
+    long elapsed = now - windowStartTime;
+    if (elapsed >= DRAIN_RATE_WINDOW) {
+      drainRate = windowMessageCount * 1000.0 / elapsed;
+      windowStartTime = now;
+      windowMessageCount = 0;
+    }
+  }
+
+  /**
+   * Number of events in the queue which have not been read yet, as of the last time the stats were printed.
+   */
+  public long getBacklogDepth() {
+    return backlogDepth;
+  }
+
+  /**
+   * Events published per second over the last completed window.
+   */
+  public double getDrainRate() {
+    return drainRate;
+  }
+}
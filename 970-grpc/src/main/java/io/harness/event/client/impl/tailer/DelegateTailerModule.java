@@ -44,6 +44,16 @@ public class DelegateTailerModule extends ProviderModule {
     return new BackoffScheduler(ChronicleEventTailer.class.getSimpleName(), config.getMinDelay(), config.getMaxDelay());
   }
 
+  @Provides
+  @Singleton
+  TailerPublishConfig publishConfig() {
+    return TailerPublishConfig.builder()
+        .adaptive(config.isAdaptivePublish())
+        .maxInFlightRequests(config.getMaxInFlightPublishRequests())
+        .compressRequests(config.isCompressPublishRequests())
+        .build();
+  }
+
   @Value
   @Builder
   public static class Config {
@@ -52,6 +62,10 @@ public class DelegateTailerModule extends ProviderModule {
     String queueFilePath;
     @Builder.Default Duration minDelay = Duration.ofSeconds(1);
     @Builder.Default Duration maxDelay = Duration.ofMinutes(5);
+    // Publishing of the backlog with growing batches and concurrent requests
+    boolean adaptivePublish;
+    @Builder.Default int maxInFlightPublishRequests = EventPublisherConstants.DEFAULT_MAX_IN_FLIGHT_PUBLISH_REQUESTS;
+    boolean compressPublishRequests;
     String clientCertificateFilePath;
     String clientCertificateKeyFilePath;
 
@@ -0,0 +1,26 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.event.client.impl.tailer;
+
+import io.harness.event.client.impl.EventPublisherConstants;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Settings of how {@link ChronicleEventTailer} publishes the events read from the queue.
+ */
+@Value
+@Builder
+public class TailerPublishConfig {
+  // Grows the batches while there is a backlog, and keeps several publish requests in flight
+  boolean adaptive;
+  @Builder.Default int maxInFlightRequests = EventPublisherConstants.DEFAULT_MAX_IN_FLIGHT_PUBLISH_REQUESTS;
+  // Requires the event service to inflate gzip encoded requests
+  boolean compressRequests;
+}
@@ -13,8 +13,10 @@ import io.harness.event.PublishRequest;
 import io.harness.event.PublishResponse;
 
 import javax.ws.rs.Consumes;
+import okhttp3.RequestBody;
 import retrofit2.Call;
 import retrofit2.http.Body;
+import retrofit2.http.Headers;
 import retrofit2.http.POST;
 import retrofit2.http.Query;
 
@@ -23,4 +25,12 @@ public interface EventPublisherClient {
   @Consumes({"application/x-protobuf"})
   @POST("k8sevent/publish")
   Call<PublishResponse> publish(@Query("accountId") String accountId, @Body PublishRequest publishRequest);
+
+  /**
+   * Same as {@link #publish(String, PublishRequest)}, with the serialized request gzip compressed.
+   */
+  @Headers({"Content-Encoding: gzip"})
+  @POST("k8sevent/publish")
+  Call<PublishResponse> publishCompressed(
+      @Query("accountId") String accountId, @Body RequestBody compressedPublishRequest);
 }
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.event.client.impl.tailer;
+
+import static io.harness.filesystem.FileIo.deleteDirectoryAndItsContentIfExists;
+import static io.harness.rule.OwnerRule.AVMOHAN;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.event.PublishMessage;
+import io.harness.event.PublishRequest;
+import io.harness.event.PublishResponse;
+import io.harness.event.client.impl.EventPublisherConstants;
+import io.harness.eventpublisherclient.EventPublisherClient;
+import io.harness.flow.BackoffScheduler;
+import io.harness.rule.Owner;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import net.openhft.chronicle.queue.ChronicleQueue;
+import net.openhft.chronicle.queue.impl.RollingChronicleQueue;
+import net.openhft.chronicle.wire.DocumentContext;
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+import retrofit2.Call;
+import retrofit2.Response;
+
+public class ChronicleEventTailerTest extends CategoryTest {
+  private static final String ACCOUNT_ID = "accountId";
+  private static final int BATCH_COUNT = 500;
+
+  private final String QUEUE_FILE_PATH = "../eventQueue"
+      + "/" + UUID.randomUUID();
+
+  private final List<String> publishedMessageIds = Collections.synchronizedList(new ArrayList<>());
+  private volatile String failingMessageId;
+  private volatile CountDownLatch firstBatchLatch;
+
+  private Call<PublishResponse> call;
+  private RollingChronicleQueue queue;
+  private FileDeletionManager fileDeletionManager;
+  private ChronicleEventTailer tailer;
+
+  @Before
+  @SuppressWarnings("unchecked")
+  public void setUp() throws Exception {
+    File directory = new File(QUEUE_FILE_PATH);
+    FileUtils.forceMkdir(directory);
+    FileUtils.cleanDirectory(directory);
+    queue = ChronicleQueue.singleBuilder(QUEUE_FILE_PATH).rollCycle(EventPublisherConstants.QUEUE_ROLL_CYCLE).build();
+    fileDeletionManager = spy(new FileDeletionManager(queue));
+    call = mock(Call.class);
+    when(call.clone()).thenReturn(call);
+    when(call.execute()).thenReturn(Response.success(PublishResponse.getDefaultInstance()));
+    EventPublisherClient eventPublisherClient = mock(EventPublisherClient.class);
+    when(eventPublisherClient.publish(eq(ACCOUNT_ID), any(PublishRequest.class)))
+        .thenAnswer(invocation -> publish(invocation.getArgument(1)));
+    Duration delay = Duration.ofMillis(50);
+    tailer = new ChronicleEventTailer(eventPublisherClient, queue, fileDeletionManager,
+        new BackoffScheduler(ChronicleEventTailer.class.getSimpleName(), delay, delay),
+        TailerPublishConfig.builder().adaptive(true).maxInFlightRequests(4).build(), new ChronicleTailerMetrics());
+    tailer.setAccountId(ACCOUNT_ID);
+    tailer.startUp();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    tailer.shutDown();
+    FileUtils.cleanDirectory(new File(QUEUE_FILE_PATH));
+    deleteDirectoryAndItsContentIfExists(QUEUE_FILE_PATH);
+  }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void shouldAcknowledgeBatchesInOrder() throws Exception {
+    appendMessages(0, 3 * BATCH_COUNT);
+    // The first batch completes only after the later ones were published
+    firstBatchLatch = new CountDownLatch(2);
+
+    tailer.publishInFlightBatches();
+
+    ArgumentCaptor<Long> sentIndexCaptor = ArgumentCaptor.forClass(Long.class);
+    verify(fileDeletionManager, atLeastOnce()).setSentIndex(sentIndexCaptor.capture());
+    List<Long> sentIndexes = sentIndexCaptor.getAllValues();
+    assertThat(sentIndexes).hasSize(3).isSorted().doesNotHaveDuplicates();
+    assertThat(sentIndexes.get(2)).isEqualTo(endIndex());
+    assertThat(publishedMessageIds).containsExactlyInAnyOrderElementsOf(messageIds(0, 3 * BATCH_COUNT));
+  }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void shouldRewindToFailedBatch() throws Exception {
+    appendMessages(0, 3 * BATCH_COUNT);
+    failingMessageId = messageId(BATCH_COUNT);
+
+    tailer.publishInFlightBatches();
+
+    // The sent index stays after the first batch, even if the last batch was published
+    verify(fileDeletionManager).setSentIndex(anyLong());
+    assertThat(fileDeletionManager.getSentIndex()).isLessThan(endIndex());
+    assertThat(tailer.getBatchCount()).isEqualTo(BATCH_COUNT);
+
+    publishedMessageIds.clear();
+    failingMessageId = null;
+    tailer.publishInFlightBatches();
+
+    assertThat(publishedMessageIds).containsExactlyInAnyOrderElementsOf(messageIds(BATCH_COUNT, 3 * BATCH_COUNT));
+    assertThat(fileDeletionManager.getSentIndex()).isEqualTo(endIndex());
+  }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void shouldGrowBatchesWithBacklogAndShrinkWithout() throws Exception {
+    int batchBytes = tailer.getBatchBytes();
+    appendMessages(0, 4 * BATCH_COUNT + 100);
+
+    tailer.publishInFlightBatches();
+    assertThat(tailer.getBatchCount()).isEqualTo(2 * BATCH_COUNT);
+    assertThat(tailer.getBatchBytes()).isEqualTo(2 * batchBytes);
+    assertThat(publishedMessageIds).hasSize(4 * BATCH_COUNT);
+
+    tailer.publishInFlightBatches();
+    assertThat(tailer.getBatchCount()).isEqualTo(BATCH_COUNT);
+    assertThat(tailer.getBatchBytes()).isEqualTo(batchBytes);
+    assertThat(publishedMessageIds).containsExactlyInAnyOrderElementsOf(messageIds(0, 4 * BATCH_COUNT + 100));
+    assertThat(fileDeletionManager.getSentIndex()).isEqualTo(endIndex());
+  }
+
+  private Call<PublishResponse> publish(PublishRequest publishRequest) throws Exception {
+    List<String> messageIds =
+        publishRequest.getMessagesList().stream().map(PublishMessage::getMessageId).collect(Collectors.toList());
+    CountDownLatch latch = firstBatchLatch;
+    if (latch != null) {
+      if (messageIds.contains(messageId(0))) {
+        assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+      } else {
+        latch.countDown();
+      }
+    }
+    if (messageIds.contains(failingMessageId)) {
+      throw new IllegalStateException("Failed to publish");
+    }
+    publishedMessageIds.addAll(messageIds);
+    return call;
+  }
+
+  private void appendMessages(int from, int to) {
+    for (String messageId : messageIds(from, to)) {
+      byte[] bytes = PublishMessage.newBuilder().setMessageId(messageId).build().toByteArray();
+      try (DocumentContext dc = queue.acquireAppender().writingDocument()) {
+        dc.wire().getValueOut().bytes(bytes);
+      }
+    }
+  }
+
+  private long endIndex() {
+    return queue.createTailer().toEnd().index();
+  }
+
+  private static List<String> messageIds(int from, int to) {
+    return IntStream.range(from, to).mapToObj(ChronicleEventTailerTest::messageId).collect(Collectors.toList());
+  }
+
+  private static String messageId(int i) {
+    return "message-" + i;
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.event.client.impl.tailer;
+
+import static io.harness.rule.OwnerRule.AVMOHAN;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class ChronicleTailerMetricsTest extends CategoryTest {
+  private final ChronicleTailerMetrics metrics = new ChronicleTailerMetrics();
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void shouldComputeDrainRateOverCompletedWindow() throws Exception {
+    metrics.recordPublished(500, 1000L);
+    metrics.recordPublished(1000, 20000L);
+    assertThat(metrics.getDrainRate()).isEqualTo(0.0);
+
+    metrics.recordPublished(1500, 31000L);
+    assertThat(metrics.getDrainRate()).isEqualTo(100.0);
+
+    // A new window starts once the rate is computed
+    metrics.recordPublished(0, 61000L);
+    assertThat(metrics.getDrainRate()).isEqualTo(0.0);
+  }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void shouldRecordBacklogDepth() throws Exception {
+    metrics.recordBacklogDepth(42);
+    assertThat(metrics.getBacklogDepth()).isEqualTo(42);
+  }
+}
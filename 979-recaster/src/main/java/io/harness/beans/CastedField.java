@@ -16,6 +16,9 @@ import io.harness.exceptions.RecasterException;
 import io.harness.utils.RecastReflectionUtils;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
@@ -31,6 +34,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -53,10 +57,14 @@ public class CastedField {
   private boolean isArray; // indicated if it is an Array
   private boolean isCollection; // indicated if the collection is a list)
   private Type genericType;
+  // Method handles to read and write the field, which are faster than reflective access on the hot path
+  @Getter(AccessLevel.NONE) private MethodHandle fieldGetter;
+  @Getter(AccessLevel.NONE) private MethodHandle fieldSetter;
 
   CastedField(final Field f, final Class<?> clazz, final Recaster recaster) {
     f.setAccessible(true);
     field = f;
+    discoverAccessors();
     recasterFieldName = getRecasterFieldNameFromField(f);
     persistedClass = clazz;
     realType = field.getType();
@@ -146,6 +154,19 @@ public class CastedField {
     return isSet;
   }
 
+  private void discoverAccessors() {
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.lookup();
+      fieldGetter = lookup.unreflectGetter(field).asType(MethodType.methodType(Object.class, Object.class));
+      fieldSetter = lookup.unreflectSetter(field).asType(MethodType.methodType(void.class, Object.class, Object.class));
+    } catch (IllegalAccessException e) {
+      // Final fields of records and hidden classes cannot be written through a method handle
+      log.debug("Falling back to reflective access for field {}", getFullName(), e);
+      fieldGetter = null;
+      fieldSetter = null;
+    }
+  }
+
   /**
    * Discovers interesting (that we care about) things about the field.
    */
@@ -359,6 +380,18 @@ public class CastedField {
   }
 
   public Object getFieldValue(final Object instance) {
+    if (fieldGetter != null) {
+      try {
+        return (Object) fieldGetter.invokeExact(instance);
+      } catch (ClassCastException e) {
+        // Fall through to reflective access, which reports the error as before
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new RuntimeException(e);
+      }
+    }
+
     try {
       return field.get(instance);
     } catch (IllegalAccessException e) {
@@ -367,6 +400,19 @@ public class CastedField {
   }
 
   public void setFieldValue(final Object instance, final Object value) {
+    if (fieldSetter != null && (value != null || !field.getType().isPrimitive())) {
+      try {
+        fieldSetter.invokeExact(instance, value);
+        return;
+      } catch (ClassCastException e) {
+        // Fall through to reflective access, which also widens primitive values and reports errors as before
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new RuntimeException(e);
+      }
+    }
+
     try {
       field.set(instance, value);
     } catch (IllegalAccessException e) {
@@ -11,17 +11,45 @@ import io.harness.beans.CastedField;
 import io.harness.transformers.DefaultRecastTransformer;
 import io.harness.transformers.RecastTransformer;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Value;
+
 public class CustomTransformer extends Transformer {
   private final RecastTransformer passThroughTransformer = new DefaultRecastTransformer();
   private final DefaultTransformer defaultTransformer;
+  // The transformer resolved for a class or a field only changes when a transformer is added, so the resolution which
+  // walks the type hierarchy for the untyped transformers is done once per class and per field
+  private final Map<Class<?>, RecastTransformer> classTransformers = new ConcurrentHashMap<>();
+  private final Map<FieldTransformerKey, RecastTransformer> fieldTransformers = new ConcurrentHashMap<>();
 
   public CustomTransformer(Recaster recaster) {
     super(recaster);
     this.defaultTransformer = new DefaultTransformer(recaster);
   }
 
+  @Override
+  protected void addTransformer(RecastTransformer recastTransformer) {
+    super.addTransformer(recastTransformer);
+    classTransformers.clear();
+    fieldTransformers.clear();
+  }
+
   @Override
   protected RecastTransformer getTransformer(final Class c) {
+    if (c == null) {
+      return resolveTransformer(null);
+    }
+    return classTransformers.computeIfAbsent(c, this::resolveTransformer);
+  }
+
+  @Override
+  protected RecastTransformer getTransformer(final Object val, final CastedField cf) {
+    return fieldTransformers.computeIfAbsent(
+        new FieldTransformerKey(val == null ? null : val.getClass(), cf), key -> resolveTransformer(val, cf));
+  }
+
+  private RecastTransformer resolveTransformer(final Class<?> c) {
     RecastTransformer encoder = super.getTransformer(c);
     if (encoder == null) {
       encoder = defaultTransformer.getTransformer(c);
@@ -34,8 +62,7 @@ public class CustomTransformer extends Transformer {
     return passThroughTransformer;
   }
 
-  @Override
-  protected RecastTransformer getTransformer(final Object val, final CastedField cf) {
+  private RecastTransformer resolveTransformer(final Object val, final CastedField cf) {
     RecastTransformer encoder = super.getTransformer(val, cf);
     if (encoder == null) {
       encoder = defaultTransformer.getTransformer(val, cf);
@@ -47,4 +74,11 @@ public class CustomTransformer extends Transformer {
 
     return passThroughTransformer;
   }
+
+  @Value
+  private static class FieldTransformerKey {
+    Class<?> valueClass;
+    // CastedField does not override equals, so fields are compared by identity
+    CastedField castedField;
+  }
 }
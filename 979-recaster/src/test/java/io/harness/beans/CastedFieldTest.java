@@ -0,0 +1,139 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.beans;
+
+import static io.harness.rule.OwnerRule.ALEXEI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.harness.RecasterTestBase;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.core.Recast;
+import io.harness.core.Recaster;
+import io.harness.core.RecasterOptions;
+import io.harness.rule.Owner;
+import io.harness.transformers.RecastTransformer;
+import io.harness.transformers.simplevalue.CustomValueTransformer;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class CastedFieldTest extends RecasterTestBase {
+  private Recaster recaster;
+
+  @Before
+  public void setup() {
+    recaster = new Recaster(RecasterOptions.builder().workWithMaps(true).build());
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldReadAndWriteFields() {
+    DummyFinal dummy = new DummyFinal("value", 10L);
+    CastedField stringField = field(DummyFinal.class, "stringValue");
+    CastedField longField = field(DummyFinal.class, "longPrimitive");
+
+    assertThat(stringField.getFieldValue(dummy)).isEqualTo("value");
+    assertThat(longField.getFieldValue(dummy)).isEqualTo(10L);
+
+    stringField.setFieldValue(dummy, "newValue");
+    // Primitive values are widened as with reflective access
+    longField.setFieldValue(dummy, 20);
+    assertThat(dummy.stringValue).isEqualTo("newValue");
+    assertThat(dummy.longPrimitive).isEqualTo(20L);
+
+    assertThatThrownBy(() -> longField.setFieldValue(dummy, null)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> longField.setFieldValue(dummy, "string")).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> stringField.getFieldValue("string")).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldRoundTripFinalFields() {
+    Recast recast = new Recast(recaster, ImmutableSet.of(DummyFinal.class));
+    DummyFinal dummy = new DummyFinal("value", 10L);
+
+    DummyFinal recasted = recast.fromMap(recast.toMap(dummy), DummyFinal.class);
+
+    assertThat(recasted.stringValue).isEqualTo("value");
+    assertThat(recasted.longPrimitive).isEqualTo(10L);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldUseTransformerAddedAfterResolution() {
+    Recast recast = new Recast(recaster, ImmutableSet.of(DummyWrapper.class));
+    DummyWrapper wrapper = DummyWrapper.builder().value(new DummyValue("value")).build();
+    assertThat(recast.toMap(wrapper).get("value")).isInstanceOf(Map.class);
+
+    recast.addTransformer(new DummyValueTransformer());
+
+    Map<String, Object> document = recast.toMap(wrapper);
+    assertThat(((Map<String, Object>) document.get("value")).get(Recaster.ENCODED_VALUE)).isEqualTo("value");
+    assertThat(recast.fromMap(document, DummyWrapper.class).value.value).isEqualTo("value");
+  }
+
+  private CastedField field(Class<?> clazz, String name) {
+    return recaster.getCastedClass(clazz)
+        .getPersistenceFields()
+        .stream()
+        .filter(cf -> cf.getField().getName().equals(name))
+        .findFirst()
+        .orElseThrow(IllegalStateException::new);
+  }
+
+  @NoArgsConstructor(force = true)
+  @AllArgsConstructor
+  private static class DummyFinal {
+    private final String stringValue;
+    private final long longPrimitive;
+  }
+
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  private static class DummyWrapper {
+    private DummyValue value;
+  }
+
+  @NoArgsConstructor
+  @AllArgsConstructor
+  private static class DummyValue {
+    private String value;
+  }
+
+  private static class DummyValueTransformer extends RecastTransformer implements CustomValueTransformer {
+    DummyValueTransformer() {
+      super(ImmutableList.of(DummyValue.class));
+    }
+
+    @Override
+    public Object decode(Class<?> targetClass, Object fromObject, CastedField castedField) {
+      return new DummyValue((String) ((Map<String, Object>) fromObject).get(Recaster.ENCODED_VALUE));
+    }
+
+    @Override
+    public Object encode(Object value, CastedField castedField) {
+      return ((DummyValue) value).value;
+    }
+  }
+}
@@ -14,7 +14,6 @@ import io.harness.annotations.dev.HarnessModuleComponent;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.annotations.dev.ProductModule;
-import io.harness.data.algorithm.IdentifierName;
 import io.harness.data.structure.EmptyPredicate;
 import io.harness.exception.EngineExpressionEvaluationException;
 import io.harness.exception.EngineFunctorException;
@@ -42,18 +41,16 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import javax.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.jexl3.JexlBuilder;
 import org.apache.commons.jexl3.JexlEngine;
 import org.apache.commons.jexl3.JexlException;
 import org.apache.commons.jexl3.JexlExpression;
-import org.apache.commons.lang3.RandomStringUtils;
-import org.apache.commons.logging.impl.NoOpLog;
 import org.hibernate.validator.constraints.NotEmpty;
 
 @CodePulse(module = ProductModule.CDS, unitCoverageRequired = true,
@@ -75,19 +72,23 @@ public class EngineExpressionEvaluator {
       "PIE_EXPRESSION_DISABLE_COMPLEX_JSON_SUPPORT";
 
   private static final int MAX_DEPTH = 15;
+  private static final int MAX_PRE_PROCESSED_EXPRESSIONS = 1000;
 
   @Getter private final JexlEngine engine;
   @Getter private final VariableResolverTracker variableResolverTracker;
   @Getter private final Map<String, Object> contextMap;
   @Getter private final Map<String, String> staticAliases;
+  // Static aliases and prefixes do not change once the evaluator is initialized, so neither do the expansions
+  private final Map<String, List<String>> preProcessedExpressions;
   private boolean initialized;
 
   public EngineExpressionEvaluator(VariableResolverTracker variableResolverTracker) {
-    this.engine = new JexlBuilder().logger(new NoOpLog()).create();
+    this.engine = JexlExpressionCache.getEngine();
     this.variableResolverTracker =
         variableResolverTracker == null ? new VariableResolverTracker() : variableResolverTracker;
     this.contextMap = new LateBindingMap();
     this.staticAliases = new HashMap<>();
+    this.preProcessedExpressions = new ConcurrentHashMap<>();
   }
 
   /**
@@ -487,11 +488,24 @@ public class EngineExpressionEvaluator {
       return PartialEvaluateResult.createPartialResult(createExpression(expressionBlock), null);
     }
 
-    String name = HARNESS_INTERNAL_VARIABLE_PREFIX + RandomStringUtils.random(12, true, false);
+    String name = nextPartialVariableName(partialCtx);
     partialCtx.put(name, object);
     return PartialEvaluateResult.createPartialResult(createExpression(name), partialCtx);
   }
 
+  /**
+   * Returns the next variable name that is not used in the partial context yet. Names only depend on the number of
+   * variables already collected, so evaluating the same expression again renders the same partial expression.
+   */
+  private static String nextPartialVariableName(Map<String, Object> partialCtx) {
+    int index = partialCtx.size();
+    String name = HARNESS_INTERNAL_VARIABLE_PREFIX + index;
+    while (partialCtx.containsKey(name)) {
+      name = HARNESS_INTERNAL_VARIABLE_PREFIX + ++index;
+    }
+    return name;
+  }
+
   /**
    * Evaluate an expression block (anything inside <+...>) with the given context after applying static alias
    * substitutions and prefixes. This variant is non-recursive.
@@ -541,7 +555,7 @@ public class EngineExpressionEvaluator {
   protected Object evaluatePrefixCombinations(
       @NotNull String expressionBlock, @NotNull EngineJexlContext ctx, int depth, ExpressionMode expressionMode) {
     // Apply all the prefixes and return first one that evaluates successfully.
-    List<String> finalExpressions = preProcessExpression(expressionBlock);
+    List<String> finalExpressions = preProcessExpressionCached(expressionBlock);
     Object object = evaluateCombinations(expressionBlock, finalExpressions, ctx, depth, expressionMode);
     if (object == null && expressionMode == ExpressionMode.RETURN_ORIGINAL_EXPRESSION_IF_UNRESOLVED) {
       return ExpressionConstants.EXPR_START + expressionBlock + ExpressionConstants.EXPR_END;
@@ -592,6 +606,17 @@ public class EngineExpressionEvaluator {
     }
   }
 
+  private List<String> preProcessExpressionCached(String expression) {
+    List<String> finalExpressions = preProcessedExpressions.get(expression);
+    if (finalExpressions == null) {
+      finalExpressions = preProcessExpression(expression);
+      if (preProcessedExpressions.size() < MAX_PRE_PROCESSED_EXPRESSIONS) {
+        preProcessedExpressions.put(expression, finalExpressions);
+      }
+    }
+    return finalExpressions;
+  }
+
   /**
    * Return the expression after applying static alias substitutions and prefixes.
    *
@@ -650,9 +675,9 @@ public class EngineExpressionEvaluator {
 
   protected Object evaluateByCreatingExpression(@NotNull String expression, @NotNull EngineJexlContext ctx) {
     if (ctx.isFeatureFlagEnabled(PIE_EXECUTION_JSON_SUPPORT)) {
-      return engine.createScript(expression).execute(ctx);
+      return JexlExpressionCache.getScript(expression).execute(ctx);
     }
-    JexlExpression jexlExpression = engine.createExpression(expression);
+    JexlExpression jexlExpression = JexlExpressionCache.getExpression(expression);
     return jexlExpression.evaluate(ctx);
   }
 
@@ -672,7 +697,7 @@ public class EngineExpressionEvaluator {
 
     if (ctx.isFeatureFlagEnabled(PIE_EXECUTION_JSON_SUPPORT)) {
       try {
-        return engine.createScript(expression).execute(ctx);
+        return JexlExpressionCache.getScript(expression).execute(ctx);
       } catch (Exception e) {
         if (response.isOnlyRenderedExpressions()) {
           return null;
@@ -681,7 +706,7 @@ public class EngineExpressionEvaluator {
       }
     }
     try {
-      JexlExpression jexlExpression = engine.createExpression(expression);
+      JexlExpression jexlExpression = JexlExpressionCache.getExpression(expression);
       return jexlExpression.evaluate(ctx);
     } catch (Exception e) {
       if (response.isOnlyRenderedExpressions()) {
@@ -692,7 +717,7 @@ public class EngineExpressionEvaluator {
   }
 
   protected Object evaluateByCreatingScript(@NotNull String expression, @NotNull EngineJexlContext ctx) {
-    return engine.createScript(expression).execute(ctx);
+    return JexlExpressionCache.getScript(expression).execute(ctx);
   }
 
   private EngineJexlContext prepareContext(Map<String, Object> ctx) {
@@ -820,7 +845,6 @@ public class EngineExpressionEvaluator {
     private final EngineJexlContext ctx;
     private final int depth;
     private final String prefix;
-    private final String suffix;
     private int varIndex;
     private ExpressionMode expressionMode;
     @Getter private final Set<String> unresolvedExpressions = new HashSet<>();
@@ -830,8 +854,10 @@ public class EngineExpressionEvaluator {
       this.engineExpressionEvaluator = engineExpressionEvaluator;
       this.ctx = ctx;
       this.depth = depth;
-      this.prefix = IdentifierName.random();
-      this.suffix = IdentifierName.random();
+      // Nested resolvers share the context but always run at a lower depth, so the depth keeps their variables apart.
+      // The names are deterministic so that the rendered expression is the same across evaluations and its parsed
+      // form can be reused from the JexlExpressionCache.
+      this.prefix = HARNESS_INTERNAL_VARIABLE_PREFIX + depth + "_";
       this.expressionMode = expressionMode;
     }
 
@@ -856,7 +882,7 @@ public class EngineExpressionEvaluator {
           unresolvedExpressions.add(finalExpression);
         }
 
-        String name = prefix + ++varIndex + suffix;
+        String name = prefix + ++varIndex;
         ctx.set(name, value);
         return name;
       } catch (UnresolvedExpressionsException ex) {
@@ -900,7 +926,7 @@ public class EngineExpressionEvaluator {
         return result.getExpressionValue();
       }
 
-      String name = HARNESS_INTERNAL_VARIABLE_PREFIX + RandomStringUtils.random(12, true, false);
+      String name = nextPartialVariableName(partialCtx);
       partialCtx.put(name, result.getValue());
       return createExpression(name);
     }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.expression;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import lombok.experimental.UtilityClass;
+import org.apache.commons.jexl3.JexlBuilder;
+import org.apache.commons.jexl3.JexlEngine;
+import org.apache.commons.jexl3.JexlExpression;
+import org.apache.commons.jexl3.JexlScript;
+import org.apache.commons.logging.impl.NoOpLog;
+
+/**
+ * Process wide cache of parsed jexl expressions and scripts, keyed by their source. Parsed expressions and scripts are
+ * immutable and can be evaluated concurrently against different contexts, so they are shared by all the evaluators.
+ * They are bound to the engine that parsed them, which is why the evaluators use the engine of this cache as well.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+@UtilityClass
+public class JexlExpressionCache {
+  private static final int MAXIMUM_SIZE = 10000;
+
+  private static final JexlEngine ENGINE = new JexlBuilder().logger(new NoOpLog()).create();
+  private static final Cache<String, JexlExpression> EXPRESSIONS =
+      CacheBuilder.newBuilder().maximumSize(MAXIMUM_SIZE).recordStats().build();
+  private static final Cache<String, JexlScript> SCRIPTS =
+      CacheBuilder.newBuilder().maximumSize(MAXIMUM_SIZE).recordStats().build();
+
+  public JexlEngine getEngine() {
+    return ENGINE;
+  }
+
+  public JexlExpression getExpression(String expression) {
+    // Not using Cache.get(key, loader) as it would wrap the JexlException thrown for an invalid expression
+    JexlExpression jexlExpression = EXPRESSIONS.getIfPresent(expression);
+    if (jexlExpression == null) {
+      jexlExpression = ENGINE.createExpression(expression);
+      EXPRESSIONS.put(expression, jexlExpression);
+    }
+    return jexlExpression;
+  }
+
+  public JexlScript getScript(String script) {
+    JexlScript jexlScript = SCRIPTS.getIfPresent(script);
+    if (jexlScript == null) {
+      jexlScript = ENGINE.createScript(script);
+      SCRIPTS.put(script, jexlScript);
+    }
+    return jexlScript;
+  }
+
+  public CacheStats getExpressionStats() {
+    return EXPRESSIONS.stats();
+  }
+
+  public CacheStats getScriptStats() {
+    return SCRIPTS.stats();
+  }
+
+  @VisibleForTesting
+  void invalidateAll() {
+    EXPRESSIONS.invalidateAll();
+    SCRIPTS.invalidateAll();
+  }
+}
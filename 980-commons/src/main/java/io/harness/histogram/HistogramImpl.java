@@ -160,28 +160,27 @@ public class HistogramImpl implements Histogram {
     checkNotNull(checkpoint, "Cannot load from empty checkpoint");
     checkArgument(checkpoint.getTotalWeight() >= 0.0, "Cannot load checkpoint with negative weight %s",
         checkpoint.getTotalWeight());
+    // Validate all entries and find their bucket range before adding any of them
+    Map<Integer, Integer> bucketWeights = checkpoint.getBucketWeights();
+    int newMinBucket = this.minBucket;
+    int newMaxBucket = this.maxBucket;
     long sum = 0;
-    for (Map.Entry<Integer, Integer> bucketAndWeight : checkpoint.getBucketWeights().entrySet()) {
+    for (Map.Entry<Integer, Integer> bucketAndWeight : bucketWeights.entrySet()) {
       int bucket = bucketAndWeight.getKey();
-      int weight = bucketAndWeight.getValue();
-      sum += weight;
+      sum += bucketAndWeight.getValue();
       checkElementIndex(bucket, this.options.getNumBuckets(), "Checkpoint has invalid bucket index");
+      newMinBucket = Math.min(newMinBucket, bucket);
+      newMaxBucket = Math.max(newMaxBucket, bucket);
     }
     if (sum == 0) {
       return;
     }
     double ratio = checkpoint.getTotalWeight() / sum;
-    for (Map.Entry<Integer, Integer> bucketAndWeight : checkpoint.getBucketWeights().entrySet()) {
-      int bucket = bucketAndWeight.getKey();
-      int weight = bucketAndWeight.getValue();
-      if (bucket < this.minBucket) {
-        this.minBucket = bucket;
-      }
-      if (bucket > this.maxBucket) {
-        this.maxBucket = bucket;
-      }
-      this.bucketWeight[bucket] += weight * ratio;
+    for (Map.Entry<Integer, Integer> bucketAndWeight : bucketWeights.entrySet()) {
+      this.bucketWeight[bucketAndWeight.getKey()] += bucketAndWeight.getValue() * ratio;
     }
+    this.minBucket = newMinBucket;
+    this.maxBucket = newMaxBucket;
     this.totalWeight += checkpoint.getTotalWeight();
   }
 
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.serializer;
+
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Pool of the kryo {@link Output} and {@link Input} buffers, shared by all the serializers as the buffers do not depend
+ * on the registrations. An output which grew beyond {@link #MAX_POOLED_BUFFER_SIZE} while writing a large object is
+ * dropped instead of being returned, so that a few large payloads do not keep their memory alive.
+ */
+@UtilityClass
+class KryoBufferPool {
+  static final int BUFFER_SIZE = 4096;
+  static final int MAX_POOLED_BUFFER_SIZE = 1024 * 1024;
+  private static final int MAX_POOLED_BUFFERS = 64;
+
+  private static final Queue<Output> OUTPUTS = new ArrayBlockingQueue<>(MAX_POOLED_BUFFERS);
+  private static final Queue<Input> INPUTS = new ArrayBlockingQueue<>(MAX_POOLED_BUFFERS);
+
+  /**
+   * Returns an empty output writing to the given stream, or growing its buffer as needed if the stream is null.
+   */
+  Output borrowOutput(OutputStream outputStream) {
+    Output output = OUTPUTS.poll();
+    if (output == null) {
+      output = new Output(BUFFER_SIZE, -1);
+    }
+    output.setOutputStream(outputStream);
+    return output;
+  }
+
+  void release(Output output) {
+    output.setOutputStream(null);
+    if (output.getBuffer().length <= MAX_POOLED_BUFFER_SIZE) {
+      OUTPUTS.offer(output);
+    }
+  }
+
+  Input borrowInput(InputStream inputStream) {
+    Input input = INPUTS.poll();
+    if (input == null) {
+      input = new Input(BUFFER_SIZE);
+    }
+    input.setInputStream(inputStream);
+    return input;
+  }
+
+  void release(Input input) {
+    input.setInputStream(null);
+    INPUTS.offer(input);
+  }
+}
@@ -12,6 +12,7 @@ import static java.lang.String.format;
 import io.harness.reflection.CodeUtils;
 
 import com.esotericsoftware.kryo.Registration;
+import com.esotericsoftware.kryo.io.ByteBufferInputStream;
 import com.esotericsoftware.kryo.io.Input;
 import com.esotericsoftware.kryo.io.Output;
 import com.esotericsoftware.kryo.pool.KryoPool;
@@ -20,13 +21,19 @@ import com.google.api.client.util.Base64;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.Set;
+import java.util.zip.Deflater;
 import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
 import java.util.zip.InflaterInputStream;
 import lombok.extern.slf4j.Slf4j;
 
@@ -104,37 +111,65 @@ public class KryoSerializer {
   }
 
   public byte[] asBytes(Object obj) {
-    try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-      writeToStream(obj, outputStream);
-      return outputStream.toByteArray();
-    } catch (Exception e) {
-      throw new RuntimeException(e);
+    Output output = KryoBufferPool.borrowOutput(null);
+    try {
+      write(obj, output);
+      return output.toBytes();
+    } catch (Exception exception) {
+      throw new RuntimeException(exception);
+    } finally {
+      KryoBufferPool.release(output);
     }
   }
 
   public byte[] asDeflatedBytes(Object obj) {
-    try (ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
-         DeflaterOutputStream outputStream = new DeflaterOutputStream(byteStream)) {
-      writeToStream(obj, outputStream);
-      outputStream.finish();
+    try (ByteArrayOutputStream byteStream = new ByteArrayOutputStream()) {
+      writeDeflatedTo(obj, byteStream);
       return byteStream.toByteArray();
     } catch (Exception exception) {
       throw new RuntimeException(exception);
     }
   }
 
-  private void writeToStream(Object obj, OutputStream outputStream) {
-    try (Output output = new Output(outputStream)) {
-      pool.run(kryo -> {
-        kryo.writeClassAndObject(output, obj);
-        return null;
-      });
-      output.flush();
+  /**
+   * Writes the object to the stream without any intermediate byte array. The stream is flushed but not closed.
+   */
+  public void writeTo(Object obj, OutputStream outputStream) {
+    Output output = KryoBufferPool.borrowOutput(outputStream);
+    try {
+      write(obj, output);
     } catch (Exception exception) {
       throw new RuntimeException(exception);
+    } finally {
+      KryoBufferPool.release(output);
     }
   }
 
+  /**
+   * Writes the object to the stream in the format of {@link #asDeflatedBytes}. The stream is flushed but not closed.
+   */
+  public void writeDeflatedTo(Object obj, OutputStream outputStream) {
+    Deflater deflater = new Deflater();
+    try {
+      DeflaterOutputStream deflaterStream = new DeflaterOutputStream(outputStream, deflater);
+      writeTo(obj, deflaterStream);
+      deflaterStream.finish();
+      deflaterStream.flush();
+    } catch (IOException exception) {
+      throw new RuntimeException(exception);
+    } finally {
+      deflater.end();
+    }
+  }
+
+  private void write(Object obj, Output output) {
+    pool.run(kryo -> {
+      kryo.writeClassAndObject(output, obj);
+      return null;
+    });
+    output.flush();
+  }
+
   public <T> T clone(T object) {
     return pool.run(kryo -> kryo.copy(object));
   }
@@ -146,10 +181,51 @@ public class KryoSerializer {
   }
 
   public Object asInflatedObject(byte[] bytes) {
-    try (Input input = new Input(new InflaterInputStream(new Input(bytes)))) {
+    return readInflated(new ByteArrayInputStream(bytes));
+  }
+
+  /**
+   * Reads an object from the remaining bytes of the buffer, without copying them, and advances the position of the
+   * buffer past the bytes read.
+   */
+  public Object readFrom(ByteBuffer buffer) {
+    if (buffer.hasArray()) {
+      int offset = buffer.arrayOffset() + buffer.position();
+      Input input = new Input(buffer.array(), offset, buffer.remaining());
+      Object obj = pool.run(kryo -> kryo.readClassAndObject(input));
+      buffer.position(buffer.position() + input.position() - offset);
+      return obj;
+    }
+
+    Input input = KryoBufferPool.borrowInput(new ByteBufferInputStream(buffer));
+    try {
+      Object obj = pool.run(kryo -> kryo.readClassAndObject(input));
+      // Give back the bytes the input read ahead
+      buffer.position(buffer.position() - (input.limit() - input.position()));
+      return obj;
+    } finally {
+      KryoBufferPool.release(input);
+    }
+  }
+
+  /**
+   * Reads an object written by {@link #asDeflatedBytes} or {@link #writeDeflatedTo} from the remaining bytes of the
+   * buffer, without copying them.
+   */
+  public Object readInflatedFrom(ByteBuffer buffer) {
+    return readInflated(new ByteBufferInputStream(buffer));
+  }
+
+  private Object readInflated(InputStream inputStream) {
+    Inflater inflater = new Inflater();
+    Input input = KryoBufferPool.borrowInput(new InflaterInputStream(inputStream, inflater));
+    try {
       return pool.run(kryo -> kryo.readClassAndObject(input));
     } catch (Exception exception) {
       throw new RuntimeException(exception);
+    } finally {
+      KryoBufferPool.release(input);
+      inflater.end();
     }
   }
 
@@ -36,6 +36,7 @@ import java.util.Map;
 import javax.validation.constraints.NotNull;
 import lombok.Builder;
 import lombok.Value;
+import org.apache.commons.jexl3.JexlException;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
@@ -999,6 +1000,71 @@ public class EngineExpressionEvaluatorTest extends CategoryTest {
         .isEqualTo(ExpressionMode.THROW_EXCEPTION_IF_UNRESOLVED);
   }
 
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void testParsedExpressionsAreSharedAcrossEvaluators() {
+    JexlExpressionCache.invalidateAll();
+    long hits = JexlExpressionCache.getExpressionStats().hitCount();
+    long misses = JexlExpressionCache.getExpressionStats().missCount();
+    Map<String, Object> contextMap = ImmutableMap.of("obj", ImmutableMap.of("name", "harness"));
+
+    for (int i = 0; i < 10; i++) {
+      assertThat(prepareEngineExpressionEvaluator(contextMap).renderExpression("<+name> <+name>"))
+          .isEqualTo("harness harness");
+    }
+
+    // Only the first lookup of obj.name parses it, the other evaluators reuse the parsed expression
+    assertThat(JexlExpressionCache.getExpressionStats().missCount() - misses).isEqualTo(1);
+    assertThat(JexlExpressionCache.getExpressionStats().hitCount() - hits).isEqualTo(19);
+  }
+
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void testRepeatedEvaluationsHitExpressionCache() {
+    Map<String, Object> contextMap = ImmutableMap.of("a", 5, "c", "<+a> * 2", "d", "<+a>");
+    assertThat(prepareEngineExpressionEvaluator(contextMap).evaluateExpression("<+a> + <+<+c> + <+d>>")).isEqualTo(20);
+
+    // The combined expressions reference generated variables, which must not make every evaluation parse them again
+    long hits = JexlExpressionCache.getExpressionStats().hitCount();
+    long misses = JexlExpressionCache.getExpressionStats().missCount();
+    for (int i = 0; i < 10; i++) {
+      assertThat(prepareEngineExpressionEvaluator(contextMap).evaluateExpression("<+a> + <+<+c> + <+d>>"))
+          .isEqualTo(20);
+    }
+    assertThat(JexlExpressionCache.getExpressionStats().missCount() - misses).isEqualTo(0);
+    assertThat(JexlExpressionCache.getExpressionStats().hitCount() - hits).isGreaterThan(0);
+  }
+
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void testPartialEvaluationIsDeterministic() {
+    Map<String, Object> contextMap = ImmutableMap.of("a", 5, "e", "<+a>");
+    EngineExpressionEvaluator.PartialEvaluateResult first =
+        prepareEngineExpressionEvaluator(contextMap).partialEvaluateExpression("<+a> + <+<+b> + <+e>>");
+    EngineExpressionEvaluator.PartialEvaluateResult second =
+        prepareEngineExpressionEvaluator(contextMap).partialEvaluateExpression("<+a> + <+<+b> + <+e>>");
+
+    assertThat(first.isPartial()).isTrue();
+    assertThat(second.getExpressionValue()).isEqualTo(first.getExpressionValue());
+    assertThat(second.getPartialCtx()).isEqualTo(first.getPartialCtx());
+  }
+
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void testInvalidExpressionIsNotCached() {
+    JexlExpressionCache.invalidateAll();
+    long misses = JexlExpressionCache.getExpressionStats().missCount();
+
+    assertThatThrownBy(() -> JexlExpressionCache.getExpression("(a")).isInstanceOf(JexlException.class);
+    assertThatThrownBy(() -> JexlExpressionCache.getExpression("(a")).isInstanceOf(JexlException.class);
+
+    assertThat(JexlExpressionCache.getExpressionStats().missCount() - misses).isEqualTo(2);
+  }
+
   @Value
   @Builder
   public static class DummyA {
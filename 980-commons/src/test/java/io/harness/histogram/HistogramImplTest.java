@@ -232,6 +232,26 @@ public class HistogramImplTest extends CategoryTest {
     assertThat(bucketWeights[1]).isEqualTo(4.0);
   }
 
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void testHistogramLoadFromCheckpointsEqualsMergeOfLoadedHistograms() throws Exception {
+    val checkpoint1 = HistogramCheckpoint.builder().totalWeight(6.0).bucketWeights(ImmutableMap.of(2, 1, 5, 2)).build();
+    val checkpoint2 = HistogramCheckpoint.builder().totalWeight(3.0).bucketWeights(ImmutableMap.of(1, 3, 5, 0)).build();
+    val h = new HistogramImpl(testHistogramOptions);
+    h.loadFromCheckPoint(checkpoint1);
+    h.loadFromCheckPoint(checkpoint2);
+
+    val expected = new HistogramImpl(testHistogramOptions);
+    expected.loadFromCheckPoint(checkpoint1);
+    val h2 = new HistogramImpl(testHistogramOptions);
+    h2.loadFromCheckPoint(checkpoint2);
+    expected.merge(h2);
+    assertThat(h).isEqualTo(expected);
+    assertThat(h.getPercentile(0.0)).isCloseTo(2, within(valueEpsilon));
+    assertThat(h.getPercentile(1.0)).isCloseTo(6, within(valueEpsilon));
+  }
+
   @Test
   @Owner(developers = AVMOHAN)
   @Category(UnitTests.class)
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.serializer;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class KryoSerializerTest extends CategoryTest {
+  private final KryoSerializer kryoSerializer = new KryoSerializer(new HashSet<>(), true);
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testPooledBuffersAreReset() {
+    // Larger than the pooled buffers, so that they grow, and larger than the buffers which are kept in the pool
+    Map<String, Object> large = payload(KryoBufferPool.MAX_POOLED_BUFFER_SIZE + 1);
+    Map<String, Object> small = payload(10);
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(kryoSerializer.asObject(kryoSerializer.asBytes(large))).isEqualTo(large);
+      assertThat(kryoSerializer.asObject(kryoSerializer.asBytes(small))).isEqualTo(small);
+      assertThat(kryoSerializer.asInflatedObject(kryoSerializer.asDeflatedBytes(large))).isEqualTo(large);
+      assertThat(kryoSerializer.asInflatedObject(kryoSerializer.asDeflatedBytes(small))).isEqualTo(small);
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testWriteTo() {
+    Map<String, Object> payload = payload(KryoBufferPool.BUFFER_SIZE * 3);
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    kryoSerializer.writeTo(payload, outputStream);
+    assertThat(outputStream.toByteArray()).isEqualTo(kryoSerializer.asBytes(payload));
+
+    ByteArrayOutputStream deflatedStream = new ByteArrayOutputStream();
+    kryoSerializer.writeDeflatedTo(payload, deflatedStream);
+    assertThat(deflatedStream.toByteArray()).isEqualTo(kryoSerializer.asDeflatedBytes(payload));
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testReadFrom() {
+    Map<String, Object> payload = payload(KryoBufferPool.BUFFER_SIZE * 3);
+    byte[] bytes = kryoSerializer.asBytes(payload);
+    byte[] twice = new byte[bytes.length * 2 + 1];
+    System.arraycopy(bytes, 0, twice, 1, bytes.length);
+    System.arraycopy(bytes, 0, twice, 1 + bytes.length, bytes.length);
+
+    for (ByteBuffer buffer : new ByteBuffer[] {ByteBuffer.wrap(twice, 1, twice.length - 1),
+             ByteBuffer.wrap(twice, 1, twice.length - 1).asReadOnlyBuffer(),
+             (ByteBuffer) ByteBuffer.allocateDirect(twice.length).put(twice).position(1)}) {
+      assertThat(kryoSerializer.readFrom(buffer)).isEqualTo(payload);
+      assertThat(buffer.position()).isEqualTo(1 + bytes.length);
+      assertThat(kryoSerializer.readFrom(buffer)).isEqualTo(payload);
+      assertThat(buffer.hasRemaining()).isFalse();
+    }
+
+    byte[] deflatedBytes = kryoSerializer.asDeflatedBytes(payload);
+    assertThat(kryoSerializer.readInflatedFrom(ByteBuffer.wrap(deflatedBytes).asReadOnlyBuffer())).isEqualTo(payload);
+  }
+
+  private static Map<String, Object> payload(int size) {
+    Map<String, Object> payload = new HashMap<>();
+    payload.put("value", StringUtils.repeat('x', size));
+    List<Integer> list = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      list.add(i);
+    }
+    payload.put("list", list);
+    return payload;
+  }
+}
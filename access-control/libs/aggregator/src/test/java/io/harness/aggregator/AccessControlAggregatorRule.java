@@ -106,7 +106,7 @@ public class AccessControlAggregatorRule implements MethodRule, InjectorRuleMixi
     modules.add(VersionModule.getInstance());
     modules.add(TimeModule.getInstance());
     modules.add(TestMongoModule.getInstance());
-    modules.add(AccessControlCoreModule.getInstance(null, false));
+    modules.add(AccessControlCoreModule.getInstance(null, false, null));
     modules.add(new AggregatorPersistenceTestModule());
 
     modules.add(new AbstractModule() {
@@ -25,8 +25,13 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import io.harness.accesscontrol.acl.ACLCacheConfig;
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACL.ACLKeys;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
+import io.harness.accesscontrol.acl.persistence.ACLCacheImpl;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
+import io.harness.accesscontrol.acl.persistence.repositories.PrimaryACLRepositoryImpl;
 import io.harness.accesscontrol.common.filter.ManagedFilter;
 import io.harness.accesscontrol.permissions.persistence.repositories.InMemoryPermissionRepository;
 import io.harness.accesscontrol.principals.Principal;
@@ -59,11 +64,16 @@ import com.google.inject.name.Named;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 
 @OwnedBy(PL)
 public class RoleAssignmentChangeConsumerTest extends AggregatorTestBase {
@@ -73,6 +83,7 @@ public class RoleAssignmentChangeConsumerTest extends AggregatorTestBase {
   private ScopeService scopeService;
   private RoleAssignmentRepository roleAssignmentRepository;
   @Inject @Named(ACL.PRIMARY_COLLECTION) private ACLRepository aclRepository;
+  @Inject @Named("mongoTemplate") private MongoTemplate mongoTemplate;
   private RoleAssignmentChangeConsumer roleAssignmentChangeConsumer;
 
   private String scopeIdentifier;
@@ -86,6 +97,10 @@ public class RoleAssignmentChangeConsumerTest extends AggregatorTestBase {
 
   @Before
   public void setup() {
+    setup(aclRepository);
+  }
+
+  private void setup(ACLRepository aclRepository) {
     roleService = mock(RoleService.class);
     resourceGroupService = mock(ResourceGroupService.class);
     userGroupService = mock(UserGroupService.class);
@@ -238,6 +253,39 @@ public class RoleAssignmentChangeConsumerTest extends AggregatorTestBase {
     verifyNoACLs(roleAssignmentDBO);
   }
 
+  @Test
+  @Owner(developers = ASHISHSANODIA)
+  @Category(UnitTests.class)
+  public void testRoleAssignmentDeletion_shouldInvalidateCachedACLs() {
+    ACLCache aclCache = new ACLCacheImpl(
+        ACLCacheConfig.builder().enabled(true).maximumSize(1000).expireAfterWriteInSeconds(300).build());
+    ACLRepository cachedACLRepository = new PrimaryACLRepositoryImpl(mongoTemplate, aclCache);
+    setup(cachedACLRepository);
+    RoleAssignmentDBO roleAssignmentDBO =
+        createACLsForRoleAssignment(Principal.builder().principalIdentifier(user).principalType(USER).build());
+    Set<String> aclQueryStrings = new HashSet<>(
+        mongoTemplate.findDistinct(new Query(Criteria.where(ACLKeys.roleAssignmentId).is(roleAssignmentDBO.getId())),
+            ACLKeys.aclQueryString, ACL.PRIMARY_COLLECTION, ACL.class, String.class));
+    assertThat(aclQueryStrings).isNotEmpty();
+    assertThat(getEnabledACLs(aclCache, cachedACLRepository, aclQueryStrings)).isNotEmpty();
+    assertThat(aclCache.size()).isEqualTo(aclQueryStrings.size());
+
+    // Same path as the outbox role assignment event handler, which does not go through the debezium consumer
+    RoleAssignmentChangeEventData roleAssignmentChangeEventData = RoleAssignmentChangeEventData.builder()
+                                                                      .scope(Optional.ofNullable(scope))
+                                                                      .deletedRoleAssignment(fromDBO(roleAssignmentDBO))
+                                                                      .build();
+    roleAssignmentChangeConsumer.consumeEvent(DELETE_ACTION, null, roleAssignmentChangeEventData);
+
+    assertThat(getEnabledACLs(aclCache, cachedACLRepository, aclQueryStrings)).isEmpty();
+  }
+
+  private static List<ACL> getEnabledACLs(
+      ACLCache aclCache, ACLRepository aclRepository, Set<String> aclQueryStrings) {
+    return aclCache.getAll(
+        aclQueryStrings, queryStrings -> aclRepository.getByAclQueryStringInAndEnabled(queryStrings, true));
+  }
+
   private void verifyACLs(RoleAssignmentDBO assignment) {
     assertThat(new HashSet<>(aclRepository.getDistinctPermissionsInACLsForRoleAssignment(assignment.getId())))
         .isEqualTo(role.getPermissions());
@@ -10,6 +10,7 @@ package io.harness.accesscontrol;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.authorization.AuthorizationServiceHeader.ACCESS_CONTROL_SERVICE;
 
+import io.harness.accesscontrol.acl.ACLCacheConfig;
 import io.harness.accesscontrol.acl.ACLModule;
 import io.harness.accesscontrol.permissions.PermissionsModule;
 import io.harness.accesscontrol.principals.PrincipalModule;
@@ -34,16 +35,19 @@ public class AccessControlCoreModule extends AbstractModule {
   private static AccessControlCoreModule instance;
   private final OutboxPollConfiguration outboxPollConfig;
   private final boolean exportMetricsToStackDriver;
+  private final ACLCacheConfig aclCacheConfig;
 
-  private AccessControlCoreModule(OutboxPollConfiguration outboxPollConfig, boolean exportMetricsToStackDriver) {
+  private AccessControlCoreModule(
+      OutboxPollConfiguration outboxPollConfig, boolean exportMetricsToStackDriver, ACLCacheConfig aclCacheConfig) {
     this.outboxPollConfig = outboxPollConfig;
     this.exportMetricsToStackDriver = exportMetricsToStackDriver;
+    this.aclCacheConfig = aclCacheConfig == null ? ACLCacheConfig.builder().enabled(false).build() : aclCacheConfig;
   }
 
   public static synchronized AccessControlCoreModule getInstance(
-      OutboxPollConfiguration outboxPollConfig, boolean exportMetricsToStackDriver) {
+      OutboxPollConfiguration outboxPollConfig, boolean exportMetricsToStackDriver, ACLCacheConfig aclCacheConfig) {
     if (instance == null) {
-      instance = new AccessControlCoreModule(outboxPollConfig, exportMetricsToStackDriver);
+      instance = new AccessControlCoreModule(outboxPollConfig, exportMetricsToStackDriver, aclCacheConfig);
     }
     return instance;
   }
@@ -57,6 +61,7 @@ public class AccessControlCoreModule extends AbstractModule {
     install(PrincipalModule.getInstance());
     install(RoleAssignmentModule.getInstance());
     install(ACLModule.getInstance());
+    bind(ACLCacheConfig.class).toInstance(aclCacheConfig);
     install(new TransactionOutboxModule(
         outboxPollConfig, ACCESS_CONTROL_SERVICE.getServiceId(), exportMetricsToStackDriver));
     registerRequiredBindings();
@@ -8,6 +8,8 @@
 package io.harness.accesscontrol.acl;
 
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
+import io.harness.accesscontrol.acl.persistence.ACLCacheImpl;
 import io.harness.accesscontrol.acl.persistence.ACLDAO;
 import io.harness.accesscontrol.acl.persistence.ACLDAOImpl;
 import io.harness.accesscontrol.acl.persistence.ACLMorphiaRegistrar;
@@ -42,6 +44,7 @@ public class ACLModule extends AbstractModule {
 
     bind(ACLService.class).to(ACLServiceImpl.class);
     bind(ACLDAO.class).to(ACLDAOImpl.class);
+    bind(ACLCache.class).to(ACLCacheImpl.class);
     bind(ACLRepository.class).annotatedWith(Names.named(ACL.PRIMARY_COLLECTION)).to(PrimaryACLRepositoryImpl.class);
     bind(ACLRepository.class).annotatedWith(Names.named(ACL.SECONDARY_COLLECTION)).to(SecondaryACLRepositoryImpl.class);
   }
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.cache.CacheStats;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Near cache of the enabled ACLs per acl query string. Since the query string contains the principal, an entry answers
+ * whether a given principal has a given permission on a given resource selector in a given scope. Absence is cached as
+ * well, as most of the query strings built for a permission check do not match any ACL.
+ */
+@OwnedBy(PL)
+public interface ACLCache {
+  String INVALIDATION_TOPIC = "acl_cache_invalidation";
+
+  boolean isEnabled();
+
+  /**
+   * Returns the enabled ACLs for the given query strings, fetching the ones which are not cached with the loader.
+   */
+  List<ACL> getAll(Set<String> aclQueryStrings, Function<Set<String>, List<ACL>> loader);
+
+  void invalidate(Collection<String> aclQueryStrings);
+
+  void invalidateAll();
+
+  CacheStats getStats();
+
+  long size();
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import io.harness.accesscontrol.acl.ACLCacheConfig;
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+
+/**
+ * The ACL repository of the primary collection invalidates the entries of the ACLs it inserts or deletes, whichever
+ * path writes them. Invalidations are applied to the local cache right away and broadcast to the other instances over
+ * the invalidation topic, when one is bound. The expiry of the entries bounds the staleness if a broadcast is lost.
+ */
+@OwnedBy(PL)
+@Singleton
+@Slf4j
+public class ACLCacheImpl implements ACLCache {
+  private static final String QUERY_STRING_DELIMITER = "$";
+  private static final String MESSAGE_DELIMITER = "\n";
+  private static final String INVALIDATE_QUERY_STRINGS = "QUERY_STRINGS";
+  private static final String INVALIDATE_PREFIXES = "PREFIXES";
+  private static final String INVALIDATE_ALL = "ALL";
+  private static final int MAX_QUERY_STRINGS_PER_MESSAGE = 1000;
+
+  private final boolean enabled;
+  private final Cache<String, List<ACL>> cache;
+  // Incremented on every invalidation so that a load which raced with one does not cache what it read before it
+  private final AtomicLong generation = new AtomicLong();
+  private RTopic invalidationTopic;
+
+  @Inject
+  public ACLCacheImpl(ACLCacheConfig aclCacheConfig) {
+    this.enabled = aclCacheConfig.isEnabled();
+    this.cache = CacheBuilder.newBuilder()
+                     .maximumSize(aclCacheConfig.getMaximumSize())
+                     .expireAfterWrite(aclCacheConfig.getExpireAfterWriteInSeconds(), TimeUnit.SECONDS)
+                     .recordStats()
+                     .build();
+  }
+
+  @Inject(optional = true)
+  public void setInvalidationTopic(@Nullable @Named(INVALIDATION_TOPIC) RTopic invalidationTopic) {
+    if (!enabled || invalidationTopic == null) {
+      return;
+    }
+    this.invalidationTopic = invalidationTopic;
+    invalidationTopic.addListener(String.class, (channel, message) -> onInvalidationMessage(message));
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  @Override
+  public List<ACL> getAll(Set<String> aclQueryStrings, Function<Set<String>, List<ACL>> loader) {
+    if (!enabled) {
+      return loader.apply(aclQueryStrings);
+    }
+
+    List<ACL> acls = new ArrayList<>();
+    Set<String> missingQueryStrings = new HashSet<>();
+    for (String aclQueryString : aclQueryStrings) {
+      List<ACL> cachedACLs = cache.getIfPresent(aclQueryString);
+      if (cachedACLs == null) {
+        missingQueryStrings.add(aclQueryString);
+      } else {
+        acls.addAll(cachedACLs);
+      }
+    }
+    if (missingQueryStrings.isEmpty()) {
+      return acls;
+    }
+
+    long loadGeneration = generation.get();
+    List<ACL> loadedACLs = loader.apply(missingQueryStrings);
+    Map<String, List<ACL>> loadedACLsByQueryString =
+        loadedACLs.stream().collect(Collectors.groupingBy(ACL::getAclQueryString));
+    missingQueryStrings.forEach(aclQueryString
+        -> cache.put(aclQueryString, loadedACLsByQueryString.getOrDefault(aclQueryString, Collections.emptyList())));
+    if (generation.get() != loadGeneration) {
+      cache.invalidateAll(missingQueryStrings);
+    }
+    acls.addAll(loadedACLs);
+    return acls;
+  }
+
+  @Override
+  public void invalidate(Collection<String> aclQueryStrings) {
+    if (!enabled || isEmpty(aclQueryStrings)) {
+      return;
+    }
+    invalidateQueryStrings(aclQueryStrings);
+    if (aclQueryStrings.size() <= MAX_QUERY_STRINGS_PER_MESSAGE) {
+      publish(INVALIDATE_QUERY_STRINGS, aclQueryStrings);
+    } else {
+      // Keeps the broadcast small, the other instances drop every entry of the affected scopes instead
+      Set<String> scopePrefixes = aclQueryStrings.stream()
+                                      .map(aclQueryString
+                                          -> aclQueryString.substring(0, aclQueryString.indexOf(QUERY_STRING_DELIMITER))
+                                              + QUERY_STRING_DELIMITER)
+                                      .collect(Collectors.toSet());
+      publish(INVALIDATE_PREFIXES, scopePrefixes);
+    }
+  }
+
+  @Override
+  public void invalidateAll() {
+    if (!enabled) {
+      return;
+    }
+    invalidateEverything();
+    publish(INVALIDATE_ALL, Collections.emptySet());
+  }
+
+  @Override
+  public CacheStats getStats() {
+    return cache.stats();
+  }
+
+  @Override
+  public long size() {
+    return cache.size();
+  }
+
+  @VisibleForTesting
+  void onInvalidationMessage(String message) {
+    List<String> parts = Arrays.asList(message.split(MESSAGE_DELIMITER));
+    List<String> values = parts.subList(1, parts.size());
+    switch (parts.get(0)) {
+      case INVALIDATE_QUERY_STRINGS:
+        invalidateQueryStrings(values);
+        break;
+      case INVALIDATE_PREFIXES:
+        invalidatePrefixes(values);
+        break;
+      case INVALIDATE_ALL:
+        invalidateEverything();
+        break;
+      default:
+        log.warn("Ignoring unknown acl cache invalidation message of type {}", parts.get(0));
+    }
+  }
+
+  private void invalidateQueryStrings(Collection<String> aclQueryStrings) {
+    generation.incrementAndGet();
+    cache.invalidateAll(aclQueryStrings);
+  }
+
+  private void invalidatePrefixes(Collection<String> prefixes) {
+    generation.incrementAndGet();
+    cache.asMap().keySet().removeIf(aclQueryString -> prefixes.stream().anyMatch(aclQueryString::startsWith));
+  }
+
+  private void invalidateEverything() {
+    generation.incrementAndGet();
+    cache.invalidateAll();
+  }
+
+  private void publish(String type, Collection<String> values) {
+    if (invalidationTopic == null) {
+      return;
+    }
+    StringBuilder message = new StringBuilder(type);
+    values.forEach(value -> message.append(MESSAGE_DELIMITER).append(value));
+    try {
+      invalidationTopic.publish(message.toString());
+    } catch (Exception ex) {
+      log.error("Failed to broadcast acl cache invalidation of type {}", type, ex);
+    }
+  }
+}
@@ -42,11 +42,14 @@ public class ACLDAOImpl implements ACLDAO {
 
   public static final String ALL_AUTHENTICATED_USERS = "ALL_AUTHENTICATED_USERS";
   private final ACLRepository aclRepository;
+  private final ACLCache aclCache;
   private final Set<String> scopeResourceTypes;
 
   @Inject
-  public ACLDAOImpl(@Named(ACL.PRIMARY_COLLECTION) ACLRepository aclRepository, Map<String, ScopeLevel> scopeLevels) {
+  public ACLDAOImpl(@Named(ACL.PRIMARY_COLLECTION) ACLRepository aclRepository, ACLCache aclCache,
+      Map<String, ScopeLevel> scopeLevels) {
     this.aclRepository = aclRepository;
+    this.aclCache = aclCache;
     this.scopeResourceTypes =
         scopeLevels.values().stream().map(ScopeLevel::getResourceType).collect(Collectors.toSet());
   }
@@ -164,12 +167,23 @@ public class ACLDAOImpl implements ACLDAO {
       aclQueryStrings.addAll(queryStrings);
     });
 
-    List<ACL> aclsPresentInDB = aclRepository.getByAclQueryStringInAndEnabled(aclQueryStrings, true);
-    return aclQueryStringsPerPermission.stream()
-        .map(queryStringsForPermission
-            -> aclsPresentInDB.stream()
-                   .filter(acl -> queryStringsForPermission.contains(acl.getAclQueryString()))
-                   .collect(Collectors.toList()))
-        .collect(Collectors.toList());
+    List<ACL> aclsPresentInDB = aclCache.getAll(
+        aclQueryStrings, queryStrings -> aclRepository.getByAclQueryStringInAndEnabled(queryStrings, true));
+    // Index the fetched ACLs once, so that every permission check is answered with lookups of its own query strings
+    // instead of a scan of all the fetched ACLs
+    Map<String, List<ACL>> aclsByQueryString =
+        aclsPresentInDB.stream().collect(Collectors.groupingBy(ACL::getAclQueryString));
+    List<List<ACL>> matchingACLs = new ArrayList<>(aclQueryStringsPerPermission.size());
+    for (Set<String> queryStringsForPermission : aclQueryStringsPerPermission) {
+      List<ACL> matchingACLsForPermission = new ArrayList<>();
+      for (String queryString : queryStringsForPermission) {
+        List<ACL> acls = aclsByQueryString.get(queryString);
+        if (acls != null) {
+          matchingACLsForPermission.addAll(acls);
+        }
+      }
+      matchingACLs.add(matchingACLsForPermission);
+    }
+    return matchingACLs;
   }
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.cache.CacheStats;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+@OwnedBy(PL)
+public class NoOpACLCache implements ACLCache {
+  @Override
+  public boolean isEnabled() {
+    return false;
+  }
+
+  @Override
+  public List<ACL> getAll(Set<String> aclQueryStrings, Function<Set<String>, List<ACL>> loader) {
+    return loader.apply(aclQueryStrings);
+  }
+
+  @Override
+  public void invalidate(Collection<String> aclQueryStrings) {
+    // no-op
+  }
+
+  @Override
+  public void invalidateAll() {
+    // no-op
+  }
+
+  @Override
+  public CacheStats getStats() {
+    return new CacheStats(0, 0, 0, 0, 0, 0);
+  }
+
+  @Override
+  public long size() {
+    return 0;
+  }
+}
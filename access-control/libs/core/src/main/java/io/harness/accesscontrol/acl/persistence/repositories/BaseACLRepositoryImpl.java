@@ -18,6 +18,7 @@ import static org.springframework.data.mongodb.util.MongoDbErrorCodes.isDuplicat
 
 import io.harness.accesscontrol.acl.persistence.ACL;
 import io.harness.accesscontrol.acl.persistence.ACL.ACLKeys;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.accesscontrol.resources.resourcegroups.ResourceSelector;
 import io.harness.accesscontrol.resources.resourcegroups.ResourceSelector.ResourceSelectorKeys;
 import io.harness.annotations.dev.OwnedBy;
@@ -32,6 +33,8 @@ import com.mongodb.client.model.IndexOptions;
 import com.mongodb.client.model.Indexes;
 import com.mongodb.client.model.RenameCollectionOptions;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -60,14 +63,15 @@ import org.springframework.data.mongodb.core.query.Query;
 @ValidateOnExecution
 public abstract class BaseACLRepositoryImpl implements ACLRepository {
   protected final MongoTemplate mongoTemplate;
+  protected final ACLCache aclCache;
 
   protected abstract String getCollectionName();
 
   public long insertAllIgnoringDuplicates(List<ACL> acls) {
+    if (isEmpty(acls)) {
+      return 0;
+    }
     try {
-      if (isEmpty(acls)) {
-        return 0;
-      }
       return mongoTemplate.bulkOps(BulkMode.UNORDERED, ACL.class, getCollectionName())
           .insert(acls)
           .execute()
@@ -86,26 +90,24 @@ public abstract class BaseACLRepositoryImpl implements ACLRepository {
         }
       }
       throw ex;
+    } finally {
+      // Cached absence of these query strings is no longer valid, even if only some of the ACLs were inserted
+      invalidateCache(acls.stream().map(ACL::getAclQueryString).collect(Collectors.toSet()));
     }
   }
 
   @Override
   public long deleteByRoleAssignmentId(String id) {
-    return mongoTemplate
-        .remove(new Query(Criteria.where(ACLKeys.roleAssignmentId).is(id)), ACL.class, getCollectionName())
-        .getDeletedCount();
+    return remove(new Query(Criteria.where(ACLKeys.roleAssignmentId).is(id)));
   }
 
   @Override
   public long deleteByScopeIdentifierAndRoleAssignmentIdentifier(
       String scopeIdentifier, String roleAssignmentIdentifier) {
-    return mongoTemplate
-        .remove(new Query(Criteria.where(ACLKeys.scopeIdentifier)
-                              .is(scopeIdentifier)
-                              .and(ACL.ROLE_ASSIGNMENT_IDENTIFIER_KEY)
-                              .is(roleAssignmentIdentifier)),
-            ACL.class, getCollectionName())
-        .getDeletedCount();
+    return remove(new Query(Criteria.where(ACLKeys.scopeIdentifier)
+                                .is(scopeIdentifier)
+                                .and(ACL.ROLE_ASSIGNMENT_IDENTIFIER_KEY)
+                                .is(roleAssignmentIdentifier)));
   }
 
   @Override
@@ -154,7 +156,7 @@ public abstract class BaseACLRepositoryImpl implements ACLRepository {
                                                          .is(resourceSelector.getCondition()))
                                               .toArray(Criteria[] ::new);
     criteria.orOperator(resourceSelectorCriteria);
-    return mongoTemplate.remove(new Query(criteria), ACL.class, getCollectionName()).getDeletedCount();
+    return remove(new Query(criteria));
   }
 
   @Override
@@ -162,13 +164,10 @@ public abstract class BaseACLRepositoryImpl implements ACLRepository {
     if (isEmpty(permissions)) {
       return 0;
     }
-    return mongoTemplate
-        .remove(new Query(Criteria.where(ACLKeys.roleAssignmentId)
-                              .is(roleAssignmentId)
-                              .and(ACLKeys.permissionIdentifier)
-                              .in(permissions)),
-            ACL.class, getCollectionName())
-        .getDeletedCount();
+    return remove(new Query(Criteria.where(ACLKeys.roleAssignmentId)
+                                .is(roleAssignmentId)
+                                .and(ACLKeys.permissionIdentifier)
+                                .in(permissions)));
   }
 
   @Override
@@ -176,24 +175,18 @@ public abstract class BaseACLRepositoryImpl implements ACLRepository {
     if (isEmpty(principals)) {
       return 0;
     }
-    return mongoTemplate
-        .remove(new Query(Criteria.where(ACLKeys.roleAssignmentId)
-                              .is(roleAssignmentId)
-                              .and(ACLKeys.principalIdentifier)
-                              .in(principals)),
-            ACL.class, getCollectionName())
-        .getDeletedCount();
+    return remove(new Query(Criteria.where(ACLKeys.roleAssignmentId)
+                                .is(roleAssignmentId)
+                                .and(ACLKeys.principalIdentifier)
+                                .in(principals)));
   }
 
   @Override
   public long deleteByRoleAssignmentIdAndImplicitForScope(String roleAssignmentId) {
-    return mongoTemplate
-        .remove(new Query(Criteria.where(ACLKeys.roleAssignmentId)
-                              .is(roleAssignmentId)
-                              .and(ACL.IMPLICITLY_CREATED_FOR_SCOPE_ACCESS_KEY)
-                              .is(true)),
-            ACL.class, getCollectionName())
-        .getDeletedCount();
+    return remove(new Query(Criteria.where(ACLKeys.roleAssignmentId)
+                                .is(roleAssignmentId)
+                                .and(ACL.IMPLICITLY_CREATED_FOR_SCOPE_ACCESS_KEY)
+                                .is(true)));
   }
 
   @Override
@@ -233,6 +226,9 @@ public abstract class BaseACLRepositoryImpl implements ACLRepository {
     mongoTemplate.createCollection(getCollectionName());
     List<IndexModel> indexModels = ACL.mongoIndexes().stream().map(this::buildIndexModel).collect(Collectors.toList());
     mongoTemplate.getCollection(getCollectionName()).createIndexes(indexModels);
+    if (isCached()) {
+      aclCache.invalidateAll();
+    }
   }
 
   @Override
@@ -240,6 +236,48 @@ public abstract class BaseACLRepositoryImpl implements ACLRepository {
     MongoNamespace mongoNamespace = new MongoNamespace(mongoTemplate.getDb().getName(), newCollectionName);
     mongoTemplate.getCollection(getCollectionName())
         .renameCollection(mongoNamespace, new RenameCollectionOptions().dropTarget(true));
+    if (aclCache.isEnabled() && ACL.PRIMARY_COLLECTION.equals(newCollectionName)) {
+      aclCache.invalidateAll();
+    }
+  }
+
+  private long remove(Query query) {
+    Set<String> aclQueryStrings = getACLQueryStringsToInvalidate(query);
+    long deletedCount = mongoTemplate.remove(query, ACL.class, getCollectionName()).getDeletedCount();
+    if (aclQueryStrings == null) {
+      aclCache.invalidateAll();
+    } else {
+      invalidateCache(aclQueryStrings);
+    }
+    return deletedCount;
+  }
+
+  /**
+   * Returns the query strings of the ACLs about to be deleted, which are read before the delete since it does not
+   * return them, or null when they could not be read and the whole cache has to be invalidated.
+   */
+  private Set<String> getACLQueryStringsToInvalidate(Query query) {
+    if (!isCached()) {
+      return Collections.emptySet();
+    }
+    try {
+      return new HashSet<>(
+          mongoTemplate.findDistinct(query, ACLKeys.aclQueryString, getCollectionName(), ACL.class, String.class));
+    } catch (Exception ex) {
+      log.error("Failed to read the query strings of the ACLs to delete, invalidating the whole acl cache", ex);
+      return null;
+    }
+  }
+
+  private void invalidateCache(Set<String> aclQueryStrings) {
+    if (isCached()) {
+      aclCache.invalidate(aclQueryStrings);
+    }
+  }
+
+  // Only the ACLs of the primary collection are served, and cached
+  private boolean isCached() {
+    return aclCache.isEnabled() && ACL.PRIMARY_COLLECTION.equals(getCollectionName());
   }
 
   private IndexModel buildIndexModel(MongoIndex mongoIndex) {
@@ -8,6 +8,7 @@
 package io.harness.accesscontrol.acl.persistence.repositories;
 
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 
@@ -19,8 +20,8 @@ import org.springframework.data.mongodb.core.MongoTemplate;
 @Singleton
 public class PrimaryACLRepositoryImpl extends BaseACLRepositoryImpl implements ACLRepository {
   @Inject
-  public PrimaryACLRepositoryImpl(MongoTemplate mongoTemplate) {
-    super(mongoTemplate);
+  public PrimaryACLRepositoryImpl(MongoTemplate mongoTemplate, ACLCache aclCache) {
+    super(mongoTemplate, aclCache);
   }
 
   @Override
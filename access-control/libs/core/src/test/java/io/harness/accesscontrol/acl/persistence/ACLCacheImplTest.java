@@ -0,0 +1,149 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.accesscontrol.acl.persistence.ACL.getAclQueryString;
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.ASHISHSANODIA;
+
+import static junit.framework.TestCase.assertEquals;
+
+import io.harness.CategoryTest;
+import io.harness.accesscontrol.acl.ACLCacheConfig;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(PL)
+public class ACLCacheImplTest extends CategoryTest {
+  private static final String ACCOUNT_SCOPE = "/ACCOUNT/account";
+  private static final String PROJECT_SCOPE = "/ACCOUNT/account/ORGANIZATION/org/PROJECT/project";
+  private static final String OTHER_ACCOUNT_SCOPE = "/ACCOUNT/other";
+
+  private ACLCacheImpl aclCache;
+  private List<Set<String>> loads;
+  private Set<String> queryStringsInDB;
+  private Function<Set<String>, List<ACL>> loader;
+
+  @Before
+  public void setup() {
+    aclCache = new ACLCacheImpl(
+        ACLCacheConfig.builder().enabled(true).maximumSize(1000).expireAfterWriteInSeconds(300).build());
+    loads = new ArrayList<>();
+    queryStringsInDB = Set.of(queryString(ACCOUNT_SCOPE, "core_project_view"));
+    loader = queryStrings -> {
+      loads.add(queryStrings);
+      return queryStrings.stream()
+          .filter(queryStringsInDB::contains)
+          .map(queryString -> ACL.builder().aclQueryString(queryString).enabled(true).build())
+          .collect(Collectors.toList());
+    };
+  }
+
+  private static String queryString(String scope, String permission) {
+    return getAclQueryString(scope, "/*/*", "USER", "user", permission);
+  }
+
+  @Test
+  @Owner(developers = ASHISHSANODIA)
+  @Category(UnitTests.class)
+  public void testPresenceAndAbsenceAreCached() {
+    Set<String> queryStrings =
+        Set.of(queryString(ACCOUNT_SCOPE, "core_project_view"), queryString(ACCOUNT_SCOPE, "core_project_edit"));
+
+    assertEquals(1, aclCache.getAll(queryStrings, loader).size());
+    assertEquals(1, aclCache.getAll(queryStrings, loader).size());
+
+    assertEquals(1, loads.size());
+    assertEquals(2, aclCache.getStats().hitCount());
+    assertEquals(2, aclCache.getStats().missCount());
+  }
+
+  @Test
+  @Owner(developers = ASHISHSANODIA)
+  @Category(UnitTests.class)
+  public void testOnlyInvalidatedQueryStringsAreLoadedAgain() {
+    String viewQueryString = queryString(ACCOUNT_SCOPE, "core_project_view");
+    String editQueryString = queryString(ACCOUNT_SCOPE, "core_project_edit");
+    aclCache.getAll(Set.of(viewQueryString, editQueryString), loader);
+
+    aclCache.invalidate(Collections.singleton(editQueryString));
+    aclCache.getAll(Set.of(viewQueryString, editQueryString), loader);
+
+    assertEquals(2, loads.size());
+    assertEquals(Set.of(editQueryString), loads.get(1));
+  }
+
+  @Test
+  @Owner(developers = ASHISHSANODIA)
+  @Category(UnitTests.class)
+  public void testPrefixInvalidationMessageCoversChildScopesOnly() {
+    String accountQueryString = queryString(ACCOUNT_SCOPE, "core_project_view");
+    String projectQueryString = queryString(PROJECT_SCOPE, "core_pipeline_view");
+    String otherAccountQueryString = queryString(OTHER_ACCOUNT_SCOPE, "core_project_view");
+    Set<String> queryStrings = Set.of(accountQueryString, projectQueryString, otherAccountQueryString);
+    aclCache.getAll(queryStrings, loader);
+
+    aclCache.onInvalidationMessage("PREFIXES\n" + ACCOUNT_SCOPE);
+    aclCache.getAll(queryStrings, loader);
+
+    assertEquals(Set.of(accountQueryString, projectQueryString), loads.get(1));
+  }
+
+  @Test
+  @Owner(developers = ASHISHSANODIA)
+  @Category(UnitTests.class)
+  public void testInvalidationMessageFromOtherInstance() {
+    String accountQueryString = queryString(ACCOUNT_SCOPE, "core_project_view");
+    String otherAccountQueryString = queryString(OTHER_ACCOUNT_SCOPE, "core_project_view");
+    aclCache.getAll(Set.of(accountQueryString, otherAccountQueryString), loader);
+
+    aclCache.onInvalidationMessage("QUERY_STRINGS\n" + otherAccountQueryString);
+    assertEquals(1, aclCache.size());
+    aclCache.onInvalidationMessage("ALL");
+    assertEquals(0, aclCache.size());
+  }
+
+  @Test
+  @Owner(developers = ASHISHSANODIA)
+  @Category(UnitTests.class)
+  public void testLoadRacingWithInvalidationIsNotCached() {
+    String queryString = queryString(ACCOUNT_SCOPE, "core_project_view");
+    aclCache.getAll(Set.of(queryString), queryStrings -> {
+      // The ACL gets deleted after it has been read, but before the read is cached
+      aclCache.invalidateAll();
+      return loader.apply(queryStrings);
+    });
+
+    assertEquals(0, aclCache.size());
+  }
+
+  @Test
+  @Owner(developers = ASHISHSANODIA)
+  @Category(UnitTests.class)
+  public void testDisabledCacheAlwaysLoads() {
+    aclCache = new ACLCacheImpl(ACLCacheConfig.builder().enabled(false).build());
+    Set<String> queryStrings = Set.of(queryString(ACCOUNT_SCOPE, "core_project_view"));
+
+    aclCache.getAll(queryStrings, loader);
+    aclCache.getAll(queryStrings, loader);
+
+    assertEquals(2, loads.size());
+    assertEquals(0, aclCache.size());
+  }
+}
@@ -7,19 +7,26 @@
 
 package io.harness.accesscontrol.persistence;
 
+import static io.harness.accesscontrol.acl.persistence.ACL.getAclQueryString;
 import static io.harness.rule.OwnerRule.ASHISHSANODIA;
 
+import static java.util.stream.Collectors.toList;
+
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import io.harness.accesscontrol.AccessControlCoreTestBase;
 import io.harness.accesscontrol.acl.PermissionCheck;
 import io.harness.accesscontrol.acl.api.Principal;
+import io.harness.accesscontrol.acl.persistence.ACL;
 import io.harness.accesscontrol.acl.persistence.ACLDAOImpl;
+import io.harness.accesscontrol.acl.persistence.NoOpACLCache;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.principals.PrincipalType;
 import io.harness.accesscontrol.scopes.core.ScopeLevel;
@@ -27,6 +34,7 @@ import io.harness.category.element.UnitTests;
 import io.harness.rule.Owner;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -49,7 +57,7 @@ public class ACLDAOImplTest extends AccessControlCoreTestBase {
   @Owner(developers = ASHISHSANODIA)
   @Category(UnitTests.class)
   public void testOnlyEnabledACLMatch() {
-    aclDaoImpl = new ACLDAOImpl(aclRepository, scopeLevels);
+    aclDaoImpl = new ACLDAOImpl(aclRepository, new NoOpACLCache(), scopeLevels);
     Principal principal = Principal.of(PrincipalType.USER, randomAlphabetic(10));
     List<PermissionCheck> permissionChecks = new ArrayList<>();
     permissionChecks.add(PermissionCheck.builder().resourceType("user").permission("core_user_view").build());
@@ -57,4 +65,65 @@ public class ACLDAOImplTest extends AccessControlCoreTestBase {
 
     verify(aclRepository, times(1)).getByAclQueryStringInAndEnabled(any(), anyBoolean());
   }
+
+  @Test
+  @Owner(developers = ASHISHSANODIA)
+  @Category(UnitTests.class)
+  public void testMatchingACLsForBatchesOfPermissionChecks() {
+    for (int numberOfChecks : new int[] {1, 100, 1000}) {
+      assertMatchingACLsForBatch(numberOfChecks);
+    }
+  }
+
+  private void assertMatchingACLsForBatch(int numberOfChecks) {
+    aclRepository = mock(ACLRepository.class);
+    aclDaoImpl = new ACLDAOImpl(aclRepository, new NoOpACLCache(), scopeLevels);
+    Principal principal = Principal.of(PrincipalType.USER, randomAlphabetic(10));
+
+    // Every other pipeline is granted to the principal, along with ACLs of other users which are never fetched
+    List<PermissionCheck> permissionChecks = new ArrayList<>();
+    List<ACL> aclsInDB = new ArrayList<>();
+    for (int i = 0; i < numberOfChecks; i++) {
+      String pipeline = "pipeline" + i;
+      permissionChecks.add(PermissionCheck.builder()
+                               .resourceType("PIPELINE")
+                               .resourceIdentifier(pipeline)
+                               .permission("core_pipeline_view")
+                               .build());
+      if (i % 2 == 0) {
+        aclsInDB.add(buildACL(principal.getPrincipalIdentifier(), "/PIPELINE/" + pipeline));
+      }
+      aclsInDB.add(buildACL(randomAlphabetic(10), "/PIPELINE/" + pipeline));
+    }
+    when(aclRepository.getByAclQueryStringInAndEnabled(any(), anyBoolean())).thenAnswer(invocation -> {
+      Collection<String> queryStrings = invocation.getArgument(0);
+      return aclsInDB.stream().filter(acl -> queryStrings.contains(acl.getAclQueryString())).collect(toList());
+    });
+
+    List<List<ACL>> matchingACLs = aclDaoImpl.getMatchingACLs(principal, permissionChecks);
+
+    assertThat(matchingACLs).hasSize(numberOfChecks);
+    for (int i = 0; i < numberOfChecks; i++) {
+      if (i % 2 == 0) {
+        assertThat(matchingACLs.get(i))
+            .extracting(ACL::getResourceSelector)
+            .containsExactly("/PIPELINE/pipeline" + i);
+      } else {
+        assertThat(matchingACLs.get(i)).isEmpty();
+      }
+    }
+    verify(aclRepository, times(1)).getByAclQueryStringInAndEnabled(any(), anyBoolean());
+  }
+
+  private ACL buildACL(String principalIdentifier, String resourceSelector) {
+    return ACL.builder()
+        .principalType(PrincipalType.USER.name())
+        .principalIdentifier(principalIdentifier)
+        .resourceSelector(resourceSelector)
+        .permissionIdentifier("core_pipeline_view")
+        .aclQueryString(getAclQueryString(
+            "", resourceSelector, PrincipalType.USER.name(), principalIdentifier, "core_pipeline_view"))
+        .enabled(true)
+        .build();
+  }
 }
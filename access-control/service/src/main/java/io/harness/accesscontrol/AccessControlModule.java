@@ -18,6 +18,7 @@ import static io.harness.accesscontrol.scopes.HarnessScopeLevel.ORGANIZATION;
 import static io.harness.accesscontrol.scopes.HarnessScopeLevel.PROJECT;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.authorization.AuthorizationServiceHeader.ACCESS_CONTROL_SERVICE;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
 import static io.harness.eventsframework.EventsFrameworkConstants.DUMMY_GROUP_NAME;
 import static io.harness.eventsframework.EventsFrameworkConstants.DUMMY_TOPIC_NAME;
 import static io.harness.eventsframework.EventsFrameworkConstants.ENTITY_CRUD;
@@ -31,6 +32,7 @@ import io.harness.accesscontrol.acl.ResourceAttributeProvider;
 import io.harness.accesscontrol.acl.api.ACLResource;
 import io.harness.accesscontrol.acl.api.ACLResourceImpl;
 import io.harness.accesscontrol.acl.api.ResourceAttributeProviderImpl;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.accesscontrol.admin.api.AccessControlAdminResource;
 import io.harness.accesscontrol.admin.api.AccessControlAdminResourceImpl;
 import io.harness.accesscontrol.aggregator.api.AggregatorResource;
@@ -164,7 +166,9 @@ import javax.validation.ValidatorFactory;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
 import org.hibernate.validator.parameternameprovider.ReflectionParameterNameProvider;
+import org.redisson.api.RTopic;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
 import ru.vyarus.guice.validator.ValidationModule;
 
 @OwnedBy(PL)
@@ -221,6 +225,21 @@ public class AccessControlModule extends AbstractModule {
     return null;
   }
 
+  @Provides
+  @Named(ACLCache.INVALIDATION_TOPIC)
+  @Singleton
+  @Nullable
+  public RTopic getACLCacheInvalidationTopic(
+      @Nullable @Named("eventsFrameworkRedissonClient") RedissonClient redissonClient) {
+    if (redissonClient == null) {
+      return null;
+    }
+    String envNamespace = config.getEventsConfig().getRedisConfig().getEnvNamespace();
+    String topicName = isEmpty(envNamespace) ? ACLCache.INVALIDATION_TOPIC
+                                             : String.format("%s:%s", envNamespace, ACLCache.INVALIDATION_TOPIC);
+    return redissonClient.getTopic(topicName, StringCodec.INSTANCE);
+  }
+
   @Provides
   @Named(ENTITY_CRUD)
   @Singleton
@@ -323,8 +342,8 @@ public class AccessControlModule extends AbstractModule {
     install(NGMigrationSdkModule.getInstance());
 
     install(AccessControlPersistenceModule.getInstance(config.getMongoConfig()));
-    install(AccessControlCoreModule.getInstance(
-        config.getOutboxPollConfig(), config.getAggregatorConfiguration().isExportMetricsToStackDriver()));
+    install(AccessControlCoreModule.getInstance(config.getOutboxPollConfig(),
+        config.getAggregatorConfiguration().isExportMetricsToStackDriver(), config.getAclCacheConfig()));
     install(AccessControlPreferenceModule.getInstance());
     install(new AbstractTelemetryModule() {
       @Override
@@ -20,6 +20,7 @@ import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 import io.harness.accesscontrol.acl.persistence.ACL;
 import io.harness.accesscontrol.acl.persistence.ACL.ACLKeys;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.accesscontrol.acl.persistence.ACLOptimizationMigrationOffset;
 import io.harness.accesscontrol.acl.persistence.ACLOptimizationMigrationOffset.ACLOptimizationMigrationOffsetKey;
 import io.harness.accesscontrol.acl.persistence.RemoveRedundantACLJobState;
@@ -53,14 +54,16 @@ public class RemoveRedundantACLJob implements Runnable {
   private final MongoTemplate mongoTemplate;
   private final PersistentLocker persistentLocker;
   private final InMemoryPermissionRepository inMemoryPermissionRepository;
+  private final ACLCache aclCache;
   private static final String LOCK_NAME = "RemoveRedundantACLJob";
 
   @Inject
   public RemoveRedundantACLJob(MongoTemplate mongoTemplate, PersistentLocker persistentLocker,
-      InMemoryPermissionRepository inMemoryPermissionRepository) {
+      InMemoryPermissionRepository inMemoryPermissionRepository, ACLCache aclCache) {
     this.mongoTemplate = mongoTemplate;
     this.persistentLocker = persistentLocker;
     this.inMemoryPermissionRepository = inMemoryPermissionRepository;
+    this.aclCache = aclCache;
   }
 
   @Override
@@ -182,6 +185,9 @@ public class RemoveRedundantACLJob implements Runnable {
       }
     } catch (Exception ex) {
       log.error(DEBUG_MESSAGE + "Exception occurred while processing ACLs ", ex);
+    } finally {
+      // ACLs are removed directly from the collection here, bypassing the repository which invalidates them
+      aclCache.invalidateAll();
     }
   }
 
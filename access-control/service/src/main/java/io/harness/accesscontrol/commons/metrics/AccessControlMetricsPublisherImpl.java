@@ -7,6 +7,7 @@
 
 package io.harness.accesscontrol.commons.metrics;
 
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.metrics.service.api.MetricService;
 import io.harness.metrics.service.api.MetricsPublisher;
 
@@ -17,6 +18,7 @@ import com.codahale.metrics.MetricFilter;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Snapshot;
 import com.codahale.metrics.Timer;
+import com.google.common.cache.CacheStats;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import java.util.Map;
@@ -32,11 +34,17 @@ import lombok.extern.slf4j.Slf4j;
 public class AccessControlMetricsPublisherImpl implements MetricsPublisher {
   private final MetricRegistry metricRegistry;
   private final MetricService metricService;
+  private final ACLCache aclCache;
   private static final Double SNAPSHOT_FACTOR = 1.0D / (double) TimeUnit.SECONDS.toNanos(1L);
   private static final Pattern METRIC_NAME_RE = Pattern.compile("[^a-zA-Z0-9:_]");
   private static final String NAMESPACE = System.getenv("NAMESPACE");
   private static final String CONTAINER_NAME = System.getenv("CONTAINER_NAME");
   private static final String SERVICE_NAME = "access-control";
+  private static final String ACL_CACHE_HIT_COUNT = "acl_cache_hit_count";
+  private static final String ACL_CACHE_MISS_COUNT = "acl_cache_miss_count";
+  private static final String ACL_CACHE_HIT_RATE = "acl_cache_hit_rate";
+  private static final String ACL_CACHE_EVICTION_COUNT = "acl_cache_eviction_count";
+  private static final String ACL_CACHE_SIZE = "acl_cache_size";
   private static final MetricFilter meterMetricFilter =
       MetricFilter.startsWith("io.dropwizard.jetty.MutableServletContextHandler");
 
@@ -50,6 +58,19 @@ public class AccessControlMetricsPublisherImpl implements MetricsPublisher {
     timerSet.forEach(entry -> recordTimer(sanitizeMetricName(entry.getKey()), entry.getValue()));
     Set<Map.Entry<String, Counter>> counterSet = metricRegistry.getCounters().entrySet();
     counterSet.forEach(entry -> recordCounter(sanitizeMetricName(entry.getKey()), entry.getValue()));
+    recordACLCacheStats();
+  }
+
+  private void recordACLCacheStats() {
+    try (
+        AccessControlMetricsContext ignore = new AccessControlMetricsContext(NAMESPACE, CONTAINER_NAME, SERVICE_NAME)) {
+      CacheStats stats = aclCache.getStats();
+      recordMetric(ACL_CACHE_HIT_COUNT, stats.hitCount());
+      recordMetric(ACL_CACHE_MISS_COUNT, stats.missCount());
+      recordMetric(ACL_CACHE_HIT_RATE, stats.hitRate());
+      recordMetric(ACL_CACHE_EVICTION_COUNT, stats.evictionCount());
+      recordMetric(ACL_CACHE_SIZE, aclCache.size());
+    }
   }
 
   private void recordCounter(String metricName, Counter counter) {
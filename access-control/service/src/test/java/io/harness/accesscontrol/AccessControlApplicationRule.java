@@ -105,7 +105,7 @@ public class AccessControlApplicationRule implements MethodRule, InjectorRuleMix
     modules.add(TimeModule.getInstance());
     modules.add(TestMongoModule.getInstance());
     modules.add(new AccessControlPersistenceTestModule());
-    modules.add(AccessControlCoreModule.getInstance(null, false));
+    modules.add(AccessControlCoreModule.getInstance(null, false, null));
 
     modules.add(new AbstractModule() {
       @Override
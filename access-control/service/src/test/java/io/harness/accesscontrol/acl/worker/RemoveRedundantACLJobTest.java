@@ -18,6 +18,7 @@ import io.harness.accesscontrol.AccessControlTestBase;
 import io.harness.accesscontrol.acl.persistence.ACL;
 import io.harness.accesscontrol.acl.persistence.ACL.ACLKeys;
 import io.harness.accesscontrol.acl.persistence.ACLOptimizationMigrationOffset;
+import io.harness.accesscontrol.acl.persistence.NoOpACLCache;
 import io.harness.accesscontrol.acl.persistence.RemoveRedundantACLJobState;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.permissions.persistence.PermissionDBO;
@@ -88,7 +89,8 @@ public class RemoveRedundantACLJobTest extends AccessControlTestBase {
         ResourceTypeDBO.builder().identifier(SERVICE_RESOURCE_IDENTIFIER).permissionKey(SERVICE_RESOURCE_NAME).build());
     inMemoryPermissionRepository =
         new InMemoryPermissionRepository(mongoTemplate, of("ccm_perspective_view", Set.of("CCM_FOLDER")));
-    removeRedundantACLJob = new RemoveRedundantACLJob(mongoTemplate, persistentLocker, inMemoryPermissionRepository);
+    removeRedundantACLJob = new RemoveRedundantACLJob(
+        mongoTemplate, persistentLocker, inMemoryPermissionRepository, new NoOpACLCache());
   }
 
   @Test
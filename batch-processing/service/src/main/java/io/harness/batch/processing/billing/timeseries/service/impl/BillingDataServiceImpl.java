@@ -14,6 +14,7 @@ import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.batch.processing.billing.timeseries.data.InstanceBillingData;
 import io.harness.batch.processing.billing.timeseries.service.support.BillingDataTableNameProvider;
+import io.harness.batch.processing.billing.timeseries.service.support.TimeScaleDBBulkLoader;
 import io.harness.batch.processing.ccm.ActualIdleCostWriterData;
 import io.harness.batch.processing.ccm.BatchJobType;
 import io.harness.batch.processing.entities.ClusterDataDetails;
@@ -53,7 +54,6 @@ public class BillingDataServiceImpl {
   @Autowired private TimeScaleDBService timeScaleDBService;
   @Autowired private TimeUtils utils;
 
-  private static final int BATCH_SIZE = 500;
   private static final int MAX_RETRY_COUNT = 2;
   private static final int DELETE_MAX_RETRY_COUNT = 5;
   private static final int SELECT_MAX_RETRY_COUNT = 5;
@@ -116,19 +116,9 @@ public class BillingDataServiceImpl {
       String insertStatement = BillingDataTableNameProvider.replaceTableName(INSERT_STATEMENT, batchJobType);
       int retryCount = 0;
       while (!successfulInsert && retryCount < MAX_RETRY_COUNT) {
-        try (Connection dbConnection = timeScaleDBService.getDBConnection();
-             PreparedStatement statement = dbConnection.prepareStatement(insertStatement)) {
-          int index = 0;
-          for (InstanceBillingData instanceBillingData : instanceBillingDataList) {
-            updateInsertStatement(statement, instanceBillingData);
-            statement.addBatch();
-            index++;
-
-            if (index % BATCH_SIZE == 0 || index == instanceBillingDataList.size()) {
-              log.debug("Prepared Statement in BillingDataServiceImpl: {} ", statement);
-              statement.executeBatch();
-            }
-          }
+        try (Connection dbConnection = timeScaleDBService.getDBConnection()) {
+          TimeScaleDBBulkLoader.insert(
+              dbConnection, insertStatement, instanceBillingDataList, this::updateInsertStatement);
           successfulInsert = true;
         } catch (SQLException e) {
           log.error("Failed to save instance data,[{}],retryCount=[{}], Exception: ", instanceBillingDataList.size(),
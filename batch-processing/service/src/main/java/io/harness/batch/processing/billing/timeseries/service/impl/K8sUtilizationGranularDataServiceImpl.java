@@ -17,6 +17,7 @@ import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.batch.processing.billing.timeseries.data.InstanceUtilizationData;
 import io.harness.batch.processing.billing.timeseries.data.K8sGranularUtilizationData;
+import io.harness.batch.processing.billing.timeseries.service.support.TimeScaleDBBulkLoader;
 import io.harness.ccm.commons.beans.InstanceType;
 import io.harness.ccm.commons.utils.TimeUtils;
 import io.harness.ccm.commons.utils.TimescaleUtils;
@@ -54,7 +55,6 @@ public class K8sUtilizationGranularDataServiceImpl {
   @Autowired private DSLContext dslContext;
 
   private static final int MAX_RETRY_COUNT = 2;
-  private static final int BATCH_SIZE = 500;
 
   static final String INSERT_STATEMENT =
       "INSERT INTO KUBERNETES_UTILIZATION_DATA (STARTTIME, ENDTIME, CPU, MEMORY, MAXCPU, MAXMEMORY,  INSTANCEID, INSTANCETYPE, CLUSTERID, ACCOUNTID, SETTINGID, STORAGEREQUESTVALUE, STORAGEUSAGEVALUE, ACTUALINSTANCEID) VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?,?) ON CONFLICT DO NOTHING";
@@ -82,18 +82,9 @@ public class K8sUtilizationGranularDataServiceImpl {
     if (timeScaleDBService.isValid()) {
       int retryCount = 0;
       while (!successfulInsert && retryCount < MAX_RETRY_COUNT) {
-        try (Connection dbConnection = timeScaleDBService.getDBConnection();
-             PreparedStatement statement = dbConnection.prepareStatement(INSERT_STATEMENT)) {
-          int index = 0;
-          for (K8sGranularUtilizationData k8sGranularUtilizationData : k8sGranularUtilizationDataList) {
-            updateInsertStatement(statement, k8sGranularUtilizationData);
-            statement.addBatch();
-            index++;
-
-            if (index % BATCH_SIZE == 0 || index == k8sGranularUtilizationDataList.size()) {
-              statement.executeBatch();
-            }
-          }
+        try (Connection dbConnection = timeScaleDBService.getDBConnection()) {
+          TimeScaleDBBulkLoader.insert(
+              dbConnection, INSERT_STATEMENT, k8sGranularUtilizationDataList, this::updateInsertStatement);
           successfulInsert = true;
         } catch (SQLException e) {
           log.error("Failed to save K8s Utilization data,[{}],retryCount=[{}], Exception: ",
@@ -11,6 +11,7 @@ import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
 
 import io.harness.batch.processing.billing.service.UtilizationData;
 import io.harness.batch.processing.billing.timeseries.data.InstanceUtilizationData;
+import io.harness.batch.processing.billing.timeseries.service.support.TimeScaleDBBulkLoader;
 import io.harness.batch.processing.cloudevents.aws.ecs.service.util.ClusterIdAndServiceArn;
 import io.harness.batch.processing.cloudevents.aws.ecs.service.util.ECSUtilizationData;
 import io.harness.ccm.commons.beans.InstanceType;
@@ -47,7 +48,6 @@ public class UtilizationDataServiceImpl {
 
   private static final int MAX_RETRY_COUNT = 2;
   private static final int SELECT_MAX_RETRY_COUNT = 5;
-  private static final int BATCH_SIZE = 500;
 
   static final String INSERT_STATEMENT =
       "INSERT INTO UTILIZATION_DATA (STARTTIME, ENDTIME, ACCOUNTID, MAXCPU, MAXMEMORY, AVGCPU, AVGMEMORY, INSTANCEID, INSTANCETYPE, CLUSTERID, SETTINGID, MAXCPUVALUE, MAXMEMORYVALUE, AVGCPUVALUE, AVGMEMORYVALUE, AVGSTORAGECAPACITYVALUE, AVGSTORAGEUSAGEVALUE, AVGSTORAGEREQUESTVALUE, MAXSTORAGEUSAGEVALUE, MAXSTORAGEREQUESTVALUE) VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?) ON CONFLICT DO NOTHING";
@@ -69,18 +69,9 @@ public class UtilizationDataServiceImpl {
       log.info("Util data size {}", instanceUtilizationDataList.size());
       int retryCount = 0;
       while (!successfulInsert && retryCount < MAX_RETRY_COUNT) {
-        try (Connection dbConnection = timeScaleDBService.getDBConnection();
-             PreparedStatement statement = dbConnection.prepareStatement(INSERT_STATEMENT)) {
-          int index = 0;
-          for (InstanceUtilizationData instanceUtilizationData : instanceUtilizationDataList) {
-            updateInsertStatement(statement, instanceUtilizationData);
-            statement.addBatch();
-            index++;
-
-            if (index % BATCH_SIZE == 0 || index == instanceUtilizationDataList.size()) {
-              statement.executeBatch();
-            }
-          }
+        try (Connection dbConnection = timeScaleDBService.getDBConnection()) {
+          TimeScaleDBBulkLoader.insert(
+              dbConnection, INSERT_STATEMENT, instanceUtilizationDataList, this::updateInsertStatement);
           successfulInsert = true;
         } catch (SQLException e) {
           log.error("Failed to save instance Utilization data,[{}],retryCount=[{}], Exception: ",
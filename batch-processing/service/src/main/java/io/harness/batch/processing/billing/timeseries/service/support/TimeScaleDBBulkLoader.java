@@ -0,0 +1,198 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.batch.processing.billing.timeseries.service.support;
+
+import static io.harness.annotations.dev.HarnessTeam.CE;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+/**
+ * Bulk inserts rows with an INSERT ... VALUES statement of the timescale db.
+ *
+ * <p>On a PostgreSQL connection the rows are streamed with COPY into a temporary staging table, and moved to the table
+ * of the statement with an INSERT ... SELECT which keeps the rest of the statement, such as its ON CONFLICT clause. All
+ * of it runs in one transaction, so a failed load inserts none of the rows and can be retried as a whole. On other
+ * connections the statement is executed in batches.
+ *
+ * <p>The rows are bound by the same binder as the prepared statement, so both paths write the same values.
+ */
+@Slf4j
+@OwnedBy(CE)
+public class TimeScaleDBBulkLoader {
+  private static final int BATCH_SIZE = 500;
+  // Encoded rows are written to the COPY stream whenever they reach this size, so the rows are never held twice
+  private static final int COPY_BUFFER_SIZE = 64 * 1024;
+  private static final Pattern INSERT_STATEMENT_PATTERN =
+      Pattern.compile("INSERT INTO (\\S+) \\(([^)]+)\\) VALUES \\([?,\\s]+\\)(.*)", Pattern.CASE_INSENSITIVE);
+
+  private static final String CREATE_STAGING_TABLE =
+      "CREATE TEMPORARY TABLE %s (LIKE %s INCLUDING DEFAULTS) ON COMMIT DROP";
+  private static final String COPY_STAGING_TABLE = "COPY %s (%s) FROM STDIN WITH (FORMAT csv)";
+  private static final String MERGE_STAGING_TABLE = "INSERT INTO %s (%s) SELECT %s FROM %s%s";
+
+  @FunctionalInterface
+  public interface StatementBinder<T> {
+    void bind(PreparedStatement statement, T row) throws SQLException;
+  }
+
+  private TimeScaleDBBulkLoader() {}
+
+  public static <T> void insert(Connection connection, String insertStatement, List<T> rows,
+      StatementBinder<? super T> binder) throws SQLException {
+    if (rows.isEmpty()) {
+      return;
+    }
+    if (connection.isWrapperFor(PGConnection.class)) {
+      copy(connection, insertStatement, rows, binder);
+    } else {
+      insertInBatches(connection, insertStatement, rows, binder);
+    }
+  }
+
+  private static <T> void insertInBatches(Connection connection, String insertStatement, List<T> rows,
+      StatementBinder<? super T> binder) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(insertStatement)) {
+      int index = 0;
+      for (T row : rows) {
+        binder.bind(statement, row);
+        statement.addBatch();
+        index++;
+
+        if (index % BATCH_SIZE == 0 || index == rows.size()) {
+          statement.executeBatch();
+        }
+      }
+    }
+  }
+
+  private static <T> void copy(Connection connection, String insertStatement, List<T> rows,
+      StatementBinder<? super T> binder) throws SQLException {
+    Matcher matcher = INSERT_STATEMENT_PATTERN.matcher(insertStatement.trim());
+    if (!matcher.matches()) {
+      throw new IllegalArgumentException("Not an INSERT ... VALUES statement: " + insertStatement);
+    }
+    String tableName = matcher.group(1);
+    String[] columns = Arrays.stream(matcher.group(2).split(",")).map(String::trim).toArray(String[] ::new);
+    String columnList = String.join(", ", columns);
+    String stagingTableName = tableName + "_copy_staging";
+
+    boolean autoCommit = connection.getAutoCommit();
+    connection.setAutoCommit(false);
+    try {
+      try (Statement statement = connection.createStatement()) {
+        statement.execute(String.format(CREATE_STAGING_TABLE, stagingTableName, tableName));
+      }
+      CopyIn copyIn = connection.unwrap(PGConnection.class)
+                          .getCopyAPI()
+                          .copyIn(String.format(COPY_STAGING_TABLE, stagingTableName, columnList));
+      try {
+        writeRows(copyIn, columns.length, rows, binder);
+        copyIn.endCopy();
+      } finally {
+        if (copyIn.isActive()) {
+          copyIn.cancelCopy();
+        }
+      }
+      try (Statement statement = connection.createStatement()) {
+        int inserted = statement.executeUpdate(String.format(
+            MERGE_STAGING_TABLE, tableName, columnList, columnList, stagingTableName, matcher.group(3)));
+        log.debug("Copied {} rows into {}, {} of them new", rows.size(), tableName, inserted);
+      }
+      connection.commit();
+    } catch (SQLException | RuntimeException e) {
+      connection.rollback();
+      throw e;
+    } finally {
+      connection.setAutoCommit(autoCommit);
+    }
+  }
+
+  private static <T> void writeRows(CopyIn copyIn, int columnCount, List<T> rows, StatementBinder<? super T> binder)
+      throws SQLException {
+    Object[] values = new Object[columnCount];
+    PreparedStatement recorder = getValueRecorder(values);
+    StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE + 1024);
+    for (T row : rows) {
+      Arrays.fill(values, null);
+      binder.bind(recorder, row);
+      appendCsvRow(buffer, values);
+      if (buffer.length() >= COPY_BUFFER_SIZE) {
+        flush(copyIn, buffer);
+      }
+    }
+    flush(copyIn, buffer);
+  }
+
+  private static void flush(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+    if (buffer.length() == 0) {
+      return;
+    }
+    byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+    copyIn.writeToCopy(bytes, 0, bytes.length);
+    buffer.setLength(0);
+  }
+
+  /**
+   * Returns a prepared statement which only records the parameters set on it into the values, so that the binders of
+   * the prepared statements can be reused to encode the rows.
+   */
+  private static PreparedStatement getValueRecorder(Object[] values) {
+    return (PreparedStatement) Proxy.newProxyInstance(
+        PreparedStatement.class.getClassLoader(), new Class<?>[] {PreparedStatement.class}, (proxy, method, args) -> {
+          if (method.getName().startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+            values[(Integer) args[0] - 1] = method.getName().equals("setNull") ? null : args[1];
+            return null;
+          }
+          throw new UnsupportedOperationException("Only setting parameters is supported, not " + method.getName());
+        });
+  }
+
+  @VisibleForTesting
+  static void appendCsvRow(StringBuilder buffer, Object[] values) {
+    for (int i = 0; i < values.length; i++) {
+      if (i > 0) {
+        buffer.append(',');
+      }
+      appendCsvValue(buffer, values[i]);
+    }
+    buffer.append('\n');
+  }
+
+  private static void appendCsvValue(StringBuilder buffer, Object value) {
+    // An unquoted empty value is NULL in the csv format of COPY, while a quoted one is an empty string
+    if (value == null) {
+      return;
+    }
+    if (value instanceof Timestamp) {
+      buffer.append(((Timestamp) value).toInstant());
+    } else if (value instanceof BigDecimal) {
+      buffer.append(((BigDecimal) value).toPlainString());
+    } else if (value instanceof Number || value instanceof Boolean) {
+      buffer.append(value);
+    } else {
+      buffer.append('"').append(value.toString().replace("\"", "\"\"")).append('"');
+    }
+  }
+}
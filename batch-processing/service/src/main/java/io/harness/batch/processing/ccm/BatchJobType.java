@@ -64,6 +64,7 @@ public enum BatchJobType {
   CLUSTER_DATA_TO_BIG_QUERY(1000, 1, ChronoUnit.DAYS, Arrays.asList(ACTUAL_IDLE_COST_BILLING), IN_CLUSTER_BILLING),
   ANOMALY_DETECTION_K8S(1000, 1, ChronoUnit.DAYS, singletonList(INSTANCE_BILLING), IN_CLUSTER_BILLING),
   ANOMALY_DETECTION_CLOUD(1000, 1, ChronoUnit.DAYS, emptyList(), OUT_OF_CLUSTER),
+  UNIFIED_TABLE_ROLLUP(1000, 1, ChronoUnit.DAYS, emptyList(), OUT_OF_CLUSTER),
   DATA_CHECK_BIGQUERY_TIMESCALE(1000, 1, ChronoUnit.DAYS, singletonList(CLUSTER_DATA_TO_BIG_QUERY), IN_CLUSTER_BILLING),
   RERUN_JOB(1500, 1, ChronoUnit.DAYS, emptyList(), IN_CLUSTER_BILLING);
 
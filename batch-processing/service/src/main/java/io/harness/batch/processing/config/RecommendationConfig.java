@@ -20,4 +20,6 @@ public class RecommendationConfig {
   private int accountLimit;
   private boolean governanceRecommendationEnabledAws;
   private boolean governanceRecommendationEnabledAzure;
+  // Number of workloads the k8s recommendation job computes concurrently
+  private int workloadRecommendationParallelism;
 }
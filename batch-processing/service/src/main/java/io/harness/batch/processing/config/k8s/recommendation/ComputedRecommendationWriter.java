@@ -41,7 +41,9 @@ import software.wings.graphql.datafetcher.ce.recommendation.entity.ResourceRequi
 
 import com.cronutils.utils.Preconditions;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import io.kubernetes.client.custom.Quantity;
 import java.math.BigDecimal;
 import java.time.Duration;
@@ -51,11 +53,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import javax.validation.constraints.NotNull;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.annotation.AfterStep;
 import org.springframework.batch.item.ItemWriter;
 
 @Slf4j
@@ -79,11 +86,22 @@ class ComputedRecommendationWriter implements ItemWriter<K8sWorkloadRecommendati
   private final RecommendationsIgnoreListService ignoreListService;
 
   private final Instant jobStartDate;
+  // Shared by all chunks of the step, null when workloads are written sequentially
+  private final ExecutorService executorService;
 
   ComputedRecommendationWriter(WorkloadRecommendationDao workloadRecommendationDao,
       WorkloadCostService workloadCostService, WorkloadRepository workloadRepository,
       K8sLabelServiceInfoFetcher k8sLabelServiceInfoFetcher, RecommendationCrudService recommendationCrudService,
       ClusterHelper clusterHelper, RecommendationsIgnoreListService ignoreListService, Instant jobStartDate) {
+    this(workloadRecommendationDao, workloadCostService, workloadRepository, k8sLabelServiceInfoFetcher,
+        recommendationCrudService, clusterHelper, ignoreListService, jobStartDate, 1);
+  }
+
+  ComputedRecommendationWriter(WorkloadRecommendationDao workloadRecommendationDao,
+      WorkloadCostService workloadCostService, WorkloadRepository workloadRepository,
+      K8sLabelServiceInfoFetcher k8sLabelServiceInfoFetcher, RecommendationCrudService recommendationCrudService,
+      ClusterHelper clusterHelper, RecommendationsIgnoreListService ignoreListService, Instant jobStartDate,
+      int parallelism) {
     this.workloadRecommendationDao = workloadRecommendationDao;
     this.workloadCostService = workloadCostService;
     this.workloadRepository = workloadRepository;
@@ -92,6 +110,7 @@ class ComputedRecommendationWriter implements ItemWriter<K8sWorkloadRecommendati
     this.clusterHelper = clusterHelper;
     this.ignoreListService = ignoreListService;
     this.jobStartDate = jobStartDate;
+    this.executorService = parallelism > 1 ? Executors.newFixedThreadPool(parallelism) : null;
   }
 
   void addHarnessSvcInfo(ResourceId workloadId, K8sWorkloadRecommendation k8sWorkloadRecommendation) {
@@ -105,143 +124,173 @@ class ComputedRecommendationWriter implements ItemWriter<K8sWorkloadRecommendati
 
   @Override
   public void write(List<? extends K8sWorkloadRecommendation> items) {
-    for (K8sWorkloadRecommendation recommendation : items) {
-      if (!recommendation.isDirty()) {
-        log.warn("Skipping as dirty flag is not set");
-        continue;
+    if (executorService == null || items.size() <= 1) {
+      items.forEach(this::writeRecommendation);
+      return;
+    }
+    // Each workload is computed from its own partial histograms and saved on its own, so they can be written
+    // concurrently
+    List<Future<?>> futures =
+        items.stream()
+            .map(recommendation -> executorService.submit(() -> writeRecommendation(recommendation)))
+            .collect(Collectors.toList());
+    try {
+      for (Future<?> future : futures) {
+        future.get();
       }
-      ResourceId workloadId = ResourceId.builder()
-                                  .accountId(recommendation.getAccountId())
-                                  .clusterId(recommendation.getClusterId())
-                                  .kind(recommendation.getWorkloadType())
-                                  .namespace(recommendation.getNamespace())
-                                  .name(recommendation.getWorkloadName())
-                                  .build();
-      addHarnessSvcInfo(workloadId, recommendation);
-      Map<String, ContainerRecommendation> containerRecommendations =
-          ofNullable(recommendation.getContainerRecommendations()).orElseGet(HashMap::new);
-      recommendation.setContainerRecommendations(containerRecommendations);
-
-      List<PartialRecommendationHistogram> partialRecommendationHistogramList =
-          workloadRecommendationDao.fetchPartialRecommendationHistogramForWorkload(
-              workloadId, jobStartDate.minus(Duration.ofDays(7)), jobStartDate);
-      Map<String, Histogram> cpuHistograms = new HashMap<>();
-      Map<String, Histogram> memoryHistograms = new HashMap<>();
-      PartialHistogramAggragator.aggregateInto(partialRecommendationHistogramList, cpuHistograms, memoryHistograms);
-
-      Map<String, ContainerState> containerStates = new WorkloadState(recommendation).getContainerStateMap();
-      int minNumDays = Integer.MAX_VALUE;
-      if (isNotEmpty(containerRecommendations)) {
-        final double factor = 1.0 / containerRecommendations.size();
-        final long containerMinCpuMilliCores = ResourceAmountUtils.scaleResourceAmount(podMinCpuMilliCores, factor);
-        final long containerMinMemoryBytes = ResourceAmountUtils.scaleResourceAmount(podMinMemoryBytes, factor);
-        for (Map.Entry<String, ContainerRecommendation> entry : containerRecommendations.entrySet()) {
-          String containerName = entry.getKey();
-          ContainerRecommendation containerRecommendation = entry.getValue();
-          ContainerState containerState = containerStates.get(containerName);
-          if (containerState != null) {
-            ResourceRequirement current = containerRecommendation.getCurrent();
-            long curCpuMilliCores = Optional.ofNullable(current)
-                                        .map(ResourceRequirement::getRequests)
-                                        .map(s -> s.get(CPU))
-                                        .map(Quantity::fromString)
-                                        .map(Quantity::getNumber)
-                                        .map(BigDecimal::doubleValue)
-                                        .map(ResourceAmountUtils::cpuAmountFromCores)
-                                        .orElse(containerMinCpuMilliCores);
-            long curMemoryBytes = Optional.ofNullable(current)
+    } catch (InterruptedException e) {
+      futures.forEach(future -> future.cancel(true));
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while writing recommendations", e);
+    } catch (ExecutionException e) {
+      futures.forEach(future -> future.cancel(true));
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new UncheckedExecutionException(e.getCause());
+    }
+  }
+
+  @AfterStep
+  public void shutdownExecutor() {
+    if (executorService != null) {
+      executorService.shutdownNow();
+    }
+  }
+
+  private void writeRecommendation(K8sWorkloadRecommendation recommendation) {
+    if (!recommendation.isDirty()) {
+      log.warn("Skipping as dirty flag is not set");
+      return;
+    }
+    ResourceId workloadId = ResourceId.builder()
+                                .accountId(recommendation.getAccountId())
+                                .clusterId(recommendation.getClusterId())
+                                .kind(recommendation.getWorkloadType())
+                                .namespace(recommendation.getNamespace())
+                                .name(recommendation.getWorkloadName())
+                                .build();
+    addHarnessSvcInfo(workloadId, recommendation);
+    Map<String, ContainerRecommendation> containerRecommendations =
+        ofNullable(recommendation.getContainerRecommendations()).orElseGet(HashMap::new);
+    recommendation.setContainerRecommendations(containerRecommendations);
+
+    List<PartialRecommendationHistogram> partialRecommendationHistogramList =
+        workloadRecommendationDao.fetchPartialRecommendationHistogramForWorkload(
+            workloadId, jobStartDate.minus(Duration.ofDays(7)), jobStartDate);
+    Map<String, Histogram> cpuHistograms = new HashMap<>();
+    Map<String, Histogram> memoryHistograms = new HashMap<>();
+    PartialHistogramAggragator.aggregateInto(partialRecommendationHistogramList, cpuHistograms, memoryHistograms);
+
+    Map<String, ContainerState> containerStates = new WorkloadState(recommendation).getContainerStateMap();
+    int minNumDays = Integer.MAX_VALUE;
+    if (isNotEmpty(containerRecommendations)) {
+      final double factor = 1.0 / containerRecommendations.size();
+      final long containerMinCpuMilliCores = ResourceAmountUtils.scaleResourceAmount(podMinCpuMilliCores, factor);
+      final long containerMinMemoryBytes = ResourceAmountUtils.scaleResourceAmount(podMinMemoryBytes, factor);
+      for (Map.Entry<String, ContainerRecommendation> entry : containerRecommendations.entrySet()) {
+        String containerName = entry.getKey();
+        ContainerRecommendation containerRecommendation = entry.getValue();
+        ContainerState containerState = containerStates.get(containerName);
+        if (containerState != null) {
+          ResourceRequirement current = containerRecommendation.getCurrent();
+          long curCpuMilliCores = Optional.ofNullable(current)
                                       .map(ResourceRequirement::getRequests)
-                                      .map(s -> s.get(MEMORY))
+                                      .map(s -> s.get(CPU))
                                       .map(Quantity::fromString)
                                       .map(Quantity::getNumber)
                                       .map(BigDecimal::doubleValue)
-                                      .map(ResourceAmountUtils::memoryAmountFromBytes)
-                                      .orElse(containerMinMemoryBytes);
-            // use cur if it's less than min.
-            Map<String, Long> minContainerResources =
-                ResourceAmountUtils.makeResourceMap(Math.min(containerMinCpuMilliCores, curCpuMilliCores),
-                    Math.min(containerMinMemoryBytes, curMemoryBytes));
-            ResourceRequirement burstable =
-                burstableRecommender(minContainerResources).getEstimatedResourceRequirements(containerState);
-            ResourceRequirement guaranteed =
-                guaranteedRecommender(minContainerResources).getEstimatedResourceRequirements(containerState);
-            ResourceRequirement recommended =
-                recommendedRecommender(minContainerResources).getEstimatedResourceRequirements(containerState);
-
-            Map<String, ResourceRequirement> computedPercentiles = new HashMap<>();
-
-            Histogram cpuHistogram = cpuHistograms.get(containerName);
-            Histogram memoryHistogram = memoryHistograms.get(containerName);
-
-            // assuming partialHistogram may not have the data for some containerName
-            if (cpuHistogram != null && memoryHistogram != null) {
-              // container state constructed from last 7 days partialHistogram aggregated data
-              ContainerState containerStateFromPartialHistogram = new ContainerState();
-              containerStateFromPartialHistogram.setCpuHistogram(cpuHistogram);
-              containerStateFromPartialHistogram.setMemoryHistogram(memoryHistogram);
-
-              for (Integer percentile : requiredPercentiles) {
-                computedPercentiles.put(String.format(PERCENTILE_KEY, percentile),
-                    customRecommender(minContainerResources, percentile / 100.0)
-                        .getEstimatedResourceRequirements(containerStateFromPartialHistogram));
-              }
-            } else {
-              log.warn("partialHistogram does not have the data for containerName:{}, workloadId: {}", containerName,
-                  workloadId);
+                                      .map(ResourceAmountUtils::cpuAmountFromCores)
+                                      .orElse(containerMinCpuMilliCores);
+          long curMemoryBytes = Optional.ofNullable(current)
+                                    .map(ResourceRequirement::getRequests)
+                                    .map(s -> s.get(MEMORY))
+                                    .map(Quantity::fromString)
+                                    .map(Quantity::getNumber)
+                                    .map(BigDecimal::doubleValue)
+                                    .map(ResourceAmountUtils::memoryAmountFromBytes)
+                                    .orElse(containerMinMemoryBytes);
+          // use cur if it's less than min.
+          Map<String, Long> minContainerResources =
+              ResourceAmountUtils.makeResourceMap(Math.min(containerMinCpuMilliCores, curCpuMilliCores),
+                  Math.min(containerMinMemoryBytes, curMemoryBytes));
+          ResourceRequirement burstable =
+              burstableRecommender(minContainerResources).getEstimatedResourceRequirements(containerState);
+          ResourceRequirement guaranteed =
+              guaranteedRecommender(minContainerResources).getEstimatedResourceRequirements(containerState);
+          ResourceRequirement recommended =
+              recommendedRecommender(minContainerResources).getEstimatedResourceRequirements(containerState);
+
+          Map<String, ResourceRequirement> computedPercentiles = new HashMap<>();
+
+          Histogram cpuHistogram = cpuHistograms.get(containerName);
+          Histogram memoryHistogram = memoryHistograms.get(containerName);
+
+          // assuming partialHistogram may not have the data for some containerName
+          if (cpuHistogram != null && memoryHistogram != null) {
+            // container state constructed from last 7 days partialHistogram aggregated data
+            ContainerState containerStateFromPartialHistogram = new ContainerState();
+            containerStateFromPartialHistogram.setCpuHistogram(cpuHistogram);
+            containerStateFromPartialHistogram.setMemoryHistogram(memoryHistogram);
+
+            for (Integer percentile : requiredPercentiles) {
+              computedPercentiles.put(String.format(PERCENTILE_KEY, percentile),
+                  customRecommender(minContainerResources, percentile / 100.0)
+                      .getEstimatedResourceRequirements(containerStateFromPartialHistogram));
             }
+          } else {
+            log.warn("partialHistogram does not have the data for containerName:{}, workloadId: {}", containerName,
+                workloadId);
+          }
 
-            if (current != null) {
-              burstable = copyExtendedResources(current, burstable);
-              guaranteed = copyExtendedResources(current, guaranteed);
-              recommended = copyExtendedResources(current, recommended);
+          if (current != null) {
+            burstable = copyExtendedResources(current, burstable);
+            guaranteed = copyExtendedResources(current, guaranteed);
+            recommended = copyExtendedResources(current, recommended);
 
-              for (Integer percentile : requiredPercentiles) {
-                computedPercentiles.computeIfPresent(
-                    String.format(PERCENTILE_KEY, percentile), (k, v) -> copyExtendedResources(current, v));
-              }
+            for (Integer percentile : requiredPercentiles) {
+              computedPercentiles.computeIfPresent(
+                  String.format(PERCENTILE_KEY, percentile), (k, v) -> copyExtendedResources(current, v));
             }
-            containerRecommendation.setBurstable(burstable);
-            containerRecommendation.setGuaranteed(guaranteed);
-            containerRecommendation.setRecommended(recommended);
-            containerRecommendation.setPercentileBased(computedPercentiles);
-            int days =
-                (int) between(containerState.getFirstSampleStart(), containerState.getLastSampleStart()).toDays();
-            // upper bound by 8 days
-            days = Math.min(days, 8);
-            containerRecommendation.setNumDays(days);
-            minNumDays = Math.min(minNumDays, days);
-            containerRecommendation.setTotalSamplesCount(containerState.getTotalSamplesCount());
           }
+          containerRecommendation.setBurstable(burstable);
+          containerRecommendation.setGuaranteed(guaranteed);
+          containerRecommendation.setRecommended(recommended);
+          containerRecommendation.setPercentileBased(computedPercentiles);
+          int days = (int) between(containerState.getFirstSampleStart(), containerState.getLastSampleStart()).toDays();
+          // upper bound by 8 days
+          days = Math.min(days, 8);
+          containerRecommendation.setNumDays(days);
+          minNumDays = Math.min(minNumDays, days);
+          containerRecommendation.setTotalSamplesCount(containerState.getTotalSamplesCount());
         }
       }
-      recommendation.setNumDays(minNumDays == Integer.MAX_VALUE ? 0 : minNumDays);
-      Instant startInclusive = jobStartDate.minus(Duration.ofDays(7));
-      Cost lastDayCost = workloadCostService.getLastAvailableDayCost(workloadId, startInclusive);
-      BigDecimal monthlySavings = null;
-      if (lastDayCost != null) {
-        recommendation.setLastDayCost(lastDayCost);
-        recommendation.setLastDayCostAvailable(true);
-
-        setContainerLevelCost(containerRecommendations, lastDayCost);
-
-        monthlySavings = estimateMonthlySavings(containerRecommendations, lastDayCost);
-        recommendation.setEstimatedSavings(monthlySavings);
-      } else {
-        recommendation.setLastDayCostAvailable(false);
-        log.debug("Unable to get lastDayCost for workload {}", workloadId);
-      }
-      recommendation.setTtl(Instant.now().plus(RECOMMENDATION_TTL));
-      recommendation.setDirty(false);
+    }
+    recommendation.setNumDays(minNumDays == Integer.MAX_VALUE ? 0 : minNumDays);
+    Instant startInclusive = jobStartDate.minus(Duration.ofDays(7));
+    Cost lastDayCost = workloadCostService.getLastAvailableDayCost(workloadId, startInclusive);
+    BigDecimal monthlySavings = null;
+    if (lastDayCost != null) {
+      recommendation.setLastDayCost(lastDayCost);
+      recommendation.setLastDayCostAvailable(true);
+
+      setContainerLevelCost(containerRecommendations, lastDayCost);
+
+      monthlySavings = estimateMonthlySavings(containerRecommendations, lastDayCost);
+      recommendation.setEstimatedSavings(monthlySavings);
+    } else {
+      recommendation.setLastDayCostAvailable(false);
+      log.debug("Unable to get lastDayCost for workload {}", workloadId);
+    }
+    recommendation.setTtl(Instant.now().plus(RECOMMENDATION_TTL));
+    recommendation.setDirty(false);
 
-      final String uuid = workloadRecommendationDao.save(recommendation);
-      Preconditions.checkNotNullNorEmpty(uuid, "unexpected, uuid can't be null or empty");
+    final String uuid = workloadRecommendationDao.save(recommendation);
+    Preconditions.checkNotNullNorEmpty(uuid, "unexpected, uuid can't be null or empty");
 
-      final String clusterName = clusterHelper.fetchClusterName(workloadId.getClusterId());
-      recommendationCrudService.upsertWorkloadRecommendation(uuid, workloadId, clusterName, recommendation);
+    final String clusterName = clusterHelper.fetchClusterName(workloadId.getClusterId());
+    recommendationCrudService.upsertWorkloadRecommendation(uuid, workloadId, clusterName, recommendation);
 
-      ignoreListService.updateWorkloadRecommendationState(uuid, recommendation.getAccountId(), clusterName,
-          recommendation.getNamespace(), recommendation.getWorkloadName());
-    }
+    ignoreListService.updateWorkloadRecommendationState(uuid, recommendation.getAccountId(), clusterName,
+        recommendation.getNamespace(), recommendation.getWorkloadName());
   }
 
   @VisibleForTesting
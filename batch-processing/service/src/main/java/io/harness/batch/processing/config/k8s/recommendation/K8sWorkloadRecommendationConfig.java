@@ -10,6 +10,8 @@ package io.harness.batch.processing.config.k8s.recommendation;
 import static io.harness.mongo.MongoConfig.NO_LIMIT;
 
 import io.harness.batch.processing.ccm.BatchJobType;
+import io.harness.batch.processing.config.BatchMainConfig;
+import io.harness.batch.processing.config.RecommendationConfig;
 import io.harness.batch.processing.dao.intfc.InstanceDataDao;
 import io.harness.batch.processing.dao.intfc.PublishedMessageDao;
 import io.harness.batch.processing.reader.CloseableIteratorItemReader;
@@ -143,11 +145,14 @@ public class K8sWorkloadRecommendationConfig {
   public ComputedRecommendationWriter computedRecommendationWriter(WorkloadRecommendationDao workloadRecommendationDao,
       WorkloadCostService workloadCostService, WorkloadRepository workloadRepository,
       K8sLabelServiceInfoFetcher k8sLabelServiceInfoFetcher, RecommendationCrudService recommendationCrudService,
-      ClusterHelper clusterHelper, RecommendationsIgnoreListService ignoreListService,
+      ClusterHelper clusterHelper, RecommendationsIgnoreListService ignoreListService, BatchMainConfig batchMainConfig,
       @Value("#{jobParameters[startDate]}") Long startDateMillis) {
     Instant jobStartDate = Instant.ofEpochMilli(startDateMillis);
+    RecommendationConfig recommendationConfig = batchMainConfig.getRecommendationConfig();
+    int parallelism = recommendationConfig == null ? 1 : recommendationConfig.getWorkloadRecommendationParallelism();
     return new ComputedRecommendationWriter(workloadRecommendationDao, workloadCostService, workloadRepository,
-        k8sLabelServiceInfoFetcher, recommendationCrudService, clusterHelper, ignoreListService, jobStartDate);
+        k8sLabelServiceInfoFetcher, recommendationCrudService, clusterHelper, ignoreListService, jobStartDate,
+        parallelism);
   }
 
   @Bean
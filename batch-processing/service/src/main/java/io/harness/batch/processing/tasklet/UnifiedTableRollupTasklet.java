@@ -0,0 +1,229 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.batch.processing.tasklet;
+
+import static io.harness.annotations.dev.HarnessTeam.CE;
+import static io.harness.ccm.commons.utils.BigQueryHelper.UNIFIED_TABLE;
+
+import static java.lang.String.format;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.batch.processing.ccm.CCMJobConstants;
+import io.harness.batch.processing.config.BatchMainConfig;
+import io.harness.beans.FeatureName;
+import io.harness.ccm.bigQuery.BigQueryService;
+import io.harness.ccm.clickHouse.ClickHouseServiceImpl;
+import io.harness.ccm.commons.beans.JobConstants;
+import io.harness.ccm.commons.dao.CEMetadataRecordDao;
+import io.harness.ccm.commons.entities.batch.CEMetadataRecord;
+import io.harness.ccm.commons.utils.BigQueryHelper;
+import io.harness.ccm.views.graphql.QLCEViewTimeGroupType;
+import io.harness.ccm.views.utils.UnifiedTableRollup;
+import io.harness.ff.FeatureFlagService;
+
+import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.bigquery.QueryJobConfiguration;
+import com.google.cloud.bigquery.TableId;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Keeps the rollups of the unified table up to date for the account. A rollup is created from the whole unified table
+ * the first time, and after that the months of the job are summed again from the unified table, along with the month
+ * before them whose billing data is still restated by the cloud providers after it ends.
+ *
+ * <p>The end of the refreshed billing data is recorded in the CE metadata record of the account, and perspective
+ * queries are only answered from the rollups up to {@link UnifiedTableRollup#RESTATEMENT_LAG} before it. It is unset
+ * while the feature flag is off, so the rollups are created again from the whole unified table once it is turned back
+ * on.
+ */
+@Slf4j
+@OwnedBy(CE)
+public class UnifiedTableRollupTasklet implements Tasklet {
+  @Autowired private BatchMainConfig configuration;
+  @Autowired private BigQueryService bigQueryService;
+  @Autowired private BigQueryHelper bigQueryHelper;
+  @Autowired private ClickHouseServiceImpl clickHouseService;
+  @Autowired private FeatureFlagService featureFlagService;
+  @Autowired private CEMetadataRecordDao ceMetadataRecordDao;
+
+  private static final String BIGQUERY_CREATE_ROLLUP_QUERY =
+      "CREATE OR REPLACE TABLE `%s` PARTITION BY TIMESTAMP_TRUNC(startTime, MONTH) AS %s";
+  private static final String BIGQUERY_REFRESH_ROLLUP_QUERY = "BEGIN TRANSACTION; "
+      + "DELETE FROM `%s` WHERE %s; "
+      + "INSERT INTO `%s` (%s) %s; "
+      + "COMMIT TRANSACTION;";
+  private static final String BIGQUERY_ROLLUP_SELECT_QUERY =
+      "SELECT TIMESTAMP_TRUNC(startTime, %s) AS startTime, %s FROM `%s` %s GROUP BY %s";
+  private static final String BIGQUERY_MONTH_CONDITION =
+      "startTime >= TIMESTAMP('%s-01') AND startTime < TIMESTAMP('%s-01')";
+  private static final String CLICKHOUSE_EXISTS_ROLLUP_QUERY = "EXISTS TABLE ccm.%s";
+  private static final String CLICKHOUSE_CREATE_ROLLUP_QUERY = "CREATE TABLE IF NOT EXISTS ccm.%s ( %s ) "
+      + "ENGINE = MergeTree ORDER BY tuple(startTime) SETTINGS allow_nullable_key = 1;";
+  private static final String CLICKHOUSE_TRUNCATE_ROLLUP_QUERY = "TRUNCATE TABLE ccm.%s;";
+  private static final String CLICKHOUSE_DELETE_ROLLUP_QUERY = "DELETE FROM ccm.%s WHERE %s;";
+  private static final String CLICKHOUSE_INSERT_ROLLUP_QUERY =
+      "INSERT INTO ccm.%s (%s) SELECT date_trunc('%s', startTime), %s FROM ccm.unifiedTable %s GROUP BY %s;";
+  private static final String CLICKHOUSE_MONTH_CONDITION = "startTime >= toDateTime('%s-01 00:00:00', 'UTC') "
+      + "AND startTime < toDateTime('%s-01 00:00:00', 'UTC')";
+
+  @Override
+  public RepeatStatus execute(StepContribution stepContribution, ChunkContext chunkContext) throws Exception {
+    final JobConstants jobConstants = CCMJobConstants.fromContext(chunkContext);
+    String accountId = jobConstants.getAccountId();
+    CEMetadataRecord ceMetadataRecord = ceMetadataRecordDao.getByAccountId(accountId);
+    Instant refreshedUntil = ceMetadataRecord != null ? ceMetadataRecord.getUnifiedTableRollupRefreshedUntil() : null;
+    if (!featureFlagService.isEnabled(FeatureName.CCM_PERSPECTIVE_ROLLUPS, accountId)) {
+      if (refreshedUntil != null) {
+        log.info("Rollups are disabled for account {}, they will be created again when enabled", accountId);
+        ceMetadataRecordDao.updateUnifiedTableRollupRefreshedUntil(accountId, null);
+      }
+      return null;
+    }
+    Instant jobEndTime = Instant.ofEpochMilli(jobConstants.getJobEndTime());
+    if (configuration.isClickHouseEnabled()) {
+      // The ClickHouse rollups are shared by all the accounts, so they are only refreshed by the first run of a window
+      Instant latestRefreshedUntil = ceMetadataRecordDao.getLatestUnifiedTableRollupRefreshedUntil();
+      if (latestRefreshedUntil == null || latestRefreshedUntil.isBefore(jobEndTime)) {
+        List<YearMonth> months = getMonthsToRefresh(latestRefreshedUntil, jobConstants);
+        for (UnifiedTableRollup rollup : UnifiedTableRollup.values()) {
+          refreshClickHouseRollup(rollup, months);
+        }
+      }
+    } else {
+      String unifiedTableName = bigQueryHelper.getCloudProviderTableName(accountId, UNIFIED_TABLE);
+      if (bigQueryService.get().getTable(getTableId(unifiedTableName)) == null) {
+        log.info("No unified table for account {}, skipping the rollups", accountId);
+        return null;
+      }
+      List<YearMonth> months = getMonthsToRefresh(refreshedUntil, jobConstants);
+      for (UnifiedTableRollup rollup : UnifiedTableRollup.values()) {
+        refreshBigQueryRollup(accountId, rollup, months);
+      }
+    }
+    ceMetadataRecordDao.updateUnifiedTableRollupRefreshedUntil(accountId, jobEndTime);
+    return null;
+  }
+
+  // Null when the rollups have to be created from the whole unified table. Otherwise the months since the last refresh,
+  // along with the month before them.
+  private static List<YearMonth> getMonthsToRefresh(Instant refreshedUntil, JobConstants jobConstants) {
+    if (refreshedUntil == null) {
+      return null;
+    }
+    long startTime = Math.min(refreshedUntil.toEpochMilli(), jobConstants.getJobStartTime());
+    YearMonth firstMonth = YearMonth.from(Instant.ofEpochMilli(startTime).atZone(ZoneOffset.UTC)).minusMonths(1);
+    YearMonth lastMonth = YearMonth.from(Instant.ofEpochMilli(jobConstants.getJobEndTime() - 1).atZone(ZoneOffset.UTC));
+    List<YearMonth> months = new ArrayList<>();
+    for (YearMonth month = firstMonth; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+      months.add(month);
+    }
+    return months;
+  }
+
+  // Months of the rollup to sum again, or null to create it from the whole unified table
+  private void refreshBigQueryRollup(String accountId, UnifiedTableRollup rollup, List<YearMonth> months)
+      throws InterruptedException {
+    BigQuery bigQuery = bigQueryService.get();
+    String unifiedTableName = bigQueryHelper.getCloudProviderTableName(accountId, UNIFIED_TABLE);
+    String rollupTableName = bigQueryHelper.getCloudProviderTableName(accountId, rollup.getTableName());
+    if (months == null || bigQuery.getTable(getTableId(rollupTableName)) == null) {
+      log.info("Creating rollup {} for account {}", rollup.getTableName(), accountId);
+      bigQuery.query(QueryJobConfiguration.newBuilder(format(BIGQUERY_CREATE_ROLLUP_QUERY, rollupTableName,
+                                                          getBigQuerySelectQuery(rollup, unifiedTableName, "")))
+                         .build());
+      return;
+    }
+    for (YearMonth month : months) {
+      String monthCondition = format(BIGQUERY_MONTH_CONDITION, month, month.plusMonths(1));
+      String query = format(BIGQUERY_REFRESH_ROLLUP_QUERY, rollupTableName, monthCondition, rollupTableName,
+          String.join(", ", getColumns(rollup)),
+          getBigQuerySelectQuery(rollup, unifiedTableName, "WHERE " + monthCondition));
+      log.info("Refreshing rollup {} for account {} and month {}", rollup.getTableName(), accountId, month);
+      bigQuery.query(QueryJobConfiguration.newBuilder(query).build());
+    }
+  }
+
+  private static String getBigQuerySelectQuery(UnifiedTableRollup rollup, String unifiedTableName, String condition) {
+    List<String> columns = new ArrayList<>(rollup.getDimensions());
+    UnifiedTableRollup.MEASURES.forEach(measure -> columns.add(format("SUM(%s) AS %s", measure, measure)));
+    // The truncated start time and the dimensions come first in the select list
+    String groupBy = IntStream.rangeClosed(1, rollup.getDimensions().size() + 1)
+                         .mapToObj(String::valueOf)
+                         .collect(Collectors.joining(", "));
+    return format(BIGQUERY_ROLLUP_SELECT_QUERY, rollup.getGranularity().name(), String.join(", ", columns),
+        unifiedTableName, condition, groupBy);
+  }
+
+  // Months of the rollup to sum again, or null to create it from the whole unified table
+  private void refreshClickHouseRollup(UnifiedTableRollup rollup, List<YearMonth> months) throws Exception {
+    List<String> exists = clickHouseService.executeClickHouseQuery(configuration.getClickHouseConfig(),
+        format(CLICKHOUSE_EXISTS_ROLLUP_QUERY, rollup.getTableName()), Boolean.TRUE);
+    if (months == null || exists.isEmpty() || "0".equals(exists.get(0))) {
+      log.info("Creating rollup {}", rollup.getTableName());
+      clickHouseService.executeClickHouseQuery(
+          configuration.getClickHouseConfig(), getClickHouseCreateQuery(rollup), Boolean.FALSE);
+      clickHouseService.executeClickHouseQuery(configuration.getClickHouseConfig(),
+          format(CLICKHOUSE_TRUNCATE_ROLLUP_QUERY, rollup.getTableName()), Boolean.FALSE);
+      clickHouseService.executeClickHouseQuery(
+          configuration.getClickHouseConfig(), getClickHouseInsertQuery(rollup, ""), Boolean.FALSE);
+      return;
+    }
+    for (YearMonth month : months) {
+      String monthCondition = format(CLICKHOUSE_MONTH_CONDITION, month, month.plusMonths(1));
+      log.info("Refreshing rollup {} for month {}", rollup.getTableName(), month);
+      clickHouseService.executeClickHouseQuery(configuration.getClickHouseConfig(),
+          format(CLICKHOUSE_DELETE_ROLLUP_QUERY, rollup.getTableName(), monthCondition), Boolean.FALSE);
+      clickHouseService.executeClickHouseQuery(configuration.getClickHouseConfig(),
+          getClickHouseInsertQuery(rollup, "WHERE " + monthCondition), Boolean.FALSE);
+    }
+  }
+
+  private static String getClickHouseCreateQuery(UnifiedTableRollup rollup) {
+    List<String> columns = new ArrayList<>();
+    columns.add(format("`%s` DateTime('UTC') NOT NULL", UnifiedTableRollup.START_TIME_COLUMN));
+    rollup.getDimensions().forEach(dimension -> columns.add(format("`%s` String NULL", dimension)));
+    UnifiedTableRollup.MEASURES.forEach(measure -> columns.add(format("`%s` Float NULL", measure)));
+    return format(CLICKHOUSE_CREATE_ROLLUP_QUERY, rollup.getTableName(), String.join(", ", columns));
+  }
+
+  private static String getClickHouseInsertQuery(UnifiedTableRollup rollup, String condition) {
+    String granularity = rollup.getGranularity() == QLCEViewTimeGroupType.MONTH ? "month" : "day";
+    List<String> selectColumns = new ArrayList<>(rollup.getDimensions());
+    UnifiedTableRollup.MEASURES.forEach(measure -> selectColumns.add(format("sum(%s)", measure)));
+    List<String> groupBy = new ArrayList<>();
+    groupBy.add(format("date_trunc('%s', startTime)", granularity));
+    groupBy.addAll(rollup.getDimensions());
+    return format(CLICKHOUSE_INSERT_ROLLUP_QUERY, rollup.getTableName(), String.join(", ", getColumns(rollup)),
+        granularity, String.join(", ", selectColumns), condition, String.join(", ", groupBy));
+  }
+
+  private static List<String> getColumns(UnifiedTableRollup rollup) {
+    List<String> columns = new ArrayList<>();
+    columns.add(UnifiedTableRollup.START_TIME_COLUMN);
+    columns.addAll(rollup.getDimensions());
+    columns.addAll(UnifiedTableRollup.MEASURES);
+    return columns;
+  }
+
+  private static TableId getTableId(String tableName) {
+    String[] tableNameSplit = tableName.split("\\.");
+    return TableId.of(tableNameSplit[0], tableNameSplit[1], tableNameSplit[2]);
+  }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.batch.processing.billing.timeseries.service.support;
+
+import static io.harness.rule.OwnerRule.HITESH;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+@RunWith(MockitoJUnitRunner.class)
+public class TimeScaleDBBulkLoaderTest extends CategoryTest {
+  private static final String INSERT_STATEMENT =
+      "INSERT INTO UTILIZATION_DATA (STARTTIME, ACCOUNTID, MAXCPU,  INSTANCEID) VALUES (?,?,?,?) "
+      + "ON CONFLICT DO NOTHING";
+
+  @Mock private Connection connection;
+  @Mock private PreparedStatement preparedStatement;
+  @Mock private Statement statement;
+  @Mock private PGConnection pgConnection;
+  @Mock private CopyManager copyManager;
+  @Mock private CopyIn copyIn;
+
+  private final StringBuilder copied = new StringBuilder();
+  private final List<Row> rows = Arrays.asList(new Row(0L, "account\"Id", 0.5, null), new Row(3600000L, "", 2, "id"));
+
+  @Test
+  @Owner(developers = HITESH)
+  @Category(UnitTests.class)
+  public void testCopiesRowsThroughStagingTable() throws SQLException {
+    mockPostgresConnection();
+
+    TimeScaleDBBulkLoader.insert(connection, INSERT_STATEMENT, rows, TimeScaleDBBulkLoaderTest::bind);
+
+    ArgumentCaptor<String> queries = ArgumentCaptor.forClass(String.class);
+    verify(statement).execute(queries.capture());
+    verify(statement).executeUpdate(queries.capture());
+    assertThat(queries.getAllValues())
+        .containsExactly("CREATE TEMPORARY TABLE UTILIZATION_DATA_copy_staging (LIKE UTILIZATION_DATA INCLUDING "
+                + "DEFAULTS) ON COMMIT DROP",
+            "INSERT INTO UTILIZATION_DATA (STARTTIME, ACCOUNTID, MAXCPU, INSTANCEID) SELECT STARTTIME, ACCOUNTID, "
+                + "MAXCPU, INSTANCEID FROM UTILIZATION_DATA_copy_staging ON CONFLICT DO NOTHING");
+    verify(copyManager)
+        .copyIn("COPY UTILIZATION_DATA_copy_staging (STARTTIME, ACCOUNTID, MAXCPU, INSTANCEID) FROM STDIN WITH "
+            + "(FORMAT csv)");
+    assertThat(copied.toString())
+        .isEqualTo("1970-01-01T00:00:00Z,\"account\"\"Id\",0.5,\n1970-01-01T01:00:00Z,\"\",2.0,\"id\"\n");
+    verify(copyIn).endCopy();
+    verify(connection).commit();
+    verify(connection).setAutoCommit(true);
+    verify(connection, never()).prepareStatement(anyString());
+  }
+
+  @Test
+  @Owner(developers = HITESH)
+  @Category(UnitTests.class)
+  public void testRollsBackFailedCopy() throws SQLException {
+    mockPostgresConnection();
+    when(statement.executeUpdate(anyString())).thenThrow(new SQLException("conflict"));
+
+    assertThatThrownBy(
+        () -> TimeScaleDBBulkLoader.insert(connection, INSERT_STATEMENT, rows, TimeScaleDBBulkLoaderTest::bind))
+        .isInstanceOf(SQLException.class);
+    verify(connection).rollback();
+    verify(connection, never()).commit();
+    verify(connection).setAutoCommit(true);
+  }
+
+  @Test
+  @Owner(developers = HITESH)
+  @Category(UnitTests.class)
+  public void testInsertsInBatchesWithoutPostgresConnection() throws SQLException {
+    when(connection.isWrapperFor(PGConnection.class)).thenReturn(false);
+    when(connection.prepareStatement(INSERT_STATEMENT)).thenReturn(preparedStatement);
+
+    TimeScaleDBBulkLoader.insert(connection, INSERT_STATEMENT, rows, TimeScaleDBBulkLoaderTest::bind);
+
+    verify(preparedStatement, times(2)).addBatch();
+    verify(preparedStatement).executeBatch();
+    verify(connection, never()).createStatement();
+  }
+
+  @Test
+  @Owner(developers = HITESH)
+  @Category(UnitTests.class)
+  public void testAppendsCsvRow() {
+    StringBuilder buffer = new StringBuilder();
+    TimeScaleDBBulkLoader.appendCsvRow(
+        buffer, new Object[] {new BigDecimal("1E+3"), null, "a,b\nc", Boolean.TRUE, new Timestamp(1000L)});
+    assertThat(buffer.toString()).isEqualTo("1000,,\"a,b\nc\",true,1970-01-01T00:00:01Z\n");
+  }
+
+  private void mockPostgresConnection() throws SQLException {
+    when(connection.isWrapperFor(PGConnection.class)).thenReturn(true);
+    when(connection.getAutoCommit()).thenReturn(true);
+    when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+    when(connection.createStatement()).thenReturn(statement);
+    when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+    when(copyManager.copyIn(anyString())).thenReturn(copyIn);
+    doAnswer(invocation -> {
+      byte[] bytes = invocation.getArgument(0);
+      copied.append(new String(bytes, invocation.getArgument(1), invocation.getArgument(2), StandardCharsets.UTF_8));
+      return null;
+    })
+        .when(copyIn)
+        .writeToCopy(any(byte[].class), anyInt(), anyInt());
+  }
+
+  private static void bind(PreparedStatement statement, Row row) throws SQLException {
+    statement.setTimestamp(1, new Timestamp(row.startTime));
+    statement.setString(2, row.accountId);
+    statement.setDouble(3, row.maxCpu);
+    if (row.instanceId == null) {
+      statement.setNull(4, Types.VARCHAR);
+    } else {
+      statement.setString(4, row.instanceId);
+    }
+  }
+
+  private static class Row {
+    private final long startTime;
+    private final String accountId;
+    private final double maxCpu;
+    private final String instanceId;
+
+    Row(long startTime, String accountId, double maxCpu, String instanceId) {
+      this.startTime = startTime;
+      this.accountId = accountId;
+      this.maxCpu = maxCpu;
+      this.instanceId = instanceId;
+    }
+  }
+}
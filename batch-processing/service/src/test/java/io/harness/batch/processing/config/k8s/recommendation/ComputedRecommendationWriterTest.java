@@ -18,6 +18,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -51,6 +52,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.assertj.core.data.Offset;
 import org.junit.Before;
 import org.junit.Test;
@@ -878,6 +881,62 @@ public class ComputedRecommendationWriterTest extends CategoryTest {
                        .build());
   }
 
+  @Test
+  @Owner(developers = UTSAV)
+  @Category(UnitTests.class)
+  public void shouldWriteWorkloadsConcurrently() throws Exception {
+    when(workloadRecommendationDao.fetchPartialRecommendationHistogramForWorkload(any(), any(), any()))
+        .thenReturn(Collections.singletonList(
+            PartialRecommendationHistogram.builder()
+                .accountId(ACCOUNT_ID)
+                .clusterId(CLUSTER_ID)
+                .namespace(NAMESPACE)
+                .workloadType(WORKLOAD_TYPE)
+                .date(JOB_START_DATE)
+                .containerCheckpoints(ImmutableMap.of("harness-example", createContainerCheckpoint()))
+                .build()));
+    ComputedRecommendationWriter parallelWriter =
+        new ComputedRecommendationWriter(workloadRecommendationDao, workloadCostService, workloadRepository,
+            k8sLabelServiceInfoFetcher, recommendationCrudService, clusterHelper, ignoreListService, JOB_START_DATE, 4);
+    List<K8sWorkloadRecommendation> recommendations =
+        IntStream.range(0, 8).mapToObj(i -> createRecommendation(WORKLOAD_NAME + i)).collect(Collectors.toList());
+    K8sWorkloadRecommendation sequentialRecommendation = createRecommendation(WORKLOAD_NAME);
+
+    try {
+      parallelWriter.write(recommendations.subList(0, 4));
+      parallelWriter.write(recommendations.subList(4, 8));
+    } finally {
+      parallelWriter.shutdownExecutor();
+    }
+    computedRecommendationWriter.write(Collections.singletonList(sequentialRecommendation));
+
+    verify(workloadRecommendationDao, times(9)).save(captor.capture());
+    assertThat(captor.getAllValues()).containsAll(recommendations);
+    for (K8sWorkloadRecommendation recommendation : recommendations) {
+      assertThat(recommendation.isDirty()).isFalse();
+      assertThat(recommendation.getContainerRecommendations().get("harness-example").getPercentileBased())
+          .isEqualTo(
+              sequentialRecommendation.getContainerRecommendations().get("harness-example").getPercentileBased());
+    }
+  }
+
+  private static K8sWorkloadRecommendation createRecommendation(String workloadName) {
+    return K8sWorkloadRecommendation.builder()
+        .dirty(true)
+        .accountId(ACCOUNT_ID)
+        .clusterId(CLUSTER_ID)
+        .workloadType(WORKLOAD_TYPE)
+        .namespace(NAMESPACE)
+        .workloadName(workloadName)
+        .lastReceivedUtilDataAt(Instant.EPOCH)
+        .containerRecommendation("harness-example",
+            ContainerRecommendation.builder()
+                .current(ResourceRequirement.builder().request("cpu", "1").request("memory", "1536Mi").build())
+                .build())
+        .containerCheckpoint("harness-example", createContainerCheckpoint())
+        .build();
+  }
+
   private static ContainerCheckpoint createContainerCheckpoint() {
     return ContainerCheckpoint.builder()
         .lastUpdateTime(Instant.parse("2020-07-28T01:27:20.271Z"))
@@ -196,6 +196,10 @@ replace_key_value clickHouseConfig.password "$CLICKHOUSE_PASSWORD"
 replace_key_value deployMode "$DEPLOY_MODE"
 replace_key_value isClickHouseEnabled "$CLICKHOUSE_ENABLED"
 
+replace_key_value perspectiveQueryCacheConfig.enabled "$PERSPECTIVE_QUERY_CACHE_ENABLED"
+replace_key_value perspectiveQueryCacheConfig.maximumSize "$PERSPECTIVE_QUERY_CACHE_MAXIMUM_SIZE"
+replace_key_value perspectiveQueryCacheConfig.expireAfterWriteInMinutes "$PERSPECTIVE_QUERY_CACHE_EXPIRE_AFTER_WRITE_IN_MINUTES"
+
 replace_key_value aiEngineConfig.modelExecutionTermination "$GENAI_MODEL_EXCEUTION_TERMINATION"
 replace_key_value aiEngineConfig.completeModelGenAIService.provider "$GENAI_SERVICE_PROVIDER"
 replace_key_value aiEngineConfig.completeModelGenAIService.model "$GENAI_SERVICE_MODEL"
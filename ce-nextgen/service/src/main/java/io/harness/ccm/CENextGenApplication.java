@@ -18,6 +18,7 @@ import io.harness.authorization.AuthorizationServiceHeader;
 import io.harness.ccm.eventframework.CENGEventConsumerService;
 import io.harness.ccm.migration.CENGCoreMigrationProvider;
 import io.harness.ccm.service.impl.PerspectivesRestrictionUsageImpl;
+import io.harness.ccm.views.helper.PerspectiveQueryResultCache;
 import io.harness.cf.AbstractCfModule;
 import io.harness.cf.CfClientConfig;
 import io.harness.cf.CfMigrationConfig;
@@ -62,6 +63,7 @@ import io.harness.token.remote.TokenClient;
 import io.harness.yaml.YamlSdkConfiguration;
 import io.harness.yaml.YamlSdkInitHelper;
 
+import com.codahale.metrics.Gauge;
 import com.codahale.metrics.MetricRegistry;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
@@ -384,9 +386,25 @@ public class CENextGenApplication extends Application<CENextGenConfiguration> {
 
   private void initializeMonitoring(Injector injector) {
     injector.getInstance(MetricService.class).initializeMetrics();
+    registerPerspectiveQueryCacheMetrics(injector);
     injector.getInstance(RecordMetricsJob.class).scheduleMetricsTasks();
   }
 
+  private void registerPerspectiveQueryCacheMetrics(Injector injector) {
+    PerspectiveQueryResultCache perspectiveQueryResultCache = injector.getInstance(PerspectiveQueryResultCache.class);
+    if (!perspectiveQueryResultCache.isEnabled()) {
+      return;
+    }
+    metricRegistry.register("perspective_query_cache_hit_count",
+        (Gauge<Long>) () -> perspectiveQueryResultCache.getStatistics().getHitCount());
+    metricRegistry.register("perspective_query_cache_miss_count",
+        (Gauge<Long>) () -> perspectiveQueryResultCache.getStatistics().getMissCount());
+    metricRegistry.register("perspective_query_cache_bytes_processed_saved",
+        (Gauge<Long>) () -> perspectiveQueryResultCache.getStatistics().getBytesProcessedSaved());
+    metricRegistry.register(
+        "perspective_query_cache_size", (Gauge<Long>) () -> perspectiveQueryResultCache.getStatistics().getSize());
+  }
+
   private void registerYamlSdk(Injector injector) {
     YamlSdkConfiguration yamlSdkConfiguration = YamlSdkConfiguration.builder()
                                                     .requireSchemaInit(true)
@@ -19,6 +19,7 @@ import io.harness.ccm.commons.beans.config.AwsConfig;
 import io.harness.ccm.commons.beans.config.AwsGovCloudConfig;
 import io.harness.ccm.commons.beans.config.ClickHouseConfig;
 import io.harness.ccm.commons.beans.config.GcpConfig;
+import io.harness.ccm.commons.beans.config.PerspectiveQueryCacheConfig;
 import io.harness.ccm.config.CurrencyPreferencesConfig;
 import io.harness.cf.CfClientConfig;
 import io.harness.configuration.DeployMode;
@@ -117,6 +118,7 @@ public class CENextGenConfiguration extends Configuration {
   @JsonProperty("timescaledb") @ConfigSecret private TimeScaleDBConfig timeScaleDBConfig;
   @JsonProperty("clickHouseConfig") @ConfigSecret private ClickHouseConfig clickHouseConfig;
   @JsonProperty("isClickHouseEnabled") private boolean isClickHouseEnabled;
+  @JsonProperty("perspectiveQueryCacheConfig") private PerspectiveQueryCacheConfig perspectiveQueryCacheConfig;
 
   @JsonProperty(value = "gcpConfig") private GcpConfig gcpConfig;
   @JsonProperty(value = "ceAzureSetupConfig") @ConfigSecret private CEAzureSetupConfig ceAzureSetupConfig;
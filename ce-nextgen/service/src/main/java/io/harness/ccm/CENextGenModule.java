@@ -59,6 +59,7 @@ import io.harness.ccm.clickHouse.ClickHouseService;
 import io.harness.ccm.clickHouse.ClickHouseServiceImpl;
 import io.harness.ccm.commons.beans.config.ClickHouseConfig;
 import io.harness.ccm.commons.beans.config.GcpConfig;
+import io.harness.ccm.commons.beans.config.PerspectiveQueryCacheConfig;
 import io.harness.ccm.commons.service.impl.ClusterRecordServiceImpl;
 import io.harness.ccm.commons.service.impl.EntityMetadataServiceImpl;
 import io.harness.ccm.commons.service.impl.InstanceDataServiceImpl;
@@ -344,6 +345,13 @@ public class CENextGenModule extends AbstractModule {
         return configuration.isClickHouseEnabled();
       }
 
+      @Provides
+      @Singleton
+      @Named("perspectiveQueryCacheConfig")
+      PerspectiveQueryCacheConfig perspectiveQueryCacheConfig() {
+        return configuration.getPerspectiveQueryCacheConfig();
+      }
+
       @Provides
       @Singleton
       @Named("governanceConfig")
@@ -71,6 +71,9 @@ append_config "installClientToolsInBackground" $INSTALL_CLIENT_TOOLS_IN_BACKGROU
 append_config "clientCertificateFilePath" $DELEGATE_CLIENT_CERTIFICATE_PATH
 append_config "clientCertificateKeyFilePath" $DELEGATE_CLIENT_CERTIFICATE_KEY_PATH
 append_config "grpcAuthorityModificationDisabled" ${GRPC_AUTHORITY_MODIFICATION_DISABLED:-false}
+append_config "adaptivePublish" $ADAPTIVE_EVENT_PUBLISH
+append_config "maxInFlightPublishRequests" $MAX_IN_FLIGHT_EVENT_PUBLISH_REQUESTS
+append_config "compressPublishRequests" $COMPRESS_EVENT_PUBLISH_REQUESTS
 # Intended for debugging, has to be set explicitly as its never set in generated yaml.
 append_config "trustAllCertificates" ${TRUST_ALL_CERTIFICATES:-false}
 
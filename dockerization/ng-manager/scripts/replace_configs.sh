@@ -550,6 +550,12 @@ replace_key_value outboxPollConfig.pollingIntervalInSeconds "$OUTBOX_POLL_INTERV
 
 replace_key_value outboxPollConfig.maximumRetryAttemptsForAnEvent "$OUTBOX_MAX_RETRY_ATTEMPTS"
 
+replace_key_value outboxPollConfig.partitions "$OUTBOX_POLL_PARTITIONS"
+
+replace_key_value outboxPollConfig.enableChangeStream "$OUTBOX_ENABLE_CHANGE_STREAM"
+
+replace_key_value outboxPollConfig.changeStreamPollingIntervalInSeconds "$OUTBOX_CHANGE_STREAM_POLL_INTERVAL"
+
 replace_key_value notificationClient.httpClient.baseUrl "$NOTIFICATION_BASE_URL"
 
 replace_key_value notificationClient.secrets.notificationClientSecret "$NEXT_GEN_MANAGER_SECRET"
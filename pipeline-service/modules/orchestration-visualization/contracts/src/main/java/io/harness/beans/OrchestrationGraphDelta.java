@@ -0,0 +1,80 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.beans;
+
+import io.harness.annotations.StoreIn;
+import io.harness.annotations.dev.CodePulse;
+import io.harness.annotations.dev.HarnessModuleComponent;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.annotations.dev.ProductModule;
+import io.harness.mongo.index.CompoundMongoIndex;
+import io.harness.mongo.index.FdTtlIndex;
+import io.harness.mongo.index.MongoIndex;
+import io.harness.ng.DbAliases;
+import io.harness.persistence.PersistentEntity;
+import io.harness.persistence.UuidAware;
+import io.harness.pms.contracts.execution.Status;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.google.common.collect.ImmutableList;
+import dev.morphia.annotations.Entity;
+import java.time.OffsetDateTime;
+import java.util.Date;
+import java.util.List;
+import lombok.Builder;
+import lombok.Setter;
+import lombok.Value;
+import lombok.experimental.FieldNameConstants;
+import lombok.experimental.NonFinal;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.TypeAlias;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Changes applied to the cached {@link OrchestrationGraph} of an execution by one graph update. The deltas of an
+ * execution form a chain, each one pointing to the lastUpdatedAt of the graph it was applied on, until they are folded
+ * back into the cached graph.
+ */
+@CodePulse(module = ProductModule.CDS, unitCoverageRequired = true, components = {HarnessModuleComponent.CDS_PIPELINE})
+@OwnedBy(HarnessTeam.PIPELINE)
+@Value
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+@FieldNameConstants(innerTypeName = "OrchestrationGraphDeltaKeys")
+@StoreIn(DbAliases.PMS)
+@Entity(value = "orchestrationGraphDelta", noClassnameStored = true)
+@Document("orchestrationGraphDelta")
+@TypeAlias("orchestrationGraphDelta")
+public class OrchestrationGraphDelta implements PersistentEntity, UuidAware {
+  public static final long TTL_MONTHS = 6;
+
+  @Setter @NonFinal @Id @dev.morphia.annotations.Id String uuid;
+  String planExecutionId;
+  long previousUpdatedAt;
+  long lastUpdatedAt;
+
+  Status status;
+  Long endTs;
+  List<String> rootNodeIds;
+  // Serialized OrchestrationAdjacencyListInternal with the vertices and edge lists of the changed nodes only
+  byte[] changedNodes;
+  List<String> removedNodeIds;
+
+  @Builder.Default @FdTtlIndex Date validUntil = Date.from(OffsetDateTime.now().plusMonths(TTL_MONTHS).toInstant());
+
+  public static List<MongoIndex> mongoIndexes() {
+    return ImmutableList.<MongoIndex>builder()
+        .add(CompoundMongoIndex.builder()
+                 .name("planExecutionId_lastUpdatedAt_idx")
+                 .field(OrchestrationGraphDeltaKeys.planExecutionId)
+                 .field(OrchestrationGraphDeltaKeys.lastUpdatedAt)
+                 .build())
+        .build();
+  }
+}
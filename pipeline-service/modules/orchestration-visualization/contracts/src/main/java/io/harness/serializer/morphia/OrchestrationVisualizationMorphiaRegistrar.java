@@ -7,6 +7,7 @@
 
 package io.harness.serializer.morphia;
 
+import io.harness.beans.OrchestrationGraphDelta;
 import io.harness.morphia.MorphiaRegistrar;
 import io.harness.morphia.MorphiaRegistrarHelperPut;
 import io.harness.pms.plan.execution.beans.GraphUpdateInfo;
@@ -19,6 +20,7 @@ public class OrchestrationVisualizationMorphiaRegistrar implements MorphiaRegist
   public void registerClasses(Set<Class> set) {
     set.add(PipelineExecutionSummaryEntity.class);
     set.add(GraphUpdateInfo.class);
+    set.add(OrchestrationGraphDelta.class);
   }
 
   @Override
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.repositories.executions;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import io.harness.annotation.HarnessRepo;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.OrchestrationGraphDelta;
+
+import java.util.List;
+import java.util.Set;
+import org.springframework.data.repository.PagingAndSortingRepository;
+
+@HarnessRepo
+@OwnedBy(PIPELINE)
+public interface OrchestrationGraphDeltaRepository extends PagingAndSortingRepository<OrchestrationGraphDelta, String> {
+  List<OrchestrationGraphDelta> findAllByPlanExecutionIdAndLastUpdatedAtGreaterThanOrderByLastUpdatedAtAsc(
+      String planExecutionId, long lastUpdatedAt);
+
+  void deleteAllByPlanExecutionIdAndLastUpdatedAtLessThanEqual(String planExecutionId, long lastUpdatedAt);
+
+  void deleteAllByPlanExecutionIdIn(Set<String> planExecutionIds);
+}
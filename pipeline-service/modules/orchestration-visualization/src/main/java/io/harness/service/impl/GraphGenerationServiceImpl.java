@@ -18,7 +18,9 @@ import io.harness.beans.EphemeralOrchestrationGraph;
 import io.harness.beans.GraphVertex;
 import io.harness.beans.OrchestrationEventLog;
 import io.harness.beans.OrchestrationGraph;
+import io.harness.beans.OrchestrationGraphDelta;
 import io.harness.beans.converter.EphemeralOrchestrationGraphConverter;
+import io.harness.beans.internal.EdgeListInternal;
 import io.harness.beans.internal.OrchestrationAdjacencyListInternal;
 import io.harness.cache.SpringCacheEntity;
 import io.harness.cache.SpringMongoStore;
@@ -52,18 +54,24 @@ import io.harness.skip.service.VertexSkipperService;
 import io.harness.utils.PmsFeatureFlagService;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Lists;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import com.google.inject.name.Named;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.data.util.CloseableIterator;
@@ -77,6 +85,7 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
 
   private static final String GRAPH_LOCK = "GRAPH_LOCK_";
   private static final int MAX_EXPECTED_GRAPH_UPDATE_TIME = 1000;
+  private static final int MAX_GRAPH_DELTAS = 100;
 
   @Inject private PlanExecutionService planExecutionService;
   @Inject private NodeExecutionService nodeExecutionService;
@@ -92,6 +101,14 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
   @Inject private OrchestrationLogPublisher orchestrationLogPublisher;
   @Inject private PmsFeatureFlagService pmsFeatureFlagService;
   @Inject private PlanExecutionModuleInfoUpdateEventHandler planExecutionModuleInfoUpdateEventHandler;
+  @Inject private OrchestrationGraphDeltaHelper orchestrationGraphDeltaHelper;
+  @Inject(optional = true)
+  @Named("incrementalGraphUpdatesEnabled")
+  private boolean incrementalGraphUpdatesEnabled;
+
+  // Graphs kept by the instance which last updated them, an update then only reads the deltas saved by other instances
+  private final Cache<String, IncrementalGraph> incrementalGraphs =
+      CacheBuilder.newBuilder().maximumSize(200).expireAfterAccess(10, TimeUnit.MINUTES).build();
 
   @Override
   public boolean updateGraph(String planExecutionId) {
@@ -137,6 +154,9 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
   // This must always be called after acquiring the lock
   @VisibleForTesting
   boolean updateGraphUnderLock(String planExecutionId) {
+    if (incrementalGraphUpdatesEnabled) {
+      return updateIncrementalGraphUnderLock(planExecutionId);
+    }
     OrchestrationGraph orchestrationGraph = getCachedOrchestrationGraph(planExecutionId);
     if (orchestrationGraph == null) {
       log.warn("[PMS_GRAPH] Graph not yet generated. Passing on to next iteration");
@@ -148,6 +168,30 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
   // This must always be called after acquiring the lock
   @VisibleForTesting
   boolean updateGraphUnderLock(OrchestrationGraph orchestrationGraph) {
+    return updateGraphUnderLock(orchestrationGraph, null);
+  }
+
+  // This must always be called after acquiring the lock
+  private boolean updateIncrementalGraphUnderLock(String planExecutionId) {
+    IncrementalGraph incrementalGraph = loadIncrementalGraph(planExecutionId);
+    if (incrementalGraph == null) {
+      log.warn("[PMS_GRAPH] Graph not yet generated. Passing on to next iteration");
+      return true;
+    }
+    try {
+      return updateGraphUnderLock(incrementalGraph.getOrchestrationGraph(), incrementalGraph);
+    } catch (RuntimeException ex) {
+      // The graph might have been partially updated in place
+      incrementalGraphs.invalidate(planExecutionId);
+      throw ex;
+    }
+  }
+
+  /**
+   * Updates the graph with the unprocessed event logs. When incrementalGraph is null the whole graph is saved,
+   * otherwise only the nodes changed by the update are saved as a delta.
+   */
+  private boolean updateGraphUnderLock(OrchestrationGraph orchestrationGraph, IncrementalGraph incrementalGraph) {
     if (orchestrationGraph == null) {
       return false;
     }
@@ -170,6 +214,7 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
     boolean updateRequired = false;
     Update executionSummaryUpdate = new Update();
     Set<String> nodeExecutionIds = new HashSet<>();
+    Set<String> changedNodeIds = new HashSet<>();
     PlanExecution planExecution = null;
     for (OrchestrationEventLog orchestrationEventLog : unprocessedEventLogs) {
       String nodeExecutionId = orchestrationEventLog.getNodeExecutionId();
@@ -192,11 +237,13 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
         case STEP_DETAILS_UPDATE:
           orchestrationGraph = stepDetailsUpdateEventHandler.handleEvent(
               planExecutionId, nodeExecutionId, orchestrationGraph, executionSummaryUpdate);
+          changedNodeIds.add(nodeExecutionId);
           updateRequired = true;
           break;
         case STEP_INPUTS_UPDATE:
           orchestrationGraph =
               stepDetailsUpdateEventHandler.handleStepInputEvent(planExecutionId, nodeExecutionId, orchestrationGraph);
+          changedNodeIds.add(nodeExecutionId);
           updateRequired = true;
           break;
         case PIPELINE_INFO_UPDATE:
@@ -220,10 +267,15 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
               || updateRequired;
           orchestrationGraph =
               graphStatusUpdateHelper.handleEventV2(planExecutionId, nodeExecution, orchestrationGraph);
+          collectChangedNodeIds(orchestrationGraph, nodeExecution, changedNodeIds);
       }
     }
 
-    cachePartialOrchestrationGraph(orchestrationGraph.withLastUpdatedAt(lastUpdatedAt), lastUpdatedAt);
+    if (incrementalGraph == null) {
+      cachePartialOrchestrationGraph(orchestrationGraph.withLastUpdatedAt(lastUpdatedAt), lastUpdatedAt);
+    } else {
+      saveIncrementalGraph(incrementalGraph, orchestrationGraph.withLastUpdatedAt(lastUpdatedAt), changedNodeIds);
+    }
     if (updateRequired) {
       executionSummaryUpdate.set(PlanExecutionSummaryKeys.lastUpdatedAt, lastUpdatedAt);
       pmsExecutionSummaryService.update(planExecutionId, executionSummaryUpdate);
@@ -236,20 +288,121 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
     return shouldAck;
   }
 
+  private void collectChangedNodeIds(
+      OrchestrationGraph orchestrationGraph, NodeExecution nodeExecution, Set<String> changedNodeIds) {
+    if (nodeExecution == null) {
+      return;
+    }
+    // Adding or removing a vertex also changes the edge list of its previous, parent or chain end vertex
+    changedNodeIds.add(nodeExecution.getUuid());
+    changedNodeIds.add(nodeExecution.getPreviousId());
+    changedNodeIds.add(nodeExecution.getParentId());
+    EdgeListInternal edgeList = orchestrationGraph.getAdjacencyList().getAdjacencyMap().get(nodeExecution.getUuid());
+    if (edgeList != null) {
+      changedNodeIds.addAll(edgeList.getPrevIds());
+    }
+  }
+
+  private IncrementalGraph loadIncrementalGraph(String planExecutionId) {
+    // A cached graph saved by any other means than an incremental update makes the kept graph stale
+    Long cachedGraphUpdatedAt = getCachedGraphUpdatedAt(planExecutionId);
+    IncrementalGraph incrementalGraph = incrementalGraphs.getIfPresent(planExecutionId);
+    if (incrementalGraph != null && cachedGraphUpdatedAt != null
+        && incrementalGraph.getCachedGraphUpdatedAt() == cachedGraphUpdatedAt) {
+      OrchestrationGraph orchestrationGraph = incrementalGraph.getOrchestrationGraph();
+      List<OrchestrationGraphDelta> deltas =
+          orchestrationGraphDeltaHelper.fetchDeltas(planExecutionId, orchestrationGraph.getLastUpdatedAt());
+      orchestrationGraph = orchestrationGraphDeltaHelper.applyDeltas(orchestrationGraph, deltas);
+      if (orchestrationGraph != null) {
+        return new IncrementalGraph(
+            orchestrationGraph, cachedGraphUpdatedAt, incrementalGraph.getDeltaCount() + deltas.size());
+      }
+    }
+    incrementalGraphs.invalidate(planExecutionId);
+
+    OrchestrationGraph cachedGraph =
+        mongoStore.get(OrchestrationGraph.ALGORITHM_ID, OrchestrationGraph.STRUCTURE_HASH, planExecutionId, null);
+    if (cachedGraph == null) {
+      return null;
+    }
+    if (cachedGraphUpdatedAt == null) {
+      cachedGraphUpdatedAt = 0L;
+    }
+    List<OrchestrationGraphDelta> deltas =
+        orchestrationGraphDeltaHelper.fetchDeltas(planExecutionId, cachedGraph.getLastUpdatedAt());
+    OrchestrationGraph orchestrationGraph = orchestrationGraphDeltaHelper.applyDeltas(cachedGraph, deltas);
+    if (orchestrationGraph == null) {
+      // The event logs after the cached graph are processed again, the update then replaces the cached graph
+      orchestrationGraphDeltaHelper.deleteAllDeltas(Collections.singleton(planExecutionId));
+      return new IncrementalGraph(cachedGraph, cachedGraphUpdatedAt, MAX_GRAPH_DELTAS);
+    }
+    return new IncrementalGraph(orchestrationGraph, cachedGraphUpdatedAt, deltas.size());
+  }
+
+  private void saveIncrementalGraph(
+      IncrementalGraph incrementalGraph, OrchestrationGraph orchestrationGraph, Set<String> changedNodeIds) {
+    String planExecutionId = orchestrationGraph.getPlanExecutionId();
+    long lastUpdatedAt = orchestrationGraph.getLastUpdatedAt();
+    // The adjacency list is replaced when the graph is built again from the node executions
+    boolean graphRebuilt =
+        orchestrationGraph.getAdjacencyList() != incrementalGraph.getOrchestrationGraph().getAdjacencyList();
+    if (!graphRebuilt && incrementalGraph.getDeltaCount() < MAX_GRAPH_DELTAS) {
+      orchestrationGraphDeltaHelper.saveDelta(
+          orchestrationGraph, incrementalGraph.getOrchestrationGraph().getLastUpdatedAt(), changedNodeIds);
+      incrementalGraphs.put(planExecutionId,
+          new IncrementalGraph(
+              orchestrationGraph, incrementalGraph.getCachedGraphUpdatedAt(), incrementalGraph.getDeltaCount() + 1));
+      return;
+    }
+
+    // Fold the deltas back into the cached graph so that readers do not have to apply too many of them
+    cachePartialOrchestrationGraph(orchestrationGraph, lastUpdatedAt);
+    Long cachedGraphUpdatedAt = getCachedGraphUpdatedAt(planExecutionId);
+    if (cachedGraphUpdatedAt == null || cachedGraphUpdatedAt != lastUpdatedAt) {
+      // The store logs and swallows failures, keep the deltas as they are still needed on top of the old cached graph
+      incrementalGraphs.invalidate(planExecutionId);
+      return;
+    }
+    orchestrationGraphDeltaHelper.deleteDeltas(planExecutionId, lastUpdatedAt);
+    incrementalGraphs.put(planExecutionId, new IncrementalGraph(orchestrationGraph, lastUpdatedAt, 0));
+  }
+
+  private Long getCachedGraphUpdatedAt(String planExecutionId) {
+    return mongoStore.getEntityUpdatedAt(
+        OrchestrationGraph.ALGORITHM_ID, OrchestrationGraph.STRUCTURE_HASH, planExecutionId, null);
+  }
+
   @Override
   public OrchestrationGraph getCachedOrchestrationGraph(String planExecutionId) {
-    return mongoStore.get(OrchestrationGraph.ALGORITHM_ID, OrchestrationGraph.STRUCTURE_HASH, planExecutionId, null);
+    OrchestrationGraph cachedGraph =
+        mongoStore.get(OrchestrationGraph.ALGORITHM_ID, OrchestrationGraph.STRUCTURE_HASH, planExecutionId, null);
+    // Without incremental updates every update rewrites the cached graph and drops the deltas it covers
+    if (cachedGraph == null || !incrementalGraphUpdatesEnabled) {
+      return cachedGraph;
+    }
+    OrchestrationGraph orchestrationGraph = orchestrationGraphDeltaHelper.applyDeltas(
+        cachedGraph, orchestrationGraphDeltaHelper.fetchDeltas(planExecutionId, cachedGraph.getLastUpdatedAt()));
+    // Deltas which do not continue the cached graph are dropped by the next update
+    return orchestrationGraph == null ? cachedGraph : orchestrationGraph;
   }
 
   @Override
   public OrchestrationGraph getCachedOrchestrationGraphFromSecondary(String planExecutionId) {
-    return mongoStore.getFromSecondary(
+    OrchestrationGraph cachedGraph = mongoStore.getFromSecondary(
         OrchestrationGraph.ALGORITHM_ID, OrchestrationGraph.STRUCTURE_HASH, planExecutionId, null);
+    if (cachedGraph == null || !incrementalGraphUpdatesEnabled) {
+      return cachedGraph;
+    }
+    OrchestrationGraph orchestrationGraph = orchestrationGraphDeltaHelper.applyDeltas(
+        cachedGraph, orchestrationGraphDeltaHelper.fetchDeltas(planExecutionId, cachedGraph.getLastUpdatedAt()));
+    // The deltas are read from the primary, the secondary might lag behind a graph the deltas were folded into
+    return orchestrationGraph == null ? getCachedOrchestrationGraph(planExecutionId) : orchestrationGraph;
   }
 
   @Override
   public void cacheOrchestrationGraph(OrchestrationGraph orchestrationGraph) {
     mongoStore.upsert(orchestrationGraph, SpringCacheEntity.TTL);
+    orchestrationGraphDeltaHelper.deleteDeltas(orchestrationGraph.getCacheKey(), orchestrationGraph.getLastUpdatedAt());
   }
 
   private void cachePartialOrchestrationGraph(OrchestrationGraph orchestrationGraph, long entityUpdatedAt) {
@@ -308,6 +461,7 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
         cacheEntities.add(graph);
       }
       mongoStore.delete(cacheEntities);
+      orchestrationGraphDeltaHelper.deleteAllDeltas(planExecutionIds);
     }
   }
 
@@ -439,4 +593,12 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
         .orElseThrow(() -> new InvalidRequestException("Starting node is not found"))
         .getUuid();
   }
+
+  @Value
+  private static class IncrementalGraph {
+    OrchestrationGraph orchestrationGraph;
+    // entityUpdatedAt of the cached graph the deltas were saved on top of
+    long cachedGraphUpdatedAt;
+    int deltaCount;
+  }
 }
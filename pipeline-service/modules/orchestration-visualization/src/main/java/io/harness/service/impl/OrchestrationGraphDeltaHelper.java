@@ -0,0 +1,139 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.service.impl;
+
+import static io.harness.data.structure.CollectionUtils.emptyIfNull;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import io.harness.annotations.dev.CodePulse;
+import io.harness.annotations.dev.HarnessModuleComponent;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.annotations.dev.ProductModule;
+import io.harness.beans.GraphVertex;
+import io.harness.beans.OrchestrationGraph;
+import io.harness.beans.OrchestrationGraphDelta;
+import io.harness.beans.internal.EdgeListInternal;
+import io.harness.beans.internal.OrchestrationAdjacencyListInternal;
+import io.harness.repositories.executions.OrchestrationGraphDeltaRepository;
+import io.harness.serializer.KryoSerializer;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reads and writes the {@link OrchestrationGraphDelta}s of an execution. A delta carries the vertices and edge lists of
+ * the nodes touched by one graph update, so its size does not depend on the size of the graph.
+ */
+@CodePulse(module = ProductModule.CDS, unitCoverageRequired = true, components = {HarnessModuleComponent.CDS_PIPELINE})
+@OwnedBy(HarnessTeam.PIPELINE)
+@Singleton
+@Slf4j
+public class OrchestrationGraphDeltaHelper {
+  @Inject private OrchestrationGraphDeltaRepository orchestrationGraphDeltaRepository;
+  @Inject @Named("referenceFalseKryoSerializer") private KryoSerializer referenceFalseKryoSerializer;
+
+  public List<OrchestrationGraphDelta> fetchDeltas(String planExecutionId, long lastUpdatedAt) {
+    return orchestrationGraphDeltaRepository
+        .findAllByPlanExecutionIdAndLastUpdatedAtGreaterThanOrderByLastUpdatedAtAsc(planExecutionId, lastUpdatedAt);
+  }
+
+  /**
+   * Applies the deltas on the given graph in place. Returns null, leaving the graph untouched, if the deltas do not
+   * continue the graph. This happens when the cached graph was replaced by one which does not include all of them.
+   */
+  public OrchestrationGraph applyDeltas(OrchestrationGraph orchestrationGraph, List<OrchestrationGraphDelta> deltas) {
+    long lastUpdatedAt = orchestrationGraph.getLastUpdatedAt();
+    for (OrchestrationGraphDelta delta : deltas) {
+      if (delta.getPreviousUpdatedAt() != lastUpdatedAt) {
+        log.warn("[PMS_GRAPH] Graph delta of [{}] does not continue the graph updated at [{}]",
+            orchestrationGraph.getPlanExecutionId(), lastUpdatedAt);
+        return null;
+      }
+      lastUpdatedAt = delta.getLastUpdatedAt();
+    }
+
+    for (OrchestrationGraphDelta delta : deltas) {
+      orchestrationGraph = applyDelta(orchestrationGraph, delta);
+    }
+    return orchestrationGraph;
+  }
+
+  public void saveDelta(OrchestrationGraph orchestrationGraph, long previousUpdatedAt, Set<String> changedNodeIds) {
+    Map<String, GraphVertex> graphVertexMap = orchestrationGraph.getAdjacencyList().getGraphVertexMap();
+    Map<String, EdgeListInternal> adjacencyMap = orchestrationGraph.getAdjacencyList().getAdjacencyMap();
+    OrchestrationAdjacencyListInternal changedNodes = OrchestrationAdjacencyListInternal.builder()
+                                                          .graphVertexMap(new HashMap<>())
+                                                          .adjacencyMap(new HashMap<>())
+                                                          .build();
+    List<String> removedNodeIds = new ArrayList<>();
+    for (String nodeId : changedNodeIds) {
+      if (isEmpty(nodeId)) {
+        continue;
+      }
+      GraphVertex graphVertex = graphVertexMap.get(nodeId);
+      EdgeListInternal edgeList = adjacencyMap.get(nodeId);
+      if (graphVertex == null && edgeList == null) {
+        removedNodeIds.add(nodeId);
+        continue;
+      }
+      if (graphVertex != null) {
+        changedNodes.getGraphVertexMap().put(nodeId, graphVertex);
+      }
+      if (edgeList != null) {
+        changedNodes.getAdjacencyMap().put(nodeId, edgeList);
+      }
+    }
+
+    orchestrationGraphDeltaRepository.save(OrchestrationGraphDelta.builder()
+                                               .planExecutionId(orchestrationGraph.getPlanExecutionId())
+                                               .previousUpdatedAt(previousUpdatedAt)
+                                               .lastUpdatedAt(orchestrationGraph.getLastUpdatedAt())
+                                               .status(orchestrationGraph.getStatus())
+                                               .endTs(orchestrationGraph.getEndTs())
+                                               .rootNodeIds(orchestrationGraph.getRootNodeIds())
+                                               .changedNodes(referenceFalseKryoSerializer.asDeflatedBytes(changedNodes))
+                                               .removedNodeIds(removedNodeIds)
+                                               .build());
+  }
+
+  public void deleteDeltas(String planExecutionId, long lastUpdatedAt) {
+    orchestrationGraphDeltaRepository.deleteAllByPlanExecutionIdAndLastUpdatedAtLessThanEqual(
+        planExecutionId, lastUpdatedAt);
+  }
+
+  public void deleteAllDeltas(Set<String> planExecutionIds) {
+    orchestrationGraphDeltaRepository.deleteAllByPlanExecutionIdIn(planExecutionIds);
+  }
+
+  private OrchestrationGraph applyDelta(OrchestrationGraph orchestrationGraph, OrchestrationGraphDelta delta) {
+    OrchestrationAdjacencyListInternal adjacencyList = orchestrationGraph.getAdjacencyList();
+    OrchestrationAdjacencyListInternal changedNodes =
+        (OrchestrationAdjacencyListInternal) referenceFalseKryoSerializer.asInflatedObject(delta.getChangedNodes());
+    adjacencyList.getGraphVertexMap().putAll(changedNodes.getGraphVertexMap());
+    adjacencyList.getAdjacencyMap().putAll(changedNodes.getAdjacencyMap());
+    for (String nodeId : emptyIfNull(delta.getRemovedNodeIds())) {
+      adjacencyList.getGraphVertexMap().remove(nodeId);
+      adjacencyList.getAdjacencyMap().remove(nodeId);
+    }
+    if (!isEmpty(delta.getRootNodeIds())) {
+      orchestrationGraph.getRootNodeIds().clear();
+      orchestrationGraph.getRootNodeIds().addAll(delta.getRootNodeIds());
+    }
+    return orchestrationGraph.withStatus(delta.getStatus())
+        .withEndTs(delta.getEndTs())
+        .withLastUpdatedAt(delta.getLastUpdatedAt());
+  }
+}
@@ -18,7 +18,9 @@ import static io.harness.steps.StepUtils.PIE_SIMPLIFY_LOG_BASE_KEY;
 import static junit.framework.TestCase.assertTrue;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -88,6 +90,7 @@ public class GraphGenerationServiceImplTest extends OrchestrationVisualizationTe
   @Mock private PlanExecutionMetadataService planExecutionMetadataService;
   @Mock private PlanExecutionModuleInfoUpdateEventHandler planExecutionModuleInfoUpdateEventHandler;
   @Mock private PmsExecutionSummaryService pmsExecutionSummaryService;
+  @Mock private OrchestrationGraphDeltaHelper orchestrationGraphDeltaHelper;
   @Inject @InjectMocks GraphGenerationServiceImpl graphGenerationServiceImpl;
 
   @Before
@@ -436,4 +439,25 @@ public class GraphGenerationServiceImplTest extends OrchestrationVisualizationTe
     verify(planExecutionModuleInfoUpdateEventHandler, times(1)).handleStageInfoUpdate(any(), any(), any());
     verify(pmsExecutionSummaryService, times(1)).update(any(), any());
   }
+
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void shouldNotFetchDeltasForCachedGraphWhenIncrementalUpdatesDisabled() {
+    String planExecutionId = generateUuid();
+    graphGenerationService.cacheOrchestrationGraph(OrchestrationGraph.builder()
+                                                       .cacheKey(planExecutionId)
+                                                       .planExecutionId(planExecutionId)
+                                                       .rootNodeIds(new ArrayList<>())
+                                                       .lastUpdatedAt(1222L)
+                                                       .adjacencyList(OrchestrationAdjacencyListInternal.builder()
+                                                                          .adjacencyMap(new HashMap<>())
+                                                                          .graphVertexMap(new HashMap<>())
+                                                                          .build())
+                                                       .build());
+
+    assertThat(graphGenerationServiceImpl.getCachedOrchestrationGraph(planExecutionId)).isNotNull();
+    assertThat(graphGenerationServiceImpl.getCachedOrchestrationGraphFromSecondary(planExecutionId)).isNotNull();
+    verify(orchestrationGraphDeltaHelper, never()).fetchDeltas(any(), anyLong());
+  }
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.service.impl;
+
+import static io.harness.rule.OwnerRule.ARCHIT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.GraphVertex;
+import io.harness.beans.OrchestrationGraph;
+import io.harness.beans.OrchestrationGraphDelta;
+import io.harness.beans.internal.EdgeListInternal;
+import io.harness.beans.internal.OrchestrationAdjacencyListInternal;
+import io.harness.category.element.UnitTests;
+import io.harness.pms.contracts.execution.Status;
+import io.harness.repositories.executions.OrchestrationGraphDeltaRepository;
+import io.harness.rule.Owner;
+import io.harness.serializer.KryoSerializer;
+
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class OrchestrationGraphDeltaHelperTest extends CategoryTest {
+  private static final String PLAN_EXECUTION_ID = "planExecutionId";
+
+  @Mock private OrchestrationGraphDeltaRepository orchestrationGraphDeltaRepository;
+  @Mock private KryoSerializer referenceFalseKryoSerializer;
+  @InjectMocks private OrchestrationGraphDeltaHelper orchestrationGraphDeltaHelper;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.openMocks(this);
+  }
+
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void testDeltaSizeDoesNotDependOnGraphSize() {
+    for (int graphSize : new int[] {10, 100, 1000}) {
+      OrchestrationGraph orchestrationGraph = buildGraph(graphSize, 20L);
+      ArgumentCaptor<OrchestrationAdjacencyListInternal> changedNodesCaptor =
+          ArgumentCaptor.forClass(OrchestrationAdjacencyListInternal.class);
+      when(referenceFalseKryoSerializer.asDeflatedBytes(changedNodesCaptor.capture())).thenReturn(new byte[0]);
+
+      orchestrationGraphDeltaHelper.saveDelta(
+          orchestrationGraph, 10L, new HashSet<>(Arrays.asList("node1", "node2", "removedNode", null)));
+
+      OrchestrationAdjacencyListInternal changedNodes = changedNodesCaptor.getValue();
+      assertThat(changedNodes.getGraphVertexMap()).containsOnlyKeys("node1", "node2");
+      assertThat(changedNodes.getAdjacencyMap()).containsOnlyKeys("node1", "node2");
+    }
+
+    ArgumentCaptor<OrchestrationGraphDelta> deltaCaptor = ArgumentCaptor.forClass(OrchestrationGraphDelta.class);
+    verify(orchestrationGraphDeltaRepository, times(3)).save(deltaCaptor.capture());
+    OrchestrationGraphDelta delta = deltaCaptor.getValue();
+    assertThat(delta.getPreviousUpdatedAt()).isEqualTo(10L);
+    assertThat(delta.getLastUpdatedAt()).isEqualTo(20L);
+    assertThat(delta.getRemovedNodeIds()).containsExactly("removedNode");
+  }
+
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void testApplyDeltas() {
+    OrchestrationGraph orchestrationGraph = buildGraph(3, 10L);
+    GraphVertex updatedVertex = GraphVertex.builder().uuid("node1").status(Status.SUCCEEDED).build();
+    GraphVertex addedVertex = GraphVertex.builder().uuid("node3").status(Status.RUNNING).build();
+    when(referenceFalseKryoSerializer.asInflatedObject(any()))
+        .thenReturn(changedNodes(updatedVertex), changedNodes(addedVertex));
+
+    orchestrationGraph = orchestrationGraphDeltaHelper.applyDeltas(orchestrationGraph,
+        Lists.newArrayList(delta(10L, 20L, Lists.newArrayList("node2")), delta(20L, 30L, new ArrayList<>())));
+
+    assertThat(orchestrationGraph.getLastUpdatedAt()).isEqualTo(30L);
+    assertThat(orchestrationGraph.getStatus()).isEqualTo(Status.RUNNING);
+    assertThat(orchestrationGraph.getAdjacencyList().getGraphVertexMap()).containsOnlyKeys("node0", "node1", "node3");
+    assertThat(orchestrationGraph.getAdjacencyList().getAdjacencyMap()).containsOnlyKeys("node0", "node1", "node3");
+    assertThat(orchestrationGraph.getAdjacencyList().getGraphVertexMap().get("node1").getStatus())
+        .isEqualTo(Status.SUCCEEDED);
+  }
+
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void testApplyDeltasWhichDoNotContinueTheGraph() {
+    OrchestrationGraph orchestrationGraph = buildGraph(3, 10L);
+
+    assertThat(orchestrationGraphDeltaHelper.applyDeltas(orchestrationGraph,
+                   Lists.newArrayList(delta(10L, 20L, new ArrayList<>()), delta(25L, 30L, new ArrayList<>()))))
+        .isNull();
+    assertThat(orchestrationGraph.getLastUpdatedAt()).isEqualTo(10L);
+    assertThat(orchestrationGraph.getAdjacencyList().getGraphVertexMap()).hasSize(3);
+  }
+
+  private OrchestrationGraph buildGraph(int size, long lastUpdatedAt) {
+    OrchestrationAdjacencyListInternal adjacencyList = OrchestrationAdjacencyListInternal.builder()
+                                                           .graphVertexMap(new HashMap<>())
+                                                           .adjacencyMap(new HashMap<>())
+                                                           .build();
+    for (int i = 0; i < size; i++) {
+      String nodeId = "node" + i;
+      adjacencyList.getGraphVertexMap().put(nodeId, GraphVertex.builder().uuid(nodeId).build());
+      adjacencyList.getAdjacencyMap().put(nodeId,
+          EdgeListInternal.builder()
+              .prevIds(i == 0 ? new ArrayList<>() : Lists.newArrayList("node" + (i - 1)))
+              .nextIds(new ArrayList<>())
+              .build());
+    }
+    return OrchestrationGraph.builder()
+        .planExecutionId(PLAN_EXECUTION_ID)
+        .cacheKey(PLAN_EXECUTION_ID)
+        .rootNodeIds(Lists.newArrayList("node0"))
+        .status(Status.RUNNING)
+        .lastUpdatedAt(lastUpdatedAt)
+        .adjacencyList(adjacencyList)
+        .build();
+  }
+
+  private OrchestrationAdjacencyListInternal changedNodes(GraphVertex graphVertex) {
+    OrchestrationAdjacencyListInternal changedNodes = OrchestrationAdjacencyListInternal.builder()
+                                                          .graphVertexMap(new HashMap<>())
+                                                          .adjacencyMap(new HashMap<>())
+                                                          .build();
+    changedNodes.getGraphVertexMap().put(graphVertex.getUuid(), graphVertex);
+    changedNodes.getAdjacencyMap().put(graphVertex.getUuid(),
+        EdgeListInternal.builder().prevIds(new ArrayList<>()).nextIds(new ArrayList<>()).build());
+    return changedNodes;
+  }
+
+  private OrchestrationGraphDelta delta(long previousUpdatedAt, long lastUpdatedAt, List<String> removedNodeIds) {
+    return OrchestrationGraphDelta.builder()
+        .planExecutionId(PLAN_EXECUTION_ID)
+        .previousUpdatedAt(previousUpdatedAt)
+        .lastUpdatedAt(lastUpdatedAt)
+        .status(Status.RUNNING)
+        .rootNodeIds(Lists.newArrayList("node0"))
+        .changedNodes(new byte[0])
+        .removedNodeIds(removedNodeIds)
+        .build();
+  }
+}
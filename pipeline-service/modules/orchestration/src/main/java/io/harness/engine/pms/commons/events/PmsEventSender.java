@@ -21,10 +21,12 @@ import static org.springframework.data.mongodb.core.query.Query.query;
 import io.harness.ModuleType;
 import io.harness.OrchestrationModuleConfig;
 import io.harness.OrchestrationRedisEventsConfig;
+import io.harness.RedisEventConfig;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.eventsframework.api.Producer;
 import io.harness.eventsframework.impl.noop.NoOpProducer;
+import io.harness.eventsframework.impl.redis.BatchingRedisProducer;
 import io.harness.eventsframework.impl.redis.RedisProducerFactory;
 import io.harness.eventsframework.producer.Message;
 import io.harness.exception.InvalidRequestException;
@@ -46,6 +48,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.cache.RemovalListener;
 import com.google.common.collect.ImmutableMap;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
@@ -77,6 +80,12 @@ public class PmsEventSender {
       CacheBuilder.newBuilder()
           .maximumSize(100)
           .expireAfterAccess(300, TimeUnit.MINUTES)
+          .removalListener((RemovalListener<ProducerCacheKey, Producer>) notification -> {
+            // The redisson client is shared, only the flushes of a batching producer have to be stopped
+            if (notification.getValue() instanceof BatchingRedisProducer) {
+              ((BatchingRedisProducer) notification.getValue()).stopBatching();
+            }
+          })
           .build(new CacheLoader<ProducerCacheKey, Producer>() {
             @Override
             public Producer load(@NotNull ProducerCacheKey cacheKey) {
@@ -143,51 +152,56 @@ public class PmsEventSender {
     switch (cacheKey.getEventCategory()) {
       case INTERRUPT_EVENT:
         return extractProducer(instance.getInterruptConsumerConfig(),
-            orchestrationRedisEventsConfig.getPipelineInterruptEvent().getMaxTopicSize());
+            orchestrationRedisEventsConfig.getPipelineInterruptEvent());
       case ORCHESTRATION_EVENT:
         return extractProducer(instance.getOrchestrationEventConsumerConfig(),
-            orchestrationRedisEventsConfig.getPipelineOrchestrationEvent().getMaxTopicSize());
+            orchestrationRedisEventsConfig.getPipelineOrchestrationEvent());
       case FACILITATOR_EVENT:
         return extractProducer(instance.getFacilitatorEventConsumerConfig(),
-            orchestrationRedisEventsConfig.getPipelineFacilitatorEvent().getMaxTopicSize());
+            orchestrationRedisEventsConfig.getPipelineFacilitatorEvent());
       case NODE_START:
         return extractProducer(instance.getNodeStartEventConsumerConfig(),
-            orchestrationRedisEventsConfig.getPipelineNodeStartEvent().getMaxTopicSize());
+            orchestrationRedisEventsConfig.getPipelineNodeStartEvent());
       case PROGRESS_EVENT:
         return extractProducer(instance.getProgressEventConsumerConfig(),
-            orchestrationRedisEventsConfig.getPipelineProgressEvent().getMaxTopicSize());
+            orchestrationRedisEventsConfig.getPipelineProgressEvent());
       case NODE_ADVISE:
         return extractProducer(instance.getNodeAdviseEventConsumerConfig(),
-            orchestrationRedisEventsConfig.getPipelineNodeAdviseEvent().getMaxTopicSize());
+            orchestrationRedisEventsConfig.getPipelineNodeAdviseEvent());
       case NODE_RESUME:
         return extractProducer(instance.getNodeResumeEventConsumerConfig(),
-            orchestrationRedisEventsConfig.getPipelineNodeResumeEvent().getMaxTopicSize());
+            orchestrationRedisEventsConfig.getPipelineNodeResumeEvent());
       case CREATE_PARTIAL_PLAN:
         return extractProducer(instance.getStartPlanCreationEventConsumerConfig(),
-            orchestrationRedisEventsConfig.getPipelineStartPartialPlanCreator().getMaxTopicSize());
+            orchestrationRedisEventsConfig.getPipelineStartPartialPlanCreator());
       default:
         throw new InvalidRequestException("Invalid Event Category while obtaining Producer");
     }
   }
 
-  private Producer extractProducer(ConsumerConfig consumerConfig, int topicSize) {
+  private Producer extractProducer(ConsumerConfig consumerConfig, RedisEventConfig redisEventConfig) {
     ConfigCase configCase = consumerConfig.getConfigCase();
     switch (configCase) {
       case REDIS:
         Redis redis = consumerConfig.getRedis();
-        return buildRedisProducer(redis.getTopicName(), PIPELINE_SERVICE.getServiceId(), topicSize);
+        return buildRedisProducer(redis.getTopicName(), PIPELINE_SERVICE.getServiceId(), redisEventConfig);
       case CONFIG_NOT_SET:
       default:
         throw new InvalidRequestException("No producer found for Config Case " + configCase.name());
     }
   }
 
-  private Producer buildRedisProducer(String topicName, String serviceId, int topicSize) {
+  private Producer buildRedisProducer(String topicName, String serviceId, RedisEventConfig redisEventConfig) {
     RedisConfig redisConfig = moduleConfig.getEventsFrameworkConfiguration().getRedisConfig();
-    return redisConfig.getRedisUrl().equals(DUMMY_REDIS_URL)
-        ? NoOpProducer.of(topicName)
-        : redisProducerFactory.createRedisProducer(topicName, RedissonClientFactory.getClient(redisConfig), topicSize,
-            serviceId, redisConfig.getEnvNamespace());
+    if (redisConfig.getRedisUrl().equals(DUMMY_REDIS_URL)) {
+      return NoOpProducer.of(topicName);
+    }
+    if (redisEventConfig.isBatchingEnabled()) {
+      return redisProducerFactory.createBatchingRedisProducer(topicName, RedissonClientFactory.getClient(redisConfig),
+          redisEventConfig.getMaxTopicSize(), serviceId, redisConfig.getEnvNamespace());
+    }
+    return redisProducerFactory.createRedisProducer(topicName, RedissonClientFactory.getClient(redisConfig),
+        redisEventConfig.getMaxTopicSize(), serviceId, redisConfig.getEnvNamespace());
   }
 
   PmsSdkInstance getPmsSdkInstance(String serviceName) {
@@ -46,6 +46,7 @@ import io.harness.timeout.TimeoutCallback;
 import io.harness.timeout.TimeoutEngine;
 import io.harness.timeout.TimeoutInstance;
 import io.harness.timeout.TimeoutParameters;
+import io.harness.timeout.TimeoutRegistration;
 import io.harness.timeout.contracts.TimeoutObtainment;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -139,15 +140,21 @@ public class NodeStartHelper {
     if (EmptyPredicate.isEmpty(timeoutObtainments)) {
       return Collections.emptyList();
     }
-    List<String> timeoutInstanceIds = new ArrayList<>();
     TimeoutCallback timeoutCallback =
         new NodeExecutionTimeoutCallback(ambiance.getPlanExecutionId(), AmbianceUtils.obtainCurrentRuntimeId(ambiance));
     EngineExpressionEvaluator evaluator = pmsEngineExpressionService.prepareExpressionEvaluator(ambiance);
+    List<TimeoutRegistration> timeoutRegistrations = new ArrayList<>();
     for (TimeoutObtainment timeoutObtainment : timeoutObtainments) {
       TimeoutParameters timeoutParameters =
           OrchestrationUtils.buildTimeoutParameters(kryoSerializer, evaluator, timeoutObtainment);
-      TimeoutInstance instance =
-          timeoutEngine.registerTimeout(timeoutObtainment.getDimension(), timeoutParameters, timeoutCallback);
+      timeoutRegistrations.add(TimeoutRegistration.builder()
+                                   .dimension(timeoutObtainment.getDimension())
+                                   .timeoutParameters(timeoutParameters)
+                                   .timeoutCallback(timeoutCallback)
+                                   .build());
+    }
+    List<String> timeoutInstanceIds = new ArrayList<>();
+    for (TimeoutInstance instance : timeoutEngine.registerTimeouts(timeoutRegistrations)) {
       timeoutInstanceIds.add(instance.getUuid());
     }
     log.info(format("Registered node execution timeouts: %s", timeoutInstanceIds.toString()));
@@ -66,6 +66,7 @@ import io.harness.execution.consumers.InitiateNodeEventRedisConsumer;
 import io.harness.execution.consumers.sdk.response.SdkResponseEventRedisConsumer;
 import io.harness.execution.consumers.sdk.response.SdkResponseSpawnEventRedisConsumer;
 import io.harness.execution.consumers.sdk.response.SdkStepResponseEventRedisConsumer;
+import io.harness.expression.JexlExpressionCache;
 import io.harness.ff.FeatureFlagConfig;
 import io.harness.gitsync.AbstractGitSyncSdkModule;
 import io.harness.gitsync.GitSdkConfiguration;
@@ -222,6 +223,7 @@ import io.harness.waiter.ProgressUpdateService;
 import io.harness.yaml.YamlSdkConfiguration;
 import io.harness.yaml.YamlSdkInitHelper;
 
+import com.codahale.metrics.Gauge;
 import com.codahale.metrics.InstrumentedExecutorService;
 import com.codahale.metrics.MetricRegistry;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -429,6 +431,7 @@ public class PipelineServiceApplication extends Application<PipelineServiceConfi
     initializeEnforcementSdk(injector);
 
     harnessMetricRegistry = injector.getInstance(HarnessMetricRegistry.class);
+    registerJexlExpressionCacheMetrics();
     PipelineServiceIteratorsConfig iteratorsConfig = appConfig.getIteratorsConfig();
     injector.getInstance(TriggerWebhookExecutionService.class)
         .registerIterators(iteratorsConfig.getTriggerWebhookConfig());
@@ -453,6 +456,7 @@ public class PipelineServiceApplication extends Application<PipelineServiceConfi
                                       .build(),
               Duration.ofSeconds(iteratorsConfig.getTimeoutEngineConfig().getTargetIntervalInSeconds()));
     }
+    injector.getInstance(TimeoutEngine.class).startTimingWheel(iteratorsConfig.getTimeoutEngineWheelConfig());
 
     injector.getInstance(BarrierServiceImpl.class).registerIterators(iteratorsConfig.getBarrierConfig());
     injector.getInstance(IrregularApprovalInstanceHandler.class)
@@ -492,6 +496,17 @@ public class PipelineServiceApplication extends Application<PipelineServiceConfi
     MaintenanceController.forceMaintenance(false);
   }
 
+  private void registerJexlExpressionCacheMetrics() {
+    metricRegistry.register(
+        "jexl_expression_cache_hit_count", (Gauge<Long>) () -> JexlExpressionCache.getExpressionStats().hitCount());
+    metricRegistry.register(
+        "jexl_expression_cache_miss_count", (Gauge<Long>) () -> JexlExpressionCache.getExpressionStats().missCount());
+    metricRegistry.register(
+        "jexl_script_cache_hit_count", (Gauge<Long>) () -> JexlExpressionCache.getScriptStats().hitCount());
+    metricRegistry.register(
+        "jexl_script_cache_miss_count", (Gauge<Long>) () -> JexlExpressionCache.getScriptStats().missCount());
+  }
+
   private void initializeSdkInstanceCacheSync(Injector injector) {
     injector.getInstance(PmsSdkInstanceCacheMonitor.class).scheduleCacheSync();
   }
@@ -13,6 +13,7 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.annotations.dev.ProductModule;
 import io.harness.iterator.IteratorExecutionHandler.DynamicIteratorConfig;
 import io.harness.mongo.iterator.IteratorConfig;
+import io.harness.timeout.wheel.TimeoutWheelConfig;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
@@ -27,6 +28,7 @@ public class PipelineServiceIteratorsConfig {
   @JsonProperty("scheduledTrigger") IteratorConfig scheduleTriggerConfig;
   @JsonProperty("timeoutEngine") IteratorConfig timeoutEngineConfig;
   @JsonProperty("timeoutEngineRedisMode") DynamicIteratorConfig timeoutEngineRedisConfig;
+  @JsonProperty("timeoutEngineWheel") TimeoutWheelConfig timeoutEngineWheelConfig;
   @JsonProperty("barrier") IteratorConfig barrierConfig;
   @JsonProperty("approvalInstance") IteratorConfig approvalInstanceConfig;
   @JsonProperty("resourceRestraint") IteratorConfig resourceRestraintConfig;
@@ -769,6 +769,13 @@ public class PipelineServiceModule extends AbstractModule {
     return configuration.isShouldUseInstanceCache();
   }
 
+  @Provides
+  @Singleton
+  @Named("incrementalGraphUpdatesEnabled")
+  public boolean incrementalGraphUpdatesEnabled() {
+    return configuration.isIncrementalGraphUpdatesEnabled();
+  }
+
   @Provides
   @Singleton
   @Named("PipelineExecutorService")
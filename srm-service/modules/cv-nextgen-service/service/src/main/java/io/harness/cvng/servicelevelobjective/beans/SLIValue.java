@@ -8,6 +8,7 @@
 package io.harness.cvng.servicelevelobjective.beans;
 
 import io.harness.cvng.servicelevelobjective.entities.SLIRecord;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordBucket;
 
 import lombok.Builder;
 import lombok.Value;
@@ -31,4 +32,11 @@ public class SLIValue {
     long badCount = currentSLIRecord.getRunningBadCount() - prevSLIRecord.getRunningBadCount();
     return SLIValue.builder().goodCount(goodCount).badCount(badCount).total(goodCount + badCount).build();
   }
+
+  public static SLIValue getRunningCountDifferenceForCompositeSLO(
+      SLIRecordBucket currentSLIRecordBucket, SLIRecordBucket prevSLIRecordBucket) {
+    long goodCount = currentSLIRecordBucket.getRunningGoodCount() - prevSLIRecordBucket.getRunningGoodCount();
+    long badCount = currentSLIRecordBucket.getRunningBadCount() - prevSLIRecordBucket.getRunningBadCount();
+    return SLIValue.builder().goodCount(goodCount).badCount(badCount).total(goodCount + badCount).build();
+  }
 }
@@ -7,6 +7,7 @@
 
 package io.harness.cvng.servicelevelobjective.services.api;
 
+import io.harness.cvng.core.beans.params.TimeRangeParams;
 import io.harness.cvng.servicelevelobjective.entities.CompositeSLORecordBucket;
 import io.harness.cvng.servicelevelobjective.entities.CompositeServiceLevelObjective;
 
@@ -20,4 +21,8 @@ public interface CompositeSLORecordBucketService {
   CompositeSLORecordBucket getLastCompositeSLORecordBucket(String sloId, Instant startTimeStamp);
   List<CompositeSLORecordBucket> getSLORecordBuckets(String sloId, Instant startTimeStamp, Instant endTimeStamp);
   List<CompositeSLORecordBucket> getLatestCountSLORecords(String sloId, int count);
+  CompositeSLORecordBucket getFirstCompositeSLORecordBucket(String sloId, Instant timestampInclusive);
+  List<CompositeSLORecordBucket> getSLORecordBucketsOfMinutes(String sloId, List<Instant> minutes);
+  List<CompositeSLORecordBucket> getSLORecordBucketsForFilterRange(
+      String sloId, Instant startTime, Instant endTime, TimeRangeParams filter, long numOfPoints);
 }
@@ -13,6 +13,7 @@ import static io.harness.persistence.HQuery.excludeAuthorityCount;
 
 import io.harness.SRMPersistence;
 import io.harness.annotations.retry.RetryOnException;
+import io.harness.cvng.core.beans.params.TimeRangeParams;
 import io.harness.cvng.servicelevelobjective.beans.SLIEvaluationType;
 import io.harness.cvng.servicelevelobjective.beans.SLIMissingDataType;
 import io.harness.cvng.servicelevelobjective.entities.CompositeSLORecordBucket;
@@ -23,14 +24,18 @@ import io.harness.cvng.servicelevelobjective.entities.SLIRecordBucket;
 import io.harness.cvng.servicelevelobjective.services.api.CompositeSLORecordBucketService;
 import io.harness.cvng.servicelevelobjective.services.api.SLIRecordBucketService;
 import io.harness.cvng.servicelevelobjective.services.api.SLOHealthIndicatorService;
+import io.harness.cvng.utils.SLOGraphUtils;
 import io.harness.exception.InvalidArgumentsException;
 
 import com.google.inject.Inject;
+import com.mongodb.ReadPreference;
 import dev.morphia.query.FindOptions;
 import dev.morphia.query.Sort;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.ConcurrentModificationException;
 import java.util.List;
 import java.util.Map;
@@ -142,6 +147,67 @@ public class CompositeSLORecordBucketServiceImpl implements CompositeSLORecordBu
         .asList(new FindOptions().limit(count));
   }
 
+  @Override
+  public CompositeSLORecordBucket getFirstCompositeSLORecordBucket(
+      String verificationTaskId, Instant timestampInclusive) {
+    return hPersistence.createQuery(CompositeSLORecordBucket.class, excludeAuthorityCount)
+        .filter(CompositeSLORecordBucketKeys.verificationTaskId, verificationTaskId)
+        .field(CompositeSLORecordBucketKeys.bucketStartTime)
+        .greaterThanOrEq(timestampInclusive)
+        .order(Sort.ascending(CompositeSLORecordBucketKeys.bucketStartTime))
+        .get();
+  }
+
+  @Override
+  public List<CompositeSLORecordBucket> getSLORecordBucketsOfMinutes(String verificationTaskId, List<Instant> minutes) {
+    return hPersistence.createQuery(CompositeSLORecordBucket.class, excludeAuthorityCount)
+        .filter(CompositeSLORecordBucketKeys.verificationTaskId, verificationTaskId)
+        .field(CompositeSLORecordBucketKeys.bucketStartTime)
+        .in(minutes)
+        .order(Sort.ascending(CompositeSLORecordBucketKeys.bucketStartTime))
+        .asList(new FindOptions().readPreference(ReadPreference.secondaryPreferred()));
+  }
+
+  // The running counts of the buckets make the boundary buckets enough for the values of the range, so only those and
+  // the buckets of the downsampled minutes in between are read, however long the range is.
+  @Override
+  public List<CompositeSLORecordBucket> getSLORecordBucketsForFilterRange(
+      String verificationTaskId, Instant startTime, Instant endTime, TimeRangeParams filter, long numOfPoints) {
+    CompositeSLORecordBucket firstRecord = getFirstCompositeSLORecordBucket(verificationTaskId, startTime);
+    CompositeSLORecordBucket lastRecord = getLastCompositeSLORecordBucket(verificationTaskId, endTime);
+    CompositeSLORecordBucket firstRecordInRange = firstRecord;
+    CompositeSLORecordBucket lastRecordInRange = lastRecord;
+    if (!filter.getStartTime().equals(startTime)) {
+      firstRecordInRange = getFirstCompositeSLORecordBucket(verificationTaskId, filter.getStartTime());
+    }
+    if (!filter.getEndTime().equals(endTime)) {
+      lastRecordInRange = getLastCompositeSLORecordBucket(verificationTaskId, filter.getEndTime());
+    }
+    if (firstRecord == null || lastRecord == null || firstRecordInRange == null || lastRecordInRange == null) {
+      return Collections.emptyList();
+    }
+    List<Instant> minutes = SLOGraphUtils.getBucketMinutesExclusiveOfStartAndEndTime(
+        firstRecordInRange.getBucketStartTime(), lastRecordInRange.getBucketStartTime(), numOfPoints,
+        SLI_RECORD_BUCKET_SIZE);
+    List<CompositeSLORecordBucket> sloRecordBuckets = new ArrayList<>();
+    sloRecordBuckets.add(firstRecord);
+    sloRecordBuckets.add(firstRecordInRange);
+    if (!minutes.isEmpty()) {
+      sloRecordBuckets.addAll(getSLORecordBucketsOfMinutes(verificationTaskId, minutes));
+    }
+    sloRecordBuckets.add(lastRecordInRange);
+    sloRecordBuckets.add(lastRecord);
+    return sloRecordBuckets.stream()
+        .collect(Collectors.toMap(CompositeSLORecordBucket::getBucketStartTime, Function.identity(),
+            (sloRecordBucket1, sloRecordBucket2)
+                -> sloRecordBucket1.getLastUpdatedAt() > sloRecordBucket2.getLastUpdatedAt() ? sloRecordBucket1
+                                                                                             : sloRecordBucket2))
+        .values()
+        .stream()
+        .sorted(Comparator.comparing(CompositeSLORecordBucket::getBucketStartTime))
+        .collect(Collectors.toList());
+  }
+
   @RetryOnException(retryCount = RETRY_COUNT, retryOn = ConcurrentModificationException.class)
   public void updateCompositeSLORecords(
       Map<ServiceLevelObjectivesDetail, List<SLIRecordBucket>> serviceLevelObjectivesDetailCompositeSLORecordMap,
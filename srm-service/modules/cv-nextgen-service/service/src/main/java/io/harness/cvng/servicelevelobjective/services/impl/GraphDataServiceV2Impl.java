@@ -23,16 +23,20 @@ import io.harness.cvng.servicelevelobjective.beans.SLIEvaluationType;
 import io.harness.cvng.servicelevelobjective.beans.SLIMissingDataType;
 import io.harness.cvng.servicelevelobjective.beans.SLIValue;
 import io.harness.cvng.servicelevelobjective.beans.SLODashboardWidget;
+import io.harness.cvng.servicelevelobjective.beans.SLOValue;
 import io.harness.cvng.servicelevelobjective.beans.ServiceLevelObjectiveType;
 import io.harness.cvng.servicelevelobjective.entities.AbstractServiceLevelObjective;
+import io.harness.cvng.servicelevelobjective.entities.CompositeSLORecordBucket;
 import io.harness.cvng.servicelevelobjective.entities.CompositeServiceLevelObjective;
 import io.harness.cvng.servicelevelobjective.entities.SLIRecordBucket;
 import io.harness.cvng.servicelevelobjective.entities.SLIRecordCount;
 import io.harness.cvng.servicelevelobjective.entities.ServiceLevelIndicator;
 import io.harness.cvng.servicelevelobjective.entities.SimpleServiceLevelObjective;
+import io.harness.cvng.servicelevelobjective.services.api.CompositeSLORecordBucketService;
 import io.harness.cvng.servicelevelobjective.services.api.GraphDataServiceV2;
 import io.harness.cvng.servicelevelobjective.services.api.SLIRecordBucketService;
 import io.harness.cvng.servicelevelobjective.services.api.ServiceLevelIndicatorService;
+import io.harness.cvng.servicelevelobjective.services.api.ServiceLevelObjectiveV2Service;
 
 import com.google.common.base.Preconditions;
 import com.google.inject.Inject;
@@ -51,6 +55,8 @@ public class GraphDataServiceV2Impl implements GraphDataServiceV2 {
   public static final int CALCULATING_STATE_SLI_MINUTES = 10;
   @Inject ServiceLevelIndicatorService serviceLevelIndicatorService;
   @Inject SLIRecordBucketService sliRecordBucketService;
+  @Inject CompositeSLORecordBucketService compositeSLORecordBucketService;
+  @Inject ServiceLevelObjectiveV2Service serviceLevelObjectiveV2Service;
   @Inject MonitoredServiceService monitoredServiceService;
   @Inject EntityDisabledTimeService entityDisabledTimeService;
   @Inject GraphDataServiceImpl graphDataServiceImpl;
@@ -70,8 +76,8 @@ public class GraphDataServiceV2Impl implements GraphDataServiceV2 {
     if (serviceLevelObjective.getType().equals(ServiceLevelObjectiveType.COMPOSITE)) {
       CompositeServiceLevelObjective compositeServiceLevelObjective =
           (CompositeServiceLevelObjective) serviceLevelObjective;
-      return graphDataServiceImpl.getGraphDataForCompositeSLO(compositeServiceLevelObjective, startTime, endTime,
-          totalErrorBudgetMinutes, compositeServiceLevelObjective.getVersion(), filter, numOfDataPointsInBetween);
+      return getGraphDataForCompositeSLO(compositeServiceLevelObjective, startTime, endTime, totalErrorBudgetMinutes,
+          filter, numOfDataPointsInBetween);
 
     } else {
       SimpleServiceLevelObjective simpleServiceLevelObjective = (SimpleServiceLevelObjective) serviceLevelObjective;
@@ -191,6 +197,146 @@ public class GraphDataServiceV2Impl implements GraphDataServiceV2 {
         .build();
   }
 
+  public SLODashboardWidget.SLOGraphData getGraphDataForCompositeSLO(
+      CompositeServiceLevelObjective compositeServiceLevelObjective, Instant startTime, Instant endTime,
+      int totalErrorBudgetMinutes, TimeRangeParams filter, long numOfDataPointsInBetween) {
+    Preconditions.checkState(totalErrorBudgetMinutes != 0, "Total error budget minutes should not be zero.");
+    if (Objects.isNull(filter)) {
+      filter = TimeRangeParams.builder().startTime(startTime).endTime(endTime).build();
+    }
+    int sloVersion = compositeServiceLevelObjective.getVersion();
+    List<CompositeSLORecordBucket> sloRecordBuckets = compositeSLORecordBucketService.getSLORecordBucketsForFilterRange(
+        compositeServiceLevelObjective.getUuid(), startTime, endTime, filter, numOfDataPointsInBetween);
+    CompositeSLORecordBucket baselineSLORecordBucket = compositeSLORecordBucketService.getLastCompositeSLORecordBucket(
+        compositeServiceLevelObjective.getUuid(), startTime);
+    if (!isRangeCoveredByBuckets(sloRecordBuckets, baselineSLORecordBucket, startTime)) {
+      // The buckets are written after the records of the composite SLO and are not backfilled, so the records are read
+      // when the buckets start later than the range.
+      return graphDataServiceImpl.getGraphDataForCompositeSLO(compositeServiceLevelObjective, startTime, endTime,
+          totalErrorBudgetMinutes, sloVersion, filter, numOfDataPointsInBetween);
+    }
+    SLIEvaluationType evaluationType = compositeServiceLevelObjective.getSliEvaluationType();
+    List<SLODashboardWidget.Point> sloTrend = new ArrayList<>();
+    List<SLODashboardWidget.Point> errorBudgetBurndown = new ArrayList<>();
+    if (Objects.isNull(baselineSLORecordBucket)) {
+      baselineSLORecordBucket = sloRecordBuckets.get(0);
+    }
+    SLOValue sloValue = null;
+    for (CompositeSLORecordBucket sloRecordBucket : sloRecordBuckets) {
+      if (sloRecordBucket.getSloVersion() != sloVersion) {
+        return SLODashboardWidget.SLOGraphData
+            .getSloGraphDataBuilder(100, totalErrorBudgetMinutes, errorBudgetBurndown, sloTrend, true, false,
+                totalErrorBudgetMinutes)
+            .build();
+      }
+      long bucketEndTime =
+          sloRecordBucket.getBucketStartTime().plus(SLI_RECORD_BUCKET_SIZE - 1, ChronoUnit.MINUTES).toEpochMilli();
+      sloValue = SLOValue.builder()
+                     .goodCount(getRunningCount(sloRecordBucket.getRunningGoodCount())
+                         - getRunningCount(baselineSLORecordBucket.getRunningGoodCount()))
+                     .badCount(getRunningCount(sloRecordBucket.getRunningBadCount())
+                         - getRunningCount(baselineSLORecordBucket.getRunningBadCount()))
+                     .build();
+      sloTrend.add(SLODashboardWidget.Point.builder()
+                       .timestamp(bucketEndTime)
+                       .value(getSLOValue(sloValue, compositeServiceLevelObjective, sloRecordBucket,
+                           baselineSLORecordBucket, evaluationType))
+                       .enabled(true)
+                       .build());
+      errorBudgetBurndown.add(SLODashboardWidget.Point.builder()
+                                  .timestamp(bucketEndTime)
+                                  .value(getBudgetBurnDown(sloValue, totalErrorBudgetMinutes,
+                                      compositeServiceLevelObjective, sloRecordBucket, baselineSLORecordBucket,
+                                      evaluationType))
+                                  .enabled(true)
+                                  .build());
+    }
+    double errorBudgetRemainingPercentage = errorBudgetBurndown.get(errorBudgetBurndown.size() - 1).getValue();
+    int errorBudgetRemaining =
+        windowAndMetricLessSLO.contains(evaluationType) ? totalErrorBudgetMinutes - (int) sloValue.getBadCount() : 0;
+    int totalErrorBudget = windowAndMetricLessSLO.contains(evaluationType) ? totalErrorBudgetMinutes : 0;
+    return SLODashboardWidget.SLOGraphData
+        .getSloGraphDataBuilder(errorBudgetRemainingPercentage, errorBudgetRemaining,
+            filterWidgetPoints(errorBudgetBurndown, filter), filterWidgetPoints(sloTrend, filter), false, false,
+            totalErrorBudget)
+        .evaluationType(evaluationType)
+        .build();
+  }
+
+  private boolean isRangeCoveredByBuckets(List<CompositeSLORecordBucket> sloRecordBuckets,
+      CompositeSLORecordBucket baselineSLORecordBucket, Instant startTime) {
+    if (sloRecordBuckets.isEmpty()) {
+      return false;
+    }
+    if (Objects.nonNull(baselineSLORecordBucket)) {
+      return true;
+    }
+    return sloRecordBuckets.get(0).getBucketStartTime().isBefore(
+        startTime.plus(SLI_RECORD_BUCKET_SIZE, ChronoUnit.MINUTES));
+  }
+
+  private double getSLOValue(SLOValue sloValue, CompositeServiceLevelObjective compositeServiceLevelObjective,
+      CompositeSLORecordBucket sloRecordBucket, CompositeSLORecordBucket baselineSLORecordBucket,
+      SLIEvaluationType evaluationType) {
+    if (windowAndMetricLessSLO.contains(evaluationType)) {
+      return sloValue.sloPercentage();
+    }
+    double sloPercentage = 0.0;
+    for (CompositeServiceLevelObjective.ServiceLevelObjectivesDetail serviceLevelObjectivesDetail :
+        compositeServiceLevelObjective.getServiceLevelObjectivesDetails()) {
+      Double weightage = serviceLevelObjectivesDetail.getWeightagePercentage() / 100;
+      sloPercentage += weightage
+          * getSLIValue(serviceLevelObjectivesDetail, sloRecordBucket, baselineSLORecordBucket).sliPercentage();
+    }
+    return sloPercentage;
+  }
+
+  private double getBudgetBurnDown(SLOValue sloValue, int totalErrorBudgetMinutes,
+      CompositeServiceLevelObjective compositeServiceLevelObjective, CompositeSLORecordBucket sloRecordBucket,
+      CompositeSLORecordBucket baselineSLORecordBucket, SLIEvaluationType evaluationType) {
+    if (windowAndMetricLessSLO.contains(evaluationType)) {
+      return ((totalErrorBudgetMinutes - sloValue.getBadCount()) * 100.0) / totalErrorBudgetMinutes;
+    }
+    double sloErrorBudgetBurnDown = 0.0;
+    for (CompositeServiceLevelObjective.ServiceLevelObjectivesDetail serviceLevelObjectivesDetail :
+        compositeServiceLevelObjective.getServiceLevelObjectivesDetails()) {
+      Double weightage = serviceLevelObjectivesDetail.getWeightagePercentage() / 100;
+      SLIValue sliValue = getSLIValue(serviceLevelObjectivesDetail, sloRecordBucket, baselineSLORecordBucket);
+      double totalErrorBudget =
+          (sliValue.getTotal() * (100 - compositeServiceLevelObjective.getSloTargetPercentage())) / 100;
+      double errorBudgetBurned = 100.0;
+      if (totalErrorBudget != 0.0) {
+        errorBudgetBurned = ((totalErrorBudget - sliValue.getBadCount()) * 100) / totalErrorBudget;
+      }
+      sloErrorBudgetBurnDown += weightage * errorBudgetBurned;
+    }
+    return sloErrorBudgetBurnDown;
+  }
+
+  // The buckets of request based composite SLOs keep the buckets of their SLIs, whose running counts give the SLI
+  // value since the baseline. A bucket without the SLI, which only had skipped data, counts as one without requests.
+  private SLIValue getSLIValue(CompositeServiceLevelObjective.ServiceLevelObjectivesDetail serviceLevelObjectivesDetail,
+      CompositeSLORecordBucket sloRecordBucket, CompositeSLORecordBucket baselineSLORecordBucket) {
+    String scopedIdentifier = serviceLevelObjectiveV2Service.getScopedIdentifier(serviceLevelObjectivesDetail);
+    SLIRecordBucket sliRecordBucket = getSLIRecordBucket(sloRecordBucket, scopedIdentifier);
+    SLIRecordBucket baselineSLIRecordBucket = getSLIRecordBucket(baselineSLORecordBucket, scopedIdentifier);
+    if (Objects.isNull(sliRecordBucket) || Objects.isNull(baselineSLIRecordBucket)) {
+      return SLIValue.builder().build();
+    }
+    return SLIValue.getRunningCountDifferenceForCompositeSLO(sliRecordBucket, baselineSLIRecordBucket);
+  }
+
+  private static SLIRecordBucket getSLIRecordBucket(CompositeSLORecordBucket sloRecordBucket, String scopedIdentifier) {
+    if (Objects.isNull(sloRecordBucket.getScopedIdentifierSLIRecordBucketMap())) {
+      return null;
+    }
+    return sloRecordBucket.getScopedIdentifierSLIRecordBucketMap().get(scopedIdentifier);
+  }
+
+  private static double getRunningCount(Double runningCount) {
+    return Objects.isNull(runningCount) ? 0 : runningCount;
+  }
+
   private static boolean isBucketWithinFilterRange(TimeRangeParams filter, SLIRecordBucket currentSLIRecordBucket) {
     return !filter.getStartTime().isAfter(currentSLIRecordBucket.getBucketStartTime());
   }
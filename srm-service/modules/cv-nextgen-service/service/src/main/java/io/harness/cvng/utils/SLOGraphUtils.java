@@ -61,13 +61,14 @@ public class SLOGraphUtils {
     return minutes;
   }
 
+  // The smallest multiple of the bucket size which leaves at most the required number of points in between, which is
+  // the one just above totalMinutes / (numOfPointsRequiredInBetween + 1). It is computed directly, as stepping through
+  // the multiples takes a step per bucket of the range when no points are required in between.
   private static Duration getDiffDuration(long numOfPointsRequiredInBetween, int bucketSize, long totalMinutes) {
-    long bucketInterval = bucketSize;
-    long currentNumOfPoints = totalMinutes / bucketInterval;
-    while (currentNumOfPoints > numOfPointsRequiredInBetween) {
-      bucketInterval += bucketSize;
-      currentNumOfPoints = totalMinutes / bucketInterval;
+    long numOfBuckets = 1;
+    if (totalMinutes > 0) {
+      numOfBuckets = totalMinutes / ((Math.max(numOfPointsRequiredInBetween, 0) + 1) * bucketSize) + 1;
     }
-    return Duration.ofMinutes(bucketInterval);
+    return Duration.ofMinutes(numOfBuckets * bucketSize);
   }
 }
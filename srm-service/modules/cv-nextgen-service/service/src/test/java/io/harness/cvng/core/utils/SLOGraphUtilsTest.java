@@ -69,4 +69,16 @@ public class SLOGraphUtilsTest extends CvNextGenTestBase {
     assertThat(minutes.size()).isEqualTo(1007); // the intervals will be 10 mins instead of 5
     assertThat(minutes.get(0)).isEqualTo(startTime.plus(10, ChronoUnit.MINUTES));
   }
+
+  @Test
+  @Owner(developers = ANSUMAN)
+  @Category(UnitTests.class)
+  public void testGetBucketMinutesForLongRange() {
+    Instant startTime = clock.instant();
+    Instant endTime = clock.instant().plus(90, ChronoUnit.DAYS);
+    assertThat(SLOGraphUtils.getBucketMinutesExclusiveOfStartAndEndTime(startTime, endTime, 0L, 5)).isEmpty();
+    List<Instant> minutes = SLOGraphUtils.getBucketMinutesExclusiveOfStartAndEndTime(startTime, endTime, 1000, 5);
+    assertThat(minutes.size()).isEqualTo(996); // the intervals will be 130 mins, the smallest multiple of 5 needed
+    assertThat(minutes.get(0)).isEqualTo(startTime.plus(130, ChronoUnit.MINUTES));
+  }
 }
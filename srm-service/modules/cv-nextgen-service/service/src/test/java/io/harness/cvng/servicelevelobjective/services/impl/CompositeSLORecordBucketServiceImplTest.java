@@ -19,6 +19,7 @@ import io.harness.CvNextGenTestBase;
 import io.harness.category.element.UnitTests;
 import io.harness.cvng.BuilderFactory;
 import io.harness.cvng.core.beans.monitoredService.MonitoredServiceDTO;
+import io.harness.cvng.core.beans.params.TimeRangeParams;
 import io.harness.cvng.core.services.api.monitoredService.MonitoredServiceService;
 import io.harness.cvng.servicelevelobjective.beans.CompositeSLOFormulaType;
 import io.harness.cvng.servicelevelobjective.beans.SLIEvaluationType;
@@ -975,6 +976,39 @@ public class CompositeSLORecordBucketServiceImplTest extends CvNextGenTestBase {
     assertThat(updatedLastRecord.getRunningGoodCount()).isEqualTo(3.0);
   }
 
+  @Test
+  @Owner(developers = ANSUMAN)
+  @Category(UnitTests.class)
+  public void testGetSLORecordBucketsForFilterRange() {
+    Instant start = TIME_FOR_TESTS.minus(1, ChronoUnit.DAYS);
+    List<CompositeSLORecordBucket> sloRecordBuckets = new ArrayList<>();
+    double runningCount = 0;
+    for (Instant instant = start; instant.isBefore(TIME_FOR_TESTS);
+         instant = instant.plus(SLI_RECORD_BUCKET_SIZE, ChronoUnit.MINUTES)) {
+      runningCount += 1;
+      sloRecordBuckets.add(CompositeSLORecordBucket.builder()
+                               .verificationTaskId(verificationTaskId)
+                               .runningGoodCount(runningCount)
+                               .runningBadCount(0.0)
+                               .bucketStartTime(instant)
+                               .build());
+    }
+    hPersistence.saveBatch(sloRecordBuckets);
+    Instant filterStart = start.plus(1, ChronoUnit.HOURS);
+    Instant filterEnd = TIME_FOR_TESTS.minus(1, ChronoUnit.HOURS);
+
+    List<CompositeSLORecordBucket> sloRecordBucketsForRange = sloRecordService.getSLORecordBucketsForFilterRange(
+        verificationTaskId, start, TIME_FOR_TESTS,
+        TimeRangeParams.builder().startTime(filterStart).endTime(filterEnd).build(), 10);
+
+    assertThat(sloRecordBucketsForRange.size()).isEqualTo(14);
+    assertThat(sloRecordBucketsForRange.get(0).getBucketStartTime()).isEqualTo(start);
+    assertThat(sloRecordBucketsForRange.get(1).getBucketStartTime()).isEqualTo(filterStart);
+    assertThat(sloRecordBucketsForRange.get(12).getBucketStartTime())
+        .isEqualTo(filterEnd.minus(SLI_RECORD_BUCKET_SIZE, ChronoUnit.MINUTES));
+    assertThat(sloRecordBucketsForRange.get(13).getRunningGoodCount()).isEqualTo(288.0);
+  }
+
   private List<SLIRecordBucket> createSLIRecordBuckets(String sliId, List<SLIState> states) {
     if (states.size() % SLI_RECORD_BUCKET_SIZE != 0) {
       throw new RuntimeException("The SLI Records are of incorrect Length");
@@ -33,6 +33,7 @@ import io.harness.cvng.core.entities.MonitoredService;
 import io.harness.cvng.core.services.api.EntityDisabledTimeService;
 import io.harness.cvng.core.services.api.monitoredService.MonitoredServiceService;
 import io.harness.cvng.core.utils.DateTimeUtils;
+import io.harness.cvng.servicelevelobjective.beans.SLIEvaluationType;
 import io.harness.cvng.servicelevelobjective.beans.SLIMissingDataType;
 import io.harness.cvng.servicelevelobjective.beans.SLODashboardWidget;
 import io.harness.cvng.servicelevelobjective.beans.ServiceLevelIndicatorDTO;
@@ -47,7 +48,10 @@ import io.harness.cvng.servicelevelobjective.entities.ServiceLevelIndicator;
 import io.harness.cvng.servicelevelobjective.entities.ServiceLevelIndicator.ServiceLevelIndicatorKeys;
 import io.harness.cvng.servicelevelobjective.entities.SimpleServiceLevelObjective;
 import io.harness.cvng.servicelevelobjective.entities.TimePeriod;
+import io.harness.cvng.servicelevelobjective.services.api.CompositeSLORecordBucketService;
+import io.harness.cvng.servicelevelobjective.services.api.CompositeSLORecordService;
 import io.harness.cvng.servicelevelobjective.services.api.SLIRecordBucketService;
+import io.harness.cvng.servicelevelobjective.services.api.SLIRecordService;
 import io.harness.cvng.servicelevelobjective.services.api.ServiceLevelIndicatorService;
 import io.harness.cvng.servicelevelobjective.services.api.ServiceLevelObjectiveV2Service;
 import io.harness.persistence.HPersistence;
@@ -71,17 +75,22 @@ import org.junit.experimental.categories.Category;
 
 public class GraphDataServiceV2ImplTest extends CvNextGenTestBase {
   @Inject GraphDataServiceV2Impl graphDataServiceV2;
+  @Inject GraphDataServiceImpl graphDataService;
   @Inject private Clock clock;
   @Inject private EntityDisabledTimeService entityDisabledTimeService;
   @Inject private MonitoredServiceService monitoredServiceService;
   @Inject private ServiceLevelIndicatorService serviceLevelIndicatorService;
   @Inject private ServiceLevelObjectiveV2Service serviceLevelObjectiveV2Service;
   @Inject private SLIRecordBucketService sliRecordBucketService;
+  @Inject private SLIRecordService sliRecordService;
+  @Inject private CompositeSLORecordService compositeSLORecordService;
+  @Inject private CompositeSLORecordBucketService compositeSLORecordBucketService;
   private MonitoredService monitoredService;
   private String sliId;
 
   private String sliId2;
   private SimpleServiceLevelObjective simpleServiceLevelObjective1;
+  private SimpleServiceLevelObjective simpleServiceLevelObjective2;
 
   private SimpleServiceLevelObjective simpleRequestServiceLevelObjective;
   @Inject private HPersistence hPersistence;
@@ -140,9 +149,8 @@ public class GraphDataServiceV2ImplTest extends CvNextGenTestBase {
     simpleServiceLevelObjectiveSpec2.setHealthSourceRef(generateUuid());
     simpleServiceLevelObjectiveDTO2.setSpec(simpleServiceLevelObjectiveSpec2);
     serviceLevelObjectiveV2Service.create(builderFactory.getProjectParams(), simpleServiceLevelObjectiveDTO2);
-    SimpleServiceLevelObjective simpleServiceLevelObjective2 =
-        (SimpleServiceLevelObjective) serviceLevelObjectiveV2Service.getEntity(
-            builderFactory.getProjectParams(), simpleServiceLevelObjectiveDTO2.getIdentifier());
+    simpleServiceLevelObjective2 = (SimpleServiceLevelObjective) serviceLevelObjectiveV2Service.getEntity(
+        builderFactory.getProjectParams(), simpleServiceLevelObjectiveDTO2.getIdentifier());
 
     ServiceLevelObjectiveV2DTO serviceLevelObjectiveV2DTO =
         builderFactory.getCompositeServiceLevelObjectiveV2DTOBuilder()
@@ -475,6 +483,93 @@ public class GraphDataServiceV2ImplTest extends CvNextGenTestBase {
     testGraphCalculation(sliStates, expectedSLITrend, expectedBurndown, 90);
   }
 
+  @Test
+  @Owner(developers = VARSHA_LALWANI)
+  @Category(UnitTests.class)
+  public void testGetGraphDataForCompositeSLO_matchesRecords() {
+    List<SLIState> sliStates1 =
+        Arrays.asList(GOOD, BAD, GOOD, GOOD, BAD, GOOD, GOOD, BAD, BAD, GOOD, GOOD, GOOD, BAD, GOOD, GOOD);
+    List<SLIState> sliStates2 =
+        Arrays.asList(BAD, GOOD, GOOD, BAD, GOOD, BAD, GOOD, GOOD, GOOD, BAD, GOOD, BAD, GOOD, GOOD, GOOD);
+    Instant dataStartTime = DateTimeUtils.roundDownTo5MinBoundary(clock.instant()).minus(Duration.ofMinutes(15));
+    createRecordsAndBuckets(getSLIId(simpleServiceLevelObjective1), getSLIRecordParam(dataStartTime, sliStates1));
+    createRecordsAndBuckets(getSLIId(simpleServiceLevelObjective2), getSLIRecordParam(dataStartTime, sliStates2));
+    Instant dataEndTime = dataStartTime.plus(Duration.ofMinutes(sliStates1.size()));
+    compositeSLORecordService.create(compositeServiceLevelObjective, dataStartTime, dataEndTime, verificationTaskId);
+    compositeSLORecordBucketService.create(
+        compositeServiceLevelObjective, dataStartTime, dataEndTime, verificationTaskId);
+
+    assertCompositeGraphDataMatchesRecords(
+        compositeServiceLevelObjective, dataStartTime.plus(Duration.ofMinutes(5)), dataEndTime);
+  }
+
+  @Test
+  @Owner(developers = VARSHA_LALWANI)
+  @Category(UnitTests.class)
+  public void testGetGraphDataForCompositeSLO_requestMatchesRecords() {
+    SimpleServiceLevelObjective simpleRequestServiceLevelObjective2 = createSimpleRequestServiceLevelObjective();
+    CompositeServiceLevelObjective requestCompositeServiceLevelObjective =
+        createRequestCompositeServiceLevelObjective(simpleRequestServiceLevelObjective2);
+    List<SLIState> sliStates = Collections.nCopies(15, GOOD);
+    List<Long> goodCounts1 = Arrays.asList(100L, 95L, 80L, 100L, 100L, 90L, 70L, 100L, 60L, 100L, 100L, 85L, 100L,
+        100L, 40L);
+    List<Long> badCounts1 = Arrays.asList(0L, 5L, 20L, 100L, 20L, 10L, 30L, 0L, 40L, 0L, 0L, 15L, 0L, 50L, 60L);
+    List<Long> goodCounts2 = Arrays.asList(50L, 50L, 100L, 90L, 0L, 80L, 100L, 100L, 20L, 100L, 75L, 100L, 100L,
+        90L, 100L);
+    List<Long> badCounts2 = Arrays.asList(50L, 0L, 0L, 10L, 0L, 20L, 0L, 100L, 80L, 0L, 25L, 0L, 0L, 10L, 0L);
+    Instant dataStartTime = DateTimeUtils.roundDownTo5MinBoundary(clock.instant()).minus(Duration.ofMinutes(15));
+    createRecordsAndBuckets(getSLIId(simpleRequestServiceLevelObjective),
+        getSLIRecordParam(dataStartTime, sliStates, goodCounts1, badCounts1));
+    createRecordsAndBuckets(getSLIId(simpleRequestServiceLevelObjective2),
+        getSLIRecordParam(dataStartTime, sliStates, goodCounts2, badCounts2));
+    Instant dataEndTime = dataStartTime.plus(Duration.ofMinutes(sliStates.size()));
+    String requestVerificationTaskId = requestCompositeServiceLevelObjective.getUuid();
+    compositeSLORecordService.create(
+        requestCompositeServiceLevelObjective, dataStartTime, dataEndTime, requestVerificationTaskId);
+    compositeSLORecordBucketService.create(
+        requestCompositeServiceLevelObjective, dataStartTime, dataEndTime, requestVerificationTaskId);
+
+    assertCompositeGraphDataMatchesRecords(
+        requestCompositeServiceLevelObjective, dataStartTime.plus(Duration.ofMinutes(5)), dataEndTime);
+  }
+
+  @Test
+  @Owner(developers = VARSHA_LALWANI)
+  @Category(UnitTests.class)
+  public void testGetGraphDataForCompositeSLO_bucketsStartAfterRange() {
+    List<SLIState> sliStates1 =
+        Arrays.asList(GOOD, BAD, GOOD, GOOD, BAD, GOOD, GOOD, BAD, BAD, GOOD, GOOD, GOOD, BAD, GOOD, GOOD);
+    List<SLIState> sliStates2 =
+        Arrays.asList(BAD, GOOD, GOOD, BAD, GOOD, BAD, GOOD, GOOD, GOOD, BAD, GOOD, BAD, GOOD, GOOD, GOOD);
+    Instant dataStartTime = DateTimeUtils.roundDownTo5MinBoundary(clock.instant()).minus(Duration.ofMinutes(15));
+    Instant bucketStartTime = dataStartTime.plus(Duration.ofMinutes(10));
+    Instant dataEndTime = dataStartTime.plus(Duration.ofMinutes(sliStates1.size()));
+    String sliId1 = getSLIId(simpleServiceLevelObjective1);
+    String sliId2 = getSLIId(simpleServiceLevelObjective2);
+    List<SLIRecordParam> sliRecordParams1 = getSLIRecordParam(dataStartTime, sliStates1);
+    List<SLIRecordParam> sliRecordParams2 = getSLIRecordParam(dataStartTime, sliStates2);
+    sliRecordService.create(sliRecordParams1, sliId1, verificationTaskId, 0);
+    sliRecordService.create(sliRecordParams2, sliId2, verificationTaskId, 0);
+    compositeSLORecordService.create(compositeServiceLevelObjective, dataStartTime, dataEndTime, verificationTaskId);
+    // the buckets were only written from the last five minutes onwards
+    sliRecordBucketService.create(sliRecordParams1.subList(10, 15), sliId1, 0);
+    sliRecordBucketService.create(sliRecordParams2.subList(10, 15), sliId2, 0);
+    compositeSLORecordBucketService.create(
+        compositeServiceLevelObjective, bucketStartTime, dataEndTime, verificationTaskId);
+
+    Instant startTime = dataStartTime.plus(Duration.ofMinutes(1));
+    TimeRangeParams filter = TimeRangeParams.builder().startTime(startTime).endTime(dataEndTime).build();
+    SLODashboardWidget.SLOGraphData expectedGraphData = graphDataService.getGraphDataForCompositeSLO(
+        compositeServiceLevelObjective, startTime, dataEndTime, 100, 0, filter, MAX_NUMBER_OF_POINTS);
+    SLODashboardWidget.SLOGraphData sloGraphData = graphDataServiceV2.getGraphDataForCompositeSLO(
+        compositeServiceLevelObjective, startTime, dataEndTime, 100, filter, MAX_NUMBER_OF_POINTS);
+
+    assertThat(sloGraphData.getSloPerformanceTrend()).hasSize(expectedGraphData.getSloPerformanceTrend().size());
+    assertPointsMatch(sloGraphData.getSloPerformanceTrend(), expectedGraphData.getSloPerformanceTrend());
+    assertPointsMatch(sloGraphData.getErrorBudgetBurndown(), expectedGraphData.getErrorBudgetBurndown());
+    assertThat(sloGraphData.getErrorBudgetRemaining()).isEqualTo(expectedGraphData.getErrorBudgetRemaining());
+  }
+
   private void testGraphCalculation(List<SLIState> sliStates, SLIMissingDataType sliMissingDataType,
       List<Double> expectedSLITrend, List<Double> expectedBurndown, int expectedErrorBudgetRemaining,
       long customMinutesStart, long customMinutesEnd) {
@@ -572,4 +667,88 @@ public class GraphDataServiceV2ImplTest extends CvNextGenTestBase {
     assertThat(sloGraphData.isRecalculatingSLI()).isFalse();
     assertThat(sloGraphData.getTotalErrorBudgetFromGraph()).isEqualTo(expectedErrorBudget);
   }
+
+  private String getSLIId(SimpleServiceLevelObjective simpleServiceLevelObjective) {
+    return serviceLevelIndicatorService
+        .getServiceLevelIndicator(
+            builderFactory.getProjectParams(), simpleServiceLevelObjective.getServiceLevelIndicators().get(0))
+        .getUuid();
+  }
+
+  private void createRecordsAndBuckets(String sliId, List<SLIRecordParam> sliRecordParams) {
+    sliRecordService.create(sliRecordParams, sliId, verificationTaskId, 0);
+    sliRecordBucketService.create(sliRecordParams, sliId, 0);
+  }
+
+  private SimpleServiceLevelObjective createSimpleRequestServiceLevelObjective() {
+    ServiceLevelObjectiveV2DTO simpleRequestServiceLevelObjectiveDTO =
+        builderFactory.getSimpleRequestServiceLevelObjectiveV2DTOBuilder().identifier("requestSloIdentifier2").build();
+    SimpleServiceLevelObjectiveSpec simpleRequestServiceLevelObjectiveSpec =
+        (SimpleServiceLevelObjectiveSpec) simpleRequestServiceLevelObjectiveDTO.getSpec();
+    simpleRequestServiceLevelObjectiveSpec.setMonitoredServiceRef(monitoredService.getIdentifier());
+    simpleRequestServiceLevelObjectiveSpec.setHealthSourceRef(generateUuid());
+    simpleRequestServiceLevelObjectiveDTO.setSpec(simpleRequestServiceLevelObjectiveSpec);
+    serviceLevelObjectiveV2Service.create(builderFactory.getProjectParams(), simpleRequestServiceLevelObjectiveDTO);
+    return (SimpleServiceLevelObjective) serviceLevelObjectiveV2Service.getEntity(
+        builderFactory.getProjectParams(), simpleRequestServiceLevelObjectiveDTO.getIdentifier());
+  }
+
+  private CompositeServiceLevelObjective createRequestCompositeServiceLevelObjective(
+      SimpleServiceLevelObjective simpleRequestServiceLevelObjective2) {
+    ServiceLevelObjectiveV2DTO requestServiceLevelObjectiveV2DTO =
+        builderFactory.getCompositeServiceLevelObjectiveV2DTOBuilder()
+            .identifier("requestCompositeSLOIdentifier")
+            .spec(CompositeServiceLevelObjectiveSpec.builder()
+                      .evaluationType(SLIEvaluationType.REQUEST)
+                      .serviceLevelObjectivesDetails(Arrays.asList(
+                          ServiceLevelObjectiveDetailsDTO.builder()
+                              .serviceLevelObjectiveRef(simpleRequestServiceLevelObjective.getIdentifier())
+                              .weightagePercentage(75.0)
+                              .accountId(simpleRequestServiceLevelObjective.getAccountId())
+                              .orgIdentifier(simpleRequestServiceLevelObjective.getOrgIdentifier())
+                              .projectIdentifier(simpleRequestServiceLevelObjective.getProjectIdentifier())
+                              .build(),
+                          ServiceLevelObjectiveDetailsDTO.builder()
+                              .serviceLevelObjectiveRef(simpleRequestServiceLevelObjective2.getIdentifier())
+                              .weightagePercentage(25.0)
+                              .accountId(simpleRequestServiceLevelObjective2.getAccountId())
+                              .orgIdentifier(simpleRequestServiceLevelObjective2.getOrgIdentifier())
+                              .projectIdentifier(simpleRequestServiceLevelObjective2.getProjectIdentifier())
+                              .build()))
+                      .build())
+            .build();
+    serviceLevelObjectiveV2Service.create(builderFactory.getProjectParams(), requestServiceLevelObjectiveV2DTO);
+    return (CompositeServiceLevelObjective) serviceLevelObjectiveV2Service.getEntity(
+        builderFactory.getProjectParams(), requestServiceLevelObjectiveV2DTO.getIdentifier());
+  }
+
+  private void assertCompositeGraphDataMatchesRecords(
+      CompositeServiceLevelObjective compositeServiceLevelObjective, Instant startTime, Instant endTime) {
+    TimeRangeParams filter = TimeRangeParams.builder().startTime(startTime).endTime(endTime).build();
+    SLODashboardWidget.SLOGraphData expectedGraphData =
+        graphDataService.getGraphDataForCompositeSLO(compositeServiceLevelObjective, startTime, endTime, 100,
+            compositeServiceLevelObjective.getVersion(), filter, MAX_NUMBER_OF_POINTS);
+    SLODashboardWidget.SLOGraphData sloGraphData = graphDataServiceV2.getGraphDataForCompositeSLO(
+        compositeServiceLevelObjective, startTime, endTime, 100, filter, MAX_NUMBER_OF_POINTS);
+
+    // one point per bucket, stamped with the last minute of the bucket
+    assertThat(sloGraphData.getSloPerformanceTrend()).hasSize(2);
+    assertPointsMatch(sloGraphData.getSloPerformanceTrend(), expectedGraphData.getSloPerformanceTrend());
+    assertPointsMatch(sloGraphData.getErrorBudgetBurndown(), expectedGraphData.getErrorBudgetBurndown());
+    assertThat(sloGraphData.getErrorBudgetRemainingPercentage())
+        .isCloseTo(expectedGraphData.getErrorBudgetRemainingPercentage(), offset(0.01));
+    assertThat(sloGraphData.getErrorBudgetRemaining()).isEqualTo(expectedGraphData.getErrorBudgetRemaining());
+    assertThat(sloGraphData.getEvaluationType()).isEqualTo(compositeServiceLevelObjective.getSliEvaluationType());
+  }
+
+  private void assertPointsMatch(List<SLODashboardWidget.Point> points, List<SLODashboardWidget.Point> expectedPoints) {
+    for (SLODashboardWidget.Point point : points) {
+      SLODashboardWidget.Point expectedPoint =
+          expectedPoints.stream()
+              .filter(expected -> expected.getTimestamp() == point.getTimestamp())
+              .findFirst()
+              .orElseThrow(() -> new AssertionError("No point from the records at " + point.getTimestamp()));
+      assertThat(point.getValue()).isCloseTo(expectedPoint.getValue(), offset(0.01));
+    }
+  }
 }